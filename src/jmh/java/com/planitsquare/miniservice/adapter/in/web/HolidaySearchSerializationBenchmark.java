@@ -0,0 +1,85 @@
+package com.planitsquare.miniservice.adapter.in.web;
+
+import com.planitsquare.miniservice.adapter.in.web.dto.response.HolidayResponse;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+/**
+ * 공휴일 검색 응답 한 페이지의 JSON/CBOR 직렬화 비용 벤치마크.
+ *
+ * <p>{@link HolidaySearchController}가 반환하는 {@code Page<HolidayResponse>}를 각 형식으로 직렬화합니다.
+ * 페이지 크기별 응답 크기(바이트)는 준비 단계에서 출력합니다.
+ *
+ * <p>{@code ./gradlew jmh -Pjmh.includes=HolidaySearchSerializationBenchmark}로 실행합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HolidaySearchSerializationBenchmark {
+
+  @Param({"20", "100"})
+  private int pageSize;
+
+  private final ObjectMapper jsonMapper = JsonMapper.builder().build();
+  private final ObjectMapper cborMapper = CBORMapper.builder().build();
+
+  private PageImpl<HolidayResponse> page;
+
+  @Setup
+  public void setUp() {
+    final List<HolidayResponse> content = IntStream.range(0, pageSize)
+        .mapToObj(HolidaySearchSerializationBenchmark::holiday)
+        .toList();
+    page = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+
+    System.out.printf("%n[pageSize=%d] json=%d bytes, cbor=%d bytes%n",
+        pageSize, jsonMapper.writeValueAsBytes(page).length, cborMapper.writeValueAsBytes(page).length);
+  }
+
+  @Benchmark
+  public byte[] json() {
+    return jsonMapper.writeValueAsBytes(page);
+  }
+
+  @Benchmark
+  public byte[] cbor() {
+    return cborMapper.writeValueAsBytes(page);
+  }
+
+  private static HolidayResponse holiday(int index) {
+    return HolidayResponse.builder()
+        .id((long) index)
+        .countryCode("DE")
+        .countryName("Germany")
+        .localName("Tag der Deutschen Einheit " + index)
+        .name("German Unity Day " + index)
+        .date(LocalDate.of(2025, 1, 1).plusDays(index % 365))
+        .fixed(index % 2 == 0)
+        .global(index % 3 != 0)
+        .launchYear(index % 4 == 0 ? null : 1990)
+        .types(List.of("Public", "Bank"))
+        .applicableRegions(index % 3 != 0 ? List.of() : List.of("DE-BW", "DE-BY", "DE-HE", "DE-NW"))
+        .build();
+  }
+}
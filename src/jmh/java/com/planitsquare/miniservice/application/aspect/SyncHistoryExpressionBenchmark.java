@@ -0,0 +1,83 @@
+package com.planitsquare.miniservice.application.aspect;
+
+import com.planitsquare.miniservice.application.annotation.RecordSyncHistory;
+import com.planitsquare.miniservice.application.aspect.MethodExpressionEvaluator.MethodExpressions;
+import com.planitsquare.miniservice.application.service.HolidaySyncInnerService;
+import com.planitsquare.miniservice.application.service.SyncHolidayCommand;
+import com.planitsquare.miniservice.domain.vo.Country;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+/**
+ * {@link SyncHistoryAspect}가 호출마다 수행하는 SpEL 평가 비용 벤치마크.
+ *
+ * <p>{@code reparsePerCall}은 표현식마다 파라미터 이름 조회, 컨텍스트 생성, 파싱을 반복하던 이전 방식이고,
+ * {@code cachedCompiled}는 {@link MethodExpressionEvaluator}로 메서드별 캐시와 컴파일된 표현식을 사용하는 현재 방식입니다.
+ *
+ * <p>{@code ./gradlew jmh -Pjmh.includes=SyncHistoryExpressionBenchmark}로 실행합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SyncHistoryExpressionBenchmark {
+
+  private final ExpressionParser parser = new SpelExpressionParser();
+  private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+  private final MethodExpressionEvaluator evaluator = new MethodExpressionEvaluator();
+
+  private Method method;
+  private RecordSyncHistory recordSyncHistory;
+  private Object[] args;
+
+  @Setup
+  public void setUp() throws NoSuchMethodException {
+    method = HolidaySyncInnerService.class.getMethod("syncHolidaysForCountryAndYear", SyncHolidayCommand.class);
+    recordSyncHistory = method.getAnnotation(RecordSyncHistory.class);
+    args = new Object[]{new SyncHolidayCommand(1L, Country.of("KR", "South Korea"), 2025)};
+  }
+
+  @Benchmark
+  public void reparsePerCall(Blackhole blackhole) {
+    blackhole.consume(reparse(recordSyncHistory.jobId(), Long.class));
+    blackhole.consume(reparse(recordSyncHistory.country(), Country.class));
+    blackhole.consume(reparse(recordSyncHistory.year(), Integer.class));
+  }
+
+  @Benchmark
+  public void cachedCompiled(Blackhole blackhole) {
+    MethodExpressions expressions = evaluator.forMethod(method);
+    EvaluationContext context = expressions.createContext(args);
+    blackhole.consume(expressions.getValue(recordSyncHistory.jobId(), context, Long.class));
+    blackhole.consume(expressions.getValue(recordSyncHistory.country(), context, Country.class));
+    blackhole.consume(expressions.getValue(recordSyncHistory.year(), context, Integer.class));
+  }
+
+  private <T> T reparse(String expression, Class<T> targetType) {
+    String[] parameterNames = parameterNameDiscoverer.getParameterNames(method);
+    EvaluationContext context = new StandardEvaluationContext();
+    for (int i = 0; i < parameterNames.length; i++) {
+      context.setVariable(parameterNames[i], args[i]);
+    }
+    return parser.parseExpression(expression).getValue(context, targetType);
+  }
+}
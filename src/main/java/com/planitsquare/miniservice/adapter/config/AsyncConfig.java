@@ -70,4 +70,44 @@ public class AsyncConfig implements AsyncConfigurer {
     executor.initialize();
     return executor;
   }
+
+  /**
+   * 공휴일 초기 적재 전용 Executor Bean.
+   *
+   * <p>초기 적재를 애플리케이션 시작 경로 밖에서 실행하기 위한 단일 스레드 실행기입니다.
+   * 실제 (국가, 연도) 동기화는 {@link #holidayTaskExecutor()}에서 병렬로 실행됩니다.
+   *
+   * @return 초기 적재 실행기
+   * @since 1.0
+   */
+  @Bean(name = "holidayBootstrapExecutor")
+  public Executor holidayBootstrapExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setThreadNamePrefix("holiday-bootstrap-");
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * 공휴일 스냅샷 내보내기 전용 Executor Bean.
+   *
+   * <p>스냅샷 내보내기를 요청 스레드 밖에서 한 번에 하나씩 실행하기 위한 단일 스레드 실행기입니다.
+   * 종료 시 진행 중이거나 대기 중인 내보내기가 끝날 때까지 기다려 마지막 변경이 스냅샷에 반영되도록 합니다.
+   *
+   * @return 스냅샷 내보내기 실행기
+   * @since 1.0
+   */
+  @Bean(name = "holidaySnapshotExecutor")
+  public Executor holidaySnapshotExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setThreadNamePrefix("holiday-snapshot-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    executor.initialize();
+    return executor;
+  }
 }
@@ -1,12 +1,14 @@
 package com.planitsquare.miniservice.adapter.config;
 
+import com.planitsquare.miniservice.application.port.out.SyncJobLease;
 import com.planitsquare.miniservice.application.util.JobIdContext;
+import com.planitsquare.miniservice.application.util.SyncJobLeaseContext;
 import org.springframework.core.task.TaskDecorator;
 
 /**
  * ThreadLocal 컨텍스트를 비동기 스레드로 전파하는 TaskDecorator.
  *
- * <p>부모 스레드의 Job ID를 자식 비동기 스레드로 전달합니다.
+ * <p>부모 스레드의 Job ID와 동기화 Job 락 임대를 자식 비동기 스레드로 전달합니다.
  * 비동기 작업 실행 시 ThreadLocal에 저장된 컨텍스트가 유실되는 것을 방지합니다.
  *
  * <p>사용 예시:
@@ -25,26 +27,31 @@ import org.springframework.core.task.TaskDecorator;
 public class JobIdTaskDecorator implements TaskDecorator {
 
   /**
-   * Runnable을 래핑하여 Job ID 컨텍스트를 전파합니다.
+   * Runnable을 래핑하여 Job ID와 락 임대 컨텍스트를 전파합니다.
    *
-   * <p>부모 스레드의 Job ID를 캡처하고, 비동기 작업 실행 전에 설정합니다.
+   * <p>부모 스레드의 Job ID와 락 임대를 캡처하고, 비동기 작업 실행 전에 설정합니다.
    * 작업 완료 후에는 반드시 컨텍스트를 정리하여 메모리 누수를 방지합니다.
    *
    * @param runnable 원본 작업
-   * @return Job ID가 전파된 작업
+   * @return Job ID와 락 임대가 전파된 작업
    * @since 1.0
    */
   @Override
   public Runnable decorate(Runnable runnable) {
     Long jobId = JobIdContext.getJobId();
+    SyncJobLease lease = SyncJobLeaseContext.getLease();
     return () -> {
       try {
         if (jobId != null) {
           JobIdContext.setJobId(jobId);
         }
+        if (lease != null) {
+          SyncJobLeaseContext.setLease(lease);
+        }
         runnable.run();
       } finally {
         JobIdContext.clear();
+        SyncJobLeaseContext.clear();
       }
     };
   }
@@ -0,0 +1,40 @@
+package com.planitsquare.miniservice.adapter.in.batch;
+
+import com.planitsquare.miniservice.application.port.in.RefreshHolidayDataVersionUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공휴일 데이터 버전 확인 Poller.
+ *
+ * <p>같은 데이터베이스를 쓰는 다른 인스턴스가 공휴일을 변경하면 이 인스턴스에는 변경 이벤트가 발행되지 않으므로,
+ * {@code data-version.refresh.interval-millis}마다 데이터베이스의 버전 합계를 확인하여 달라졌을 때만 버전을 다시 읽습니다.
+ *
+ * @since 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(prefix = "data-version.refresh", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class HolidayDataVersionPoller {
+  private final RefreshHolidayDataVersionUseCase refreshHolidayDataVersionUseCase;
+
+  /**
+   * 데이터베이스의 버전이 바뀌었으면 다시 읽습니다.
+   *
+   * @since 1.0
+   */
+  @Scheduled(fixedDelayString = "${data-version.refresh.interval-millis:1000}")
+  public void pollDataVersion() {
+    try {
+      if (refreshHolidayDataVersionUseCase.refreshIfChanged()) {
+        log.debug("공휴일 데이터 버전 갱신");
+      }
+    } catch (RuntimeException e) {
+      log.warn("공휴일 데이터 버전 확인 실패 - 다음 주기에 다시 시도합니다: {}", e.getMessage());
+    }
+  }
+}
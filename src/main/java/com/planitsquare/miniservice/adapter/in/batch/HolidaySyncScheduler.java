@@ -1,6 +1,7 @@
 package com.planitsquare.miniservice.adapter.in.batch;
 
 import com.planitsquare.miniservice.adapter.out.persistence.vo.SyncExecutionType;
+import com.planitsquare.miniservice.application.exception.JobAlreadyRunningException;
 import com.planitsquare.miniservice.application.port.in.SyncHolidayDataUseCase;
 import com.planitsquare.miniservice.application.port.in.UploadHolidayCommand;
 import lombok.RequiredArgsConstructor;
@@ -16,7 +17,9 @@ import java.util.concurrent.TimeUnit;
  * 공휴일 자동 동기화 스케줄러.
  *
  * <p>매년 1월 2일 01:00 KST에 전년도와 금년도의 모든 국가 공휴일 데이터를 자동으로 동기화합니다.
- * 기존 데이터를 삭제하고 외부 API로부터 최신 공휴일 데이터를 가져와 저장합니다.
+ * 외부 API로부터 최신 공휴일 데이터를 가져와 (국가, 연도) 단위로 기존 데이터를 교체합니다.
+ *
+ * <p>모든 인스턴스에서 같은 시각에 실행되지만 분산 락을 획득한 한 인스턴스만 Job을 실행합니다.
  *
  * @since 1.0
  */
@@ -33,9 +36,8 @@ public class HolidaySyncScheduler {
    * <p>스케줄러는 다음 작업을 수행합니다:
    * <ul>
    *   <li>현재 연도 기준으로 전년도와 금년도를 계산</li>
-   *   <li>해당 연도의 기존 공휴일 데이터 삭제</li>
    *   <li>외부 API로부터 모든 국가의 최신 공휴일 데이터 조회</li>
-   *   <li>조회된 데이터를 데이터베이스에 저장</li>
+   *   <li>조회된 데이터로 (국가, 연도)별 기존 데이터 교체</li>
    * </ul>
    *
    * <p>Cron 표현식: {@code "0 0 1 2 1 ?"} (매년 1월 2일 01:00)
@@ -56,7 +58,12 @@ public class HolidaySyncScheduler {
         YEAR_RANGE_LENGTH
     );
 
-    syncHolidayDataUseCase.syncAnnualHolidays(command);
+    try {
+      syncHolidayDataUseCase.syncAnnualHolidays(command);
+    } catch (JobAlreadyRunningException e) {
+      log.info("다른 인스턴스에서 공휴일 동기화가 실행 중입니다. 이번 실행을 건너뜁니다.");
+      return;
+    }
     log.info("=== 공휴일 자동 동기화 스케줄러 완료 ===");
   }
 }
@@ -0,0 +1,38 @@
+package com.planitsquare.miniservice.adapter.in.batch;
+
+import com.planitsquare.miniservice.application.port.in.ProcessSyncTasksUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분산 동기화 작업 큐 Worker.
+ *
+ * <p>{@code sync.distributed.enabled=true}인 인스턴스에서 주기적으로 작업 큐를 확인하여,
+ * 다른 인스턴스가 시작한 동기화 Job의 (국가, 연도) 작업을 가져와 처리합니다.
+ * 처리가 끝난 뒤부터 다음 확인까지 {@code sync.distributed.poll-interval-millis}만큼 대기합니다.
+ *
+ * @since 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(prefix = "sync.distributed", name = "enabled", havingValue = "true")
+public class SyncTaskWorker {
+  private final ProcessSyncTasksUseCase processSyncTasksUseCase;
+
+  /**
+   * 작업 큐에 남은 작업을 모두 처리합니다.
+   *
+   * @since 1.0
+   */
+  @Scheduled(fixedDelayString = "${sync.distributed.poll-interval-millis:1000}")
+  public void pollSyncTasks() {
+    int processed = processSyncTasksUseCase.processPendingTasks();
+    if (processed > 0) {
+      log.info("분산 동기화 작업 처리 완료 - 처리 작업 수: {}", processed);
+    }
+  }
+}
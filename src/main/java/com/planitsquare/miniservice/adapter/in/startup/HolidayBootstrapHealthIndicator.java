@@ -0,0 +1,79 @@
+package com.planitsquare.miniservice.adapter.in.startup;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공휴일 초기 적재 진행 상태를 readiness로 노출하는 Health Indicator.
+ *
+ * <p>{@code management.endpoint.health.group.readiness}에 포함되어,
+ * 초기 적재 중 금년도 공휴일이 모든 국가에 대해 적재되기 전까지 {@code OUT_OF_SERVICE}를 반환합니다.
+ * 금년도 적재가 끝나면 이전 연도를 백그라운드에서 채우는 동안에도 트래픽을 받습니다.
+ * 금년도 적재에 실패하면 빈 데이터로 트래픽을 받지 않도록 {@code DOWN}을 반환하고,
+ * 이전 연도 적재에만 실패하면 금년도 데이터로 서비스하며 실패한 단계를 상세 정보로 알립니다.
+ *
+ * @since 1.0
+ */
+@Component
+public class HolidayBootstrapHealthIndicator implements HealthIndicator {
+
+  private volatile Phase phase = Phase.STARTING;
+
+  @Override
+  public Health health() {
+    final Health.Builder builder = phase.isReady() ? Health.up()
+        : phase == Phase.FAILED ? Health.down() : Health.outOfService();
+    return builder.withDetail("phase", phase.name())
+        .withDetail("description", phase.getDescription())
+        .build();
+  }
+
+  /**
+   * 현재 초기 적재 단계를 반환합니다.
+   *
+   * @return 초기 적재 단계
+   */
+  public Phase getPhase() {
+    return phase;
+  }
+
+  void markLoadingCurrentYear() {
+    phase = Phase.LOADING_CURRENT_YEAR;
+  }
+
+  void markBackfilling() {
+    phase = Phase.BACKFILLING;
+  }
+
+  void markCompleted() {
+    phase = Phase.COMPLETED;
+  }
+
+  void markFailed() {
+    phase = Phase.FAILED;
+  }
+
+  void markBackfillFailed() {
+    phase = Phase.BACKFILL_FAILED;
+  }
+
+  /**
+   * 초기 적재 단계.
+   */
+  @Getter
+  @RequiredArgsConstructor
+  public enum Phase {
+    STARTING("초기 적재 여부 확인 중", false),
+    LOADING_CURRENT_YEAR("금년도 공휴일 적재 중", false),
+    BACKFILLING("이전 연도 공휴일 적재 중", true),
+    COMPLETED("초기 적재 완료", true),
+    FAILED("금년도 공휴일 적재 실패 (재시도 대기 중)", false),
+    BACKFILL_FAILED("이전 연도 공휴일 적재 실패 (금년도 데이터로 서비스)", true);
+
+    private final String description;
+    private final boolean ready;
+  }
+}
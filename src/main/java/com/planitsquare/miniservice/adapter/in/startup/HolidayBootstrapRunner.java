@@ -2,7 +2,9 @@ package com.planitsquare.miniservice.adapter.in.startup;
 
 import com.planitsquare.miniservice.adapter.out.persistence.vo.SyncExecutionType;
 import com.planitsquare.miniservice.application.exception.ExternalApiException;
+import com.planitsquare.miniservice.application.exception.JobAlreadyRunningException;
 import com.planitsquare.miniservice.application.port.in.CheckInitialSystemLoadUseCase;
+import com.planitsquare.miniservice.application.port.in.RestoreHolidaySnapshotUseCase;
 import com.planitsquare.miniservice.application.port.in.UploadHolidayCommand;
 import com.planitsquare.miniservice.application.port.in.UploadHolidaysUseCase;
 import com.planitsquare.miniservice.application.service.YearPolicy;
@@ -12,41 +14,151 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.TaskScheduler;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * 공휴일 초기 적재 Runner.
+ *
+ * <p>최초 실행이면 먼저 로컬 스냅샷 파일을 적재합니다. 스냅샷에 금년도가 있으면 외부 API를 호출하지 않습니다.
+ *
+ * <p>스냅샷이 없거나 금년도가 없으면 초기 적재를 {@code holidayBootstrapExecutor}에 넘기고 바로 반환하여 애플리케이션 시작을 막지 않습니다.
+ * 초기 적재는 두 단계로 진행됩니다.
+ * <ul>
+ *   <li>금년도: 외부 API에서 국가 목록을 받아 저장하고 모든 국가의 금년도 공휴일을 적재합니다.
+ *       이 단계가 끝날 때까지 {@link HolidayBootstrapHealthIndicator}가 readiness를 {@code OUT_OF_SERVICE}로 보고합니다.</li>
+ *   <li>이전 연도: 나머지 연도를 백그라운드에서 채웁니다. 이 동안에도 트래픽을 받습니다.</li>
+ * </ul>
+ *
+ * <p>금년도 적재에 실패하면 빈 데이터로 트래픽을 받지 않도록 readiness를 {@code DOWN}으로 두고,
+ * {@value #RETRY_INTERVAL_SECONDS}초 뒤 초기 적재를 다시 시도합니다.
+ *
+ * <p>다른 인스턴스가 이미 초기 적재를 실행 중이면 금년도 데이터 없이 준비 상태가 되지 않도록,
+ * 그 인스턴스의 금년도 적재가 끝날 때까지 주기적으로 확인하며 {@code OUT_OF_SERVICE}를 유지합니다.
+ *
+ * @since 1.0
+ */
 @Slf4j
 @Profile("!test")
 @StartUpAdapter
 @RequiredArgsConstructor
 public class HolidayBootstrapRunner implements ApplicationRunner {
+  private static final int CURRENT_YEAR_ONLY = 1;
+  private static final Duration OTHER_BOOTSTRAP_POLL_INTERVAL = Duration.ofSeconds(5);
+  private static final long RETRY_INTERVAL_SECONDS = 60;
+
   private final CheckInitialSystemLoadUseCase checkInitialSystemLoadUseCase;
   private final UploadHolidaysUseCase uploadHolidaysUseCase;
+  private final RestoreHolidaySnapshotUseCase restoreHolidaySnapshotUseCase;
+  private final HolidayBootstrapHealthIndicator holidayBootstrapHealthIndicator;
+  private final Executor holidayBootstrapExecutor;
+  private final TaskScheduler taskScheduler;
 
   @Override
   public void run(ApplicationArguments args) {
     if (!checkInitialSystemLoadUseCase.isInitialSystemLoad()) {
       log.info("최초 실행이 아닙니다. 공휴일 업로드를 건너뜁니다.");
+      holidayBootstrapHealthIndicator.markCompleted();
+      return;
+    }
+
+    final int currentYear = LocalDate.now().getYear();
+    final List<Integer> restoredYears = restoreHolidaySnapshotUseCase.restoreSnapshot();
+    if (restoredYears.contains(currentYear)) {
+      log.info("공휴일 스냅샷에서 {}년 데이터를 적재했습니다. 외부 API 초기 적재를 건너뜁니다.", restoredYears);
+      holidayBootstrapHealthIndicator.markCompleted();
+      return;
+    }
+
+    holidayBootstrapHealthIndicator.markLoadingCurrentYear();
+    holidayBootstrapExecutor.execute(this::bootstrap);
+    log.info("최초 실행으로 공휴일 초기 적재를 백그라운드에서 시작합니다. 금년도 적재 전까지 준비되지 않은 상태로 보고합니다.");
+  }
+
+  /**
+   * 금년도를 먼저 적재한 뒤 준비 상태로 전환하고 이전 연도를 채웁니다.
+   */
+  private void bootstrap() {
+    final int currentYear = LocalDate.now().getYear();
+    final int backfillLength = YearPolicy.DEFAULT_RANGE_LENGTH.getValue() - CURRENT_YEAR_ONLY;
+
+    log.info("공휴일 초기 적재 1단계 - {}년 × N 개 국가", currentYear);
+    final Outcome currentYearOutcome = upload(
+        new UploadHolidayCommand(currentYear, SyncExecutionType.INITIAL_SYSTEM_LOAD, CURRENT_YEAR_ONLY));
+    if (currentYearOutcome == Outcome.FAILED) {
+      holidayBootstrapHealthIndicator.markFailed();
+      scheduleRetry();
       return;
     }
+    if (currentYearOutcome == Outcome.SKIPPED) {
+      awaitOtherBootstrap();
+      return;
+    }
+
+    holidayBootstrapHealthIndicator.markBackfilling();
+    log.info("공휴일 초기 적재 2단계 - {}~{}년 × N 개 국가", currentYear - backfillLength, currentYear - 1);
+    final Outcome backfillOutcome = upload(
+        new UploadHolidayCommand(currentYear - 1, SyncExecutionType.EVENT_TRIGGERED, backfillLength));
+    if (backfillOutcome == Outcome.FAILED) {
+      holidayBootstrapHealthIndicator.markBackfillFailed();
+      return;
+    }
+    holidayBootstrapHealthIndicator.markCompleted();
+    log.info("공휴일 초기 적재 완료");
+  }
 
-    log.info("최초 실행으로 5 년 × N 개 국가를 일괄 적재 합니다.");
+  /**
+   * 금년도 적재에 실패한 초기 적재를 잠시 뒤 다시 시작합니다.
+   */
+  private void scheduleRetry() {
+    log.warn("금년도 공휴일 적재에 실패하여 준비되지 않은 상태를 유지합니다. {}초 후 다시 시도합니다.", RETRY_INTERVAL_SECONDS);
+    taskScheduler.schedule(() -> {
+      holidayBootstrapHealthIndicator.markLoadingCurrentYear();
+      holidayBootstrapExecutor.execute(this::bootstrap);
+    }, Instant.now().plusSeconds(RETRY_INTERVAL_SECONDS));
+  }
 
-    final UploadHolidayCommand command = new UploadHolidayCommand(
-        LocalDate.now().getYear(),
-        SyncExecutionType.INITIAL_SYSTEM_LOAD,
-        YearPolicy.DEFAULT_RANGE_LENGTH.getValue()
-    );
+  /**
+   * 다른 인스턴스의 금년도 초기 적재가 끝날 때까지 준비되지 않은 상태를 유지합니다.
+   */
+  private void awaitOtherBootstrap() {
+    final AtomicReference<ScheduledFuture<?>> polling = new AtomicReference<>();
+    polling.set(taskScheduler.scheduleWithFixedDelay(() -> {
+      if (checkInitialSystemLoadUseCase.isInitialSystemLoadInProgress()) {
+        return;
+      }
+      polling.get().cancel(false);
+      holidayBootstrapHealthIndicator.markCompleted();
+      log.info("다른 인스턴스의 공휴일 초기 적재가 끝났습니다. 준비 상태로 전환합니다.");
+    }, Instant.now().plus(OTHER_BOOTSTRAP_POLL_INTERVAL), OTHER_BOOTSTRAP_POLL_INTERVAL));
+  }
 
+  private Outcome upload(UploadHolidayCommand command) {
     try {
       uploadHolidaysUseCase.uploadHolidays(command);
-      log.info("공휴일 초기 적재 완료");
+      return Outcome.LOADED;
+    } catch (JobAlreadyRunningException e) {
+      log.info("다른 인스턴스에서 공휴일 초기 적재가 실행 중입니다. 적재가 끝날 때까지 준비되지 않은 상태로 기다립니다.");
+      return Outcome.SKIPPED;
     } catch (ExternalApiException e) {
-      log.error("공휴일 초기 적재 실패 (모든 재시도 실패) - 서비스는 정상적으로 시작됩니다: {}",
+      log.error("공휴일 초기 적재 실패 (모든 재시도 실패): {}",
           e.getMessage(), e);
+      return Outcome.FAILED;
     } catch (Exception e) {
-      log.error("공휴일 초기 적재 중 예상치 못한 오류 발생 - 서비스는 정상적으로 시작됩니다: {}",
+      log.error("공휴일 초기 적재 중 예상치 못한 오류 발생: {}",
           e.getMessage(), e);
+      return Outcome.FAILED;
     }
   }
+
+  private enum Outcome {
+    LOADED, SKIPPED, FAILED
+  }
 }
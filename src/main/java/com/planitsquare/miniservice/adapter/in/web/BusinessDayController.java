@@ -0,0 +1,62 @@
+package com.planitsquare.miniservice.adapter.in.web;
+
+import com.planitsquare.miniservice.adapter.in.web.dto.response.BusinessDayResponse;
+import com.planitsquare.miniservice.application.port.in.BusinessDayQuery;
+import com.planitsquare.miniservice.application.port.in.CalculateBusinessDaysUseCase;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+/**
+ * 영업일 계산 REST Controller.
+ *
+ * <p>주말과 공휴일을 제외한 영업일 계산 API를 제공합니다.
+ *
+ * @since 1.0
+ */
+@Tag(name = "Business Day", description = "영업일 계산 API")
+@RestController
+@RequestMapping("/api/v1/business-days")
+@RequiredArgsConstructor
+public class BusinessDayController {
+
+  private final CalculateBusinessDaysUseCase calculateBusinessDaysUseCase;
+
+  /**
+   * 기준 날짜의 영업일 여부와 N 영업일 이후/이전 날짜를 계산합니다.
+   *
+   * @param countryCode 국가 코드
+   * @param date        기준 날짜
+   * @param days        이동할 영업일 수 (기본값: 0, 음수이면 이전 영업일)
+   * @param region      지역 코드 (선택)
+   * @return 영업일 계산 결과
+   */
+  @Operation(summary = "영업일 계산", description = "기준 날짜의 영업일 여부와 N 영업일 이후/이전 날짜를 계산합니다.")
+  @GetMapping
+  public ResponseEntity<BusinessDayResponse> calculate(
+      @Parameter(description = "국가 코드", example = "KR", required = true)
+      @RequestParam String countryCode,
+
+      @Parameter(description = "기준 날짜 (yyyy-MM-dd)", example = "2025-01-24", required = true)
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+
+      @Parameter(description = "이동할 영업일 수 (음수이면 이전)", example = "5")
+      @RequestParam(defaultValue = "0") int days,
+
+      @Parameter(description = "지역 코드", example = "US-CA")
+      @RequestParam(required = false) String region
+  ) {
+    final BusinessDayQuery query = new BusinessDayQuery(new CountryCode(countryCode), date, days, region);
+    return ResponseEntity.ok(BusinessDayResponse.of(query, calculateBusinessDaysUseCase.calculate(query)));
+  }
+}
@@ -0,0 +1,103 @@
+package com.planitsquare.miniservice.adapter.in.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.planitsquare.miniservice.application.event.HolidaysChangedEvent;
+import com.planitsquare.miniservice.application.port.in.HolidayCalendarQuery;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * (국가, 연도 범위) iCalendar 본문 캐시.
+ *
+ * <p>스트리밍으로 응답하면서 함께 기록한 ICS 본문을 바이트 배열 그대로 보관하여,
+ * 같은 달력은 DB 조회와 렌더링 없이 보관한 바이트를 그대로 응답합니다.
+ * {@value #MAX_CALENDAR_BYTES} 바이트를 넘는 달력은 보관하지 않습니다.
+ *
+ * <p>본문 크기 합계가 {@value #MAX_CACHED_BYTES} 바이트를 넘지 않도록 가장 적게 쓰인 항목부터 제거하고,
+ * 마지막 사용 후 {@link #EXPIRE_AFTER_ACCESS}가 지난 항목도 제거합니다.
+ *
+ * <p>항목마다 만들 때의 ETag를 함께 보관하고 현재 ETag와 같을 때만 사용하므로, 변경 직전에 만든 본문이
+ * 변경 이후에 저장되어도 제공되지 않습니다. 공휴일이 변경되면 {@link HolidaysChangedEvent}를 받아
+ * 변경된 국가와 연도가 범위에 포함되는 항목을 제거하고, 다음 요청에서 다시 만듭니다.
+ *
+ * @since 1.0
+ */
+@Component
+public class HolidayCalendarCache {
+
+  /**
+   * 보관할 수 있는 달력 하나의 최대 크기.
+   */
+  public static final int MAX_CALENDAR_BYTES = 1024 * 1024;
+
+  private static final long MAX_CACHED_BYTES = 64L * 1024 * 1024;
+  private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofHours(1);
+
+  private final Cache<CacheKey, CachedCalendar> calendars = Caffeine.newBuilder()
+      .maximumWeight(MAX_CACHED_BYTES)
+      .weigher((CacheKey key, CachedCalendar calendar) -> calendar.body().length)
+      .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+      .build();
+
+  /**
+   * 현재 ETag로 만든 달력 본문을 조회합니다.
+   *
+   * @param query 달력 내보내기 쿼리
+   * @param eTag 현재 ETag
+   * @return ICS 본문 (없거나 다른 ETag로 만든 경우 빈 값)
+   */
+  public Optional<byte[]> get(HolidayCalendarQuery query, String eTag) {
+    final CachedCalendar cached = calendars.getIfPresent(CacheKey.from(query));
+    if (cached == null || !cached.eTag().equals(eTag)) {
+      return Optional.empty();
+    }
+    return Optional.of(cached.body());
+  }
+
+  /**
+   * 달력 본문을 보관합니다.
+   *
+   * @param query 달력 내보내기 쿼리
+   * @param eTag 달력을 만들기 전에 조회한 ETag
+   * @param body ICS 본문 ({@link #MAX_CALENDAR_BYTES} 이하)
+   */
+  public void put(HolidayCalendarQuery query, String eTag, byte[] body) {
+    if (body.length <= MAX_CALENDAR_BYTES) {
+      calendars.put(CacheKey.from(query), new CachedCalendar(eTag, body));
+    }
+  }
+
+  /**
+   * 공휴일 변경 시 변경된 국가와 연도를 포함하는 달력 본문을 제거합니다.
+   *
+   * @param event 공휴일 변경 이벤트
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onHolidaysChanged(HolidaysChangedEvent event) {
+    calendars.asMap().keySet().removeIf(key -> IntStream.rangeClosed(key.fromYear(), key.toYear())
+        .anyMatch(year -> event.affects(key.countryCode(), year)));
+  }
+
+  /**
+   * 보관한 달력 본문을 모두 제거합니다.
+   */
+  public void evictAll() {
+    calendars.invalidateAll();
+  }
+
+  private record CachedCalendar(String eTag, byte[] body) {
+  }
+
+  private record CacheKey(CountryCode countryCode, int fromYear, int toYear) {
+
+    static CacheKey from(HolidayCalendarQuery query) {
+      return new CacheKey(query.countryCode(), query.fromYear(), query.toYear());
+    }
+  }
+}
@@ -0,0 +1,185 @@
+package com.planitsquare.miniservice.adapter.in.web;
+
+import com.planitsquare.miniservice.application.port.in.ExportHolidayCalendarUseCase;
+import com.planitsquare.miniservice.application.port.in.GetHolidayDataVersionUseCase;
+import com.planitsquare.miniservice.application.port.in.HolidayCalendarQuery;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.Year;
+
+/**
+ * 공휴일 iCalendar 피드 REST Controller.
+ *
+ * <p>국가별 공휴일을 iCalendar(RFC 5545) 형식으로 제공하여 달력 애플리케이션이 구독할 수 있도록 합니다.
+ * 본문은 연도별로 조회되는 공휴일을 바로 응답 스트림에 써서 만들고, 스트리밍하면서 함께 기록한 본문은
+ * {@link HolidayCalendarCache}에 보관하여 같은 (국가, 연도 범위) 요청에 그대로 응답합니다.
+ *
+ * <p>응답에는 연도 범위의 데이터 버전으로 만든 ETag와 {@code Cache-Control: no-cache}를 붙이고,
+ * {@code If-None-Match}가 현재 ETag와 같으면 데이터베이스를 조회하지 않고 304 Not Modified로 응답합니다.
+ *
+ * @since 1.0
+ */
+@Tag(name = "Holiday Calendar", description = "공휴일 iCalendar 피드 API")
+@RestController
+@RequestMapping("/api/v1/countries")
+@RequiredArgsConstructor
+public class HolidayCalendarController {
+
+  private static final String TEXT_CALENDAR_VALUE = "text/calendar;charset=UTF-8";
+  private static final CacheControl CALENDAR_CACHE_CONTROL = CacheControl.noCache();
+
+  private final ExportHolidayCalendarUseCase exportHolidayCalendarUseCase;
+  private final GetHolidayDataVersionUseCase getHolidayDataVersionUseCase;
+  private final HolidayCalendarCache calendarCache;
+
+  /**
+   * 국가의 공휴일을 iCalendar 형식으로 내려받습니다.
+   *
+   * <p>연도를 하나만 지정하면 그 연도만, 둘 다 생략하면 올해의 공휴일을 내보냅니다.
+   *
+   * @param countryCode 국가 코드
+   * @param fromYear    시작 연도 (선택)
+   * @param toYear      종료 연도 (선택)
+   * @param webRequest  조건부 요청 확인용 요청 정보
+   * @param response    ICS 본문을 쓸 응답
+   * @throws IOException 응답 본문을 쓰지 못한 경우
+   */
+  @Operation(
+      summary = "공휴일 iCalendar 피드",
+      description = "국가의 공휴일을 iCalendar(RFC 5545) 형식으로 내려받습니다. 최대 "
+          + HolidayCalendarQuery.MAX_YEARS + "년까지 요청할 수 있습니다."
+  )
+  @GetMapping("/{countryCode}/holidays.ics")
+  public void exportCalendar(
+      @Parameter(description = "국가 코드", example = "KR")
+      @PathVariable String countryCode,
+
+      @Parameter(description = "시작 연도", example = "2024")
+      @RequestParam(required = false) Integer fromYear,
+
+      @Parameter(description = "종료 연도", example = "2025")
+      @RequestParam(required = false) Integer toYear,
+
+      NativeWebRequest webRequest,
+      HttpServletResponse response
+  ) throws IOException {
+    final int from = fromYear != null ? fromYear : toYear != null ? toYear : Year.now().getValue();
+    final int to = toYear != null ? toYear : from;
+    final HolidayCalendarQuery query = new HolidayCalendarQuery(new CountryCode(countryCode), from, to);
+
+    final String eTag = "\"" + getHolidayDataVersionUseCase.getVersion(query.countryCode(), from, to).value()
+        + "-ics\"";
+    if (webRequest.checkNotModified(eTag)) {
+      // 상태 코드와 ETag 헤더는 checkNotModified가 이미 설정합니다.
+      response.setHeader(HttpHeaders.CACHE_CONTROL, CALENDAR_CACHE_CONTROL.getHeaderValue());
+      return;
+    }
+
+    final byte[] cached = calendarCache.get(query, eTag).orElse(null);
+    if (cached != null) {
+      prepareCalendarResponse(response, eTag);
+      response.setContentLength(cached.length);
+      response.getOutputStream().write(cached);
+      return;
+    }
+
+    final RecordingOutputStream recording = new RecordingOutputStream(HolidayCalendarCache.MAX_CALENDAR_BYTES);
+    exportHolidayCalendarUseCase.export(query, new IcsHolidayCalendarWriter(() -> {
+      prepareCalendarResponse(response, eTag);
+      try {
+        return recording.attach(response.getOutputStream());
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }, Instant.now()));
+
+    if (!recording.isOverflowed()) {
+      calendarCache.put(query, eTag, recording.toByteArray());
+    }
+  }
+
+  /**
+   * 응답 헤더를 설정합니다.
+   *
+   * <p>국가가 확인된 뒤에 호출하므로, 국가가 없으면 헤더를 바꾸지 않은 채 JSON 오류 응답을 보낼 수 있습니다.
+   */
+  private static void prepareCalendarResponse(HttpServletResponse response, String eTag) {
+    response.setStatus(HttpServletResponse.SC_OK);
+    response.setContentType(TEXT_CALENDAR_VALUE);
+    response.setHeader(HttpHeaders.ETAG, eTag);
+    response.setHeader(HttpHeaders.CACHE_CONTROL, CALENDAR_CACHE_CONTROL.getHeaderValue());
+  }
+
+  /**
+   * 응답 스트림에 쓰는 바이트를 최대 크기까지 함께 기록하는 출력 스트림.
+   *
+   * <p>최대 크기를 넘으면 기록을 멈추고 응답 스트림에만 씁니다.
+   */
+  private static final class RecordingOutputStream extends FilterOutputStream {
+
+    private final int limit;
+    private final ByteArrayOutputStream recorded = new ByteArrayOutputStream();
+    private boolean overflowed;
+
+    RecordingOutputStream(int limit) {
+      super(OutputStream.nullOutputStream());
+      this.limit = limit;
+    }
+
+    OutputStream attach(OutputStream target) {
+      this.out = target;
+      return this;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      record(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      record(b, off, len);
+    }
+
+    boolean isOverflowed() {
+      return overflowed;
+    }
+
+    byte[] toByteArray() {
+      return recorded.toByteArray();
+    }
+
+    private void record(byte[] b, int off, int len) {
+      if (overflowed) {
+        return;
+      }
+      if (recorded.size() + len > limit) {
+        overflowed = true;
+        recorded.reset();
+        return;
+      }
+      recorded.write(b, off, len);
+    }
+  }
+}
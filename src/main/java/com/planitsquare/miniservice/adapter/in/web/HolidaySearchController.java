@@ -1,28 +1,53 @@
 package com.planitsquare.miniservice.adapter.in.web;
 
+import com.planitsquare.miniservice.adapter.in.web.dto.request.HolidayLookupRequest;
+import com.planitsquare.miniservice.adapter.in.web.dto.response.HolidayLookupResponse;
 import com.planitsquare.miniservice.adapter.in.web.dto.response.HolidayResponse;
+import com.planitsquare.miniservice.application.port.in.GetHolidayDataVersionUseCase;
+import com.planitsquare.miniservice.application.port.in.LookupHolidaysUseCase;
 import com.planitsquare.miniservice.application.port.in.SearchHolidaysQuery;
 import com.planitsquare.miniservice.application.port.in.SearchHolidaysUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * 공휴일 검색 REST Controller.
  *
- * <p>공휴일 검색 API를 제공합니다.
+ * <p>공휴일 검색 및 일괄 조회 API를 제공합니다.
+ * 응답은 {@code Accept} 헤더에 따라 JSON 또는 CBOR({@code application/cbor})로 직렬화되며,
+ * CBOR는 같은 응답 DTO를 필드 이름 그대로 이진 인코딩하므로 스키마가 JSON과 같습니다.
+ *
+ * <p>검색 응답에는 검색 범위의 데이터 버전으로 만든 ETag를 붙이고, 캐시가 매번 재검증하도록 {@code Cache-Control: no-cache}를 지정합니다.
+ * 표현 형식과 압축 여부마다 ETag가 다르고 {@code Vary: Accept, Accept-Encoding}을 붙여,
+ * 캐시가 다른 표현의 응답을 재사용하지 않도록 합니다.
+ * {@code If-None-Match}가 현재 ETag와 같으면 데이터베이스를 조회하지 않고 304 Not Modified로 응답합니다.
+ *
+ * <p>국가와 연도만 지정한 JSON 검색은 gzip을 허용하는 클라이언트에게 {@link HolidaySearchResponseCache}에
+ * 압축된 채로 보관한 본문을 {@code Content-Encoding: gzip}으로 그대로 응답합니다.
  *
  * @since 1.0
  */
@@ -32,7 +57,13 @@ import java.time.LocalDate;
 @RequiredArgsConstructor
 public class HolidaySearchController {
 
+  private static final CacheControl SEARCH_CACHE_CONTROL = CacheControl.noCache();
+
   private final SearchHolidaysUseCase searchHolidaysUseCase;
+  private final LookupHolidaysUseCase lookupHolidaysUseCase;
+  private final GetHolidayDataVersionUseCase getHolidayDataVersionUseCase;
+  private final ContentNegotiationManager contentNegotiationManager;
+  private final HolidaySearchResponseCache searchResponseCache;
 
   /**
    * 공휴일을 검색합니다.
@@ -41,14 +72,18 @@ public class HolidaySearchController {
    * @param countryCode 국가 코드 (선택)
    * @param from        시작일 (선택)
    * @param to          종료일 (선택)
-   * @param type        공휴일 타입 (선택)
+   * @param type        공휴일 타입 (선택, 여러 타입은 {@code ,} 또는 {@code |}로 구분)
    * @param name        공휴일 이름 검색어 (선택)
-   * @param pageable    페이징 및 정렬 정보 (기본값: page=0, size=20, sort=date,asc)
-   * @return 페이징 처리된 공휴일 목록
+   * @param includeTotal 전체 건수 포함 여부 (기본값: true, false이면 건수 조회 없이 Slice로 응답)
+   * @param pageable    페이징 및 정렬 정보 (기본값: page=0, size=20, 정렬을 지정하지 않으면 이름 검색은 일치 정도 순, 그 외에는 날짜 순)
+   * @param webRequest  조건부 요청 확인용 요청 정보
+   * @return 페이징 처리된 공휴일 목록 (캐시 대상이면 gzip 압축된 JSON 바이트,
+   *         {@code If-None-Match}가 현재 ETag와 같으면 본문 없는 304)
+   * @throws HttpMediaTypeNotAcceptableException {@code Accept} 헤더를 해석할 수 없는 경우
    */
   @Operation(summary = "공휴일 검색", description = "다양한 조건으로 공휴일을 검색합니다.")
-  @GetMapping
-  public ResponseEntity<Page<HolidayResponse>> searchHolidays(
+  @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+  public ResponseEntity<?> searchHolidays(
       @Parameter(description = "연도", example = "2024")
       @RequestParam(required = false) Integer year,
 
@@ -61,14 +96,19 @@ public class HolidaySearchController {
       @Parameter(description = "종료일 (yyyy-MM-dd)", example = "2024-12-31")
       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
 
-      @Parameter(description = "공휴일 타입", example = "PUBLIC")
+      @Parameter(description = "공휴일 타입 (여러 타입은 , 또는 |로 구분)", example = "PUBLIC|BANK")
       @RequestParam(required = false) String type,
 
       @Parameter(description = "공휴일 이름 검색어", example = "설날")
       @RequestParam(required = false) String name,
 
-      @PageableDefault(size = 20, sort = "date") Pageable pageable
-  ) {
+      @Parameter(description = "전체 건수 포함 여부 (false이면 totalElements 없이 다음 페이지 존재 여부만 반환)", example = "true")
+      @RequestParam(defaultValue = "true") boolean includeTotal,
+
+      @PageableDefault(size = 20) Pageable pageable,
+
+      NativeWebRequest webRequest
+  ) throws HttpMediaTypeNotAcceptableException {
     final SearchHolidaysQuery query = SearchHolidaysQuery.builder()
         .year(year)
         .countryCode(countryCode)
@@ -77,8 +117,97 @@ public class HolidaySearchController {
         .type(type)
         .name(name)
         .pageable(pageable)
+        .includeTotal(includeTotal)
         .build();
 
-    return ResponseEntity.ok(searchHolidaysUseCase.search(query).map(HolidayResponse::from));
+    final MediaType representation = resolveRepresentation(webRequest);
+    final boolean servedFromCache = MediaType.APPLICATION_JSON.equals(representation)
+        && searchResponseCache.isCacheable(query)
+        && acceptsGzip(webRequest);
+
+    final String eTag = "\"" + getHolidayDataVersionUseCase.getVersion(query).value()
+        + (MediaType.APPLICATION_CBOR.equals(representation) ? "-cbor" : "")
+        + (servedFromCache ? "-gzip" : "") + "\"";
+    if (webRequest.checkNotModified(eTag)) {
+      // ETag 헤더는 checkNotModified가 이미 설정합니다.
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .cacheControl(SEARCH_CACHE_CONTROL)
+          .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+          .build();
+    }
+
+    if (servedFromCache) {
+      final byte[] gzippedBody = searchResponseCache.get(query, eTag)
+          .orElseGet(() -> searchResponseCache.put(query, eTag, search(query)));
+      return ResponseEntity.ok()
+          .contentType(MediaType.APPLICATION_JSON)
+          .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+          .eTag(eTag)
+          .cacheControl(SEARCH_CACHE_CONTROL)
+          .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+          .body(gzippedBody);
+    }
+
+    return ResponseEntity.ok()
+        .eTag(eTag)
+        .cacheControl(SEARCH_CACHE_CONTROL)
+        .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+        .body(search(query));
+  }
+
+  /**
+   * 여러 (국가, 날짜) 쌍의 공휴일 여부를 한 번에 조회합니다.
+   *
+   * @param request 일괄 조회 요청
+   * @return 요청 순서와 동일한 순서의 조회 결과 목록
+   */
+  @Operation(
+      summary = "공휴일 일괄 조회",
+      description = "여러 (국가, 날짜) 쌍의 공휴일 여부를 한 번의 호출로 조회합니다. 최대 500건까지 요청할 수 있습니다."
+  )
+  @PostMapping(value = "/lookup", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+  public ResponseEntity<List<HolidayLookupResponse>> lookupHolidays(
+      @Valid @RequestBody HolidayLookupRequest request
+  ) {
+    return ResponseEntity.ok(lookupHolidaysUseCase.lookup(request.toQuery()).stream()
+        .map(HolidayLookupResponse::from)
+        .toList());
+  }
+
+  private Slice<HolidayResponse> search(SearchHolidaysQuery query) {
+    return searchHolidaysUseCase.search(query).map(HolidayResponse::from);
+  }
+
+  /**
+   * 요청이 선택할 응답 형식을 반환합니다.
+   *
+   * <p>{@code Accept}의 우선순위 순서대로 JSON과 CBOR 중 먼저 호환되는 형식을 고릅니다.
+   *
+   * @return JSON 또는 CBOR (둘 다 허용하지 않으면 {@code null})
+   */
+  private MediaType resolveRepresentation(NativeWebRequest webRequest) throws HttpMediaTypeNotAcceptableException {
+    for (MediaType mediaType : contentNegotiationManager.resolveMediaTypes(webRequest)) {
+      if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+        return MediaType.APPLICATION_JSON;
+      }
+      if (mediaType.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+        return MediaType.APPLICATION_CBOR;
+      }
+    }
+    return null;
+  }
+
+  private static boolean acceptsGzip(NativeWebRequest webRequest) {
+    final String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+    if (acceptEncoding == null) {
+      return false;
+    }
+    for (String coding : acceptEncoding.split(",")) {
+      final String[] parts = coding.trim().split(";");
+      if (parts[0].trim().equalsIgnoreCase("gzip")) {
+        return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0{0,3})?");
+      }
+    }
+    return false;
   }
 }
@@ -0,0 +1,156 @@
+package com.planitsquare.miniservice.adapter.in.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.planitsquare.miniservice.application.event.HolidaysChangedEvent;
+import com.planitsquare.miniservice.application.port.in.SearchHolidaysQuery;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * (국가, 연도) 검색 응답 본문 캐시.
+ *
+ * <p>국가와 연도만 지정한 검색의 JSON 응답 본문을 gzip으로 압축한 바이트 배열 그대로 보관하여,
+ * 같은 검색은 DB 조회, 응답 DTO 변환, 직렬화 없이 보관한 바이트를 그대로 응답합니다.
+ * 같은 (국가, 연도)라도 페이지, 정렬, 전체 건수 포함 여부마다 응답이 다르므로 각각 보관합니다.
+ * 페이지 크기가 {@value #MAX_CACHED_PAGE_SIZE}를 넘거나 {@value #MAX_CACHED_PAGES}번째 이후 페이지인 검색은
+ * 요청마다 키가 달라지기 쉬우므로 캐시 대상에서 제외합니다.
+ *
+ * <p>본문은 압축된 크기 합계가 {@value #MAX_CACHED_BYTES} 바이트를 넘지 않도록 가장 적게 쓰인 항목부터 제거하고,
+ * 마지막 사용 후 {@link #EXPIRE_AFTER_ACCESS}가 지난 항목도 제거합니다.
+ *
+ * <p>항목마다 만들 때의 ETag를 함께 보관하고 현재 ETag와 같을 때만 사용하므로, 변경 직전에 만든 본문이
+ * 변경 이후에 저장되어도 제공되지 않습니다. 공휴일이 변경되면 {@link HolidaysChangedEvent}를 받아
+ * 해당 (국가, 연도)의 항목을 제거하고, 다음 요청에서 다시 만듭니다.
+ *
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HolidaySearchResponseCache {
+
+  /**
+   * 캐시 대상 검색의 최대 페이지 크기.
+   */
+  static final int MAX_CACHED_PAGE_SIZE = 100;
+
+  /**
+   * 캐시 대상 검색의 페이지 수 (0부터 이 값 미만의 페이지 번호만 보관합니다).
+   */
+  static final int MAX_CACHED_PAGES = 10;
+
+  private static final long MAX_CACHED_BYTES = 32L * 1024 * 1024;
+  private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofHours(1);
+
+  private final JsonMapper jsonMapper;
+
+  private final Cache<CacheKey, CachedResponse> responses = Caffeine.newBuilder()
+      .maximumWeight(MAX_CACHED_BYTES)
+      .weigher((CacheKey key, CachedResponse response) -> response.gzippedBody().length)
+      .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+      .build();
+
+  /**
+   * 검색 조건이 캐시 대상인지 확인합니다.
+   *
+   * @param query 검색 조건
+   * @return 국가와 연도만 지정하고 페이지가 보관 범위 안인 검색이면 true
+   */
+  public boolean isCacheable(SearchHolidaysQuery query) {
+    final Pageable pageable = query.getPageable();
+    return query.getYear() != null
+        && pageable != null && pageable.isPaged()
+        && pageable.getPageSize() <= MAX_CACHED_PAGE_SIZE
+        && pageable.getPageNumber() < MAX_CACHED_PAGES
+        && query.getCountryCode() != null && !query.getCountryCode().isBlank()
+        && query.getFrom() == null
+        && query.getTo() == null
+        && query.getType() == null
+        && query.getName() == null;
+  }
+
+  /**
+   * 현재 ETag로 만든 응답 본문을 조회합니다.
+   *
+   * @param query 검색 조건 ({@link #isCacheable} 대상)
+   * @param eTag 현재 ETag
+   * @return gzip 압축된 응답 본문 (없거나 다른 ETag로 만든 경우 빈 값)
+   */
+  public Optional<byte[]> get(SearchHolidaysQuery query, String eTag) {
+    final CachedResponse cached = responses.getIfPresent(CacheKey.from(query));
+    if (cached == null || !cached.eTag().equals(eTag)) {
+      return Optional.empty();
+    }
+    return Optional.of(cached.gzippedBody());
+  }
+
+  /**
+   * 응답 본문을 JSON으로 직렬화하고 gzip으로 압축하여 보관합니다.
+   *
+   * @param query 검색 조건 ({@link #isCacheable} 대상)
+   * @param eTag 응답 본문을 만들기 전에 조회한 ETag
+   * @param body 응답 본문
+   * @return gzip 압축된 응답 본문
+   */
+  public byte[] put(SearchHolidaysQuery query, String eTag, Object body) {
+    final byte[] gzippedBody = gzip(jsonMapper.writeValueAsBytes(body));
+    responses.put(CacheKey.from(query), new CachedResponse(eTag, gzippedBody));
+    return gzippedBody;
+  }
+
+  /**
+   * 공휴일 변경 시 영향을 받는 (국가, 연도)의 응답 본문을 제거합니다.
+   *
+   * @param event 공휴일 변경 이벤트
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onHolidaysChanged(HolidaysChangedEvent event) {
+    responses.asMap().keySet().removeIf(key -> event.affects(key.countryCode(), key.year()));
+  }
+
+  /**
+   * 보관한 응답 본문을 모두 제거합니다.
+   */
+  public void evictAll() {
+    responses.invalidateAll();
+  }
+
+  private static byte[] gzip(byte[] body) {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream(body.length / 4 + 64);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+      gzip.write(body);
+    } catch (IOException e) {
+      throw new UncheckedIOException("응답 본문 압축에 실패했습니다.", e);
+    }
+    return output.toByteArray();
+  }
+
+  private record CachedResponse(String eTag, byte[] gzippedBody) {
+  }
+
+  /**
+   * 캐시 키. {@link Pageable} 구현체와 무관하게 같은 페이지를 같은 키로 보도록 페이지 번호, 크기, 정렬만 담습니다.
+   */
+  private record CacheKey(CountryCode countryCode, int year, int page, int size, Sort sort, boolean includeTotal) {
+
+    static CacheKey from(SearchHolidaysQuery query) {
+      final Pageable pageable = query.getPageable();
+      return new CacheKey(new CountryCode(query.getCountryCode()), query.getYear(),
+          pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(), query.isIncludeTotal());
+    }
+  }
+}
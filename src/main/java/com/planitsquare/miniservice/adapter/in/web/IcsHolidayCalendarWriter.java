@@ -0,0 +1,147 @@
+package com.planitsquare.miniservice.adapter.in.web;
+
+import com.planitsquare.miniservice.application.port.in.HolidayCalendarWriter;
+import com.planitsquare.miniservice.domain.model.Holiday;
+import com.planitsquare.miniservice.domain.vo.Country;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 공휴일을 iCalendar(RFC 5545) 형식으로 출력하는 {@link HolidayCalendarWriter}.
+ *
+ * <p>공휴일 하나를 받을 때마다 종일 {@code VEVENT} 하나를 출력 스트림에 바로 쓰므로 달력 전체를 메모리에 모으지 않습니다.
+ * 출력 스트림은 {@link #begin} 시점에 처음 얻으므로, 국가 확인에 실패하면 응답에 아무것도 쓰지 않은 채 오류 응답을 보낼 수 있습니다.
+ *
+ * <p>내용 줄은 CRLF로 끝나고 75 옥텟을 넘으면 UTF-8 문자 중간을 자르지 않도록 접습니다.
+ * {@code UID}는 날짜, 국가, 이름, 적용 지역으로 만들어 동기화로 공휴일이 다시 저장되어도 바뀌지 않으므로,
+ * 달력을 구독하는 클라이언트가 같은 공휴일을 중복으로 등록하지 않습니다.
+ *
+ * @since 1.0
+ */
+public class IcsHolidayCalendarWriter implements HolidayCalendarWriter {
+
+  private static final int MAX_LINE_OCTETS = 75;
+  private static final byte[] LINE_BREAK = {'\r', '\n'};
+  private static final byte[] FOLD = {'\r', '\n', ' '};
+  private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+  private static final DateTimeFormatter TIMESTAMP =
+      DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+  private final Supplier<OutputStream> outputSupplier;
+  private final String timestamp;
+  private OutputStream output;
+
+  /**
+   * IcsHolidayCalendarWriter를 생성합니다.
+   *
+   * @param outputSupplier {@link #begin} 시점에 출력 스트림을 제공하는 함수
+   * @param generatedAt 달력 생성 시각 ({@code DTSTAMP})
+   */
+  public IcsHolidayCalendarWriter(Supplier<OutputStream> outputSupplier, Instant generatedAt) {
+    this.outputSupplier = outputSupplier;
+    this.timestamp = TIMESTAMP.format(generatedAt);
+  }
+
+  @Override
+  public void begin(Country country) {
+    output = new BufferedOutputStream(outputSupplier.get());
+    line("BEGIN:VCALENDAR");
+    line("VERSION:2.0");
+    line("PRODID:-//planit-square//mini-service//EN");
+    line("CALSCALE:GREGORIAN");
+    line("METHOD:PUBLISH");
+    line("X-WR-CALNAME:" + escape(country.getName() + " Holidays"));
+  }
+
+  @Override
+  public void write(Holiday holiday) {
+    final List<String> regions = holiday.getMetadata().applicableRegions();
+    final List<String> types = holiday.getMetadata().types();
+
+    line("BEGIN:VEVENT");
+    line("UID:" + uid(holiday, regions));
+    line("DTSTAMP:" + timestamp);
+    line("DTSTART;VALUE=DATE:" + DATE.format(holiday.getDate()));
+    line("DTEND;VALUE=DATE:" + DATE.format(holiday.getDate().plusDays(1)));
+    line("SUMMARY:" + escape(holiday.getLocalName()));
+    line("DESCRIPTION:" + escape(regions.isEmpty()
+        ? holiday.getName()
+        : holiday.getName() + "\nRegions: " + String.join(", ", regions)));
+    if (!types.isEmpty()) {
+      line("CATEGORIES:" + String.join(",", types.stream().map(IcsHolidayCalendarWriter::escape).toList()));
+    }
+    line("TRANSP:TRANSPARENT");
+    line("END:VEVENT");
+  }
+
+  @Override
+  public void end() {
+    line("END:VCALENDAR");
+    try {
+      output.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException("달력 출력에 실패했습니다.", e);
+    }
+  }
+
+  private static String uid(Holiday holiday, List<String> regions) {
+    final String identity = holiday.getName() + "|" + String.join(",", regions);
+    return DATE.format(holiday.getDate()) + "-" + holiday.getCountry().getCode() + "-"
+        + Integer.toHexString(identity.hashCode()) + "@planit-square";
+  }
+
+  /**
+   * TEXT 값의 특수 문자를 이스케이프합니다 (RFC 5545 3.3.11).
+   */
+  private static String escape(String text) {
+    final StringBuilder escaped = new StringBuilder(text.length() + 8);
+    for (int i = 0; i < text.length(); i++) {
+      final char c = text.charAt(i);
+      switch (c) {
+        case '\\', ';', ',' -> escaped.append('\\').append(c);
+        case '\n' -> escaped.append("\\n");
+        case '\r' -> { }
+        default -> escaped.append(c);
+      }
+    }
+    return escaped.toString();
+  }
+
+  /**
+   * 내용 줄 하나를 75 옥텟 단위로 접어 씁니다 (RFC 5545 3.1).
+   */
+  private void line(String content) {
+    final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+    try {
+      int start = 0;
+      int limit = MAX_LINE_OCTETS;
+      while (bytes.length - start > limit) {
+        int end = start + limit;
+        while (isContinuationByte(bytes[end])) {
+          end--;
+        }
+        output.write(bytes, start, end - start);
+        output.write(FOLD);
+        start = end;
+        limit = MAX_LINE_OCTETS - 1;
+      }
+      output.write(bytes, start, bytes.length - start);
+      output.write(LINE_BREAK);
+    } catch (IOException e) {
+      throw new UncheckedIOException("달력 출력에 실패했습니다.", e);
+    }
+  }
+
+  private static boolean isContinuationByte(byte b) {
+    return (b & 0xC0) == 0x80;
+  }
+}
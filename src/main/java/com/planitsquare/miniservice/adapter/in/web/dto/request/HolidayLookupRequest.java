@@ -0,0 +1,59 @@
+package com.planitsquare.miniservice.adapter.in.web.dto.request;
+
+import com.planitsquare.miniservice.application.port.in.HolidayLookupKey;
+import com.planitsquare.miniservice.application.port.in.LookupHolidaysQuery;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 공휴일 일괄 조회 요청 DTO.
+ *
+ * <p>여러 (국가, 날짜) 쌍의 공휴일 여부를 한 번에 조회하는 요청을 표현합니다.
+ *
+ * @param items 조회할 (국가, 날짜) 목록
+ * @since 1.0
+ */
+@Schema(description = "공휴일 일괄 조회 요청")
+public record HolidayLookupRequest(
+    @Schema(description = "조회할 (국가, 날짜) 목록 (최대 500건)")
+    @NotEmpty(message = "조회할 (국가, 날짜) 목록을 입력해주세요.")
+    @Size(max = LookupHolidaysQuery.MAX_SIZE, message = "한 번에 최대 500건까지 조회할 수 있습니다.")
+    List<@Valid Item> items
+) {
+
+  /**
+   * 일괄 조회 쿼리로 변환합니다.
+   *
+   * @return 일괄 조회 쿼리
+   */
+  public LookupHolidaysQuery toQuery() {
+    return new LookupHolidaysQuery(items.stream()
+        .map(item -> new HolidayLookupKey(new CountryCode(item.countryCode()), item.date()))
+        .toList());
+  }
+
+  /**
+   * 조회할 (국가, 날짜) 쌍.
+   *
+   * @param countryCode 국가 코드
+   * @param date 조회할 날짜
+   */
+  @Schema(description = "조회할 (국가, 날짜) 쌍")
+  public record Item(
+      @Schema(description = "국가 코드", example = "KR")
+      @NotBlank(message = "국가코드를 입력해주세요.")
+      String countryCode,
+      @Schema(description = "조회할 날짜", example = "2025-01-01")
+      @NotNull(message = "조회할 날짜를 입력해주세요.")
+      LocalDate date
+  ) {
+  }
+}
@@ -0,0 +1,58 @@
+package com.planitsquare.miniservice.adapter.in.web.dto.response;
+
+import com.planitsquare.miniservice.application.port.in.BusinessDayQuery;
+import com.planitsquare.miniservice.application.port.in.BusinessDayResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+/**
+ * 영업일 계산 응답 DTO.
+ *
+ * @param countryCode 국가 코드
+ * @param region 지역 코드 (지정하지 않은 경우 null)
+ * @param date 기준 날짜
+ * @param businessDay 기준 날짜의 영업일 여부
+ * @param days 이동한 영업일 수
+ * @param resultDate 이동 결과 날짜
+ * @since 1.0
+ */
+@Schema(description = "영업일 계산 응답")
+public record BusinessDayResponse(
+    @Schema(description = "국가 코드", example = "KR")
+    String countryCode,
+
+    @Schema(description = "지역 코드", example = "US-CA", nullable = true)
+    String region,
+
+    @Schema(description = "기준 날짜", example = "2025-01-24")
+    LocalDate date,
+
+    @Schema(description = "기준 날짜의 영업일 여부", example = "true")
+    boolean businessDay,
+
+    @Schema(description = "이동한 영업일 수", example = "5")
+    int days,
+
+    @Schema(description = "이동 결과 날짜", example = "2025-02-04")
+    LocalDate resultDate
+) {
+
+  /**
+   * 쿼리와 계산 결과로부터 응답 DTO를 생성합니다.
+   *
+   * @param query 영업일 계산 쿼리
+   * @param result 계산 결과
+   * @return 영업일 계산 응답 DTO
+   */
+  public static BusinessDayResponse of(BusinessDayQuery query, BusinessDayResult result) {
+    return new BusinessDayResponse(
+        query.countryCode().code(),
+        query.region(),
+        query.date(),
+        result.businessDay(),
+        query.days(),
+        result.resultDate()
+    );
+  }
+}
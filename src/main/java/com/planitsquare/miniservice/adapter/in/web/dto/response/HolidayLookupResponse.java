@@ -0,0 +1,47 @@
+package com.planitsquare.miniservice.adapter.in.web.dto.response;
+
+import com.planitsquare.miniservice.application.port.in.HolidayLookupResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 공휴일 일괄 조회 응답 DTO.
+ *
+ * @param countryCode 국가 코드
+ * @param date 조회한 날짜
+ * @param holiday 공휴일 여부
+ * @param holidays 해당 날짜의 공휴일 목록
+ * @since 1.0
+ */
+@Schema(description = "공휴일 일괄 조회 응답")
+public record HolidayLookupResponse(
+    @Schema(description = "국가 코드", example = "KR")
+    String countryCode,
+
+    @Schema(description = "조회한 날짜", example = "2025-01-01")
+    LocalDate date,
+
+    @Schema(description = "공휴일 여부", example = "true")
+    boolean holiday,
+
+    @Schema(description = "해당 날짜의 공휴일 목록")
+    List<HolidayResponse> holidays
+) {
+
+  /**
+   * 조회 결과로부터 응답 DTO를 생성합니다.
+   *
+   * @param result 조회 결과
+   * @return 일괄 조회 응답 DTO
+   */
+  public static HolidayLookupResponse from(HolidayLookupResult result) {
+    return new HolidayLookupResponse(
+        result.key().countryCode().code(),
+        result.key().date(),
+        result.isHoliday(),
+        result.holidays().stream().map(HolidayResponse::from).toList()
+    );
+  }
+}
@@ -1,5 +1,6 @@
 package com.planitsquare.miniservice.adapter.in.web.dto.response;
 
+import com.planitsquare.miniservice.application.port.in.HolidayView;
 import com.planitsquare.miniservice.domain.model.Holiday;
 import lombok.Builder;
 import lombok.Getter;
@@ -94,4 +95,26 @@ public class HolidayResponse {
         .applicableRegions(holiday.getMetadata().applicableRegions())
         .build();
   }
+
+  /**
+   * 공휴일 읽기 모델로부터 HolidayResponseDto를 생성합니다.
+   *
+   * @param view 공휴일 읽기 모델
+   * @return HolidayResponseDto
+   */
+  public static HolidayResponse from(HolidayView view) {
+    return HolidayResponse.builder()
+        .id(view.id())
+        .countryCode(view.countryCode())
+        .countryName(view.countryName())
+        .localName(view.localName())
+        .name(view.name())
+        .date(view.date())
+        .fixed(view.fixed())
+        .global(view.global())
+        .launchYear(view.launchYear())
+        .types(view.types())
+        .applicableRegions(view.applicableRegions())
+        .build();
+  }
 }
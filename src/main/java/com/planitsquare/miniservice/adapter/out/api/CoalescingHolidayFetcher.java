@@ -0,0 +1,147 @@
+package com.planitsquare.miniservice.adapter.out.api;
+
+import com.planitsquare.miniservice.application.port.out.FetchHolidaysPort;
+import com.planitsquare.miniservice.common.ExternalApiAdapter;
+import com.planitsquare.miniservice.domain.model.Holiday;
+import com.planitsquare.miniservice.domain.vo.Country;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 공휴일 조회 요청 병합 어댑터.
+ *
+ * <p>{@code PUT /api/v1/holidays}의 외부 API 조회와 동기화 작업이 같은 (연도, 국가)를 동시에 요청하거나,
+ * 클라이언트가 같은 갱신 요청을 반복하면 외부 API가 같은 응답을 여러 번 반환하게 됩니다.
+ * 이 어댑터는 {@link HolidayApiClient} 앞에서 (연도, 국가)별로 진행 중인 호출을 하나의
+ * {@link CompletableFuture}로 공유하고, 완료된 결과를 {@link HolidayFetchCacheProperties#getTtlSeconds()} 동안 재사용합니다.
+ *
+ * <p>실패한 호출({@link Error} 포함)은 그 시점에 기다리던 호출자에게만 예외를 전달하고 결과를 남기지 않으므로,
+ * 다음 호출은 외부 API를 다시 호출합니다.
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Primary
+@ExternalApiAdapter
+public class CoalescingHolidayFetcher implements FetchHolidaysPort {
+
+  private final HolidayApiClient holidayApiClient;
+  private final long ttlNanos;
+  private final LongSupplier nanoClock;
+
+  private final Map<FetchKey, Flight> flights = new ConcurrentHashMap<>();
+
+  @Autowired
+  public CoalescingHolidayFetcher(HolidayApiClient holidayApiClient, HolidayFetchCacheProperties properties) {
+    this(holidayApiClient, Duration.ofSeconds(properties.getTtlSeconds()), System::nanoTime);
+  }
+
+  CoalescingHolidayFetcher(HolidayApiClient holidayApiClient, Duration ttl, LongSupplier nanoClock) {
+    this.holidayApiClient = holidayApiClient;
+    this.ttlNanos = ttl.toNanos();
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * 특정 연도와 국가의 공휴일 목록을 조회합니다.
+   *
+   * <p>같은 (연도, 국가)의 호출이 진행 중이면 그 결과를 기다리고,
+   * 완료된 결과가 유효 시간 안에 있으면 외부 API를 호출하지 않고 반환합니다.
+   *
+   * @param year 조회할 연도
+   * @param country ISO 국가 정보
+   * @return 공휴일 정보 목록
+   */
+  @Override
+  public List<Holiday> fetchHolidays(int year, Country country) {
+    final FetchKey key = new FetchKey(year, country.getCode());
+
+    while (true) {
+      final long now = nanoClock.getAsLong();
+      final Flight existing = flights.get(key);
+      if (existing != null && !existing.isExpired(now, ttlNanos)) {
+        log.debug("진행 중이거나 최근 완료된 공휴일 조회 재사용 - 국가: {}, 연도: {}", key.countryCode(), year);
+        return join(existing.result());
+      }
+
+      final Flight flight = new Flight(new CompletableFuture<>());
+      final boolean leader = existing == null
+          ? flights.putIfAbsent(key, flight) == null
+          : flights.replace(key, existing, flight);
+      if (leader) {
+        return fly(key, flight, year, country);
+      }
+    }
+  }
+
+  private List<Holiday> fly(FetchKey key, Flight flight, int year, Country country) {
+    evictExpired(nanoClock.getAsLong());
+    try {
+      final List<Holiday> holidays = holidayApiClient.fetchHolidays(year, country);
+      flight.land(nanoClock.getAsLong());
+      flight.result().complete(holidays);
+      return holidays;
+    } catch (Throwable e) {
+      // Error도 기다리는 호출자에게 전달해야 join()에서 무한히 대기하지 않습니다.
+      flights.remove(key, flight);
+      flight.result().completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private void evictExpired(long now) {
+    flights.values().removeIf(flight -> flight.isExpired(now, ttlNanos));
+  }
+
+  private static List<Holiday> join(CompletableFuture<List<Holiday>> result) {
+    try {
+      return result.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private record FetchKey(int year, String countryCode) {
+  }
+
+  /**
+   * (연도, 국가) 하나에 대한 외부 API 호출.
+   */
+  private static final class Flight {
+
+    private final CompletableFuture<List<Holiday>> result;
+    private volatile long landedAtNanos;
+    private volatile boolean landed;
+
+    Flight(CompletableFuture<List<Holiday>> result) {
+      this.result = result;
+    }
+
+    CompletableFuture<List<Holiday>> result() {
+      return result;
+    }
+
+    void land(long now) {
+      landedAtNanos = now;
+      landed = true;
+    }
+
+    boolean isExpired(long now, long ttlNanos) {
+      return landed && now - landedAtNanos >= ttlNanos;
+    }
+  }
+}
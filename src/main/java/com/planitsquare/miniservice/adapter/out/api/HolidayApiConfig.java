@@ -3,6 +3,8 @@ package com.planitsquare.miniservice.adapter.out.api;
 import java.time.Duration;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,11 +15,12 @@ import org.springframework.web.client.RestClient;
  * 공휴일 API 클라이언트 설정.
  *
  * <p>외부 공휴일 API와 통신하기 위한 RestClient 빈을 생성합니다.
+ * 요청 속도 제한이 활성화되어 있으면 모든 동기화 스레드가 공유하는 {@link OutboundRateLimiter}를 등록합니다.
  *
  * @since 1.0
  */
 @Configuration
-@EnableConfigurationProperties({HolidayApiProperties.class, HttpClientProperties.class})
+@EnableConfigurationProperties({HolidayApiProperties.class, HttpClientProperties.class, HolidayFetchCacheProperties.class})
 @RequiredArgsConstructor
 public class HolidayApiConfig {
 
@@ -32,19 +35,38 @@ public class HolidayApiConfig {
    *   <li>읽기 타임아웃: {@link HttpClientProperties#getReadTimeoutSeconds()}</li>
    * </ul>
    *
+   * <p>요청 속도 제한이 활성화되어 있으면 {@link RateLimitingInterceptor}를 등록합니다.
+   *
    * @param builder RestClient 빌더
+   * @param outboundRateLimiter 외부 API 요청 속도 제한기 (비활성화 시 없음)
    * @return 설정된 RestClient 인스턴스
    * @since 1.0
    */
   @Bean
-  public RestClient restClient(RestClient.Builder builder) {
+  public RestClient restClient(RestClient.Builder builder, ObjectProvider<OutboundRateLimiter> outboundRateLimiter) {
     SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
     requestFactory.setConnectTimeout(Duration.ofSeconds(httpClientProperties.getConnectTimeoutSeconds()));
     requestFactory.setReadTimeout(Duration.ofSeconds(httpClientProperties.getReadTimeoutSeconds()));
 
-    return builder
-        .requestFactory(requestFactory)
-        .build();
+    builder.requestFactory(requestFactory);
+    outboundRateLimiter.ifAvailable(rateLimiter -> builder.requestInterceptor(new RateLimitingInterceptor(
+        rateLimiter,
+        Duration.ofSeconds(httpClientProperties.getRateLimit().getMaxRetryAfterSeconds())
+    )));
+    return builder.build();
+  }
+
+  /**
+   * 외부 API 요청 속도 제한기 빈을 생성합니다.
+   *
+   * @return 모든 동기화 스레드가 공유하는 속도 제한기
+   * @since 1.0
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "http.client.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+  public OutboundRateLimiter outboundRateLimiter() {
+    HttpClientProperties.RateLimit rateLimit = httpClientProperties.getRateLimit();
+    return new OutboundRateLimiter(rateLimit.getRequestsPerSecond(), rateLimit.getBurst());
   }
 }
 
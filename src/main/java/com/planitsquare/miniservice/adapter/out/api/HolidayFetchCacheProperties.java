@@ -0,0 +1,24 @@
+package com.planitsquare.miniservice.adapter.out.api;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 공휴일 조회 결과 공유 설정 Properties.
+ *
+ * <p>같은 (연도, 국가)에 대한 동시 외부 API 호출을 하나로 합치고,
+ * 완료된 결과를 짧은 시간 동안 재사용하는 설정을 정의합니다.
+ *
+ * @since 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "external-api.fetch-cache")
+public class HolidayFetchCacheProperties {
+
+  /**
+   * 완료된 조회 결과를 재사용하는 시간 (초, {@code 0}이면 진행 중인 호출만 공유).
+   */
+  private long ttlSeconds = 30;
+}
@@ -7,7 +7,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 /**
  * HTTP 클라이언트 설정 Properties.
  *
- * <p>외부 API 호출 시 타임아웃 설정을 정의합니다.
+ * <p>외부 API 호출 시 타임아웃과 요청 속도 제한 설정을 정의합니다.
  *
  * @since 1.0
  */
@@ -25,4 +25,37 @@ public class HttpClientProperties {
    * 읽기 타임아웃 (초).
    */
   private int readTimeoutSeconds = 3;
+
+  /**
+   * 외부 API 요청 속도 제한 설정.
+   */
+  private RateLimit rateLimit = new RateLimit();
+
+  /**
+   * 모든 동기화 스레드가 공유하는 토큰 버킷 설정.
+   */
+  @Getter
+  @Setter
+  public static class RateLimit {
+
+    /**
+     * 요청 속도 제한 사용 여부.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 초당 허용 요청 수.
+     */
+    private double requestsPerSecond = 50;
+
+    /**
+     * 순간적으로 허용하는 최대 요청 수 (토큰 버킷 용량).
+     */
+    private int burst = 20;
+
+    /**
+     * {@code Retry-After}로 요청을 멈출 수 있는 최대 시간 (초).
+     */
+    private long maxRetryAfterSeconds = 60;
+  }
 }
@@ -0,0 +1,125 @@
+package com.planitsquare.miniservice.adapter.out.api;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 외부 API 요청 속도 제한기.
+ *
+ * <p>모든 동기화 스레드가 하나의 토큰 버킷을 공유합니다.
+ * 토큰은 초당 {@code requestsPerSecond}개씩 채워지고 최대 {@code burst}개까지 쌓입니다.
+ * 토큰이 없으면 다음 토큰이 채워질 시점을 예약하고 그때까지 대기합니다.
+ *
+ * <p>외부 API가 {@code Retry-After}로 요청 중단을 요구하면 {@link #pauseFor(Duration)}로
+ * 지정된 시점까지 모든 요청을 멈추고, 재개 후에는 쌓인 토큰 없이 정해진 속도로 다시 시작합니다.
+ *
+ * @since 1.0
+ */
+public class OutboundRateLimiter {
+
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final double requestsPerSecond;
+  private final int burst;
+  private final LongSupplier nanoClock;
+  private final Sleeper sleeper;
+
+  private double tokens;
+  private long lastRefillNanos;
+  private long pausedUntilNanos;
+
+  /**
+   * 속도 제한기를 생성합니다.
+   *
+   * @param requestsPerSecond 초당 허용 요청 수
+   * @param burst 토큰 버킷 용량
+   */
+  public OutboundRateLimiter(double requestsPerSecond, int burst) {
+    this(requestsPerSecond, burst, System::nanoTime, TimeUnit.NANOSECONDS::sleep);
+  }
+
+  OutboundRateLimiter(double requestsPerSecond, int burst, LongSupplier nanoClock, Sleeper sleeper) {
+    if (requestsPerSecond <= 0 || burst < 1) {
+      throw new IllegalArgumentException(
+          "초당 요청 수는 0보다 크고 버킷 용량은 1 이상이어야 합니다. (requestsPerSecond: %s, burst: %d)"
+              .formatted(requestsPerSecond, burst));
+    }
+    this.requestsPerSecond = requestsPerSecond;
+    this.burst = burst;
+    this.nanoClock = nanoClock;
+    this.sleeper = sleeper;
+    this.tokens = burst;
+    this.lastRefillNanos = nanoClock.getAsLong();
+    this.pausedUntilNanos = lastRefillNanos;
+  }
+
+  /**
+   * 요청 하나를 보낼 수 있을 때까지 대기합니다.
+   *
+   * <p>대기 중에 요청 중단이 걸리면 중단이 끝날 때까지 이어서 대기합니다.
+   *
+   * @throws InterruptedException 대기 중 인터럽트된 경우
+   */
+  public void acquire() throws InterruptedException {
+    sleeper.sleep(reserve());
+
+    long remainingPause;
+    while ((remainingPause = remainingPauseNanos()) > 0) {
+      sleeper.sleep(remainingPause);
+    }
+  }
+
+  /**
+   * 지정된 시간 동안 모든 요청을 멈춥니다.
+   *
+   * <p>이미 더 늦은 시점까지 멈춰 있다면 그 시점을 유지합니다.
+   *
+   * @param duration 중단 시간
+   */
+  public synchronized void pauseFor(Duration duration) {
+    final long now = nanoClock.getAsLong();
+    refill(now);
+    pausedUntilNanos = Math.max(pausedUntilNanos, now + duration.toNanos());
+    tokens = Math.min(tokens, 0);
+    lastRefillNanos = Math.max(lastRefillNanos, pausedUntilNanos);
+  }
+
+  /**
+   * 요청이 중단된 상태인지 확인합니다.
+   *
+   * @return 중단 시점이 아직 지나지 않았으면 {@code true}
+   */
+  public boolean isPaused() {
+    return remainingPauseNanos() > 0;
+  }
+
+  private synchronized long reserve() {
+    final long now = nanoClock.getAsLong();
+    final long start = Math.max(now, pausedUntilNanos);
+    refill(start);
+    tokens -= 1;
+    final long tokenWait = tokens < 0 ? (long) Math.ceil(-tokens * NANOS_PER_SECOND / requestsPerSecond) : 0;
+    return start - now + tokenWait;
+  }
+
+  private synchronized long remainingPauseNanos() {
+    return pausedUntilNanos - nanoClock.getAsLong();
+  }
+
+  private void refill(long now) {
+    if (now > lastRefillNanos) {
+      tokens = Math.min(burst, tokens + (now - lastRefillNanos) * requestsPerSecond / NANOS_PER_SECOND);
+      lastRefillNanos = now;
+    }
+  }
+
+  /**
+   * 대기 방식. 테스트에서 시간을 직접 진행시키기 위해 분리되어 있습니다.
+   */
+  @FunctionalInterface
+  interface Sleeper {
+
+    void sleep(long nanos) throws InterruptedException;
+  }
+}
@@ -0,0 +1,100 @@
+package com.planitsquare.miniservice.adapter.out.api;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * 외부 API 요청 속도 제한 인터셉터.
+ *
+ * <p>요청을 보내기 전에 {@link OutboundRateLimiter}에서 토큰을 받고,
+ * 응답이 429 또는 503이면 {@code Retry-After} 헤더만큼 모든 외부 요청을 멈춥니다.
+ * {@code Retry-After}는 초 단위 숫자와 HTTP 날짜 형식을 모두 지원하며, 최대 중단 시간을 넘지 않습니다.
+ * 429 응답에 {@code Retry-After}가 없으면 1초 동안 멈춥니다.
+ *
+ * <p>응답 자체는 그대로 반환하므로 예외 변환과 재시도는 기존 Retry 정책이 처리합니다.
+ * 재시도된 요청은 중단이 끝난 뒤에 토큰을 받아 전송됩니다.
+ *
+ * @since 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitingInterceptor implements ClientHttpRequestInterceptor {
+
+  private static final Duration DEFAULT_TOO_MANY_REQUESTS_PAUSE = Duration.ofSeconds(1);
+
+  private final OutboundRateLimiter rateLimiter;
+  private final Duration maxPause;
+
+  @Override
+  public ClientHttpResponse intercept(
+      HttpRequest request,
+      byte[] body,
+      ClientHttpRequestExecution execution
+  ) throws IOException {
+    try {
+      rateLimiter.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("외부 API 요청 대기 중 인터럽트되었습니다.");
+    }
+
+    ClientHttpResponse response = execution.execute(request, body);
+    if (response.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)
+        || response.getStatusCode().isSameCodeAs(HttpStatus.SERVICE_UNAVAILABLE)) {
+      pauseIfRequested(request, response);
+    }
+    return response;
+  }
+
+  private void pauseIfRequested(HttpRequest request, ClientHttpResponse response) throws IOException {
+    Duration retryAfter = parseRetryAfter(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    if (retryAfter == null && response.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+      retryAfter = DEFAULT_TOO_MANY_REQUESTS_PAUSE;
+    }
+    if (retryAfter == null || retryAfter.isNegative() || retryAfter.isZero()) {
+      return;
+    }
+
+    Duration pause = retryAfter.compareTo(maxPause) > 0 ? maxPause : retryAfter;
+    log.warn("외부 API 요청 중단 - 상태: {}, URI: {}, 중단 시간: {}ms",
+        response.getStatusCode().value(), request.getURI(), pause.toMillis());
+    rateLimiter.pauseFor(pause);
+  }
+
+  /**
+   * {@code Retry-After} 헤더 값을 대기 시간으로 변환합니다.
+   *
+   * @param value 헤더 값 (초 단위 숫자 또는 HTTP 날짜)
+   * @return 대기 시간, 값이 없거나 해석할 수 없으면 {@code null}
+   */
+  static Duration parseRetryAfter(String value) {
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    String trimmed = value.trim();
+    try {
+      return Duration.ofSeconds(Long.parseLong(trimmed));
+    } catch (NumberFormatException ignored) {
+      // HTTP 날짜 형식으로 해석
+    }
+    try {
+      Instant retryAt = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+      return Duration.between(Instant.now(), retryAt);
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+}
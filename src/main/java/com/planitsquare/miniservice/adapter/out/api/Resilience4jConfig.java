@@ -54,6 +54,10 @@ public class Resilience4jConfig {
    *   <li>{@link HttpClientErrorException}: 4xx 클라이언트 오류 (재시도 불필요)</li>
    * </ul>
    *
+   * <p>단, 429 Too Many Requests는 일시적인 제한이므로 재시도합니다.
+   * {@link RateLimitingInterceptor}가 {@code Retry-After}만큼 외부 요청 전체를 멈추므로
+   * 재시도 요청은 중단이 끝난 뒤에 전송됩니다.
+   *
    * @return 설정된 RetryRegistry
    * @since 1.0
    */
@@ -67,20 +71,31 @@ public class Resilience4jConfig {
     RetryConfig config = RetryConfig.custom()
         .maxAttempts(retryProperties.getMaxAttempts())
         .intervalFunction(backoff)
-        .retryExceptions(
-            RestClientException.class,
-            ConnectException.class,
-            SocketTimeoutException.class,
-            IOException.class
-        )
-        .ignoreExceptions(
-            HttpClientErrorException.class
-        )
+        .retryOnException(Resilience4jConfig::isRetryable)
         .build();
 
     return RetryRegistry.of(config);
   }
 
+  /**
+   * 재시도 대상 예외인지 확인합니다.
+   *
+   * @param throwable 발생한 예외
+   * @return 재시도 대상이면 {@code true}
+   */
+  static boolean isRetryable(Throwable throwable) {
+    if (throwable instanceof HttpClientErrorException.TooManyRequests) {
+      return true;
+    }
+    if (throwable instanceof HttpClientErrorException) {
+      return false;
+    }
+    return throwable instanceof RestClientException
+        || throwable instanceof ConnectException
+        || throwable instanceof SocketTimeoutException
+        || throwable instanceof IOException;
+  }
+
   /**
    * holidayApi용 Retry Bean을 생성합니다.
    *
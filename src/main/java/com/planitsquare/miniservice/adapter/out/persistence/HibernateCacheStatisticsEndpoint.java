@@ -0,0 +1,99 @@
+package com.planitsquare.miniservice.adapter.out.persistence;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Hibernate 2차 캐시 통계를 노출하는 Actuator 엔드포인트.
+ *
+ * <p>{@code /actuator/hibernatecache}에서 캐시 영역별 적중/미스/저장 건수와 적중률,
+ * 쿼리 캐시의 적중률, 애플리케이션 시작 이후 실행된 SQL 문장 수를 반환합니다.
+ * 통계는 {@code hibernate.generate_statistics}가 켜져 있을 때만 수집됩니다.
+ *
+ * @since 1.0
+ */
+@Component
+@Endpoint(id = "hibernatecache")
+public class HibernateCacheStatisticsEndpoint {
+
+  private final Statistics statistics;
+
+  public HibernateCacheStatisticsEndpoint(EntityManagerFactory entityManagerFactory) {
+    this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  /**
+   * 2차 캐시 통계를 조회합니다.
+   *
+   * @return 캐시 통계
+   */
+  @ReadOperation
+  public CacheStatistics cacheStatistics() {
+    final Map<String, RegionStatistics> regions = new TreeMap<>();
+    Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+        .forEach(name -> regions.put(name, RegionStatistics.from(statistics.getCacheRegionStatistics(name))));
+
+    return new CacheStatistics(
+        statistics.isStatisticsEnabled(),
+        regions,
+        new RegionStatistics(
+            statistics.getQueryCacheHitCount(),
+            statistics.getQueryCacheMissCount(),
+            statistics.getQueryCachePutCount()
+        ),
+        statistics.getPrepareStatementCount()
+    );
+  }
+
+  /**
+   * 2차 캐시 통계.
+   *
+   * @param statisticsEnabled 통계 수집 여부
+   * @param regions 캐시 영역별 통계
+   * @param queryCache 쿼리 캐시 통계
+   * @param preparedStatementCount 실행된 SQL 문장 수
+   */
+  public record CacheStatistics(
+      boolean statisticsEnabled,
+      Map<String, RegionStatistics> regions,
+      RegionStatistics queryCache,
+      long preparedStatementCount
+  ) {
+  }
+
+  /**
+   * 캐시 영역 하나의 통계.
+   *
+   * @param hitCount 적중 건수
+   * @param missCount 미스 건수
+   * @param putCount 저장 건수
+   */
+  public record RegionStatistics(long hitCount, long missCount, long putCount) {
+
+    private static RegionStatistics from(CacheRegionStatistics statistics) {
+      if (statistics == null) {
+        return new RegionStatistics(0, 0, 0);
+      }
+      return new RegionStatistics(statistics.getHitCount(), statistics.getMissCount(), statistics.getPutCount());
+    }
+
+    /**
+     * 적중률을 반환합니다.
+     *
+     * @return 조회 중 적중 비율 (조회가 없으면 0)
+     */
+    public double getHitRatio() {
+      final long lookups = hitCount + missCount;
+      return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package com.planitsquare.miniservice.adapter.out.persistence;
+
+import com.planitsquare.miniservice.adapter.out.persistence.repository.HolidayDataVersionJpaRepository;
+import com.planitsquare.miniservice.application.port.out.HolidayYearVersion;
+import com.planitsquare.miniservice.application.port.out.LoadHolidayDataVersionsPort;
+import com.planitsquare.miniservice.common.PersistenceAdapter;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 공휴일 데이터 버전 Persistence Adapter.
+ *
+ * <p>읽기 전용 트랜잭션으로 표시하지 않으므로, 복제본이 아닌 기본 데이터소스에서 방금 커밋된 버전을 읽습니다.
+ *
+ * @since 1.0
+ */
+@PersistenceAdapter
+@RequiredArgsConstructor
+public class HolidayDataVersionAdapter implements LoadHolidayDataVersionsPort {
+  private final HolidayDataVersionJpaRepository holidayDataVersionJpaRepository;
+
+  @Override
+  public List<HolidayYearVersion> loadVersions() {
+    return holidayDataVersionJpaRepository.findAll().stream()
+        .map(version -> new HolidayYearVersion(
+            new CountryCode(version.getCountryCode()), version.getYear(), version.getGeneration(), version.getVersion()))
+        .toList();
+  }
+
+  @Override
+  public long sumVersions() {
+    return holidayDataVersionJpaRepository.sumVersions();
+  }
+}
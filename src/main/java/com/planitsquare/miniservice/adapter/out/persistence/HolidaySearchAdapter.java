@@ -1,33 +1,85 @@
 package com.planitsquare.miniservice.adapter.out.persistence;
 
-import com.planitsquare.miniservice.adapter.out.persistence.entity.HolidayJpaEntity;
 import com.planitsquare.miniservice.adapter.out.persistence.mapper.HolidayMapper;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.HolidayJpaRepository;
 import com.planitsquare.miniservice.adapter.out.persistence.repository.HolidayQueryRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.search.NameMatches;
+import com.planitsquare.miniservice.application.port.in.HolidayView;
 import com.planitsquare.miniservice.application.port.in.SearchHolidaysQuery;
+import com.planitsquare.miniservice.application.port.out.FindHolidaysPort;
 import com.planitsquare.miniservice.application.port.out.SearchHolidaysPort;
 import com.planitsquare.miniservice.domain.model.Holiday;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * 공휴일 검색 Adapter.
  *
- * <p>QueryDSL Repository를 사용하여 공휴일을 검색하고
- * JPA Entity를 Domain 객체로 변환합니다.
+ * <p>검색은 QueryDSL 프로젝션으로 조회 전용 읽기 모델을 바로 생성하고,
+ * 전체 건수는 {@link HolidaySearchCountCache}를 통해 필요한 경우에만 조회합니다.
+ * 이름 색인은 요청마다 한 번만 조회하여 목록과 건수 조회가 같은 결과를 사용합니다.
+ * (국가, 연도) 및 (국가, 날짜) 조회는 JPA Entity를 Domain 객체로 변환합니다.
  *
  * @since 1.0
  */
 @Component
 @RequiredArgsConstructor
-public class HolidaySearchAdapter implements SearchHolidaysPort {
+public class HolidaySearchAdapter implements SearchHolidaysPort, FindHolidaysPort {
 
   private final HolidayQueryRepository holidayQueryRepository;
+  private final HolidayJpaRepository holidayJpaRepository;
   private final HolidayMapper holidayMapper;
+  private final HolidaySearchCountCache holidaySearchCountCache;
+
+  @Override
+  public Slice<HolidayView> searchHolidays(SearchHolidaysQuery query) {
+    final NameMatches nameMatches = holidayQueryRepository.matchName(query);
+    if (!query.isIncludeTotal()) {
+      return holidayQueryRepository.searchSlice(query, nameMatches);
+    }
+
+    List<HolidayView> content = holidayQueryRepository.search(query, nameMatches);
+    return PageableExecutionUtils.getPage(content, query.getPageable(),
+        () -> holidaySearchCountCache.count(query, nameMatches));
+  }
 
   @Override
-  public Page<Holiday> searchHolidays(SearchHolidaysQuery query) {
-    Page<HolidayJpaEntity> entityPage = holidayQueryRepository.search(query);
-    return entityPage.map(holidayMapper::toDomain);
+  @Transactional(readOnly = true)
+  public List<Holiday> findByYearAndCountryCode(int year, CountryCode countryCode) {
+    return holidayJpaRepository.findAllByCountryCodeAndDateBetween(
+            countryCode.code(),
+            LocalDate.of(year, 1, 1),
+            LocalDate.of(year, 12, 31)
+        ).stream()
+        .map(holidayMapper::toDomain)
+        .toList();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Holiday> findAllByCountryCodesAndDates(
+      Collection<CountryCode> countryCodes,
+      Collection<LocalDate> dates
+  ) {
+    if (countryCodes.isEmpty() || dates.isEmpty()) {
+      return List.of();
+    }
+
+    final List<String> codes = countryCodes.stream()
+        .map(CountryCode::code)
+        .distinct()
+        .toList();
+
+    return holidayJpaRepository.findAllByCountryCodeInAndDateIn(codes, dates).stream()
+        .map(holidayMapper::toDomain)
+        .toList();
   }
 }
@@ -0,0 +1,199 @@
+package com.planitsquare.miniservice.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.HolidayQueryRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.HolidayQueryRepository.CountryYearCount;
+import com.planitsquare.miniservice.adapter.out.persistence.search.HolidayNameNormalizer;
+import com.planitsquare.miniservice.adapter.out.persistence.search.NameMatches;
+import com.planitsquare.miniservice.application.event.HolidaysChangedEvent;
+import com.planitsquare.miniservice.application.port.in.SearchHolidaysQuery;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+import com.planitsquare.miniservice.domain.vo.HolidayType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 공휴일 검색 전체 건수 캐시.
+ *
+ * <p>검색의 {@code count(*)} 비용을 줄이기 위해 두 단계로 전체 건수를 제공합니다.
+ * <ul>
+ *   <li>연도/국가 조건만 있는 검색: (국가, 연도)별 건수 카운터를 합산 (카운터는 group by 한 번으로 적재)</li>
+ *   <li>그 외 검색: 검색 조건 시그니처별로 건수 조회 결과를 캐시</li>
+ * </ul>
+ *
+ * <p>공휴일이 변경되면 {@link HolidaysChangedEvent}를 받아 영향을 받는 (국가, 연도)의 시그니처만 제거하고
+ * 카운터를 다시 적재하도록 표시합니다. 건수 조회 도중 변경이 발생하면 조회 결과를 캐시하지 않아
+ * 오래된 건수가 남지 않도록 하고, 조회 결과의 보관과 무효화는 같은 잠금 안에서 하여 무효화 직후에 보관되지 않습니다.
+ *
+ * <p>시그니처별 건수는 최대 {@value #MAX_CACHED_SIGNATURES}개까지 보관하고, 가득 차면 오래 쓰이지 않은 건수부터 제거합니다.
+ *
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HolidaySearchCountCache {
+
+  private static final int MAX_CACHED_SIGNATURES = 10_000;
+  private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofHours(1);
+
+  private final HolidayQueryRepository holidayQueryRepository;
+
+  private final Cache<CountSignature, Long> totals = Caffeine.newBuilder()
+      .maximumSize(MAX_CACHED_SIGNATURES)
+      .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+      .build();
+
+  /**
+   * 무효화와 조회 결과 보관을 직렬화하는 잠금. {@link #generation}은 이 잠금 안에서만 바꿉니다.
+   */
+  private final Object writeLock = new Object();
+  private volatile long generation;
+  private volatile Map<CountryYear, Long> counters;
+
+  /**
+   * 검색 조건에 해당하는 전체 건수를 반환합니다.
+   *
+   * @param query 검색 조건
+   * @param nameMatches 목록 조회에 사용한 이름 색인 결과 ({@link HolidayQueryRepository#matchName})
+   * @return 전체 건수
+   */
+  public long count(SearchHolidaysQuery query, NameMatches nameMatches) {
+    final CountSignature signature = CountSignature.from(query);
+    if (signature.isCountable()) {
+      return sumCounters(signature);
+    }
+
+    final Long cached = totals.getIfPresent(signature);
+    if (cached != null) {
+      return cached;
+    }
+
+    final long startGeneration = generation;
+    final long total = holidayQueryRepository.count(query, nameMatches);
+    synchronized (writeLock) {
+      if (generation == startGeneration) {
+        totals.put(signature, total);
+      }
+    }
+    return total;
+  }
+
+  /**
+   * 공휴일 변경 시 영향을 받는 전체 건수를 무효화합니다.
+   *
+   * @param event 공휴일 변경 이벤트
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onHolidaysChanged(HolidaysChangedEvent event) {
+    synchronized (writeLock) {
+      generation++;
+      counters = null;
+      totals.asMap().keySet().removeIf(signature -> signature.isAffectedBy(event));
+    }
+  }
+
+  /**
+   * 캐시된 전체 건수와 카운터를 모두 제거합니다.
+   */
+  public void evictAll() {
+    synchronized (writeLock) {
+      generation++;
+      counters = null;
+      totals.invalidateAll();
+    }
+  }
+
+  private long sumCounters(CountSignature signature) {
+    return loadCounters().entrySet().stream()
+        .filter(entry -> signature.year() == null || signature.year().equals(entry.getKey().year()))
+        .filter(entry -> signature.countryCode() == null || signature.countryCode().equals(entry.getKey().countryCode()))
+        .mapToLong(Map.Entry::getValue)
+        .sum();
+  }
+
+  private Map<CountryYear, Long> loadCounters() {
+    final Map<CountryYear, Long> current = counters;
+    if (current != null) {
+      return current;
+    }
+
+    final long startGeneration = generation;
+    final Map<CountryYear, Long> loaded = holidayQueryRepository.countByCountryAndYear().stream()
+        .collect(Collectors.toUnmodifiableMap(
+            row -> new CountryYear(row.countryCode(), row.year()),
+            CountryYearCount::count
+        ));
+    synchronized (writeLock) {
+      if (generation == startGeneration) {
+        counters = loaded;
+      }
+    }
+    log.debug("공휴일 건수 카운터 적재 - (국가, 연도) 수: {}", loaded.size());
+    return loaded;
+  }
+
+  private record CountryYear(String countryCode, int year) {
+  }
+
+  /**
+   * 전체 건수에 영향을 주는 검색 조건만 정규화한 시그니처.
+   *
+   * <p>페이징과 정렬은 건수에 영향을 주지 않으므로 포함하지 않습니다.
+   * 이름은 색인 검색과 {@code LIKE} 검색 모두 같은 정규화 기준으로 비교하므로 정규화된 값을 사용합니다.
+   */
+  record CountSignature(
+      Integer year,
+      String countryCode,
+      LocalDate from,
+      LocalDate to,
+      Set<HolidayType> types,
+      String name
+  ) {
+
+    static CountSignature from(SearchHolidaysQuery query) {
+      return new CountSignature(
+          query.getYear(),
+          query.getCountryCode() != null ? query.getCountryCode().toUpperCase() : null,
+          query.getFrom(),
+          query.getTo(),
+          Set.copyOf(query.getTypes()),
+          query.getName() != null && !query.getName().isBlank() ? HolidayNameNormalizer.normalize(query.getName()) : null
+      );
+    }
+
+    /**
+     * (국가, 연도) 카운터의 합으로 건수를 구할 수 있는지 확인합니다.
+     */
+    boolean isCountable() {
+      return from == null && to == null && types.isEmpty() && name == null;
+    }
+
+    /**
+     * 변경 이벤트가 이 조건의 건수에 영향을 줄 수 있는지 확인합니다.
+     */
+    boolean isAffectedBy(HolidaysChangedEvent event) {
+      return event.years().stream().anyMatch(changedYear -> matchesYear(changedYear)
+          && (countryCode == null || event.isAllCountries() || event.affects(new CountryCode(countryCode), changedYear)));
+    }
+
+    private boolean matchesYear(int changedYear) {
+      if (year != null && year != changedYear) {
+        return false;
+      }
+      if (from != null && from.getYear() > changedYear) {
+        return false;
+      }
+      return to == null || to.getYear() >= changedYear;
+    }
+  }
+}
@@ -0,0 +1,191 @@
+package com.planitsquare.miniservice.adapter.out.persistence;
+
+import com.planitsquare.miniservice.adapter.out.persistence.config.HolidaySnapshotProperties;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.CountryJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.HolidayJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.QHolidayJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.CountryJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.HolidayDataVersionJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.HolidayJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.snapshot.HolidaySnapshot;
+import com.planitsquare.miniservice.adapter.out.persistence.snapshot.HolidaySnapshot.SnapshotCountry;
+import com.planitsquare.miniservice.adapter.out.persistence.snapshot.HolidaySnapshot.SnapshotHoliday;
+import com.planitsquare.miniservice.adapter.out.persistence.snapshot.HolidaySnapshotCodec;
+import com.planitsquare.miniservice.adapter.out.persistence.vo.HolidayMetadataEmbeddable;
+import com.planitsquare.miniservice.application.port.out.HolidaySnapshotPort;
+import com.planitsquare.miniservice.common.PersistenceAdapter;
+import com.planitsquare.miniservice.domain.vo.HolidayType;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 공휴일 스냅샷 Persistence Adapter.
+ *
+ * <p>내보내기는 엔티티를 만들지 않고 필요한 컬럼만 조회합니다. 타입 목록은 {@code type_mask} 컬럼을 그대로 사용하고,
+ * 적용 지역은 컬렉션 테이블을 한 번 조인하여 공휴일 ID별로 묶습니다.
+ * 방금 끝난 동기화 결과를 담아야 하므로 읽기 전용 트랜잭션으로 표시하지 않아, 복제본이 아닌 기본 데이터소스에서 읽습니다.
+ *
+ * <p>적재는 한 트랜잭션에서 수행되어 조회 측에는 모든 데이터가 한 번에 보이며,
+ * 적재한 (국가, 연도)의 데이터 버전도 같은 트랜잭션에서 올립니다.
+ * 공휴일 ID는 시퀀스 할당(50개 단위)을 사용하므로 JDBC 배치 INSERT로 저장됩니다.
+ *
+ * @since 1.0
+ */
+@PersistenceAdapter
+@RequiredArgsConstructor
+@Slf4j
+public class HolidaySnapshotAdapter implements HolidaySnapshotPort {
+
+  private static final QHolidayJpaEntity holiday = QHolidayJpaEntity.holidayJpaEntity;
+  private static final int FLUSH_SIZE = 1_000;
+
+  private final JPAQueryFactory queryFactory;
+  private final EntityManager entityManager;
+  private final CountryJpaRepository countryJpaRepository;
+  private final HolidayJpaRepository holidayJpaRepository;
+  private final HolidayDataVersionJpaRepository holidayDataVersionJpaRepository;
+  private final HolidaySnapshotProperties properties;
+
+  @Override
+  @Transactional
+  public synchronized void exportSnapshot() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+
+    final long start = System.nanoTime();
+    final List<SnapshotCountry> countries = countryJpaRepository.findAll().stream()
+        .map(country -> new SnapshotCountry(country.getCode(), country.getName()))
+        .toList();
+    final Map<Long, List<String>> regions = findApplicableRegions();
+    final List<SnapshotHoliday> holidays = queryFactory
+        .select(holiday.id, holiday.country.code, holiday.date, holiday.localName, holiday.name,
+            holiday.metadata.fixed, holiday.metadata.global, holiday.metadata.launchYear, holiday.typeMask)
+        .from(holiday)
+        .orderBy(holiday.country.code.asc(), holiday.date.asc(), holiday.id.asc())
+        .fetch()
+        .stream()
+        .map(row -> toSnapshotHoliday(row, regions))
+        .toList();
+    if (holidays.isEmpty()) {
+      log.debug("저장된 공휴일이 없어 스냅샷을 내보내지 않습니다.");
+      return;
+    }
+
+    final Path path = Path.of(properties.getPath());
+    try {
+      HolidaySnapshotCodec.write(new HolidaySnapshot(Instant.now(), countries, holidays), path);
+    } catch (IOException e) {
+      throw new UncheckedIOException("공휴일 스냅샷 파일을 쓸 수 없습니다: " + path, e);
+    }
+    log.info("공휴일 스냅샷 내보내기 - 경로: {}, 국가: {}건, 공휴일: {}건, 소요: {}ms",
+        path, countries.size(), holidays.size(), (System.nanoTime() - start) / 1_000_000);
+  }
+
+  @Override
+  @Transactional
+  public List<Integer> restoreSnapshot() {
+    final Path path = Path.of(properties.getPath());
+    if (!properties.isEnabled() || !Files.isRegularFile(path)) {
+      return List.of();
+    }
+    if (countryJpaRepository.count() > 0 || holidayJpaRepository.count() > 0) {
+      log.info("이미 저장된 데이터가 있어 공휴일 스냅샷을 적재하지 않습니다.");
+      return List.of();
+    }
+
+    final long start = System.nanoTime();
+    final HolidaySnapshot snapshot;
+    try {
+      snapshot = HolidaySnapshotCodec.read(path);
+    } catch (IOException e) {
+      log.warn("공휴일 스냅샷을 읽을 수 없어 적재하지 않습니다 - 경로: {}, 에러: {}", path, e.getMessage());
+      return List.of();
+    }
+
+    final Map<String, CountryJpaEntity> countries = new HashMap<>();
+    for (SnapshotCountry country : snapshot.countries()) {
+      final CountryJpaEntity entity = new CountryJpaEntity(country.code(), country.name());
+      entityManager.persist(entity);
+      countries.put(country.code(), entity);
+    }
+
+    int persisted = 0;
+    for (SnapshotHoliday snapshotHoliday : snapshot.holidays()) {
+      entityManager.persist(toEntity(snapshotHoliday, countries.get(snapshotHoliday.countryCode())));
+      if (++persisted % FLUSH_SIZE == 0) {
+        entityManager.flush();
+        entityManager.clear();
+        countries.replaceAll((code, country) -> entityManager.getReference(CountryJpaEntity.class, code));
+      }
+    }
+    entityManager.flush();
+    entityManager.clear();
+    snapshot.holidays().stream()
+        .map(snapshotHoliday -> Map.entry(snapshotHoliday.countryCode(), snapshotHoliday.date().getYear()))
+        .distinct()
+        .forEach(countryYear -> holidayDataVersionJpaRepository.recordChange(
+            countryYear.getKey(), countryYear.getValue()));
+
+    log.info("공휴일 스냅샷 적재 - 내보낸 시각: {}, 국가: {}건, 공휴일: {}건, 연도: {}, 소요: {}ms",
+        snapshot.exportedAt(), snapshot.countries().size(), snapshot.holidays().size(), snapshot.years(),
+        (System.nanoTime() - start) / 1_000_000);
+    return snapshot.years();
+  }
+
+  private Map<Long, List<String>> findApplicableRegions() {
+    final StringPath region = Expressions.stringPath("region");
+    return queryFactory
+        .select(holiday.id, region)
+        .from(holiday)
+        .join(holiday.applicableRegions, region)
+        .fetch()
+        .stream()
+        .collect(Collectors.groupingBy(
+            row -> row.get(holiday.id),
+            Collectors.mapping(row -> row.get(region), Collectors.toList())
+        ));
+  }
+
+  private static SnapshotHoliday toSnapshotHoliday(Tuple row, Map<Long, List<String>> regions) {
+    return new SnapshotHoliday(
+        row.get(holiday.country.code),
+        row.get(holiday.date),
+        row.get(holiday.localName),
+        row.get(holiday.name),
+        Boolean.TRUE.equals(row.get(holiday.metadata.fixed)),
+        Boolean.TRUE.equals(row.get(holiday.metadata.global)),
+        row.get(holiday.metadata.launchYear),
+        row.get(holiday.typeMask),
+        regions.getOrDefault(row.get(holiday.id), List.of())
+    );
+  }
+
+  private static HolidayJpaEntity toEntity(SnapshotHoliday snapshotHoliday, CountryJpaEntity country) {
+    return new HolidayJpaEntity(
+        country,
+        snapshotHoliday.localName(),
+        snapshotHoliday.name(),
+        snapshotHoliday.date(),
+        new HolidayMetadataEmbeddable(snapshotHoliday.fixed(), snapshotHoliday.global(), snapshotHoliday.launchYear()),
+        HolidayType.typesOf(snapshotHoliday.typeMask()),
+        snapshotHoliday.applicableRegions()
+    );
+  }
+}
@@ -4,9 +4,15 @@ import com.planitsquare.miniservice.adapter.out.persistence.entity.CountryJpaEnt
 import com.planitsquare.miniservice.adapter.out.persistence.entity.HolidayJpaEntity;
 import com.planitsquare.miniservice.adapter.out.persistence.mapper.CountryMapper;
 import com.planitsquare.miniservice.adapter.out.persistence.mapper.HolidayMapper;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.HolidayDataVersionJpaRepository;
 import com.planitsquare.miniservice.adapter.out.persistence.repository.HolidayJpaRepository;
+import com.planitsquare.miniservice.application.exception.SyncJobLeaseLostException;
 import com.planitsquare.miniservice.application.port.out.DeleteHolidaysPort;
+import com.planitsquare.miniservice.application.port.out.ReplaceHolidaysPort;
 import com.planitsquare.miniservice.application.port.out.SaveAllHolidaysPort;
+import com.planitsquare.miniservice.application.port.out.SyncJobLease;
+import com.planitsquare.miniservice.application.port.out.SyncJobLockPort;
+import com.planitsquare.miniservice.application.util.SyncJobLeaseContext;
 import com.planitsquare.miniservice.common.PersistenceAdapter;
 import com.planitsquare.miniservice.domain.model.Holiday;
 import com.planitsquare.miniservice.domain.vo.CountryCode;
@@ -15,13 +21,23 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+/**
+ * 공휴일 저장, 삭제, 교체 Port의 Persistence Adapter 구현체.
+ *
+ * <p>공휴일을 변경하면 같은 트랜잭션에서 변경된 (국가, 연도)의 데이터 버전을 올리므로,
+ * 데이터 변경과 버전 변경은 함께 커밋되거나 함께 롤백됩니다.
+ *
+ * @since 1.0
+ */
 @PersistenceAdapter
 @RequiredArgsConstructor
 @Transactional
-public class HolidaysAdapter implements SaveAllHolidaysPort, DeleteHolidaysPort {
+public class HolidaysAdapter implements SaveAllHolidaysPort, DeleteHolidaysPort, ReplaceHolidaysPort {
   private final HolidayJpaRepository holidayJpaRepository;
+  private final HolidayDataVersionJpaRepository holidayDataVersionJpaRepository;
   private final HolidayMapper holidayMapper;
   private final CountryMapper countryMapper;
+  private final SyncJobLockPort syncJobLockPort;
 
   @Override
   public void saveAllHolidays(List<Holiday> holidays) {
@@ -30,20 +46,51 @@ public class HolidaysAdapter implements SaveAllHolidaysPort, DeleteHolidaysPort
         .toList();
 
     holidayJpaRepository.saveAll(holidayJpaEntities);
+    holidays.stream()
+        .map(holiday -> new CountryYear(holiday.getCountry().getCode(), holiday.getDate().getYear()))
+        .distinct()
+        .forEach(countryYear -> holidayDataVersionJpaRepository.recordChange(
+            countryYear.countryCode(), countryYear.year()));
   }
 
   @Override
   public int deleteByYearAndCountryCode(int year, CountryCode countryCode) {
-    return holidayJpaRepository.deleteByCountryCodeAndYear(countryCode.code(), year);
+    final int deletedCount = holidayJpaRepository.deleteByCountryCodeAndYear(countryCode.code(), year);
+    holidayDataVersionJpaRepository.recordChange(countryCode.code(), year);
+    return deletedCount;
   }
 
+  /**
+   * 특정 연도와 국가의 공휴일을 하나의 트랜잭션에서 삭제 후 저장합니다.
+   *
+   * <p>엔티티 변환은 삭제 전에 끝내 두어, 트랜잭션 안에서는 삭제와 배치 저장만 수행합니다.
+   * 조회 트랜잭션은 MVCC로 커밋된 스냅샷을 읽으므로 교체 중에도 잠금 대기 없이 기존 데이터를 조회합니다.
+   *
+   * <p>동기화 Job 안에서 호출되면 같은 트랜잭션에서 Job의 락 임대가 아직 유효한지 데이터베이스로 확인하고,
+   * 임대를 잃었으면 {@link SyncJobLeaseLostException}으로 교체하지 않습니다.
+   */
   @Override
-  public int deleteByYear(List<Integer> years) {
-    return holidayJpaRepository.deleteByYear(years);
+  public int replaceHolidays(int year, CountryCode countryCode, List<Holiday> holidays) {
+    final SyncJobLease lease = SyncJobLeaseContext.getLease();
+    if (lease != null && !syncJobLockPort.isHeldBy(lease.ownerId())) {
+      throw new SyncJobLeaseLostException(lease.ownerId());
+    }
+
+    final List<HolidayJpaEntity> holidayJpaEntities = holidays.stream()
+        .map(this::toEntity)
+        .toList();
+
+    final int deletedCount = holidayJpaRepository.deleteByCountryCodeAndYear(countryCode.code(), year);
+    holidayJpaRepository.saveAll(holidayJpaEntities);
+    holidayDataVersionJpaRepository.recordChange(countryCode.code(), year);
+    return deletedCount;
   }
 
   private HolidayJpaEntity toEntity(Holiday holiday) {
     CountryJpaEntity countryJpaEntity = countryMapper.toEntity(holiday.getCountry());
     return holidayMapper.toEntity(holiday, countryJpaEntity);
   }
+
+  private record CountryYear(String countryCode, int year) {
+  }
 }
@@ -6,7 +6,9 @@ import com.planitsquare.miniservice.adapter.out.persistence.entity.SyncJobJpaEnt
 import com.planitsquare.miniservice.adapter.out.persistence.mapper.CountryMapper;
 import com.planitsquare.miniservice.adapter.out.persistence.repository.SyncHistoryJpaRepository;
 import com.planitsquare.miniservice.adapter.out.persistence.repository.SyncJobJpaRepository;
+import com.planitsquare.miniservice.application.annotation.Workload;
 import com.planitsquare.miniservice.application.port.out.RecordSyncHistoryPort;
+import com.planitsquare.miniservice.application.util.WorkloadType;
 import com.planitsquare.miniservice.common.PersistenceAdapter;
 import com.planitsquare.miniservice.domain.vo.Country;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +26,7 @@ import java.time.LocalDateTime;
  * @since 1.0
  */
 @PersistenceAdapter
+@Workload(WorkloadType.HISTORY)
 @RequiredArgsConstructor
 @Slf4j
 public class SyncHistoryAdapter implements RecordSyncHistoryPort {
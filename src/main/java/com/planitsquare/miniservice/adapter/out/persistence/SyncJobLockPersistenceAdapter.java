@@ -0,0 +1,142 @@
+package com.planitsquare.miniservice.adapter.out.persistence;
+
+import com.planitsquare.miniservice.adapter.out.persistence.config.SyncJobLockProperties;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.SyncJobLockJpaRepository;
+import com.planitsquare.miniservice.application.port.out.SyncJobLease;
+import com.planitsquare.miniservice.application.port.out.SyncJobLockPort;
+import com.planitsquare.miniservice.common.PersistenceAdapter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 동기화 Job 분산 락 Persistence Adapter.
+ *
+ * <p>{@code sync_job_lock} 테이블의 단일 행을 임대(lease) 락으로 사용합니다.
+ * <ul>
+ *   <li>획득: 임대가 만료된 경우에만 소유자와 만료 시각을 기록하는 조건부 UPDATE</li>
+ *   <li>연장: 소유자가 일치하는 경우에만 만료 시각을 늘리는 조건부 UPDATE (heartbeat)</li>
+ *   <li>해제: 소유자가 일치하는 경우에만 소유자를 비우고 즉시 만료</li>
+ * </ul>
+ * UPDATE의 영향 행 수로 성공 여부를 판단하므로 여러 인스턴스가 동시에 획득을 시도해도 한 소유자만 성공합니다.
+ * 임대 시각은 데이터베이스 시계로 기록하고 비교하므로 인스턴스 간 시계 차이의 영향을 받지 않습니다.
+ *
+ * <p>임대는 마지막으로 연장에 성공한 연장 요청 시작 시각부터 임대 시간이 지나면 로컬에서도 무효로 봅니다.
+ * 데이터베이스의 만료 시각은 그보다 늦으므로, heartbeat가 오류로 연장하지 못하는 동안에도
+ * 다른 인스턴스가 락을 획득하기 전에 기존 소유자가 먼저 임대를 잃었다고 판단합니다.
+ *
+ * @since 1.0
+ */
+@PersistenceAdapter
+@Slf4j
+public class SyncJobLockPersistenceAdapter implements SyncJobLockPort {
+
+  static final String SYNC_JOB_LOCK = "holiday-sync";
+
+  private final SyncJobLockJpaRepository syncJobLockJpaRepository;
+  private final TaskScheduler taskScheduler;
+  private final Duration leaseDuration;
+  private final Duration heartbeatInterval;
+  private final String instanceId;
+
+  public SyncJobLockPersistenceAdapter(
+      SyncJobLockJpaRepository syncJobLockJpaRepository,
+      TaskScheduler taskScheduler,
+      SyncJobLockProperties properties
+  ) {
+    this.syncJobLockJpaRepository = syncJobLockJpaRepository;
+    this.taskScheduler = taskScheduler;
+    this.leaseDuration = Duration.ofSeconds(properties.getLeaseSeconds());
+    this.heartbeatInterval = Duration.ofSeconds(properties.getHeartbeatIntervalSeconds());
+    this.instanceId = properties.getInstanceId();
+  }
+
+  @Override
+  public Optional<SyncJobLease> tryAcquire() {
+    syncJobLockJpaRepository.insertIfAbsent(SYNC_JOB_LOCK);
+
+    final String ownerId = instanceId + "/" + UUID.randomUUID();
+    final long requestedAt = System.nanoTime();
+    if (syncJobLockJpaRepository.acquire(SYNC_JOB_LOCK, ownerId, leaseDuration.toSeconds()) == 0) {
+      log.info("동기화 Job 락 획득 실패 - 다른 소유자가 보유 중입니다.");
+      return Optional.empty();
+    }
+
+    log.info("동기화 Job 락 획득 - 소유자: {}, 임대 시간: {}", ownerId, leaseDuration);
+    return Optional.of(new DatabaseSyncJobLease(ownerId, requestedAt));
+  }
+
+  @Override
+  public boolean isLocked() {
+    return syncJobLockJpaRepository.isLeased(SYNC_JOB_LOCK);
+  }
+
+  @Override
+  public boolean isHeldBy(String ownerId) {
+    return syncJobLockJpaRepository.isLeasedBy(SYNC_JOB_LOCK, ownerId);
+  }
+
+  /**
+   * heartbeat로 연장되는 데이터베이스 임대.
+   */
+  private final class DatabaseSyncJobLease implements SyncJobLease {
+
+    private final String ownerId;
+    private final AtomicBoolean valid = new AtomicBoolean(true);
+    private final ScheduledFuture<?> heartbeat;
+    private volatile long validUntilNanos;
+
+    private DatabaseSyncJobLease(String ownerId, long acquireRequestedAt) {
+      this.ownerId = ownerId;
+      this.validUntilNanos = acquireRequestedAt + leaseDuration.toNanos();
+      this.heartbeat = taskScheduler.scheduleWithFixedDelay(this::renew, Instant.now().plus(heartbeatInterval), heartbeatInterval);
+    }
+
+    @Override
+    public String ownerId() {
+      return ownerId;
+    }
+
+    @Override
+    public boolean isValid() {
+      return valid.get() && System.nanoTime() - validUntilNanos < 0;
+    }
+
+    @Override
+    public void close() {
+      heartbeat.cancel(false);
+      if (syncJobLockJpaRepository.release(SYNC_JOB_LOCK, ownerId) == 0) {
+        log.warn("동기화 Job 락 해제 실패 - 이미 락을 잃었습니다. 소유자: {}", ownerId);
+        return;
+      }
+      log.info("동기화 Job 락 해제 - 소유자: {}", ownerId);
+    }
+
+    private void renew() {
+      if (!isValid()) {
+        valid.set(false);
+        heartbeat.cancel(false);
+        log.error("동기화 Job 락 임대 연장 실패 - 임대 시간 안에 연장하지 못했습니다. 소유자: {}", ownerId);
+        return;
+      }
+      try {
+        final long requestedAt = System.nanoTime();
+        if (syncJobLockJpaRepository.renew(SYNC_JOB_LOCK, ownerId, leaseDuration.toSeconds()) == 0) {
+          valid.set(false);
+          heartbeat.cancel(false);
+          log.error("동기화 Job 락 임대 연장 실패 - 다른 소유자에게 락이 넘어갔습니다. 소유자: {}", ownerId);
+          return;
+        }
+        validUntilNanos = requestedAt + leaseDuration.toNanos();
+      } catch (RuntimeException e) {
+        log.warn("동기화 Job 락 임대 연장 중 오류 - 소유자: {}, 에러: {}", ownerId, e.getMessage());
+      }
+    }
+  }
+}
@@ -1,12 +1,15 @@
 package com.planitsquare.miniservice.adapter.out.persistence;
 
 import com.planitsquare.miniservice.adapter.out.persistence.entity.SyncJobJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.HolidayJpaRepository;
 import com.planitsquare.miniservice.adapter.out.persistence.repository.SyncHistoryJpaRepository;
 import com.planitsquare.miniservice.adapter.out.persistence.repository.SyncJobJpaRepository;
 import com.planitsquare.miniservice.adapter.out.persistence.vo.JobStatus;
 import com.planitsquare.miniservice.adapter.out.persistence.vo.SyncExecutionType;
+import com.planitsquare.miniservice.application.annotation.Workload;
 import com.planitsquare.miniservice.application.exception.JobAlreadyRunningException;
 import com.planitsquare.miniservice.application.port.out.SyncJobPort;
+import com.planitsquare.miniservice.application.util.WorkloadType;
 import com.planitsquare.miniservice.common.PersistenceAdapter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,11 +27,13 @@ import java.time.LocalDateTime;
  * @since 1.0
  */
 @PersistenceAdapter
+@Workload(WorkloadType.HISTORY)
 @RequiredArgsConstructor
 @Slf4j
 public class SyncJobPersistenceAdapter implements SyncJobPort {
 
   private final SyncJobJpaRepository syncJobJpaRepository;
+  private final HolidayJpaRepository holidayJpaRepository;
 
   /**
    * 새로운 동기화 Job을 시작합니다.
@@ -97,9 +102,17 @@ public class SyncJobPersistenceAdapter implements SyncJobPort {
         jobId, job.getStatus().getDisplayName(), totalTasks, successCount, failureCount, durationMillis);
   }
 
+  /**
+   * 최초 실행인지 확인합니다.
+   *
+   * <p>스냅샷 적재는 Job을 남기지 않으므로, 실행했던 Job이 없어도 공휴일이 이미 저장되어 있으면 최초 실행이 아닙니다.
+   * 스냅샷은 한 트랜잭션에서 적재되므로 공휴일이 보이면 적재가 끝난 상태입니다.
+   *
+   * @return 실행했던 Job과 저장된 공휴일이 모두 없으면 true
+   */
   @Override
   public boolean isInitialSystemLoad() {
-    return !syncJobJpaRepository.existsByIdIsNotNull();
+    return !syncJobJpaRepository.existsByIdIsNotNull() && !holidayJpaRepository.existsByIdIsNotNull();
   }
 
   /**
@@ -115,4 +128,28 @@ public class SyncJobPersistenceAdapter implements SyncJobPort {
   public boolean hasRunningJob() {
     return syncJobJpaRepository.existsByStatus(JobStatus.RUNNING);
   }
+
+  @Override
+  public boolean hasRunningJob(SyncExecutionType executionType) {
+    return syncJobJpaRepository.existsByStatusAndExecutionType(JobStatus.RUNNING, executionType);
+  }
+
+  /**
+   * 실행 중 상태로 남아 있는 Job을 실패 처리합니다.
+   *
+   * <p>독립적인 트랜잭션(REQUIRES_NEW)으로 실행되어 이어지는 Job 시작 전에 커밋됩니다.
+   *
+   * @return 실패 처리된 Job 수
+   * @since 1.0
+   */
+  @Override
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public int abandonRunningJobs() {
+    int abandonedCount = syncJobJpaRepository.finishAllByStatus(
+        JobStatus.RUNNING, JobStatus.FAILED, LocalDateTime.now());
+    if (abandonedCount > 0) {
+      log.warn("비정상 종료된 Job 실패 처리 - 건수: {}", abandonedCount);
+    }
+    return abandonedCount;
+  }
 }
@@ -0,0 +1,167 @@
+package com.planitsquare.miniservice.adapter.out.persistence;
+
+import com.planitsquare.miniservice.adapter.out.persistence.config.DistributedSyncProperties;
+import com.planitsquare.miniservice.adapter.out.persistence.config.SyncJobLockProperties;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.SyncJobJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.SyncTaskJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.SyncJobJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.SyncTaskJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.vo.JobStatus;
+import com.planitsquare.miniservice.adapter.out.persistence.vo.SyncTaskStatus;
+import com.planitsquare.miniservice.application.port.out.SyncTask;
+import com.planitsquare.miniservice.application.port.out.SyncTaskQueuePort;
+import com.planitsquare.miniservice.application.service.SyncResult;
+import com.planitsquare.miniservice.application.service.SyncStats;
+import com.planitsquare.miniservice.application.service.SyncSummary;
+import com.planitsquare.miniservice.common.PersistenceAdapter;
+import com.planitsquare.miniservice.domain.vo.Country;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 분산 동기화 작업 큐 Persistence Adapter.
+ *
+ * <p>{@code sync_task} 테이블을 작업 큐로 사용합니다.
+ * <ul>
+ *   <li>가져오기: 후보 작업 ID를 조회한 뒤 조건부 UPDATE로 하나를 가져옵니다.
+ *       후보 순서를 섞어 여러 인스턴스가 같은 행을 두고 경쟁하는 일을 줄입니다.</li>
+ *   <li>완료: 가져올 때 발급한 소유자 ID가 일치하는 경우에만 종료 상태로 변경합니다.</li>
+ * </ul>
+ * 임대가 만료되어 다른 소유자가 다시 가져간 작업은 이전 소유자가 완료 처리할 수 없습니다.
+ * 임대 만료 시각은 데이터베이스 시계로 기록하고 비교합니다.
+ * (국가, 연도) 동기화는 교체 방식이라 같은 작업이 두 번 실행되어도 결과는 같습니다.
+ *
+ * @since 1.0
+ */
+@PersistenceAdapter
+@Slf4j
+public class SyncTaskQueuePersistenceAdapter implements SyncTaskQueuePort {
+
+  private static final int CLAIM_CANDIDATES = 32;
+  private static final int MAX_ERROR_MESSAGE_LENGTH = 500;
+  private static final List<SyncTaskStatus> UNFINISHED = List.of(SyncTaskStatus.PENDING, SyncTaskStatus.CLAIMED);
+
+  private final SyncTaskJpaRepository syncTaskJpaRepository;
+  private final SyncJobJpaRepository syncJobJpaRepository;
+  private final Duration taskLease;
+  private final String instanceId;
+
+  public SyncTaskQueuePersistenceAdapter(
+      SyncTaskJpaRepository syncTaskJpaRepository,
+      SyncJobJpaRepository syncJobJpaRepository,
+      DistributedSyncProperties distributedSyncProperties,
+      SyncJobLockProperties syncJobLockProperties
+  ) {
+    this.syncTaskJpaRepository = syncTaskJpaRepository;
+    this.syncJobJpaRepository = syncJobJpaRepository;
+    this.taskLease = Duration.ofSeconds(distributedSyncProperties.getTaskLeaseSeconds());
+    this.instanceId = syncJobLockProperties.getInstanceId();
+  }
+
+  @Override
+  @Transactional
+  public void enqueue(Long jobId, List<Country> countries, List<Integer> years) {
+    final SyncJobJpaEntity job = syncJobJpaRepository.getReferenceById(jobId);
+    final List<SyncTaskJpaEntity> tasks = countries.stream()
+        .flatMap(country -> years.stream()
+            .map(year -> SyncTaskJpaEntity.pending(job, country.getCode(), country.getName(), year)))
+        .toList();
+    syncTaskJpaRepository.saveAll(tasks);
+    log.info("분산 동기화 작업 등록 - Job ID: {}, 작업 수: {}", jobId, tasks.size());
+  }
+
+  @Override
+  public Optional<SyncTask> claimNext() {
+    final List<Long> candidates = new ArrayList<>(syncTaskJpaRepository.findClaimableIds(
+        JobStatus.RUNNING, SyncTaskStatus.PENDING, SyncTaskStatus.CLAIMED, PageRequest.of(0, CLAIM_CANDIDATES)));
+    Collections.shuffle(candidates);
+
+    final String ownerId = instanceId + "/" + UUID.randomUUID();
+    for (Long id : candidates) {
+      final int claimed = syncTaskJpaRepository.claim(
+          id, ownerId, SyncTaskStatus.PENDING, SyncTaskStatus.CLAIMED, taskLease.toSeconds());
+      if (claimed == 1) {
+        return syncTaskJpaRepository.findById(id).map(task -> toSyncTask(task, ownerId));
+      }
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public boolean complete(SyncTask task, int syncedCount) {
+    return finish(task, SyncTaskStatus.DONE, syncedCount, null);
+  }
+
+  @Override
+  public boolean fail(SyncTask task, String errorMessage) {
+    return finish(task, SyncTaskStatus.FAILED, 0, truncate(errorMessage));
+  }
+
+  @Override
+  public long countUnfinished(Long jobId) {
+    return syncTaskJpaRepository.countBySyncJobIdAndStatusIn(jobId, UNFINISHED);
+  }
+
+  @Override
+  public SyncSummary summarize(Long jobId, int maxFailures) {
+    final int total = (int) syncTaskJpaRepository.countBySyncJobId(jobId);
+    final int done = (int) syncTaskJpaRepository.countBySyncJobIdAndStatusIn(jobId, List.of(SyncTaskStatus.DONE));
+    final List<SyncResult> failures = syncTaskJpaRepository
+        .findAllBySyncJobIdAndStatusNotOrderByIdAsc(jobId, SyncTaskStatus.DONE, PageRequest.of(0, maxFailures))
+        .stream()
+        .map(SyncTaskQueuePersistenceAdapter::toSyncResult)
+        .toList();
+    return new SyncSummary(
+        new SyncStats(total, done, total - done),
+        syncTaskJpaRepository.sumSyncedCount(jobId, SyncTaskStatus.DONE),
+        failures
+    );
+  }
+
+  private boolean finish(SyncTask task, SyncTaskStatus status, int syncedCount, String errorMessage) {
+    final int finished = syncTaskJpaRepository.finish(
+        task.taskId(), task.ownerId(), SyncTaskStatus.CLAIMED, status, syncedCount, errorMessage);
+    if (finished == 0) {
+      log.warn("분산 동기화 작업 임대 만료 - 다른 소유자가 다시 처리합니다. 작업 ID: {}, 국가: {}, 연도: {}",
+          task.taskId(), task.country().getCode(), task.year());
+      return false;
+    }
+    return true;
+  }
+
+  private static SyncTask toSyncTask(SyncTaskJpaEntity task, String ownerId) {
+    return new SyncTask(
+        task.getId(),
+        task.getSyncJob().getId(),
+        Country.of(task.getCountryCode(), task.getCountryName()),
+        task.getYear(),
+        ownerId
+    );
+  }
+
+  private static SyncResult toSyncResult(SyncTaskJpaEntity task) {
+    final Country country = Country.of(task.getCountryCode(), task.getCountryName());
+    if (task.getStatus() == SyncTaskStatus.DONE) {
+      return SyncResult.success(country, task.getYear(), task.getSyncedCount());
+    }
+    final String errorMessage = task.getStatus().isUnfinished()
+        ? "작업이 완료되지 않았습니다: " + task.getStatus().getDisplayName()
+        : task.getErrorMessage();
+    return SyncResult.failure(country, task.getYear(), errorMessage);
+  }
+
+  private static String truncate(String message) {
+    if (message == null || message.length() <= MAX_ERROR_MESSAGE_LENGTH) {
+      return message;
+    }
+    return message.substring(0, MAX_ERROR_MESSAGE_LENGTH);
+  }
+}
@@ -0,0 +1,60 @@
+package com.planitsquare.miniservice.adapter.out.persistence.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 작업 부하 종류별 커넥션 풀 설정 Properties.
+ *
+ * <p>동기화 쓰기, 동기화 이력 기록, API 조회는 모두 {@code spring.datasource}의 데이터베이스에 연결하지만
+ * 각자 크기가 정해진 별도의 커넥션 풀을 사용합니다.
+ *
+ * @since 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.pools")
+public class ConnectionPoolProperties {
+
+  /**
+   * 동기화 쓰기 커넥션 풀. 동기화 스레드 수(20)만큼 둡니다.
+   */
+  private Pool sync = new Pool(20, 30_000);
+
+  /**
+   * 동기화 이력과 Job 상태 기록 커넥션 풀.
+   */
+  private Pool history = new Pool(10, 10_000);
+
+  /**
+   * API 조회 커넥션 풀. 커넥션을 얻지 못하면 빨리 실패하도록 대기 시간을 짧게 둡니다.
+   */
+  private Pool apiRead = new Pool(10, 3_000);
+
+  /**
+   * 커넥션 풀 하나의 설정.
+   */
+  @Getter
+  @Setter
+  public static class Pool {
+
+    /**
+     * 커넥션 풀 최대 크기.
+     */
+    private int maximumPoolSize;
+
+    /**
+     * 커넥션을 얻기 위해 기다리는 최대 시간 (밀리초).
+     */
+    private long connectionTimeoutMillis;
+
+    public Pool() {
+    }
+
+    public Pool(int maximumPoolSize, long connectionTimeoutMillis) {
+      this.maximumPoolSize = maximumPoolSize;
+      this.connectionTimeoutMillis = connectionTimeoutMillis;
+    }
+  }
+}
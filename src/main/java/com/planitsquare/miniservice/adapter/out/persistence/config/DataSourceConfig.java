@@ -0,0 +1,135 @@
+package com.planitsquare.miniservice.adapter.out.persistence.config;
+
+import com.planitsquare.miniservice.adapter.out.persistence.datasource.ReplicaLagMonitor;
+import com.planitsquare.miniservice.adapter.out.persistence.datasource.ReplicaRoutingDataSource;
+import com.planitsquare.miniservice.adapter.out.persistence.datasource.WorkloadRoutingDataSource;
+import com.planitsquare.miniservice.application.util.WorkloadType;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 데이터소스 설정.
+ *
+ * <p>자동 구성 데이터소스 대신 {@code spring.datasource}의 데이터베이스에 연결하는 작업 부하 종류별 커넥션 풀
+ * ({@code sync}, {@code history}, {@code api-read})을 만들고, {@link WorkloadRoutingDataSource}로 묶어 기본 데이터소스로 사용합니다.
+ * 커넥션 풀마다 빈으로 등록되므로 Actuator가 풀 이름({@code pool} 태그)별로
+ * {@code hikaricp.connections.active}, {@code hikaricp.connections.pending}, {@code hikaricp.connections.acquire}
+ * (커넥션 대기 시간) 지표를 수집합니다.
+ *
+ * <p>{@code datasource.replica.enabled=true}이면 복제본({@code datasource.replica}) 커넥션 풀을 추가로 만들고,
+ * 복제본 조회가 허용된 읽기 전용 트랜잭션만 복제본으로 보냅니다.
+ * 동기화 쓰기가 기본 커넥션 풀을 점유하는 동안에도 조회는 복제본 커넥션 풀에서 처리됩니다.
+ *
+ * @since 1.0
+ */
+@Configuration
+@EnableConfigurationProperties({ConnectionPoolProperties.class, ReadReplicaProperties.class})
+public class DataSourceConfig {
+
+  private static final long REPLICA_CONNECTION_TIMEOUT_MILLIS = 3_000;
+
+  @Bean
+  public HikariDataSource syncDataSource(
+      DataSourceProperties dataSourceProperties,
+      ConnectionPoolProperties properties
+  ) {
+    return pool(dataSourceProperties, "sync", properties.getSync());
+  }
+
+  @Bean
+  public HikariDataSource historyDataSource(
+      DataSourceProperties dataSourceProperties,
+      ConnectionPoolProperties properties
+  ) {
+    return pool(dataSourceProperties, "history", properties.getHistory());
+  }
+
+  @Bean
+  public HikariDataSource apiReadDataSource(
+      DataSourceProperties dataSourceProperties,
+      ConnectionPoolProperties properties
+  ) {
+    return pool(dataSourceProperties, "api-read", properties.getApiRead());
+  }
+
+  @Bean
+  public WorkloadRoutingDataSource primaryDataSource(
+      @Qualifier("syncDataSource") DataSource syncDataSource,
+      @Qualifier("historyDataSource") DataSource historyDataSource,
+      @Qualifier("apiReadDataSource") DataSource apiReadDataSource
+  ) {
+    return new WorkloadRoutingDataSource(Map.of(
+        WorkloadType.SYNC, syncDataSource,
+        WorkloadType.HISTORY, historyDataSource,
+        WorkloadType.API_READ, apiReadDataSource
+    ));
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+  public HikariDataSource replicaDataSource(ReadReplicaProperties properties) {
+    final HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setPoolName("replica");
+    dataSource.setJdbcUrl(properties.getUrl());
+    dataSource.setUsername(properties.getUsername());
+    dataSource.setPassword(properties.getPassword());
+    dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+    dataSource.setConnectionTimeout(REPLICA_CONNECTION_TIMEOUT_MILLIS);
+    dataSource.setReadOnly(true);
+    return dataSource;
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+  public ReplicaLagMonitor replicaLagMonitor(
+      @Qualifier("replicaDataSource") DataSource replicaDataSource,
+      ReadReplicaProperties properties
+  ) {
+    return new ReplicaLagMonitor(replicaDataSource, properties.getLagQuery(), properties.getMaxLagMillis());
+  }
+
+  /**
+   * 애플리케이션이 사용하는 데이터소스.
+   *
+   * <p>실제 커넥션을 첫 SQL 실행 시점까지 미루므로, 커넥션 풀은 작업 부하 종류와 복제본 조회 허용 여부가
+   * 정해진 뒤에 선택되고 SQL을 실행하지 않는 트랜잭션(캐시 적중 등)은 커넥션을 점유하지 않습니다.
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      @Qualifier("primaryDataSource") DataSource primaryDataSource,
+      @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+      ObjectProvider<ReplicaLagMonitor> replicaLagMonitor
+  ) {
+    final ReplicaLagMonitor monitor = replicaLagMonitor.getIfAvailable();
+    if (monitor == null) {
+      return new LazyConnectionDataSourceProxy(primaryDataSource);
+    }
+    return ReplicaRoutingDataSource.readWriteSplitting(primaryDataSource, replicaDataSource.getObject(), monitor);
+  }
+
+  private static HikariDataSource pool(
+      DataSourceProperties dataSourceProperties,
+      String poolName,
+      ConnectionPoolProperties.Pool pool
+  ) {
+    final HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+    dataSource.setPoolName(poolName);
+    dataSource.setMaximumPoolSize(pool.getMaximumPoolSize());
+    dataSource.setConnectionTimeout(pool.getConnectionTimeoutMillis());
+    return dataSource;
+  }
+}
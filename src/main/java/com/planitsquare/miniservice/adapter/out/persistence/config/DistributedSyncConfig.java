@@ -0,0 +1,14 @@
+package com.planitsquare.miniservice.adapter.out.persistence.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 분산 동기화 설정.
+ *
+ * @since 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(DistributedSyncProperties.class)
+public class DistributedSyncConfig {
+}
@@ -0,0 +1,40 @@
+package com.planitsquare.miniservice.adapter.out.persistence.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 분산 동기화 설정 Properties.
+ *
+ * <p>활성화하면 동기화 Job의 (국가, 연도) 작업을 {@code sync_task} 큐에 등록하고,
+ * 같은 데이터베이스를 사용하는 모든 인스턴스가 작업을 나누어 처리합니다.
+ * 작업 임대 시간은 한 (국가, 연도) 동기화의 최대 소요 시간(외부 API 재시도 포함)보다 길어야 합니다.
+ *
+ * @since 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sync.distributed")
+public class DistributedSyncProperties {
+
+  /**
+   * 분산 동기화 활성화 여부. 비활성화하면 Job을 실행한 인스턴스가 모든 작업을 처리합니다.
+   */
+  private boolean enabled = false;
+
+  /**
+   * 작업 임대 시간 (초). 작업을 처리하던 인스턴스가 종료되면 이 시간이 지난 뒤 다른 인스턴스가 다시 처리합니다.
+   */
+  private long taskLeaseSeconds = 120;
+
+  /**
+   * 작업 큐 조회 주기 (밀리초).
+   */
+  private long pollIntervalMillis = 1000;
+
+  /**
+   * 인스턴스별 동시 처리 작업 수.
+   */
+  private int workerConcurrency = 8;
+}
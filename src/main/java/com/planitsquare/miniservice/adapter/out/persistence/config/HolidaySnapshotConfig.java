@@ -0,0 +1,14 @@
+package com.planitsquare.miniservice.adapter.out.persistence.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 공휴일 스냅샷 설정.
+ *
+ * @since 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(HolidaySnapshotProperties.class)
+public class HolidaySnapshotConfig {
+}
@@ -0,0 +1,28 @@
+package com.planitsquare.miniservice.adapter.out.persistence.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 공휴일 스냅샷 설정 Properties.
+ *
+ * <p>인스턴스마다 로컬 디스크에 스냅샷 파일을 두며, 재시작 시 같은 경로를 사용해야 합니다.
+ *
+ * @since 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sync.snapshot")
+public class HolidaySnapshotProperties {
+
+  /**
+   * 스냅샷 내보내기/적재 활성화 여부.
+   */
+  private boolean enabled = true;
+
+  /**
+   * 스냅샷 파일 경로.
+   */
+  private String path = "data/holiday-snapshot.bin.gz";
+}
@@ -0,0 +1,63 @@
+package com.planitsquare.miniservice.adapter.out.persistence.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 읽기 전용 복제본 데이터소스 설정 Properties.
+ *
+ * <p>활성화하면 읽기 전용 트랜잭션은 복제본 커넥션 풀을, 그 밖의 트랜잭션은 기본 데이터소스를 사용합니다.
+ * 복제본에 연결할 수 없거나 복제 지연이 {@code maxLagMillis}를 넘으면 읽기도 기본 데이터소스로 보냅니다.
+ *
+ * @since 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReadReplicaProperties {
+
+  /**
+   * 복제본 라우팅 활성화 여부.
+   */
+  private boolean enabled = false;
+
+  /**
+   * 복제본 JDBC URL.
+   */
+  private String url;
+
+  /**
+   * 복제본 사용자 이름.
+   */
+  private String username;
+
+  /**
+   * 복제본 비밀번호.
+   */
+  private String password;
+
+  /**
+   * 복제본 커넥션 풀 최대 크기.
+   */
+  private int maximumPoolSize = 10;
+
+  /**
+   * 복제 지연을 밀리초 단위로 반환하는 복제본 쿼리.
+   *
+   * <p>데이터베이스마다 다르므로 직접 지정합니다.
+   * (예: PostgreSQL {@code SELECT EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000})
+   * 지정하지 않으면 연결 가능 여부만 확인합니다.
+   */
+  private String lagQuery;
+
+  /**
+   * 허용하는 최대 복제 지연 (밀리초). 이보다 지연되면 읽기를 기본 데이터소스로 보냅니다.
+   */
+  private long maxLagMillis = 5_000;
+
+  /**
+   * 복제본 상태 확인 주기 (밀리초).
+   */
+  private long checkIntervalMillis = 1_000;
+}
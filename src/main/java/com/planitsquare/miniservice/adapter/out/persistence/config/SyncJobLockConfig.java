@@ -0,0 +1,14 @@
+package com.planitsquare.miniservice.adapter.out.persistence.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 동기화 Job 분산 락 설정.
+ *
+ * @since 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(SyncJobLockProperties.class)
+public class SyncJobLockConfig {
+}
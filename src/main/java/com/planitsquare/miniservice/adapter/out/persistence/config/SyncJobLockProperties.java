@@ -0,0 +1,55 @@
+package com.planitsquare.miniservice.adapter.out.persistence.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * 동기화 Job 분산 락 설정 Properties.
+ *
+ * <p>임대 시간은 heartbeat 주기보다 충분히 길어야 하며(기본 5배),
+ * 인스턴스 간 시계 오차보다도 커야 합니다.
+ *
+ * @since 1.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sync.lock")
+public class SyncJobLockProperties {
+
+  /**
+   * 임대 시간 (초). heartbeat가 끊긴 락은 이 시간이 지나면 다른 인스턴스가 획득할 수 있습니다.
+   */
+  private long leaseSeconds = 300;
+
+  /**
+   * 임대 연장(heartbeat) 주기 (초).
+   */
+  private long heartbeatIntervalSeconds = 60;
+
+  /**
+   * 인스턴스 ID. 지정하지 않으면 호스트 이름과 프로세스 ID로 생성합니다.
+   */
+  private String instanceId;
+
+  /**
+   * 인스턴스 ID를 반환합니다.
+   *
+   * <p>분산 락과 분산 동기화 작업 큐의 소유자 ID 접두사로 사용됩니다.
+   *
+   * @return 지정된 인스턴스 ID, 없으면 {@code 호스트 이름:프로세스 ID}
+   */
+  public String getInstanceId() {
+    if (instanceId != null) {
+      return instanceId;
+    }
+    try {
+      return InetAddress.getLocalHost().getHostName() + ":" + ProcessHandle.current().pid();
+    } catch (UnknownHostException e) {
+      return "unknown:" + ProcessHandle.current().pid();
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package com.planitsquare.miniservice.adapter.out.persistence.datasource;
+
+import com.planitsquare.miniservice.application.event.HolidaysChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 읽기 전용 복제본 상태 감시기.
+ *
+ * <p>주기적으로 복제본에 연결하여 복제 지연 쿼리를 실행하고, 지연이 허용치 이하일 때만 복제본을 사용 가능으로 표시합니다.
+ * 연결이나 쿼리가 실패하거나 결과가 없으면 사용 불가로 표시합니다.
+ * 라우팅은 마지막 확인 결과만 읽으므로 요청마다 복제본 상태를 조회하지 않습니다.
+ *
+ * <p>확인할 때마다 복제본이 어느 시각까지의 변경을 반영했는지(확인 시작 시각 - 지연)를 기록하고,
+ * 공휴일이 변경되면 커밋 이후 {@link HolidaysChangedEvent}를 받아 변경 시각을 기록합니다.
+ * 복제본이 변경 시각까지 반영한 것이 확인되기 전에는 지연이 허용치 이하여도 사용하지 않으므로,
+ * 변경 직후 비워진 캐시를 변경 이전 데이터로 다시 채우지 않습니다.
+ * 지연 쿼리가 없으면 지연을 알 수 없으므로 허용치만큼 지연된 것으로 간주합니다.
+ *
+ * @since 1.0
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+  private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+  private final DataSource replicaDataSource;
+  private final String lagQuery;
+  private final long maxLagMillis;
+
+  private volatile boolean replicaUsable;
+  private volatile long replicatedUntilMillis = Long.MIN_VALUE;
+  private volatile long lastChangeMillis = Long.MIN_VALUE;
+
+  /**
+   * 복제본 상태 감시기를 생성하고 첫 확인을 수행합니다.
+   *
+   * @param replicaDataSource 복제본 데이터소스
+   * @param lagQuery 복제 지연(밀리초)을 반환하는 쿼리, {@code null}이면 연결 가능 여부만 확인
+   * @param maxLagMillis 허용하는 최대 복제 지연 (밀리초)
+   */
+  public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, long maxLagMillis) {
+    this.replicaDataSource = replicaDataSource;
+    this.lagQuery = lagQuery;
+    this.maxLagMillis = maxLagMillis;
+    refresh();
+  }
+
+  /**
+   * 복제본을 읽기에 사용할 수 있는지 확인합니다.
+   *
+   * @return 마지막 확인에서 연결 가능하고 지연이 허용치 이하였으며, 마지막 공휴일 변경까지 반영되었으면 {@code true}
+   */
+  public boolean isReplicaUsable() {
+    return replicaUsable && replicatedUntilMillis >= lastChangeMillis;
+  }
+
+  /**
+   * 공휴일 변경 시각을 기록합니다.
+   *
+   * <p>트랜잭션 안에서 발행된 경우 커밋 이후에 실행되므로, 기록한 시각은 커밋 시각 이후입니다.
+   *
+   * @param event 공휴일 변경 이벤트
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onHolidaysChanged(HolidaysChangedEvent event) {
+    lastChangeMillis = System.currentTimeMillis();
+  }
+
+  /**
+   * 복제본 상태를 다시 확인합니다.
+   */
+  @Scheduled(fixedDelayString = "${datasource.replica.check-interval-millis:1000}")
+  public void refresh() {
+    final long checkStartedMillis = System.currentTimeMillis();
+    final long lagMillis = checkReplicaLag();
+    final boolean usable = lagMillis >= 0 && lagMillis <= maxLagMillis;
+    if (usable != replicaUsable) {
+      if (usable) {
+        log.info("읽기 전용 복제본 사용 재개");
+      } else {
+        log.warn("읽기 전용 복제본 사용 중단 - 읽기를 기본 데이터소스로 보냅니다.");
+      }
+    }
+    replicatedUntilMillis = usable ? checkStartedMillis - lagMillis : Long.MIN_VALUE;
+    replicaUsable = usable;
+  }
+
+  /**
+   * 복제 지연을 확인합니다.
+   *
+   * @return 복제 지연 (밀리초, 지연 쿼리가 없으면 허용치), 확인할 수 없으면 -1
+   */
+  private long checkReplicaLag() {
+    try (Connection connection = replicaDataSource.getConnection()) {
+      if (lagQuery == null || lagQuery.isBlank()) {
+        return connection.isValid(VALIDATION_TIMEOUT_SECONDS) ? maxLagMillis : -1;
+      }
+      try (Statement statement = connection.createStatement();
+           ResultSet resultSet = statement.executeQuery(lagQuery)) {
+        if (!resultSet.next()) {
+          return -1;
+        }
+        final long lagMillis = resultSet.getLong(1);
+        if (resultSet.wasNull()) {
+          return -1;
+        }
+        if (lagMillis > maxLagMillis) {
+          log.debug("복제 지연이 허용치를 넘었습니다. (지연: {}ms, 허용: {}ms)", lagMillis, maxLagMillis);
+        }
+        return Math.max(lagMillis, 0);
+      }
+    } catch (SQLException e) {
+      log.debug("복제본 상태 확인 실패: {}", e.getMessage());
+      return -1;
+    }
+  }
+}
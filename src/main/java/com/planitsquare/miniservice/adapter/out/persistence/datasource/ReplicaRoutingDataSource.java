@@ -0,0 +1,76 @@
+package com.planitsquare.miniservice.adapter.out.persistence.datasource;
+
+import com.planitsquare.miniservice.application.annotation.ReplicaRead;
+import com.planitsquare.miniservice.application.util.ReplicaReadContext;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 커넥션을 복제본 또는 기본 데이터소스로 보내는 라우팅 데이터소스.
+ *
+ * <p>{@link ReplicaRead}로 복제본 조회가 허용된 호출({@link ReplicaReadContext})이면서
+ * {@link ReplicaLagMonitor}가 복제본을 사용할 수 있다고 판단한 경우에만 복제본을 선택하고,
+ * 그렇지 않으면 기본 데이터소스에서 커넥션을 가져옵니다.
+ * Spring Data Repository의 기본 조회 메서드도 읽기 전용 트랜잭션이므로, 표시되지 않은 조회는
+ * 방금 쓴 데이터를 다시 읽을 수 있도록 기본 데이터소스를 사용합니다.
+ *
+ * <p>애플리케이션에는 {@link #readWriteSplitting}으로 만든 {@link LazyConnectionDataSourceProxy}를 노출합니다.
+ * 이 프록시는 실제 커넥션을 첫 SQL 실행 시점까지 미루므로, {@code @Transactional(readOnly = true)}가
+ * 커넥션을 읽기 전용으로 표시한 뒤에 어느 데이터소스를 쓸지 결정됩니다.
+ *
+ * @since 1.0
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  private final ReplicaLagMonitor replicaLagMonitor;
+
+  /**
+   * 라우팅 데이터소스를 생성합니다.
+   *
+   * @param primaryDataSource 기본 데이터소스
+   * @param replicaDataSource 복제본 데이터소스
+   * @param replicaLagMonitor 복제본 상태 감시기
+   */
+  public ReplicaRoutingDataSource(
+      DataSource primaryDataSource,
+      DataSource replicaDataSource,
+      ReplicaLagMonitor replicaLagMonitor
+  ) {
+    this.replicaLagMonitor = replicaLagMonitor;
+    setTargetDataSources(Map.of(Target.PRIMARY, primaryDataSource, Target.REPLICA, replicaDataSource));
+    setDefaultTargetDataSource(primaryDataSource);
+    afterPropertiesSet();
+  }
+
+  /**
+   * 읽기 전용 트랜잭션은 복제본으로, 그 밖의 트랜잭션은 기본 데이터소스로 보내는 데이터소스를 생성합니다.
+   *
+   * @param primaryDataSource 기본 데이터소스
+   * @param replicaDataSource 복제본 데이터소스
+   * @param replicaLagMonitor 복제본 상태 감시기
+   * @return 읽기/쓰기 분리 데이터소스
+   */
+  public static LazyConnectionDataSourceProxy readWriteSplitting(
+      DataSource primaryDataSource,
+      DataSource replicaDataSource,
+      ReplicaLagMonitor replicaLagMonitor
+  ) {
+    final LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+    dataSource.setReadOnlyDataSource(
+        new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor));
+    return dataSource;
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return ReplicaReadContext.isActive() && replicaLagMonitor.isReplicaUsable() ? Target.REPLICA : Target.PRIMARY;
+  }
+
+  private enum Target {
+    PRIMARY,
+    REPLICA
+  }
+}
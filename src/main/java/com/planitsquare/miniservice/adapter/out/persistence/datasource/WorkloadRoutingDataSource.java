@@ -0,0 +1,42 @@
+package com.planitsquare.miniservice.adapter.out.persistence.datasource;
+
+import com.planitsquare.miniservice.application.annotation.Workload;
+import com.planitsquare.miniservice.application.util.WorkloadContext;
+import com.planitsquare.miniservice.application.util.WorkloadType;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 작업 부하 종류별 커넥션 풀로 커넥션 요청을 보내는 라우팅 데이터소스.
+ *
+ * <p>{@link Workload}로 설정된 현재 스레드의 작업 부하 종류({@link WorkloadContext})에 해당하는 커넥션 풀에서
+ * 커넥션을 가져옵니다. 동기화 트랜잭션이 커넥션을 가진 채로 이력 기록이 새 트랜잭션을 열어도 이력은 별도 풀을 쓰므로,
+ * 동기화 스레드가 한 풀의 커넥션을 모두 점유해 서로를 기다리거나 조회가 커넥션을 얻지 못하는 일이 없습니다.
+ *
+ * @since 1.0
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+  /**
+   * 라우팅 데이터소스를 생성합니다.
+   *
+   * @param dataSources 작업 부하 종류별 데이터소스 ({@link WorkloadType#SYNC}는 필수)
+   */
+  public WorkloadRoutingDataSource(Map<WorkloadType, DataSource> dataSources) {
+    final DataSource syncDataSource = dataSources.get(WorkloadType.SYNC);
+    if (syncDataSource == null) {
+      throw new IllegalArgumentException("SYNC 데이터소스는 필수입니다.");
+    }
+    setTargetDataSources(new HashMap<>(dataSources));
+    setDefaultTargetDataSource(syncDataSource);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return WorkloadContext.current();
+  }
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.util.Assert;
 
 /**
@@ -12,16 +14,27 @@ import org.springframework.util.Assert;
  * <p>도메인 모델과 분리된 영속성 계층의 엔티티입니다.
  * 국가 정보는 마스터 데이터로 관리되며, 여러 Holiday가 참조합니다.
  *
+ * <p>거의 변경되지 않는 참조 데이터이므로 2차 캐시({@value #CACHE_REGION} 영역)에 보관하여
+ * {@code findById}와 Holiday의 지연 로딩이 데이터베이스를 다시 조회하지 않도록 합니다.
+ * 국가 동기화는 엔티티 저장으로 이루어지므로 캐시도 함께 갱신됩니다.
+ *
  * @since 1.0
  */
 @Entity
 @Table(name = "country", indexes = {
     @Index(name = "idx_country_code", columnList = "code")
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CountryJpaEntity.CACHE_REGION)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CountryJpaEntity extends BaseTimeEntity {
 
+  /**
+   * 국가 엔티티 2차 캐시 영역 이름.
+   */
+  public static final String CACHE_REGION = "country";
+
   @Id
   @Column(name = "code", nullable = false, unique = true, length = 10)
   private String code;
@@ -0,0 +1,74 @@
+package com.planitsquare.miniservice.adapter.out.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.io.Serializable;
+
+/**
+ * (국가, 연도)별 공휴일 데이터 버전을 저장하는 JPA Entity.
+ *
+ * <p>공휴일이 저장, 삭제, 덮어쓰기 될 때마다 같은 트랜잭션에서 해당 (국가, 연도)의 변경 횟수를 하나 올립니다.
+ * 변경 횟수는 줄어들지 않으므로, 여러 (국가, 연도)의 변경 횟수 합계도 그중 하나라도 변경되면 반드시 커집니다.
+ * 데이터베이스에 기록되므로 같은 데이터베이스를 쓰는 모든 인스턴스와 재시작 이후에도 같은 버전을 봅니다.
+ *
+ * <p>행을 만들 때 무작위 세대 값을 함께 기록합니다. 메모리 DB로 재시작하거나 DB를 새로 만들면 변경 횟수는 처음부터 다시 세지만
+ * 세대 값이 달라지므로, 이전 데이터베이스에서 받은 버전과 같은 버전이 다시 나오지 않습니다.
+ *
+ * @since 1.0
+ */
+@Entity
+@Table(name = "holiday_data_version")
+@IdClass(HolidayDataVersionJpaEntity.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HolidayDataVersionJpaEntity {
+
+  /**
+   * 국가 코드.
+   */
+  @Id
+  @Column(name = "country_code", length = 10)
+  private String countryCode;
+
+  /**
+   * 연도.
+   */
+  @Id
+  @Column(name = "holiday_year")
+  private int year;
+
+  /**
+   * 행을 만들 때 정한 무작위 세대 값.
+   */
+  @ColumnDefault("0")
+  @Column(name = "generation", nullable = false)
+  private long generation;
+
+  /**
+   * 누적 변경 횟수.
+   */
+  @Column(name = "version", nullable = false)
+  private long version;
+
+  /**
+   * (국가, 연도) 복합 키.
+   */
+  @Getter
+  @EqualsAndHashCode
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Key implements Serializable {
+    private String countryCode;
+    private int year;
+  }
+}
@@ -1,11 +1,15 @@
 package com.planitsquare.miniservice.adapter.out.persistence.entity;
 
+import com.planitsquare.miniservice.adapter.out.persistence.search.HolidayNameNormalizer;
 import com.planitsquare.miniservice.adapter.out.persistence.vo.HolidayMetadataEmbeddable;
 import com.planitsquare.miniservice.domain.vo.HolidayType;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -19,6 +23,16 @@ import java.util.Objects;
  * <p>도메인 모델과 분리된 영속성 계층의 엔티티입니다.
  * Country는 별도 테이블로 관리하며 ManyToOne 관계를 유지합니다.
  *
+ * <p>타입과 적용 지역 컬렉션은 {@link BatchSize}로 지정하여, 목록 조회 시 휴일마다 개별 쿼리를 실행하지 않고
+ * 휴일 ID 기준 {@code IN} 쿼리로 한 번에 초기화합니다.
+ * 두 컬렉션은 2차 캐시에도 보관하며, 동기화의 {@code DELETE} 쿼리가 실행되면 Hibernate가 해당 캐시 영역을 비웁니다.
+ *
+ * <p>타입 목록은 검색 필터용으로 {@code type_mask} 컬럼에 비트 마스크({@link HolidayType#maskOf})로 비정규화되며,
+ * 생성과 수정 시 항상 타입 컬렉션과 함께 갱신됩니다.
+ *
+ * <p>영문 이름과 현지 이름은 이름 검색용으로 {@link HolidayNameNormalizer}로 정규화한 값도 함께 저장합니다.
+ * 이름 색인의 일치 건수가 많아 {@code LIKE} 조건으로 검색할 때도 색인과 같은 정규화 기준으로 비교하기 위함입니다.
+ *
  * @since 1.0
  */
 @Entity
@@ -26,12 +40,23 @@ import java.util.Objects;
     @Index(name = "idx_holiday_date", columnList = "date"),
     @Index(name = "idx_holiday_country", columnList = "country_code"),
     @Index(name = "idx_holiday_country_date", columnList = "country_code, date"),
-    @Index(name = "idx_holiday_date_country", columnList = "date, country_code")
+    @Index(name = "idx_holiday_date_country", columnList = "date, country_code"),
+    @Index(name = "idx_holiday_type_mask", columnList = "type_mask")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class HolidayJpaEntity {
 
+  /**
+   * 휴일 타입 컬렉션 2차 캐시 영역 이름.
+   */
+  public static final String TYPES_CACHE_REGION = "holiday-types";
+
+  /**
+   * 휴일 적용 지역 컬렉션 2차 캐시 영역 이름.
+   */
+  public static final String APPLICABLE_REGIONS_CACHE_REGION = "holiday-applicable-regions";
+
   @Id
   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "holiday_seq")
   @SequenceGenerator(
@@ -55,10 +80,18 @@ public class HolidayJpaEntity {
   @Column(name = "date", nullable = false)
   private LocalDate date;
 
+  @Column(name = "normalized_local_name", length = 200)
+  private String normalizedLocalName;
+
+  @Column(name = "normalized_name", length = 200)
+  private String normalizedName;
+
   @Embedded
   private HolidayMetadataEmbeddable metadata;
 
   @ElementCollection(fetch = FetchType.LAZY)
+  @BatchSize(size = 100)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = TYPES_CACHE_REGION)
   @Enumerated(EnumType.STRING)
   @CollectionTable(
       name = "holiday_types",
@@ -67,7 +100,12 @@ public class HolidayJpaEntity {
   @Column(name = "type", length = 50)
   private List<HolidayType> types = new ArrayList<>();
 
+  @Column(name = "type_mask", nullable = false)
+  private int typeMask;
+
   @ElementCollection(fetch = FetchType.LAZY)
+  @BatchSize(size = 100)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = APPLICABLE_REGIONS_CACHE_REGION)
   @CollectionTable(
       name = "holiday_applicable_regions",
       joinColumns = @JoinColumn(name = "holiday_id")
@@ -98,9 +136,12 @@ public class HolidayJpaEntity {
     this.country = country;
     this.localName = localName;
     this.name = name;
+    this.normalizedLocalName = HolidayNameNormalizer.normalize(localName);
+    this.normalizedName = HolidayNameNormalizer.normalize(name);
     this.date = date;
     this.metadata = metadata;
     this.types = Objects.requireNonNullElse(types, Collections.emptyList());
+    this.typeMask = HolidayType.maskOf(this.types);
     this.applicableRegions = Objects.requireNonNullElse(applicableRegions, Collections.emptyList());
   }
 
@@ -124,9 +165,12 @@ public class HolidayJpaEntity {
   ) {
     this.localName = localName;
     this.name = name;
+    this.normalizedLocalName = HolidayNameNormalizer.normalize(localName);
+    this.normalizedName = HolidayNameNormalizer.normalize(name);
     this.date = date;
     this.metadata = metadata;
     this.types = Objects.requireNonNullElse(types, Collections.emptyList());
+    this.typeMask = HolidayType.maskOf(this.types);
     this.applicableRegions = Objects.requireNonNullElse(applicableRegions, Collections.emptyList());
   }
 }
@@ -0,0 +1,52 @@
+package com.planitsquare.miniservice.adapter.out.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 동기화 Job 분산 락을 저장하는 JPA Entity.
+ *
+ * <p>락 이름별로 한 행을 가지며, 현재 소유자와 임대(lease) 만료 시각을 기록합니다.
+ * 락 획득, 갱신, 해제는 모두 조건부 UPDATE 한 번으로 수행되어 여러 인스턴스가 동시에 시도해도
+ * 한 소유자만 성공합니다. 임대가 만료된 락은 다른 소유자가 가져갈 수 있습니다.
+ *
+ * @since 1.0
+ */
+@Entity
+@Table(name = "sync_job_lock")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SyncJobLockJpaEntity {
+
+  /**
+   * 락 이름.
+   */
+  @Id
+  @Column(name = "lock_name", length = 50)
+  private String name;
+
+  /**
+   * 현재 소유자 ID (해제 상태이면 {@code null}).
+   */
+  @Column(name = "owner_id", length = 100)
+  private String ownerId;
+
+  /**
+   * 락을 획득한 시각.
+   */
+  @Column(name = "acquired_at")
+  private LocalDateTime acquiredAt;
+
+  /**
+   * 임대 만료 시각. 이 시각이 지나면 다른 소유자가 락을 획득할 수 있습니다.
+   */
+  @Column(name = "lease_until", nullable = false)
+  private LocalDateTime leaseUntil;
+}
@@ -0,0 +1,116 @@
+package com.planitsquare.miniservice.adapter.out.persistence.entity;
+
+import com.planitsquare.miniservice.adapter.out.persistence.vo.SyncTaskStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분산 동기화 작업 큐의 작업(shard)을 저장하는 JPA Entity.
+ *
+ * <p>동기화 Job의 (국가, 연도) 조합마다 한 행이 생성되며, 살아 있는 어느 인스턴스든 조건부 UPDATE로
+ * 작업을 가져가(claim) 처리합니다. 처리 중인 작업은 임대(lease) 만료 시각을 가지며,
+ * 처리하던 인스턴스가 비정상 종료되면 임대 만료 후 다른 인스턴스가 다시 가져갑니다.
+ *
+ * @since 1.0
+ */
+@Entity
+@Table(name = "sync_task", indexes = {
+    @Index(name = "idx_sync_task_status_lease", columnList = "status, lease_until"),
+    @Index(name = "idx_sync_task_job_status", columnList = "job_id, status")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SyncTaskJpaEntity extends BaseTimeEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "task_id")
+  private Long id;
+
+  /**
+   * 작업이 속한 동기화 Job.
+   */
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "job_id", nullable = false)
+  private SyncJobJpaEntity syncJob;
+
+  /**
+   * 국가 코드.
+   */
+  @Column(name = "country_code", nullable = false, length = 2)
+  private String countryCode;
+
+  /**
+   * 국가명.
+   */
+  @Column(name = "country_name", nullable = false, length = 100)
+  private String countryName;
+
+  /**
+   * 동기화 연도.
+   */
+  @Column(name = "sync_year", nullable = false)
+  private int year;
+
+  /**
+   * 작업 상태.
+   */
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false, length = 20)
+  private SyncTaskStatus status;
+
+  /**
+   * 작업을 가져간 소유자 ID.
+   */
+  @Column(name = "owner_id", length = 150)
+  private String ownerId;
+
+  /**
+   * 임대 만료 시각. 처리 중인 작업은 이 시각이 지나면 다른 인스턴스가 다시 가져갈 수 있습니다.
+   */
+  @Column(name = "lease_until")
+  private LocalDateTime leaseUntil;
+
+  /**
+   * 작업을 가져간 횟수.
+   */
+  @Column(name = "attempts", nullable = false)
+  private int attempts;
+
+  /**
+   * 동기화된 공휴일 수 (성공 시).
+   */
+  @Column(name = "synced_count")
+  private Integer syncedCount;
+
+  /**
+   * 에러 메시지 (실패 시).
+   */
+  @Column(name = "error_message", length = 500)
+  private String errorMessage;
+
+  private SyncTaskJpaEntity(SyncJobJpaEntity syncJob, String countryCode, String countryName, int year) {
+    this.syncJob = syncJob;
+    this.countryCode = countryCode;
+    this.countryName = countryName;
+    this.year = year;
+    this.status = SyncTaskStatus.PENDING;
+  }
+
+  /**
+   * 대기 상태의 작업을 생성합니다.
+   *
+   * @param syncJob 동기화 Job
+   * @param countryCode 국가 코드
+   * @param countryName 국가명
+   * @param year 연도
+   * @return 대기 상태의 작업
+   */
+  public static SyncTaskJpaEntity pending(SyncJobJpaEntity syncJob, String countryCode, String countryName, int year) {
+    return new SyncTaskJpaEntity(syncJob, countryCode, countryName, year);
+  }
+}
@@ -1,14 +1,31 @@
 package com.planitsquare.miniservice.adapter.out.persistence.repository;
 
 import com.planitsquare.miniservice.adapter.out.persistence.entity.CountryJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
 
 /**
  * 국가 정보 JPA Repository.
  *
  * <p>데이터베이스의 국가 테이블에 접근하는 Repository입니다.
+ * 국가 엔티티는 2차 캐시에 보관되므로 {@code findById}는 캐시에서 먼저 조회합니다.
  *
  * @since 1.0
  */
 public interface CountryJpaRepository extends JpaRepository<CountryJpaEntity, String> {
+
+  /**
+   * 모든 국가를 조회합니다.
+   *
+   * <p>조회 결과는 쿼리 캐시에 보관되며, 국가 테이블이 변경되면 무효화됩니다.
+   *
+   * @return 국가 목록
+   */
+  @Override
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+  List<CountryJpaEntity> findAll();
 }
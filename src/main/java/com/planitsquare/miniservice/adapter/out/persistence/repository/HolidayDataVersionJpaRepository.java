@@ -0,0 +1,69 @@
+package com.planitsquare.miniservice.adapter.out.persistence.repository;
+
+import com.planitsquare.miniservice.adapter.out.persistence.entity.HolidayDataVersionJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * (국가, 연도)별 공휴일 데이터 버전 JPA Repository.
+ *
+ * <p>변경 기록은 호출 측 트랜잭션에 참여하므로, 공휴일 변경과 함께 커밋되거나 함께 롤백됩니다.
+ * 같은 (국가, 연도)를 동시에 변경하는 트랜잭션은 버전 행의 잠금으로 차례대로 기록됩니다.
+ *
+ * @since 1.0
+ */
+public interface HolidayDataVersionJpaRepository
+    extends JpaRepository<HolidayDataVersionJpaEntity, HolidayDataVersionJpaEntity.Key> {
+
+  /**
+   * (국가, 연도)의 변경 횟수를 하나 올립니다.
+   *
+   * @param countryCode 국가 코드
+   * @param year 연도
+   */
+  default void recordChange(String countryCode, int year) {
+    insertIfAbsent(countryCode, year, ThreadLocalRandom.current().nextLong());
+    increment(countryCode, year);
+  }
+
+  /**
+   * 버전 행이 없으면 변경 횟수 0과 주어진 세대 값으로 생성합니다.
+   *
+   * @param countryCode 국가 코드
+   * @param year 연도
+   * @param generation 세대 값
+   * @return 생성된 행 수
+   */
+  @Modifying
+  @Query("INSERT INTO HolidayDataVersionJpaEntity (countryCode, year, generation, version)"
+      + " VALUES (:countryCode, :year, :generation, 0) ON CONFLICT DO NOTHING")
+  int insertIfAbsent(
+      @Param("countryCode") String countryCode,
+      @Param("year") int year,
+      @Param("generation") long generation
+  );
+
+  /**
+   * 변경 횟수를 하나 올립니다.
+   *
+   * @param countryCode 국가 코드
+   * @param year 연도
+   * @return 변경된 행 수
+   */
+  @Modifying
+  @Query("UPDATE HolidayDataVersionJpaEntity v SET v.version = v.version + 1"
+      + " WHERE v.countryCode = :countryCode AND v.year = :year")
+  int increment(@Param("countryCode") String countryCode, @Param("year") int year);
+
+  /**
+   * 모든 (국가, 연도)의 변경 횟수 합계를 조회합니다.
+   *
+   * @return 변경 횟수 합계 (기록이 없으면 0)
+   */
+  @Query("SELECT COALESCE(SUM(v.version), 0) FROM HolidayDataVersionJpaEntity v")
+  long sumVersions();
+}
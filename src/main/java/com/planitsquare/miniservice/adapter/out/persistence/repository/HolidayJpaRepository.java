@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface HolidayJpaRepository extends JpaRepository<HolidayJpaEntity, Long> {
@@ -22,12 +24,41 @@ public interface HolidayJpaRepository extends JpaRepository<HolidayJpaEntity, Lo
   int deleteByCountryCodeAndYear(@Param("countryCode") String countryCode, @Param("year") int year);
 
   /**
-   * 특정 연도의 해당하는 모든 공휴일을 삭제합니다.
+   * 특정 국가의 기간 내 공휴일을 국가, 타입과 함께 조회합니다.
    *
-   * @param years 연도 목록
-   * @return 삭제된 레코드 수
+   * <p>{@code YEAR(date)} 대신 날짜 범위 조건을 사용하여 (country_code, date) 인덱스를 활용합니다.
+   *
+   * @param countryCode 국가 코드
+   * @param from 시작일 (포함)
+   * @param to 종료일 (포함)
+   * @return 날짜 순으로 정렬된 공휴일 목록
    */
-  @Modifying
-  @Query("DELETE FROM HolidayJpaEntity h WHERE YEAR(h.date) in :years")
-  int deleteByYear(@Param("years") List<Integer> years);
+  @Query("SELECT DISTINCT h FROM HolidayJpaEntity h JOIN FETCH h.country LEFT JOIN FETCH h.types "
+      + "WHERE h.country.code = :countryCode AND h.date BETWEEN :from AND :to ORDER BY h.date")
+  List<HolidayJpaEntity> findAllByCountryCodeAndDateBetween(
+      @Param("countryCode") String countryCode,
+      @Param("from") LocalDate from,
+      @Param("to") LocalDate to
+  );
+
+  /**
+   * 국가 코드 집합과 날짜 집합에 모두 속하는 공휴일을 국가, 타입과 함께 조회합니다.
+   *
+   * @param countryCodes 국가 코드 집합
+   * @param dates 날짜 집합
+   * @return 공휴일 목록
+   */
+  @Query("SELECT DISTINCT h FROM HolidayJpaEntity h JOIN FETCH h.country LEFT JOIN FETCH h.types "
+      + "WHERE h.country.code IN :countryCodes AND h.date IN :dates")
+  List<HolidayJpaEntity> findAllByCountryCodeInAndDateIn(
+      @Param("countryCodes") Collection<String> countryCodes,
+      @Param("dates") Collection<LocalDate> dates
+  );
+
+  /**
+   * 저장된 공휴일이 하나라도 있는지 확인합니다.
+   *
+   * @return 공휴일이 하나 이상 존재하면 {@code true}
+   */
+  boolean existsByIdIsNotNull();
 }
@@ -1,23 +1,75 @@
 package com.planitsquare.miniservice.adapter.out.persistence.repository;
 
-import com.planitsquare.miniservice.adapter.out.persistence.entity.HolidayJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.search.NameMatches;
+import com.planitsquare.miniservice.application.port.in.HolidayView;
 import com.planitsquare.miniservice.application.port.in.SearchHolidaysQuery;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
 
 /**
  * Holiday 동적 쿼리를 위한 Repository 인터페이스.
  *
  * <p>QueryDSL을 사용한 복잡한 검색 조건을 지원합니다.
+ * 검색 결과는 엔티티가 아닌 조회 전용 읽기 모델로 반환되어 영속성 컨텍스트에 적재되지 않습니다.
+ * 목록과 전체 건수 조회는 분리되어 있어, 호출 측에서 건수 조회 여부와 캐시 사용을 결정합니다.
+ * 이름 조건은 {@link #matchName}으로 요청마다 한 번 색인을 조회하고, 그 결과를 목록과 건수 조회에 전달합니다.
  *
  * @since 1.0
  */
 public interface HolidayQueryRepository {
 
   /**
-   * 검색 조건에 따라 공휴일을 조회합니다.
+   * 이름 색인으로 검색어와 일치하는 공휴일을 조회합니다.
    *
    * @param query 검색 조건
-   * @return 페이징 처리된 공휴일 JPA Entity 목록
+   * @return 색인 결과, 이름 조건이 없거나 일치 건수가 너무 많아 정규화된 이름의 {@code LIKE} 조건을 사용해야 하면 {@code null}
+   */
+  NameMatches matchName(SearchHolidaysQuery query);
+
+  /**
+   * 검색 조건에 따라 한 페이지의 공휴일을 조회합니다.
+   *
+   * @param query 검색 조건
+   * @param nameMatches {@link #matchName}의 결과
+   * @return 공휴일 읽기 모델 목록
+   */
+  List<HolidayView> search(SearchHolidaysQuery query, NameMatches nameMatches);
+
+  /**
+   * 검색 조건에 따라 한 페이지의 공휴일을 건수 조회 없이 조회합니다.
+   *
+   * <p>페이지 크기보다 한 건 더 조회하여 다음 페이지 존재 여부를 판단합니다.
+   *
+   * @param query 검색 조건
+   * @param nameMatches {@link #matchName}의 결과
+   * @return 공휴일 읽기 모델 Slice
+   */
+  Slice<HolidayView> searchSlice(SearchHolidaysQuery query, NameMatches nameMatches);
+
+  /**
+   * 검색 조건에 해당하는 전체 공휴일 건수를 조회합니다.
+   *
+   * @param query 검색 조건
+   * @param nameMatches {@link #matchName}의 결과
+   * @return 전체 건수
+   */
+  long count(SearchHolidaysQuery query, NameMatches nameMatches);
+
+  /**
+   * (국가, 연도)별 공휴일 건수를 조회합니다.
+   *
+   * @return (국가, 연도)별 건수 목록
+   */
+  List<CountryYearCount> countByCountryAndYear();
+
+  /**
+   * (국가, 연도)별 공휴일 건수.
+   *
+   * @param countryCode 국가 코드
+   * @param year 연도
+   * @param count 건수
    */
-  Page<HolidayJpaEntity> search(SearchHolidaysQuery query);
+  record CountryYearCount(String countryCode, Integer year, Long count) {
+  }
 }
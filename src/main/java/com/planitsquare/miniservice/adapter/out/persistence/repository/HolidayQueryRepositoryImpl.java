@@ -1,28 +1,51 @@
 package com.planitsquare.miniservice.adapter.out.persistence.repository;
 
-import com.planitsquare.miniservice.adapter.out.persistence.entity.HolidayJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.QCountryJpaEntity;
 import com.planitsquare.miniservice.adapter.out.persistence.entity.QHolidayJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.search.HolidayNameIndex;
+import com.planitsquare.miniservice.adapter.out.persistence.search.HolidayNameNormalizer;
+import com.planitsquare.miniservice.adapter.out.persistence.search.NameMatches;
+import com.planitsquare.miniservice.application.port.in.HolidayView;
 import com.planitsquare.miniservice.application.port.in.SearchHolidaysQuery;
 import com.planitsquare.miniservice.domain.vo.HolidayType;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.EnumPath;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Holiday 동적 쿼리 Repository 구현체.
  *
  * <p>QueryDSL을 사용하여 다양한 검색 조건을 동적으로 처리합니다.
+ * 검색은 응답에 필요한 컬럼만 {@link Projections#constructor}로 조회하므로,
+ * 엔티티 생성과 영속성 컨텍스트의 스냅샷 관리 비용이 들지 않습니다.
+ *
+ * <p>이름 조건은 {@link HolidayNameIndex}에서 일치한 공휴일 ID로 변환되어 {@code id IN (...)}으로 적용되며,
+ * 별도 정렬 조건이 없으면 일치 정도(완전 일치 &gt; 접두 일치 &gt; 부분 일치) 순으로 정렬됩니다.
+ * 일치 건수가 {@link #MAX_NAME_MATCH_IDS}를 넘는 넓은 검색어는 정규화된 이름 컬럼의 {@code LIKE} 조건으로 처리하며,
+ * 색인과 같은 정규화 기준과 일치 정도 정렬을 적용하므로 결과와 건수가 색인 검색과 같습니다.
+ * 색인 조회는 {@link #matchName}으로 요청마다 한 번 수행하고, 그 결과를 목록과 건수 조회에 함께 전달합니다.
  *
  * @since 1.0
  */
@@ -30,50 +53,169 @@ import java.util.List;
 @RequiredArgsConstructor
 public class HolidayQueryRepositoryImpl implements HolidayQueryRepository {
 
+  /**
+   * 이름 색인 결과를 {@code IN} 조건으로 사용할 최대 ID 수.
+   */
+  static final int MAX_NAME_MATCH_IDS = 1_000;
+
   private final JPAQueryFactory queryFactory;
+  private final HolidayNameIndex holidayNameIndex;
   private static final QHolidayJpaEntity holiday = QHolidayJpaEntity.holidayJpaEntity;
+  private static final QCountryJpaEntity country = QCountryJpaEntity.countryJpaEntity;
+  private static final EnumPath<HolidayType> holidayType = Expressions.enumPath(HolidayType.class, "holidayType");
+  private static final StringPath applicableRegion = Expressions.stringPath("applicableRegion");
+
+  /**
+   * 이름 색인으로 검색어와 일치하는 공휴일을 조회합니다.
+   *
+   * @return 색인 결과, 이름 조건이 없거나 일치 건수가 너무 많으면 {@code null}
+   */
+  @Override
+  public NameMatches matchName(SearchHolidaysQuery query) {
+    if (query.getName() == null || query.getName().isBlank()) {
+      return null;
+    }
+    NameMatches matches = holidayNameIndex.search(query.getName(), query.getYear(), query.getCountryCode());
+    if (matches == null || matches.size() > MAX_NAME_MATCH_IDS) {
+      return null;
+    }
+    return matches;
+  }
+
+  @Override
+  public List<HolidayView> search(SearchHolidaysQuery query, NameMatches nameMatches) {
+    Pageable pageable = query.getPageable();
+    return toViews(fetchRows(query, nameMatches, pageable.getPageSize()));
+  }
 
   @Override
-  public Page<HolidayJpaEntity> search(SearchHolidaysQuery query) {
+  public Slice<HolidayView> searchSlice(SearchHolidaysQuery query, NameMatches nameMatches) {
     Pageable pageable = query.getPageable();
+    List<HolidayRow> rows = fetchRows(query, nameMatches, pageable.getPageSize() + 1);
+
+    boolean hasNext = rows.size() > pageable.getPageSize();
+    List<HolidayRow> pageRows = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+
+    return new SliceImpl<>(toViews(pageRows), pageable, hasNext);
+  }
 
-    JPAQuery<HolidayJpaEntity> jpaQuery = queryFactory
-        .selectFrom(holiday)
-        .leftJoin(holiday.country).fetchJoin()
-        .where(
-            yearEq(query.getYear()),
-            countryCodeEq(query.getCountryCode()),
-            dateBetween(query.getFrom(), query.getTo()),
-            typeContains(query.getType()),
-            nameLike(query.getName())
-        )
+  @Override
+  public long count(SearchHolidaysQuery query, NameMatches nameMatches) {
+    Long total = queryFactory
+        .select(holiday.count())
+        .from(holiday)
+        .where(searchConditions(query, nameMatches))
+        .fetchOne();
+
+    return total != null ? total : 0L;
+  }
+
+  @Override
+  public List<CountryYearCount> countByCountryAndYear() {
+    return queryFactory
+        .select(Projections.constructor(CountryYearCount.class,
+            holiday.country.code,
+            holiday.date.year(),
+            holiday.count()
+        ))
+        .from(holiday)
+        .groupBy(holiday.country.code, holiday.date.year())
+        .fetch();
+  }
+
+  /**
+   * 검색 조건에 해당하는 공휴일 행을 조회합니다.
+   */
+  private List<HolidayRow> fetchRows(SearchHolidaysQuery query, NameMatches nameMatches, int limit) {
+    Pageable pageable = query.getPageable();
+    String normalizedName = normalizedName(query.getName());
+
+    JPAQuery<HolidayRow> jpaQuery = queryFactory
+        .select(Projections.constructor(HolidayRow.class,
+            holiday.id,
+            country.code,
+            country.name,
+            holiday.localName,
+            holiday.name,
+            holiday.date,
+            holiday.metadata.fixed,
+            holiday.metadata.global,
+            holiday.metadata.launchYear
+        ))
+        .from(holiday)
+        .join(holiday.country, country)
+        .where(searchConditions(query, nameMatches))
         .offset(pageable.getOffset())
-        .limit(pageable.getPageSize());
+        .limit(limit);
 
     // 정렬 적용
     OrderSpecifier<?>[] orderSpecifiers = createOrderSpecifiers(pageable.getSort());
     if (orderSpecifiers.length > 0) {
       jpaQuery.orderBy(orderSpecifiers);
+    } else if (nameMatches != null && nameMatches.isRankable()) {
+      jpaQuery.orderBy(nameRank(nameMatches), holiday.date.asc()); // 이름 일치 정도 순 정렬
+    } else if (nameMatches == null && normalizedName != null) {
+      jpaQuery.orderBy(normalizedNameRank(normalizedName), holiday.date.asc()); // 이름 일치 정도 순 정렬
     } else {
       jpaQuery.orderBy(holiday.date.asc()); // 기본 정렬
     }
 
-    List<HolidayJpaEntity> content = jpaQuery.fetch();
+    return jpaQuery.fetch();
+  }
 
-    // 전체 개수 조회
-    Long total = queryFactory
-        .select(holiday.count())
+  /**
+   * 목록 조회와 건수 조회가 공유하는 검색 조건.
+   */
+  private Predicate[] searchConditions(SearchHolidaysQuery query, NameMatches nameMatches) {
+    return new Predicate[]{
+        yearEq(query.getYear()),
+        countryCodeEq(query.getCountryCode()),
+        dateBetween(query.getFrom(), query.getTo()),
+        typeMaskIn(query.getTypes()),
+        nameMatches != null ? nameIn(nameMatches) : normalizedNameContains(normalizedName(query.getName()))
+    };
+  }
+
+  /**
+   * 조회된 행에 타입과 적용 지역 컬렉션을 결합하여 읽기 모델을 생성합니다.
+   *
+   * <p>컬렉션은 페이지에 포함된 휴일 ID 기준 {@code IN} 쿼리 두 번으로 일괄 조회합니다.
+   */
+  private List<HolidayView> toViews(List<HolidayRow> rows) {
+    if (rows.isEmpty()) {
+      return List.of();
+    }
+
+    List<Long> ids = rows.stream().map(HolidayRow::id).toList();
+
+    Map<Long, List<String>> typesById = queryFactory
+        .select(holiday.id, holidayType)
         .from(holiday)
-        .where(
-            yearEq(query.getYear()),
-            countryCodeEq(query.getCountryCode()),
-            dateBetween(query.getFrom(), query.getTo()),
-            typeContains(query.getType()),
-            nameLike(query.getName())
-        )
-        .fetchOne();
+        .join(holiday.types, holidayType)
+        .where(holiday.id.in(ids))
+        .fetch().stream()
+        .collect(Collectors.groupingBy(
+            tuple -> tuple.get(holiday.id),
+            Collectors.mapping(tuple -> tuple.get(holidayType).name(), Collectors.toList())
+        ));
+
+    Map<Long, List<String>> regionsById = queryFactory
+        .select(holiday.id, applicableRegion)
+        .from(holiday)
+        .join(holiday.applicableRegions, applicableRegion)
+        .where(holiday.id.in(ids))
+        .fetch().stream()
+        .collect(Collectors.groupingBy(
+            tuple -> tuple.get(holiday.id),
+            Collectors.mapping(tuple -> tuple.get(applicableRegion), Collectors.toList())
+        ));
 
-    return new PageImpl<>(content, pageable, total != null ? total : 0L);
+    return rows.stream()
+        .map(row -> row.toView(
+            typesById.getOrDefault(row.id(), List.of()),
+            regionsById.getOrDefault(row.id(), List.of())
+        ))
+        .toList();
   }
 
   private BooleanExpression yearEq(Integer year) {
@@ -99,27 +241,89 @@ public class HolidayQueryRepositoryImpl implements HolidayQueryRepository {
 
   /**
    * 타입 조건.
+   *
+   * <p>요청한 타입 중 하나라도 포함하는 모든 비트 마스크 값을 나열하여 {@code type_mask IN (...)}으로 조회합니다.
+   * 타입 수가 적어 후보 마스크는 최대 {@code 2^n - 1}개이며, 컬렉션 테이블 조인 없이 {@code type_mask} 인덱스를 사용합니다.
    */
-  private BooleanExpression typeContains(String type) {
-    if (type == null || type.isBlank()) {
+  private BooleanExpression typeMaskIn(Set<HolidayType> types) {
+    if (types.isEmpty()) {
       return null;
     }
-    try {
-      HolidayType holidayType = HolidayType.fromString(type);
-      return holiday.types.contains(holidayType);
-    } catch (IllegalArgumentException e) {
-      return null;
+    int requested = HolidayType.maskOf(types);
+    int allTypes = (1 << HolidayType.values().length) - 1;
+    List<Integer> masks = IntStream.rangeClosed(1, allTypes)
+        .filter(mask -> (mask & requested) != 0)
+        .boxed()
+        .toList();
+    return holiday.typeMask.in(masks);
+  }
+
+  /**
+   * 이름 색인 조건.
+   */
+  private BooleanExpression nameIn(NameMatches nameMatches) {
+    List<Long> ids = nameMatches.ids();
+    return ids.isEmpty() ? holiday.id.isNull() : holiday.id.in(ids);
+  }
+
+  /**
+   * 이름 일치 정도 정렬 조건.
+   */
+  private OrderSpecifier<Integer> nameRank(NameMatches nameMatches) {
+    CaseBuilder.Cases<Integer, NumberExpression<Integer>> rank = null;
+    if (!nameMatches.exact().isEmpty()) {
+      rank = new CaseBuilder().when(holiday.id.in(nameMatches.exact())).then(0);
+    }
+    if (!nameMatches.prefix().isEmpty()) {
+      rank = rank == null
+          ? new CaseBuilder().when(holiday.id.in(nameMatches.prefix())).then(1)
+          : rank.when(holiday.id.in(nameMatches.prefix())).then(1);
     }
+    return rank.otherwise(2).asc();
   }
 
   /**
-   * 이름 검색 조건 (부분 일치).
+   * 정규화된 이름 검색 조건 (부분 일치).
+   *
+   * <p>이름 색인의 일치 건수가 많아 {@code IN} 조건이 비효율적인 경우에 사용됩니다.
+   * 정규화된 검색어는 문자, 숫자와 공백만 포함하므로 {@code LIKE} 와일드카드가 섞이지 않습니다.
+   * 정규화된 이름 컬럼이 추가되기 전에 저장되어 값이 없는 행은 원본 이름으로 비교합니다.
    */
-  private BooleanExpression nameLike(String name) {
-    if (name != null && !name.isBlank()) {
-      return holiday.name.containsIgnoreCase(name).or(holiday.localName.containsIgnoreCase(name));
+  private BooleanExpression normalizedNameContains(String normalizedName) {
+    if (normalizedName == null) {
+      return null;
     }
-    return null;
+    return holiday.normalizedName.contains(normalizedName)
+        .or(holiday.normalizedLocalName.contains(normalizedName))
+        .or(holiday.normalizedName.isNull().and(
+            holiday.name.containsIgnoreCase(normalizedName).or(holiday.localName.containsIgnoreCase(normalizedName))));
+  }
+
+  /**
+   * 정규화된 이름 컬럼으로 계산한 이름 일치 정도 정렬 조건.
+   *
+   * <p>이름 색인과 같은 기준(완전 일치 &gt; 이름 또는 단어의 접두 일치 &gt; 부분 일치)을 사용합니다.
+   */
+  private OrderSpecifier<Integer> normalizedNameRank(String normalizedName) {
+    String wordPrefix = "% " + normalizedName + "%";
+    return new CaseBuilder()
+        .when(holiday.normalizedName.eq(normalizedName).or(holiday.normalizedLocalName.eq(normalizedName))).then(0)
+        .when(holiday.normalizedName.startsWith(normalizedName)
+            .or(holiday.normalizedLocalName.startsWith(normalizedName))
+            .or(holiday.normalizedName.like(wordPrefix))
+            .or(holiday.normalizedLocalName.like(wordPrefix))).then(1)
+        .otherwise(2)
+        .asc();
+  }
+
+  /**
+   * 검색어를 이름 색인과 같은 기준으로 정규화합니다.
+   *
+   * @return 정규화된 검색어, 이름 조건이 없거나 정규화 후 비어 있으면 {@code null}
+   */
+  private static String normalizedName(String name) {
+    String normalized = HolidayNameNormalizer.normalize(name);
+    return normalized.isEmpty() ? null : normalized;
   }
 
   /**
@@ -144,7 +348,7 @@ public class HolidayQueryRepositoryImpl implements HolidayQueryRepository {
           orderSpecifiers.add(isAsc ? holiday.name.asc() : holiday.name.desc());
           break;
         case "country":
-          orderSpecifiers.add(isAsc ? holiday.country.code.asc() : holiday.country.code.desc());
+          orderSpecifiers.add(isAsc ? country.code.asc() : country.code.desc());
           break;
         default:
           // 알 수 없는 필드는 무시
@@ -154,4 +358,48 @@ public class HolidayQueryRepositoryImpl implements HolidayQueryRepository {
 
     return orderSpecifiers.toArray(new OrderSpecifier[0]);
   }
+
+  /**
+   * 검색 결과의 단일 행 프로젝션.
+   *
+   * <p>컬렉션을 제외한 응답 컬럼을 담으며, 타입과 적용 지역을 결합하여 {@link HolidayView}로 변환됩니다.
+   *
+   * @param id 공휴일 ID
+   * @param countryCode 국가 코드
+   * @param countryName 국가 이름
+   * @param localName 현지 이름
+   * @param name 영문 이름
+   * @param date 공휴일 날짜
+   * @param fixed 고정 휴일 여부
+   * @param global 전역 휴일 여부
+   * @param launchYear 휴일 시작 연도
+   */
+  public record HolidayRow(
+      Long id,
+      String countryCode,
+      String countryName,
+      String localName,
+      String name,
+      LocalDate date,
+      Boolean fixed,
+      Boolean global,
+      Integer launchYear
+  ) {
+
+    HolidayView toView(List<String> types, List<String> applicableRegions) {
+      return new HolidayView(
+          id,
+          countryCode,
+          countryName,
+          localName,
+          name,
+          date,
+          Boolean.TRUE.equals(fixed),
+          Boolean.TRUE.equals(global),
+          launchYear,
+          types,
+          applicableRegions
+      );
+    }
+  }
 }
@@ -2,8 +2,12 @@ package com.planitsquare.miniservice.adapter.out.persistence.repository;
 
 import com.planitsquare.miniservice.adapter.out.persistence.entity.SyncJobJpaEntity;
 import com.planitsquare.miniservice.adapter.out.persistence.vo.JobStatus;
-import java.util.Optional;
+import com.planitsquare.miniservice.adapter.out.persistence.vo.SyncExecutionType;
+import java.time.LocalDateTime;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * 동기화 Job JPA Repository.
@@ -21,6 +25,16 @@ public interface SyncJobJpaRepository extends JpaRepository<SyncJobJpaEntity, Lo
    */
   boolean existsByStatus(JobStatus status);
 
+  /**
+   * 특정 상태와 실행 타입의 Job이 존재하는지 확인합니다.
+   *
+   * @param status Job 상태
+   * @param executionType 실행 타입
+   * @return 존재하면 {@code true}
+   * @since 1.0
+   */
+  boolean existsByStatusAndExecutionType(JobStatus status, SyncExecutionType executionType);
+
   /**
    * 테이블에 하나 이상의 Job 데이터가 존재하는지 확인합니다.
    * <p>
@@ -33,4 +47,22 @@ public interface SyncJobJpaRepository extends JpaRepository<SyncJobJpaEntity, Lo
    * @since 1.0
    */
   boolean existsByIdIsNotNull();
+
+  /**
+   * 특정 상태의 Job을 모두 다른 상태로 종료 처리합니다.
+   *
+   * @param status 변경 대상 상태
+   * @param newStatus 변경할 상태
+   * @param endTime 종료 시간
+   * @return 변경된 Job 수
+   * @since 1.0
+   */
+  @Modifying
+  @Query("UPDATE SyncJobJpaEntity j SET j.status = :newStatus, j.endTime = :endTime, j.version = j.version + 1 "
+      + "WHERE j.status = :status")
+  int finishAllByStatus(
+      @Param("status") JobStatus status,
+      @Param("newStatus") JobStatus newStatus,
+      @Param("endTime") LocalDateTime endTime
+  );
 }
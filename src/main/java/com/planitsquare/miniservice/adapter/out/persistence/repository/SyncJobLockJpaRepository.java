@@ -0,0 +1,109 @@
+package com.planitsquare.miniservice.adapter.out.persistence.repository;
+
+import com.planitsquare.miniservice.adapter.out.persistence.entity.SyncJobLockJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 동기화 Job 분산 락 JPA Repository.
+ *
+ * <p>임대 시각은 모두 데이터베이스 시계({@code local datetime})로 기록하고 비교하므로,
+ * 인스턴스 간 시계가 어긋나도 임대 만료 판단이 달라지지 않습니다.
+ *
+ * <p>모든 변경은 독립적인 트랜잭션(REQUIRES_NEW)으로 즉시 커밋되어,
+ * 호출 측 트랜잭션과 무관하게 다른 인스턴스에서 바로 관찰됩니다.
+ *
+ * @since 1.0
+ */
+public interface SyncJobLockJpaRepository extends JpaRepository<SyncJobLockJpaEntity, String> {
+
+  /**
+   * 락 행이 없으면 해제 상태로 생성합니다.
+   *
+   * @param name 락 이름
+   * @return 생성된 행 수
+   */
+  @Modifying
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  @Query("INSERT INTO SyncJobLockJpaEntity (name, leaseUntil) VALUES (:name, local datetime) ON CONFLICT DO NOTHING")
+  int insertIfAbsent(@Param("name") String name);
+
+  /**
+   * 임대가 만료된 락을 획득합니다.
+   *
+   * @param name 락 이름
+   * @param ownerId 소유자 ID
+   * @param leaseSeconds 임대 시간 (초)
+   * @return 획득에 성공하면 1, 다른 소유자가 보유 중이면 0
+   */
+  @Modifying
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  @Query("UPDATE SyncJobLockJpaEntity l SET l.ownerId = :ownerId, l.acquiredAt = local datetime, "
+      + "l.leaseUntil = local datetime + :leaseSeconds second "
+      + "WHERE l.name = :name AND l.leaseUntil <= local datetime")
+  int acquire(
+      @Param("name") String name,
+      @Param("ownerId") String ownerId,
+      @Param("leaseSeconds") long leaseSeconds
+  );
+
+  /**
+   * 보유 중인 락의 임대를 연장합니다.
+   *
+   * @param name 락 이름
+   * @param ownerId 소유자 ID
+   * @param leaseSeconds 임대 시간 (초)
+   * @return 연장에 성공하면 1, 락을 잃었으면 0
+   */
+  @Modifying
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  @Query("UPDATE SyncJobLockJpaEntity l SET l.leaseUntil = local datetime + :leaseSeconds second "
+      + "WHERE l.name = :name AND l.ownerId = :ownerId")
+  int renew(
+      @Param("name") String name,
+      @Param("ownerId") String ownerId,
+      @Param("leaseSeconds") long leaseSeconds
+  );
+
+  /**
+   * 보유 중인 락을 해제합니다.
+   *
+   * @param name 락 이름
+   * @param ownerId 소유자 ID
+   * @return 해제에 성공하면 1, 이미 락을 잃었으면 0
+   */
+  @Modifying
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  @Query("UPDATE SyncJobLockJpaEntity l SET l.ownerId = NULL, l.leaseUntil = local datetime "
+      + "WHERE l.name = :name AND l.ownerId = :ownerId")
+  int release(
+      @Param("name") String name,
+      @Param("ownerId") String ownerId
+  );
+
+  /**
+   * 임대가 유효한 락이 있는지 확인합니다.
+   *
+   * @param name 락 이름
+   * @return 누군가 락을 보유 중이면 {@code true}
+   */
+  @Query("SELECT COUNT(l) > 0 FROM SyncJobLockJpaEntity l WHERE l.name = :name AND l.leaseUntil > local datetime")
+  boolean isLeased(@Param("name") String name);
+
+  /**
+   * 소유자가 유효한 임대를 보유 중인지 확인합니다.
+   *
+   * <p>트랜잭션을 새로 열지 않으므로 호출 측 트랜잭션 안에서 확인합니다.
+   *
+   * @param name 락 이름
+   * @param ownerId 소유자 ID
+   * @return 소유자가 만료되지 않은 임대를 보유 중이면 {@code true}
+   */
+  @Query("SELECT COUNT(l) > 0 FROM SyncJobLockJpaEntity l "
+      + "WHERE l.name = :name AND l.ownerId = :ownerId AND l.leaseUntil > local datetime")
+  boolean isLeasedBy(@Param("name") String name, @Param("ownerId") String ownerId);
+}
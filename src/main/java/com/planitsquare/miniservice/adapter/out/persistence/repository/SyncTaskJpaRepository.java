@@ -0,0 +1,138 @@
+package com.planitsquare.miniservice.adapter.out.persistence.repository;
+
+import com.planitsquare.miniservice.adapter.out.persistence.entity.SyncTaskJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.vo.JobStatus;
+import com.planitsquare.miniservice.adapter.out.persistence.vo.SyncTaskStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 분산 동기화 작업 큐 JPA Repository.
+ *
+ * <p>임대 시각은 데이터베이스 시계({@code local datetime})로 기록하고 비교하므로,
+ * 인스턴스 간 시계가 어긋나도 처리 중인 작업을 다른 인스턴스가 일찍 가져가지 않습니다.
+ *
+ * <p>작업 상태 변경은 모두 독립적인 트랜잭션(REQUIRES_NEW)의 조건부 UPDATE로 즉시 커밋되어,
+ * 다른 인스턴스에서 바로 관찰됩니다.
+ *
+ * @since 1.0
+ */
+public interface SyncTaskJpaRepository extends JpaRepository<SyncTaskJpaEntity, Long> {
+
+  /**
+   * 가져갈 수 있는 작업 ID를 조회합니다.
+   *
+   * <p>실행 중인 Job의 작업 중 대기 상태이거나 처리 중이지만 임대가 만료된 작업이 대상입니다.
+   * 비정상 종료로 중단(FAILED) 처리된 Job의 작업은 제외됩니다.
+   *
+   * @param jobStatus 실행 중 Job 상태
+   * @param pending 대기 상태
+   * @param claimed 처리 중 상태
+   * @param pageable 조회 건수
+   * @return 작업 ID 목록
+   */
+  @Query("SELECT t.id FROM SyncTaskJpaEntity t WHERE t.syncJob.status = :jobStatus "
+      + "AND (t.status = :pending OR (t.status = :claimed AND t.leaseUntil <= local datetime)) ORDER BY t.id")
+  List<Long> findClaimableIds(
+      @Param("jobStatus") JobStatus jobStatus,
+      @Param("pending") SyncTaskStatus pending,
+      @Param("claimed") SyncTaskStatus claimed,
+      Pageable pageable
+  );
+
+  /**
+   * 작업을 가져갑니다.
+   *
+   * <p>조회 이후 다른 인스턴스가 먼저 가져갔다면 조건이 맞지 않아 아무 행도 변경되지 않습니다.
+   *
+   * @param id 작업 ID
+   * @param ownerId 소유자 ID
+   * @param pending 대기 상태
+   * @param claimed 처리 중 상태
+   * @param leaseSeconds 임대 시간 (초)
+   * @return 가져오는 데 성공하면 1, 다른 소유자가 먼저 가져갔으면 0
+   */
+  @Modifying
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  @Query("UPDATE SyncTaskJpaEntity t SET t.status = :claimed, t.ownerId = :ownerId, "
+      + "t.leaseUntil = local datetime + :leaseSeconds second, t.attempts = t.attempts + 1 "
+      + "WHERE t.id = :id AND (t.status = :pending OR (t.status = :claimed AND t.leaseUntil <= local datetime))")
+  int claim(
+      @Param("id") Long id,
+      @Param("ownerId") String ownerId,
+      @Param("pending") SyncTaskStatus pending,
+      @Param("claimed") SyncTaskStatus claimed,
+      @Param("leaseSeconds") long leaseSeconds
+  );
+
+  /**
+   * 보유 중인 작업을 종료 상태로 변경합니다.
+   *
+   * @param id 작업 ID
+   * @param ownerId 소유자 ID
+   * @param claimed 처리 중 상태
+   * @param status 종료 상태
+   * @param syncedCount 동기화된 건수
+   * @param errorMessage 에러 메시지
+   * @return 변경에 성공하면 1, 임대를 잃어 다른 소유자가 가져갔으면 0
+   */
+  @Modifying
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  @Query("UPDATE SyncTaskJpaEntity t SET t.status = :status, t.leaseUntil = NULL, "
+      + "t.syncedCount = :syncedCount, t.errorMessage = :errorMessage "
+      + "WHERE t.id = :id AND t.ownerId = :ownerId AND t.status = :claimed")
+  int finish(
+      @Param("id") Long id,
+      @Param("ownerId") String ownerId,
+      @Param("claimed") SyncTaskStatus claimed,
+      @Param("status") SyncTaskStatus status,
+      @Param("syncedCount") Integer syncedCount,
+      @Param("errorMessage") String errorMessage
+  );
+
+  /**
+   * Job의 특정 상태 작업 수를 조회합니다.
+   *
+   * @param jobId Job ID
+   * @param statuses 작업 상태 목록
+   * @return 작업 수
+   */
+  long countBySyncJobIdAndStatusIn(Long jobId, Collection<SyncTaskStatus> statuses);
+
+  /**
+   * Job의 전체 작업 수를 조회합니다.
+   *
+   * @param jobId Job ID
+   * @return 작업 수
+   */
+  long countBySyncJobId(Long jobId);
+
+  /**
+   * Job에서 특정 상태인 작업의 저장 건수 합계를 조회합니다.
+   *
+   * @param jobId Job ID
+   * @param status 작업 상태
+   * @return 저장 건수 합계
+   */
+  @Query("SELECT COALESCE(SUM(t.syncedCount), 0) FROM SyncTaskJpaEntity t "
+      + "WHERE t.syncJob.id = :jobId AND t.status = :status")
+  long sumSyncedCount(@Param("jobId") Long jobId, @Param("status") SyncTaskStatus status);
+
+  /**
+   * Job에서 특정 상태가 아닌 작업을 등록 순서대로 조회합니다.
+   *
+   * @param jobId Job ID
+   * @param status 제외할 작업 상태
+   * @param pageable 조회 개수
+   * @return 작업 목록
+   */
+  List<SyncTaskJpaEntity> findAllBySyncJobIdAndStatusNotOrderByIdAsc(Long jobId, SyncTaskStatus status, Pageable pageable);
+}
@@ -0,0 +1,268 @@
+package com.planitsquare.miniservice.adapter.out.persistence.search;
+
+import com.planitsquare.miniservice.adapter.out.persistence.entity.QHolidayJpaEntity;
+import com.planitsquare.miniservice.application.event.HolidaysChangedEvent;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 공휴일 이름 검색을 위한 메모리 n-gram 역색인.
+ *
+ * <p>{@code LOWER(name) LIKE '%q%'} 조건은 B-tree 인덱스를 사용할 수 없어 이름 검색마다 전체 테이블을 스캔합니다.
+ * 이 색인은 영문 이름과 현지 이름을 {@link HolidayNameNormalizer}로 정규화한 뒤 n-gram별 공휴일 목록(posting)을 유지하고,
+ * 검색어의 n-gram posting 교집합으로 후보를 좁힌 다음 정규화된 이름에 검색어가 포함되는지 확인합니다.
+ * 검색 결과는 공휴일 ID 목록이므로 다른 검색 조건과 {@code id IN (...)}으로 결합됩니다.
+ *
+ * <p>색인은 (국가, 연도) 단위 세그먼트로 나뉘어 있습니다.
+ * <ul>
+ *   <li>검색 조건에 연도나 국가가 있으면 해당 세그먼트만 탐색합니다.</li>
+ *   <li>{@link HolidaysChangedEvent}를 받으면 변경된 (국가, 연도) 세그먼트만 다시 적재합니다.</li>
+ * </ul>
+ *
+ * <p>세그먼트 맵은 변경 시 새 맵으로 교체되므로 검색은 잠금 없이 수행됩니다.
+ * 최초 검색 시점에 전체 색인을 한 번 적재합니다.
+ *
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HolidayNameIndex {
+
+  private static final QHolidayJpaEntity holiday = QHolidayJpaEntity.holidayJpaEntity;
+
+  private final JPAQueryFactory queryFactory;
+
+  private final Object writeLock = new Object();
+  private volatile Map<SegmentKey, Segment> segments;
+
+  /**
+   * 이름 검색어와 일치하는 공휴일을 조회합니다.
+   *
+   * @param name 검색어
+   * @param year 연도 조건 ({@code null}이면 전체)
+   * @param countryCode 국가 코드 조건 ({@code null}이면 전체)
+   * @return 일치 정도별 공휴일 ID, 검색어가 정규화 후 비어 있으면 {@code null}
+   */
+  public NameMatches search(String name, Integer year, String countryCode) {
+    final String normalized = HolidayNameNormalizer.normalize(name);
+    if (normalized.isEmpty()) {
+      return null;
+    }
+
+    final Set<String> grams = HolidayNameNormalizer.queryGrams(normalized);
+    final String country = countryCode != null ? countryCode.toUpperCase(Locale.ROOT) : null;
+    final List<Long> exact = new ArrayList<>();
+    final List<Long> prefix = new ArrayList<>();
+    final List<Long> contains = new ArrayList<>();
+
+    loadSegments().forEach((key, segment) -> {
+      if ((year != null && key.year() != year) || (country != null && !key.countryCode().equals(country))) {
+        return;
+      }
+      segment.collect(normalized, grams, exact, prefix, contains);
+    });
+
+    return new NameMatches(exact, prefix, contains);
+  }
+
+  /**
+   * 공휴일 변경 시 영향을 받는 (국가, 연도) 세그먼트를 다시 적재합니다.
+   *
+   * <p>색인이 아직 적재되지 않았다면 다음 검색 시 전체를 적재하므로 아무것도 하지 않습니다.
+   * 다른 인스턴스의 변경도 원격 변경 이벤트로 전달되므로, 삭제된 공휴일 ID가 색인에 남지 않습니다.
+   *
+   * @param event 공휴일 변경 이벤트
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onHolidaysChanged(HolidaysChangedEvent event) {
+    synchronized (writeLock) {
+      final Map<SegmentKey, Segment> current = segments;
+      if (current == null) {
+        return;
+      }
+
+      final Map<SegmentKey, Segment> updated = new HashMap<>(current);
+      for (Integer year : event.years()) {
+        updated.keySet().removeIf(key -> key.year() == year
+            && (event.isAllCountries() || key.countryCode().equals(event.countryCode().code())));
+
+        final BooleanExpression yearCondition = holiday.date.between(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+        final BooleanExpression condition = event.isAllCountries()
+            ? yearCondition
+            : yearCondition.and(holiday.country.code.eq(event.countryCode().code()));
+        updated.putAll(buildSegments(condition));
+      }
+      segments = Map.copyOf(updated);
+      log.debug("공휴일 이름 색인 갱신 - 국가: {}, 연도: {}", event.countryCode(), event.years());
+    }
+  }
+
+  /**
+   * 전체 색인을 다시 적재합니다.
+   */
+  public void rebuild() {
+    synchronized (writeLock) {
+      segments = Map.copyOf(buildSegments(null));
+      log.debug("공휴일 이름 색인 적재 - 세그먼트 수: {}", segments.size());
+    }
+  }
+
+  private Map<SegmentKey, Segment> loadSegments() {
+    final Map<SegmentKey, Segment> current = segments;
+    if (current != null) {
+      return current;
+    }
+    synchronized (writeLock) {
+      if (segments == null) {
+        rebuild();
+      }
+      return segments;
+    }
+  }
+
+  private Map<SegmentKey, Segment> buildSegments(BooleanExpression condition) {
+    final List<Tuple> rows = queryFactory
+        .select(holiday.id, holiday.country.code, holiday.date, holiday.name, holiday.localName)
+        .from(holiday)
+        .where(condition)
+        .fetch();
+
+    return rows.stream()
+        .collect(Collectors.groupingBy(
+            row -> new SegmentKey(row.get(holiday.country.code), row.get(holiday.date).getYear())
+        ))
+        .entrySet().stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, entry -> Segment.of(entry.getValue())));
+  }
+
+  private record SegmentKey(String countryCode, int year) {
+  }
+
+  /**
+   * (국가, 연도) 단위의 불변 역색인.
+   *
+   * @param ids 문서 위치별 공휴일 ID
+   * @param names 문서 위치별 정규화된 영문 이름
+   * @param localNames 문서 위치별 정규화된 현지 이름
+   * @param postings n-gram별 문서 위치 목록 (오름차순)
+   */
+  private record Segment(
+      long[] ids,
+      String[] names,
+      String[] localNames,
+      Map<String, int[]> postings
+  ) {
+
+    static Segment of(List<Tuple> rows) {
+      final int size = rows.size();
+      final long[] ids = new long[size];
+      final String[] names = new String[size];
+      final String[] localNames = new String[size];
+      final Map<String, List<Integer>> postingLists = new HashMap<>();
+
+      for (int i = 0; i < size; i++) {
+        final Tuple row = rows.get(i);
+        ids[i] = row.get(holiday.id);
+        names[i] = HolidayNameNormalizer.normalize(row.get(holiday.name));
+        localNames[i] = HolidayNameNormalizer.normalize(row.get(holiday.localName));
+
+        final Set<String> grams = HolidayNameNormalizer.indexGrams(names[i]);
+        grams.addAll(HolidayNameNormalizer.indexGrams(localNames[i]));
+        for (String gram : grams) {
+          postingLists.computeIfAbsent(gram, key -> new ArrayList<>()).add(i);
+        }
+      }
+
+      final Map<String, int[]> postings = postingLists.entrySet().stream()
+          .collect(Collectors.toUnmodifiableMap(
+              Map.Entry::getKey,
+              entry -> entry.getValue().stream().mapToInt(Integer::intValue).toArray()
+          ));
+      return new Segment(ids, names, localNames, postings);
+    }
+
+    void collect(String query, Set<String> grams, List<Long> exact, List<Long> prefix, List<Long> contains) {
+      final List<int[]> lists = new ArrayList<>(grams.size());
+      for (String gram : grams) {
+        final int[] posting = postings.get(gram);
+        if (posting == null) {
+          return;
+        }
+        lists.add(posting);
+      }
+      lists.sort(Comparator.comparingInt(posting -> posting.length));
+
+      for (int doc : intersect(lists)) {
+        switch (Rank.best(Rank.of(names[doc], query), Rank.of(localNames[doc], query))) {
+          case EXACT -> exact.add(ids[doc]);
+          case PREFIX -> prefix.add(ids[doc]);
+          case CONTAINS -> contains.add(ids[doc]);
+          case NONE -> {
+          }
+        }
+      }
+    }
+
+    private static int[] intersect(List<int[]> lists) {
+      int[] result = lists.getFirst();
+      for (int i = 1; i < lists.size() && result.length > 0; i++) {
+        final int[] other = lists.get(i);
+        final int[] merged = new int[result.length];
+        int size = 0;
+        int a = 0;
+        int b = 0;
+        while (a < result.length && b < other.length) {
+          if (result[a] == other[b]) {
+            merged[size++] = result[a];
+            a++;
+            b++;
+          } else if (result[a] < other[b]) {
+            a++;
+          } else {
+            b++;
+          }
+        }
+        result = Arrays.copyOf(merged, size);
+      }
+      return result;
+    }
+  }
+
+  /**
+   * 이름과 검색어의 일치 정도.
+   */
+  private enum Rank {
+    EXACT, PREFIX, CONTAINS, NONE;
+
+    static Rank of(String text, String query) {
+      if (text.equals(query)) {
+        return EXACT;
+      }
+      if (text.startsWith(query) || text.contains(" " + query)) {
+        return PREFIX;
+      }
+      return text.contains(query) ? CONTAINS : NONE;
+    }
+
+    static Rank best(Rank first, Rank second) {
+      return first.ordinal() <= second.ordinal() ? first : second;
+    }
+  }
+}
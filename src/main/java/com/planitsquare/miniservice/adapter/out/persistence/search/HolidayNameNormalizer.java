@@ -0,0 +1,96 @@
+package com.planitsquare.miniservice.adapter.out.persistence.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 공휴일 이름 정규화 및 n-gram 생성 유틸리티.
+ *
+ * <p>이름은 다음 순서로 정규화됩니다.
+ * <ol>
+ *   <li>NFD로 분해한 뒤 결합 문자(발음 구별 기호)를 제거 ({@code Día} → {@code Dia})</li>
+ *   <li>NFC로 재조합 (분해된 한글 자모는 다시 음절로 결합)</li>
+ *   <li>문자와 숫자가 아닌 문자는 공백으로 치환하고 연속 공백을 하나로 축약</li>
+ *   <li>{@link Locale#ROOT} 기준 소문자 변환</li>
+ * </ol>
+ *
+ * <p>n-gram은 공백으로 구분된 단어 안에서만 생성합니다. 색인에는 모든 unigram과 bigram을 넣고,
+ * 검색어는 한 글자 단어만 unigram, 그 외에는 bigram으로 후보를 좁힙니다.
+ *
+ * @since 1.0
+ */
+public final class HolidayNameNormalizer {
+
+  private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+  private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+  private HolidayNameNormalizer() {
+    throw new IllegalStateException("Utility class로써 인스턴스화 할 수 없습니다.");
+  }
+
+  /**
+   * 이름을 검색용으로 정규화합니다.
+   *
+   * @param text 원본 이름
+   * @return 정규화된 이름 ({@code null}이면 빈 문자열)
+   */
+  public static String normalize(String text) {
+    if (text == null || text.isBlank()) {
+      return "";
+    }
+    final String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+    final String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+    final String composed = Normalizer.normalize(stripped, Normalizer.Form.NFC);
+    return NON_WORD.matcher(composed).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * 색인에 사용할 n-gram(unigram + bigram) 집합을 생성합니다.
+   *
+   * @param normalized 정규화된 이름
+   * @return n-gram 집합
+   */
+  public static Set<String> indexGrams(String normalized) {
+    final Set<String> grams = new LinkedHashSet<>();
+    for (String word : words(normalized)) {
+      final int[] codePoints = word.codePoints().toArray();
+      for (int i = 0; i < codePoints.length; i++) {
+        grams.add(new String(codePoints, i, 1));
+        if (i + 1 < codePoints.length) {
+          grams.add(new String(codePoints, i, 2));
+        }
+      }
+    }
+    return grams;
+  }
+
+  /**
+   * 검색어의 n-gram 집합을 생성합니다.
+   *
+   * <p>한 글자 단어는 unigram, 그 외 단어는 bigram만 사용합니다.
+   *
+   * @param normalized 정규화된 검색어
+   * @return n-gram 집합
+   */
+  public static Set<String> queryGrams(String normalized) {
+    final Set<String> grams = new LinkedHashSet<>();
+    for (String word : words(normalized)) {
+      final int[] codePoints = word.codePoints().toArray();
+      if (codePoints.length == 1) {
+        grams.add(word);
+        continue;
+      }
+      for (int i = 0; i + 1 < codePoints.length; i++) {
+        grams.add(new String(codePoints, i, 2));
+      }
+    }
+    return grams;
+  }
+
+  private static String[] words(String normalized) {
+    return normalized.isEmpty() ? new String[0] : normalized.split(" ");
+  }
+}
@@ -0,0 +1,63 @@
+package com.planitsquare.miniservice.adapter.out.persistence.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이름 색인 검색 결과.
+ *
+ * <p>일치한 공휴일 ID를 일치 정도에 따라 세 단계로 나누어 담습니다.
+ * 영문 이름과 현지 이름 중 더 높은 단계가 적용됩니다.
+ *
+ * @param exact 이름 전체가 검색어와 일치하는 공휴일 ID
+ * @param prefix 이름 또는 이름의 단어가 검색어로 시작하는 공휴일 ID
+ * @param contains 이름에 검색어가 포함된 공휴일 ID
+ * @since 1.0
+ */
+public record NameMatches(
+    List<Long> exact,
+    List<Long> prefix,
+    List<Long> contains
+) {
+
+  public NameMatches {
+    exact = List.copyOf(exact);
+    prefix = List.copyOf(prefix);
+    contains = List.copyOf(contains);
+  }
+
+  /**
+   * 일치한 전체 공휴일 ID 목록을 반환합니다.
+   *
+   * @return 일치 정도 순으로 정렬된 ID 목록
+   */
+  public List<Long> ids() {
+    final List<Long> ids = new ArrayList<>(size());
+    ids.addAll(exact);
+    ids.addAll(prefix);
+    ids.addAll(contains);
+    return ids;
+  }
+
+  /**
+   * 일치한 공휴일 수를 반환합니다.
+   *
+   * @return 일치한 공휴일 수
+   */
+  public int size() {
+    return exact.size() + prefix.size() + contains.size();
+  }
+
+  /**
+   * 일치 정도에 차이가 있어 순위 정렬이 의미 있는지 확인합니다.
+   *
+   * @return 둘 이상의 단계에 결과가 있으면 true
+   */
+  public boolean isRankable() {
+    int levels = 0;
+    levels += exact.isEmpty() ? 0 : 1;
+    levels += prefix.isEmpty() ? 0 : 1;
+    levels += contains.isEmpty() ? 0 : 1;
+    return levels > 1;
+  }
+}
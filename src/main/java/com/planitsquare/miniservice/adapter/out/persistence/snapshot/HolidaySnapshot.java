@@ -0,0 +1,79 @@
+package com.planitsquare.miniservice.adapter.out.persistence.snapshot;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 국가와 공휴일 전체의 스냅샷.
+ *
+ * <p>타입 목록은 {@code type_mask} 비트 마스크로 저장하여 공휴일마다 고정 길이로 기록합니다.
+ *
+ * @param exportedAt 내보낸 시각
+ * @param countries 국가 목록
+ * @param holidays 공휴일 목록
+ * @since 1.0
+ */
+public record HolidaySnapshot(
+    Instant exportedAt,
+    List<SnapshotCountry> countries,
+    List<SnapshotHoliday> holidays
+) {
+
+  public HolidaySnapshot {
+    countries = List.copyOf(countries);
+    holidays = List.copyOf(holidays);
+  }
+
+  /**
+   * 스냅샷에 포함된 연도 목록을 반환합니다.
+   *
+   * @return 오름차순 연도 목록
+   */
+  public List<Integer> years() {
+    return holidays.stream()
+        .map(holiday -> holiday.date().getYear())
+        .distinct()
+        .sorted()
+        .toList();
+  }
+
+  /**
+   * 스냅샷의 국가.
+   *
+   * @param code 국가 코드
+   * @param name 국가명
+   */
+  public record SnapshotCountry(String code, String name) {
+  }
+
+  /**
+   * 스냅샷의 공휴일.
+   *
+   * @param countryCode 국가 코드
+   * @param date 날짜
+   * @param localName 현지 이름
+   * @param name 영문 이름
+   * @param fixed 고정 휴일 여부
+   * @param global 전역 휴일 여부
+   * @param launchYear 시작 연도 (없으면 {@code null})
+   * @param typeMask 타입 비트 마스크
+   * @param applicableRegions 적용 지역 목록
+   */
+  public record SnapshotHoliday(
+      String countryCode,
+      LocalDate date,
+      String localName,
+      String name,
+      boolean fixed,
+      boolean global,
+      Integer launchYear,
+      int typeMask,
+      List<String> applicableRegions
+  ) {
+
+    public SnapshotHoliday {
+      applicableRegions = List.copyOf(applicableRegions);
+    }
+  }
+}
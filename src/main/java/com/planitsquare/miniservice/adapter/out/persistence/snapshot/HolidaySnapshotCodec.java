@@ -0,0 +1,186 @@
+package com.planitsquare.miniservice.adapter.out.persistence.snapshot;
+
+import com.planitsquare.miniservice.adapter.out.persistence.snapshot.HolidaySnapshot.SnapshotCountry;
+import com.planitsquare.miniservice.adapter.out.persistence.snapshot.HolidaySnapshot.SnapshotHoliday;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 스냅샷 파일 인코더/디코더.
+ *
+ * <p>파일 형식은 GZIP으로 압축한 {@link DataOutputStream} 바이너리입니다.
+ * <pre>
+ * magic(int) version(short) exportedAt(long, epoch millis)
+ * countryCount(int) { code(UTF) name(UTF) }*
+ * holidayCount(int) { countryCode(UTF) epochDay(int) localName(UTF) name(UTF)
+ *                     flags(byte: fixed, global, hasLaunchYear) [launchYear(short)]
+ *                     typeMask(int) regionCount(short) { region(UTF) }* }*
+ * </pre>
+ * 읽을 때는 파일을 메모리 매핑하여 압축을 풉니다. 형식이 다르거나 손상된 파일은 {@link IOException}으로 거부됩니다.
+ *
+ * @since 1.0
+ */
+public final class HolidaySnapshotCodec {
+
+  private static final int MAGIC = 0x48534E50; // "HSNP"
+  private static final short VERSION = 1;
+  private static final int FIXED = 1;
+  private static final int GLOBAL = 1 << 1;
+  private static final int HAS_LAUNCH_YEAR = 1 << 2;
+
+  private HolidaySnapshotCodec() {
+  }
+
+  /**
+   * 스냅샷을 파일로 씁니다.
+   *
+   * <p>같은 디렉터리의 임시 파일에 쓴 뒤 이동하므로, 쓰는 도중 종료되어도 기존 스냅샷이 손상되지 않습니다.
+   *
+   * @param snapshot 스냅샷
+   * @param path 파일 경로
+   * @throws IOException 쓰기 실패 시
+   */
+  public static void write(HolidaySnapshot snapshot, Path path) throws IOException {
+    final Path directory = path.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    final Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+    try {
+      try (OutputStream file = Files.newOutputStream(temp);
+           DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(file, 1 << 16)))) {
+        encode(snapshot, out);
+      }
+      Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  /**
+   * 스냅샷 파일을 읽습니다.
+   *
+   * @param path 파일 경로
+   * @return 스냅샷
+   * @throws IOException 읽기 실패 또는 형식 오류 시
+   */
+  public static HolidaySnapshot read(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteBufferInputStream(mapped), 1 << 16))) {
+        return decode(in);
+      }
+    }
+  }
+
+  private static void encode(HolidaySnapshot snapshot, DataOutputStream out) throws IOException {
+    out.writeInt(MAGIC);
+    out.writeShort(VERSION);
+    out.writeLong(snapshot.exportedAt().toEpochMilli());
+
+    out.writeInt(snapshot.countries().size());
+    for (SnapshotCountry country : snapshot.countries()) {
+      out.writeUTF(country.code());
+      out.writeUTF(country.name());
+    }
+
+    out.writeInt(snapshot.holidays().size());
+    for (SnapshotHoliday holiday : snapshot.holidays()) {
+      out.writeUTF(holiday.countryCode());
+      out.writeInt((int) holiday.date().toEpochDay());
+      out.writeUTF(holiday.localName());
+      out.writeUTF(holiday.name());
+      out.writeByte((holiday.fixed() ? FIXED : 0)
+          | (holiday.global() ? GLOBAL : 0)
+          | (holiday.launchYear() != null ? HAS_LAUNCH_YEAR : 0));
+      if (holiday.launchYear() != null) {
+        out.writeShort(holiday.launchYear());
+      }
+      out.writeInt(holiday.typeMask());
+      out.writeShort(holiday.applicableRegions().size());
+      for (String region : holiday.applicableRegions()) {
+        out.writeUTF(region);
+      }
+    }
+  }
+
+  private static HolidaySnapshot decode(DataInputStream in) throws IOException {
+    if (in.readInt() != MAGIC) {
+      throw new IOException("공휴일 스냅샷 파일이 아닙니다.");
+    }
+    final short version = in.readShort();
+    if (version != VERSION) {
+      throw new IOException("지원하지 않는 스냅샷 버전입니다: " + version);
+    }
+    final Instant exportedAt = Instant.ofEpochMilli(in.readLong());
+
+    final int countryCount = in.readInt();
+    final List<SnapshotCountry> countries = new ArrayList<>(countryCount);
+    for (int i = 0; i < countryCount; i++) {
+      countries.add(new SnapshotCountry(in.readUTF(), in.readUTF()));
+    }
+
+    final int holidayCount = in.readInt();
+    final List<SnapshotHoliday> holidays = new ArrayList<>(holidayCount);
+    for (int i = 0; i < holidayCount; i++) {
+      final String countryCode = in.readUTF();
+      final LocalDate date = LocalDate.ofEpochDay(in.readInt());
+      final String localName = in.readUTF();
+      final String name = in.readUTF();
+      final int flags = in.readByte();
+      final Integer launchYear = (flags & HAS_LAUNCH_YEAR) != 0 ? (int) in.readShort() : null;
+      final int typeMask = in.readInt();
+      final int regionCount = in.readShort();
+      final List<String> regions = new ArrayList<>(regionCount);
+      for (int r = 0; r < regionCount; r++) {
+        regions.add(in.readUTF());
+      }
+      holidays.add(new SnapshotHoliday(countryCode, date, localName, name,
+          (flags & FIXED) != 0, (flags & GLOBAL) != 0, launchYear, typeMask, regions));
+    }
+    return new HolidaySnapshot(exportedAt, countries, holidays);
+  }
+
+  /**
+   * 메모리 매핑된 버퍼를 읽는 InputStream.
+   */
+  private static final class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    private ByteBufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      final int count = Math.min(length, buffer.remaining());
+      buffer.get(bytes, offset, count);
+      return count;
+    }
+  }
+}
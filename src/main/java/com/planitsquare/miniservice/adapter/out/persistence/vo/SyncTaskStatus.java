@@ -0,0 +1,44 @@
+package com.planitsquare.miniservice.adapter.out.persistence.vo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 분산 동기화 작업 큐에 등록된 (국가, 연도) 작업의 상태를 나타내는 Enum.
+ *
+ * @since 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SyncTaskStatus {
+  /**
+   * 어떤 인스턴스도 가져가지 않은 상태.
+   */
+  PENDING("대기"),
+
+  /**
+   * 한 인스턴스가 임대(lease)를 잡고 처리 중인 상태. 임대가 만료되면 다른 인스턴스가 다시 가져갈 수 있습니다.
+   */
+  CLAIMED("처리 중"),
+
+  /**
+   * 동기화에 성공한 상태.
+   */
+  DONE("성공"),
+
+  /**
+   * 동기화에 실패한 상태.
+   */
+  FAILED("실패");
+
+  private final String displayName;
+
+  /**
+   * 아직 끝나지 않은 상태인지 확인합니다.
+   *
+   * @return 대기 또는 처리 중이면 {@code true}
+   */
+  public boolean isUnfinished() {
+    return this == PENDING || this == CLAIMED;
+  }
+}
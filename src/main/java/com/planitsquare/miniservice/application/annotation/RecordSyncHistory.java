@@ -11,6 +11,7 @@ import java.lang.annotation.Target;
  * <p>이 어노테이션이 적용된 메서드는 AOP를 통해 성공/실패 이력이 자동으로 기록됩니다.
  * 메서드 실행 시작 시간과 종료 시간을 측정하여 소요 시간을 계산하고,
  * 성공 시 {@code recordSuccess}, 실패 시 {@code recordFailure}를 자동으로 호출합니다.
+ * 저장 건수는 메서드가 반환한 {@code int} 값으로 기록합니다.
  *
  * <p>사용 예시:
  * <pre>{@code
@@ -19,7 +20,7 @@ import java.lang.annotation.Target;
  *   country = "#command.country()",
  *   year = "#command.year()"
  * )
- * public List<Holiday> syncHolidaysForCountryAndYear(SyncHolidayCommand command) {
+ * public int syncHolidaysForCountryAndYear(SyncHolidayCommand command) {
  *   // 성공/실패 기록은 AOP가 자동 처리
  *   // 비즈니스 로직만 작성
  * }
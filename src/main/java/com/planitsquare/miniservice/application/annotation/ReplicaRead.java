@@ -0,0 +1,27 @@
+package com.planitsquare.miniservice.application.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 읽기 전용 복제본에서 조회해도 되는 메서드를 표시하는 어노테이션.
+ *
+ * <p>이 어노테이션이 적용된 메서드(클래스에 적용하면 모든 public 메서드)의 읽기 전용 트랜잭션은
+ * 복제본이 활성화되어 있으면 복제본 커넥션 풀에서 실행됩니다.
+ * 복제 지연만큼 오래된 데이터를 반환할 수 있으므로, 방금 쓴 데이터를 다시 읽어야 하는 흐름에는 적용하지 않습니다.
+ *
+ * <p>사용 예시:
+ * <pre>{@code
+ * @ReplicaRead
+ * @Transactional(readOnly = true)
+ * public class HolidaySearchService { ... }
+ * }</pre>
+ *
+ * @since 1.0
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplicaRead {
+}
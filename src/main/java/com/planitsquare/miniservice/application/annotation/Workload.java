@@ -0,0 +1,37 @@
+package com.planitsquare.miniservice.application.annotation;
+
+import com.planitsquare.miniservice.application.util.WorkloadType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드가 사용할 커넥션 풀의 작업 부하 종류를 지정하는 어노테이션.
+ *
+ * <p>이 어노테이션이 적용된 메서드(클래스에 적용하면 모든 public 메서드)가 새로 가져오는 커넥션은
+ * 지정한 작업 부하 종류의 커넥션 풀에서 가져옵니다. 메서드에 적용한 값이 클래스에 적용한 값보다 우선하며,
+ * 적용되지 않은 호출은 {@link WorkloadType#SYNC} 커넥션 풀을 사용합니다.
+ * 이미 시작된 트랜잭션에 참여하는 호출은 바깥 트랜잭션의 커넥션을 그대로 사용합니다.
+ *
+ * <p>사용 예시:
+ * <pre>{@code
+ * @Workload(WorkloadType.HISTORY)
+ * @PersistenceAdapter
+ * public class SyncHistoryAdapter { ... }
+ * }</pre>
+ *
+ * @since 1.0
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Workload {
+
+  /**
+   * 작업 부하 종류.
+   *
+   * @return 작업 부하 종류
+   */
+  WorkloadType value();
+}
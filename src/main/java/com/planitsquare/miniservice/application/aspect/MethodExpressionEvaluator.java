@@ -0,0 +1,90 @@
+package com.planitsquare.miniservice.application.aspect;
+
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 어노테이션에 지정된 SpEL 표현식을 메서드 인자로 평가하는 평가기.
+ *
+ * <p>파라미터 이름과 파싱된 표현식을 메서드별로 캐싱하여 호출마다 반복되는
+ * 리플렉션과 파싱을 피합니다. 표현식은 {@link SpelCompilerMode#IMMEDIATE} 모드로 파싱되어
+ * 첫 평가 이후에는 바이트코드로 컴파일된 상태로 실행됩니다.
+ *
+ * <p>컴파일된 표현식은 처음 평가할 때의 인자 타입에 맞춰 생성되므로 같은 문자열이라도 메서드별로 따로 보관합니다.
+ *
+ * @since 1.0
+ */
+final class MethodExpressionEvaluator {
+
+  private final SpelExpressionParser parser = new SpelExpressionParser(
+      new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, MethodExpressionEvaluator.class.getClassLoader()));
+  private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+  private final Map<Method, MethodExpressions> cache = new ConcurrentHashMap<>();
+
+  /**
+   * 메서드의 표현식 메타데이터를 조회합니다.
+   *
+   * @param method 어노테이션이 적용된 메서드
+   * @return 메서드별 표현식 메타데이터
+   */
+  MethodExpressions forMethod(Method method) {
+    return cache.computeIfAbsent(method, this::createMethodExpressions);
+  }
+
+  private MethodExpressions createMethodExpressions(Method method) {
+    String[] parameterNames = parameterNameDiscoverer.getParameterNames(method);
+    return new MethodExpressions(parameterNames != null ? parameterNames : new String[0]);
+  }
+
+  /**
+   * 메서드 하나의 파라미터 이름과 파싱된 표현식.
+   */
+  final class MethodExpressions {
+
+    private final String[] parameterNames;
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
+    private MethodExpressions(String[] parameterNames) {
+      this.parameterNames = parameterNames;
+    }
+
+    /**
+     * 메서드 인자를 파라미터 이름의 변수로 등록한 평가 컨텍스트를 생성합니다.
+     *
+     * <p>한 번의 호출에서 여러 표현식을 평가할 때는 같은 컨텍스트를 재사용합니다.
+     *
+     * @param args 메서드 인자
+     * @return 평가 컨텍스트
+     */
+    EvaluationContext createContext(Object[] args) {
+      StandardEvaluationContext context = new StandardEvaluationContext();
+      for (int i = 0; i < parameterNames.length && i < args.length; i++) {
+        context.setVariable(parameterNames[i], args[i]);
+      }
+      return context;
+    }
+
+    /**
+     * 표현식을 평가합니다.
+     *
+     * @param expression SpEL 표현식
+     * @param context {@link #createContext(Object[])}로 생성한 평가 컨텍스트
+     * @param targetType 대상 타입
+     * @param <T> 반환 타입
+     * @return 평가 결과
+     */
+    <T> T getValue(String expression, EvaluationContext context, Class<T> targetType) {
+      return expressions.computeIfAbsent(expression, parser::parseExpression).getValue(context, targetType);
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.planitsquare.miniservice.application.aspect;
+
+import com.planitsquare.miniservice.application.annotation.ReplicaRead;
+import com.planitsquare.miniservice.application.util.ReplicaReadContext;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link ReplicaRead} 어노테이션을 처리하는 AOP Aspect.
+ *
+ * <p>메서드를 실행하는 동안 {@link ReplicaReadContext}를 활성화합니다.
+ * 실제 커넥션은 첫 SQL 실행 시점에 가져오므로 트랜잭션 Aspect와의 순서와 관계없이 라우팅에 반영됩니다.
+ *
+ * @since 1.0
+ */
+@Aspect
+@Component
+public class ReplicaReadAspect {
+
+  /**
+   * {@link ReplicaRead}가 적용된 메서드 실행 동안 복제본 조회를 허용합니다.
+   *
+   * @param joinPoint AOP Join Point
+   * @return 메서드 실행 결과
+   * @throws Throwable 메서드 실행 중 발생한 예외
+   * @since 1.0
+   */
+  @Around("@within(com.planitsquare.miniservice.application.annotation.ReplicaRead) "
+      + "|| @annotation(com.planitsquare.miniservice.application.annotation.ReplicaRead)")
+  public Object handleReplicaRead(ProceedingJoinPoint joinPoint) throws Throwable {
+    final boolean previous = ReplicaReadContext.activate();
+    try {
+      return joinPoint.proceed();
+    } finally {
+      ReplicaReadContext.restore(previous);
+    }
+  }
+}
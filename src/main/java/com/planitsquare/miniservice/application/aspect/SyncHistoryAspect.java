@@ -1,6 +1,7 @@
 package com.planitsquare.miniservice.application.aspect;
 
 import com.planitsquare.miniservice.application.annotation.RecordSyncHistory;
+import com.planitsquare.miniservice.application.aspect.MethodExpressionEvaluator.MethodExpressions;
 import com.planitsquare.miniservice.application.port.out.RecordSyncHistoryPort;
 import com.planitsquare.miniservice.domain.vo.Country;
 import lombok.RequiredArgsConstructor;
@@ -10,9 +11,6 @@ import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.expression.EvaluationContext;
-import org.springframework.expression.ExpressionParser;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -37,12 +35,13 @@ import java.time.LocalDateTime;
 public class SyncHistoryAspect {
 
   private final RecordSyncHistoryPort recordSyncHistoryPort;
-  private final ExpressionParser parser = new SpelExpressionParser();
+  private final MethodExpressionEvaluator evaluator = new MethodExpressionEvaluator();
 
   /**
    * {@link RecordSyncHistory} 어노테이션이 적용된 메서드를 가로채서 이력을 기록합니다.
    *
    * <p>Job ID, 국가, 연도는 SpEL 표현식을 통해 메서드 파라미터에서 추출됩니다.
+   * 표현식은 메서드별로 캐싱되며 세 값은 하나의 평가 컨텍스트에서 추출합니다.
    *
    * @param joinPoint AOP Join Point
    * @param recordSyncHistory {@link RecordSyncHistory} 어노테이션
@@ -55,9 +54,11 @@ public class SyncHistoryAspect {
       ProceedingJoinPoint joinPoint,
       RecordSyncHistory recordSyncHistory
   ) throws Throwable {
-    Long jobId = extractValue(joinPoint, recordSyncHistory.jobId(), Long.class);
-    Country country = extractValue(joinPoint, recordSyncHistory.country(), Country.class);
-    Integer year = extractValue(joinPoint, recordSyncHistory.year(), Integer.class);
+    MethodExpressions expressions = evaluator.forMethod(((MethodSignature) joinPoint.getSignature()).getMethod());
+    EvaluationContext context = expressions.createContext(joinPoint.getArgs());
+    Long jobId = expressions.getValue(recordSyncHistory.jobId(), context, Long.class);
+    Country country = expressions.getValue(recordSyncHistory.country(), context, Country.class);
+    Integer year = expressions.getValue(recordSyncHistory.year(), context, Integer.class);
 
     long startTime = System.currentTimeMillis();
     LocalDateTime syncedAt = LocalDateTime.now();
@@ -67,10 +68,7 @@ public class SyncHistoryAspect {
 
       long durationMillis = System.currentTimeMillis() - startTime;
 
-      int syncedCount = 0;
-      if (result instanceof java.util.List) {
-        syncedCount = ((java.util.List<?>) result).size();
-      }
+      int syncedCount = result instanceof Integer count ? count : 0;
 
       recordSyncHistoryPort.recordSuccess(
           jobId,
@@ -106,27 +104,4 @@ public class SyncHistoryAspect {
       throw e;
     }
   }
-
-  /**
-   * SpEL 표현식을 사용하여 값을 추출합니다.
-   *
-   * @param joinPoint AOP Join Point
-   * @param expression SpEL 표현식
-   * @param targetType 대상 타입
-   * @param <T> 반환 타입
-   * @return 추출된 값
-   * @since 1.0
-   */
-  private <T> T extractValue(ProceedingJoinPoint joinPoint, String expression, Class<T> targetType) {
-    MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-    String[] parameterNames = signature.getParameterNames();
-    Object[] args = joinPoint.getArgs();
-
-    EvaluationContext context = new StandardEvaluationContext();
-    for (int i = 0; i < parameterNames.length; i++) {
-      context.setVariable(parameterNames[i], args[i]);
-    }
-
-    return parser.parseExpression(expression).getValue(context, targetType);
-  }
 }
@@ -2,33 +2,41 @@ package com.planitsquare.miniservice.application.aspect;
 
 import com.planitsquare.miniservice.adapter.out.persistence.vo.SyncExecutionType;
 import com.planitsquare.miniservice.application.annotation.SyncJob;
+import com.planitsquare.miniservice.application.aspect.MethodExpressionEvaluator.MethodExpressions;
+import com.planitsquare.miniservice.application.event.SyncJobCompletedEvent;
+import com.planitsquare.miniservice.application.exception.JobAlreadyRunningException;
+import com.planitsquare.miniservice.application.exception.SyncJobLeaseLostException;
+import com.planitsquare.miniservice.application.port.out.SyncJobLease;
+import com.planitsquare.miniservice.application.port.out.SyncJobLockPort;
 import com.planitsquare.miniservice.application.port.out.SyncJobPort;
-import com.planitsquare.miniservice.application.service.SyncResult;
 import com.planitsquare.miniservice.application.service.SyncStats;
+import com.planitsquare.miniservice.application.service.SyncSummary;
 import com.planitsquare.miniservice.application.util.JobIdContext;
+import com.planitsquare.miniservice.application.util.SyncJobLeaseContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.expression.EvaluationContext;
-import org.springframework.expression.ExpressionParser;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
 /**
  * {@link SyncJob} 어노테이션을 처리하는 AOP Aspect.
  *
  * <p>Job의 생명주기를 자동으로 관리합니다:
  * <ul>
- *   <li>메서드 실행 전: Job 시작 ({@link SyncJobPort#startJob})</li>
- *   <li>메서드 실행 후: Job 완료 ({@link SyncJobPort#completeJob})</li>
+ *   <li>메서드 실행 전: 분산 락 획득 ({@link SyncJobLockPort#tryAcquire}) 후 Job 시작 ({@link SyncJobPort#startJob})</li>
+ *   <li>메서드 실행 후: Job 완료 ({@link SyncJobPort#completeJob}) 및 {@link SyncJobCompletedEvent} 발행 후 락 해제</li>
  * </ul>
  *
+ * <p>락은 데이터베이스 임대(lease)로 관리되어 여러 인스턴스 중 하나만 Job을 실행합니다.
+ * 락을 획득하지 못하면 {@link JobAlreadyRunningException}이 발생합니다.
+ * 획득한 임대는 {@link SyncJobLeaseContext}로 하위 메서드에 전달되어, 실행 중 임대를 잃으면
+ * 작업 루프가 {@link SyncJobLeaseLostException}으로 Job을 중단하고 저장 트랜잭션도 커밋되지 않습니다.
+ *
  * <p>Job ID는 {@link JobIdContext}를 통해 관리되어 하위 메서드에서 접근할 수 있습니다.
  *
  * @since 1.0
@@ -44,7 +52,9 @@ public class SyncJobAspect {
   private static final int SINGLE_FAILURE = 1;
 
   private final SyncJobPort syncJobPort;
-  private final ExpressionParser parser = new SpelExpressionParser();
+  private final SyncJobLockPort syncJobLockPort;
+  private final ApplicationEventPublisher eventPublisher;
+  private final MethodExpressionEvaluator evaluator = new MethodExpressionEvaluator();
 
   /**
    * {@link SyncJob} 어노테이션이 적용된 메서드를 가로채서 Job 생명주기를 관리합니다.
@@ -60,6 +70,28 @@ public class SyncJobAspect {
     // SpEL을 사용하여 executionType 추출
     SyncExecutionType executionType = extractExecutionType(joinPoint, syncJob.executionType());
 
+    // 분산 락 획득 (다른 인스턴스가 실행 중이면 즉시 실패)
+    try (SyncJobLease lease = syncJobLockPort.tryAcquire().orElseThrow(JobAlreadyRunningException::new)) {
+      // 락을 획득했으므로 남아 있는 RUNNING Job은 비정상 종료된 인스턴스의 Job
+      syncJobPort.abandonRunningJobs();
+      SyncJobLeaseContext.setLease(lease);
+      try {
+        return runJob(joinPoint, executionType);
+      } finally {
+        SyncJobLeaseContext.clear();
+      }
+    }
+  }
+
+  /**
+   * Job을 시작하고 대상 메서드를 실행한 뒤 결과에 따라 Job을 완료 처리합니다.
+   *
+   * @param joinPoint AOP Join Point
+   * @param executionType 실행 타입
+   * @return 메서드 실행 결과
+   * @throws Throwable 메서드 실행 중 발생한 예외
+   */
+  private Object runJob(ProceedingJoinPoint joinPoint, SyncExecutionType executionType) throws Throwable {
     // Job 시작
     Long jobId = syncJobPort.startJob(executionType);
     JobIdContext.setJobId(jobId);
@@ -68,11 +100,9 @@ public class SyncJobAspect {
     try {
       Object result = joinPoint.proceed();
 
-      // 반환값이 List<SyncResult>인 경우 통계와 함께 Job 완료
-      if (result instanceof List<?> list && !list.isEmpty() && list.get(0) instanceof SyncResult) {
-        @SuppressWarnings("unchecked")
-        List<SyncResult> syncResults = (List<SyncResult>) result;
-        SyncStats stats = SyncStats.from(syncResults);
+      // 반환값이 작업이 있는 SyncSummary인 경우 통계와 함께 Job 완료
+      if (result instanceof SyncSummary summary && summary.stats().totalTasks() > 0) {
+        SyncStats stats = summary.stats();
 
         syncJobPort.completeJobWithStats(
             jobId,
@@ -82,10 +112,14 @@ public class SyncJobAspect {
         );
 
         log.info("Job 완료 (통계 포함) - Job ID: {}, {}", jobId, stats.toLogString());
+        if (stats.successCount() > 0) {
+          eventPublisher.publishEvent(new SyncJobCompletedEvent(jobId));
+        }
       } else {
         // 기존 방식으로 완료
         syncJobPort.completeJob(jobId);
         log.info("Job 완료 - Job ID: {}", jobId);
+        eventPublisher.publishEvent(new SyncJobCompletedEvent(jobId));
       }
 
       return result;
@@ -109,16 +143,9 @@ public class SyncJobAspect {
    * @since 1.0
    */
   private SyncExecutionType extractExecutionType(ProceedingJoinPoint joinPoint, String expression) {
-    MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-    String[] parameterNames = signature.getParameterNames();
-    Object[] args = joinPoint.getArgs();
-
-    EvaluationContext context = new StandardEvaluationContext();
-    for (int i = 0; i < parameterNames.length; i++) {
-      context.setVariable(parameterNames[i], args[i]);
-    }
-
-    return parser.parseExpression(expression).getValue(context, SyncExecutionType.class);
+    MethodExpressions expressions = evaluator.forMethod(((MethodSignature) joinPoint.getSignature()).getMethod());
+    EvaluationContext context = expressions.createContext(joinPoint.getArgs());
+    return expressions.getValue(expression, context, SyncExecutionType.class);
   }
 
 }
@@ -0,0 +1,52 @@
+package com.planitsquare.miniservice.application.aspect;
+
+import com.planitsquare.miniservice.application.annotation.Workload;
+import com.planitsquare.miniservice.application.util.WorkloadContext;
+import com.planitsquare.miniservice.application.util.WorkloadType;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link Workload} 어노테이션을 처리하는 AOP Aspect.
+ *
+ * <p>메서드를 실행하는 동안 {@link WorkloadContext}에 작업 부하 종류를 설정합니다.
+ * 실제 커넥션은 첫 SQL 실행 시점에 가져오므로 트랜잭션 Aspect와의 순서와 관계없이 라우팅에 반영됩니다.
+ *
+ * @since 1.0
+ */
+@Aspect
+@Component
+public class WorkloadAspect {
+
+  /**
+   * {@link Workload}가 적용된 메서드 실행 동안 작업 부하 종류를 설정합니다.
+   *
+   * @param joinPoint AOP Join Point
+   * @return 메서드 실행 결과
+   * @throws Throwable 메서드 실행 중 발생한 예외
+   * @since 1.0
+   */
+  @Around("@within(com.planitsquare.miniservice.application.annotation.Workload) "
+      + "|| @annotation(com.planitsquare.miniservice.application.annotation.Workload)")
+  public Object handleWorkload(ProceedingJoinPoint joinPoint) throws Throwable {
+    final WorkloadType previous = WorkloadContext.activate(resolveWorkloadType(joinPoint));
+    try {
+      return joinPoint.proceed();
+    } finally {
+      WorkloadContext.restore(previous);
+    }
+  }
+
+  private WorkloadType resolveWorkloadType(ProceedingJoinPoint joinPoint) {
+    final MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+    Workload workload = AnnotatedElementUtils.findMergedAnnotation(signature.getMethod(), Workload.class);
+    if (workload == null) {
+      workload = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), Workload.class);
+    }
+    return workload == null ? WorkloadType.SYNC : workload.value();
+  }
+}
@@ -0,0 +1,91 @@
+package com.planitsquare.miniservice.application.event;
+
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+
+import java.util.List;
+
+/**
+ * 공휴일 데이터 변경 이벤트.
+ *
+ * <p>공휴일이 저장, 삭제, 덮어쓰기 된 후 발행되어 (국가, 연도) 단위로 캐시 무효화에 사용됩니다.
+ * 국가 코드가 {@code null}이면 해당 연도의 모든 국가가 변경된 것으로 간주합니다.
+ *
+ * <p>같은 데이터베이스를 쓰는 다른 인스턴스의 변경은 데이터 버전 확인으로 발견하여 {@code remote}로 발행합니다.
+ * 캐시는 구분 없이 무효화하고, 변경한 인스턴스에서만 필요한 후속 처리는 다른 인스턴스의 변경에 대해 건너뜁니다.
+ *
+ * @param countryCode 변경된 국가 코드 (전체 국가인 경우 {@code null})
+ * @param years 변경된 연도 목록
+ * @param remote 다른 인스턴스의 변경이면 true
+ * @since 1.0
+ */
+public record HolidaysChangedEvent(
+    CountryCode countryCode,
+    List<Integer> years,
+    boolean remote
+) {
+
+  public HolidaysChangedEvent {
+    if (years == null || years.isEmpty()) {
+      throw new IllegalArgumentException("변경된 연도가 존재하지 않습니다.");
+    }
+    years = List.copyOf(years);
+  }
+
+  /**
+   * 특정 국가와 연도의 변경 이벤트를 생성합니다.
+   *
+   * @param countryCode 국가 코드
+   * @param year 연도
+   * @return 변경 이벤트
+   */
+  public static HolidaysChangedEvent of(CountryCode countryCode, int year) {
+    if (countryCode == null) {
+      throw new IllegalArgumentException("국가 코드가 존재하지 않습니다.");
+    }
+    return new HolidaysChangedEvent(countryCode, List.of(year), false);
+  }
+
+  /**
+   * 모든 국가의 특정 연도 변경 이벤트를 생성합니다.
+   *
+   * @param years 연도 목록
+   * @return 변경 이벤트
+   */
+  public static HolidaysChangedEvent ofAllCountries(List<Integer> years) {
+    return new HolidaysChangedEvent(null, years, false);
+  }
+
+  /**
+   * 다른 인스턴스가 변경한 특정 국가의 연도 변경 이벤트를 생성합니다.
+   *
+   * @param countryCode 국가 코드
+   * @param years 연도 목록
+   * @return 변경 이벤트
+   */
+  public static HolidaysChangedEvent ofRemote(CountryCode countryCode, List<Integer> years) {
+    if (countryCode == null) {
+      throw new IllegalArgumentException("국가 코드가 존재하지 않습니다.");
+    }
+    return new HolidaysChangedEvent(countryCode, years, true);
+  }
+
+  /**
+   * 모든 국가가 변경 대상인지 확인합니다.
+   *
+   * @return 모든 국가가 대상이면 true
+   */
+  public boolean isAllCountries() {
+    return countryCode == null;
+  }
+
+  /**
+   * 지정된 국가와 연도가 이 변경의 영향을 받는지 확인합니다.
+   *
+   * @param targetCountryCode 확인할 국가 코드
+   * @param year 확인할 연도
+   * @return 영향을 받으면 true
+   */
+  public boolean affects(CountryCode targetCountryCode, int year) {
+    return years.contains(year) && (isAllCountries() || countryCode.equals(targetCountryCode));
+  }
+}
@@ -0,0 +1,12 @@
+package com.planitsquare.miniservice.application.event;
+
+/**
+ * 동기화 Job 완료 이벤트.
+ *
+ * <p>동기화 Job이 하나 이상의 작업을 성공시키고 완료된 후 발행됩니다.
+ *
+ * @param jobId 완료된 Job ID
+ * @since 1.0
+ */
+public record SyncJobCompletedEvent(Long jobId) {
+}
@@ -0,0 +1,21 @@
+package com.planitsquare.miniservice.application.exception;
+
+/**
+ * 동기화 Job 실행 중 분산 락 임대를 잃었을 때 발생하는 예외.
+ *
+ * <p>임대가 만료되면 다른 인스턴스가 락을 획득해 Job을 실행할 수 있으므로,
+ * 임대를 잃은 Job은 더 이상 공휴일을 저장하지 않고 중단됩니다.
+ *
+ * @since 1.0
+ */
+public class SyncJobLeaseLostException extends RuntimeException {
+
+  /**
+   * 임대 소유자 ID로 예외를 생성합니다.
+   *
+   * @param ownerId 임대를 잃은 소유자 ID
+   */
+  public SyncJobLeaseLostException(String ownerId) {
+    super("동기화 Job 락 임대를 잃어 Job을 중단합니다. 소유자: " + ownerId);
+  }
+}
@@ -0,0 +1,42 @@
+package com.planitsquare.miniservice.application.port.in;
+
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+
+import java.time.LocalDate;
+
+/**
+ * 영업일 계산 쿼리.
+ *
+ * <p>기준 날짜의 영업일 여부와 N 영업일 이동 결과를 계산하기 위한 조건을 캡슐화합니다.
+ *
+ * @param countryCode 국가 코드
+ * @param date 기준 날짜
+ * @param days 이동할 영업일 수 (음수이면 이전, 0이면 이동하지 않음)
+ * @param region 지역 코드 (선택, 지정 시 지역 공휴일도 휴무일로 간주)
+ * @since 1.0
+ */
+public record BusinessDayQuery(
+    CountryCode countryCode,
+    LocalDate date,
+    int days,
+    String region
+) {
+
+  /**
+   * 한 번에 이동할 수 있는 최대 영업일 수 (약 14년).
+   */
+  public static final int MAX_DAYS = 3650;
+
+  public BusinessDayQuery {
+    if (countryCode == null) {
+      throw new IllegalArgumentException("국가 코드가 존재하지 않습니다.");
+    }
+    if (date == null) {
+      throw new IllegalArgumentException("기준 날짜가 존재하지 않습니다.");
+    }
+    if (Math.abs(days) > MAX_DAYS) {
+      throw new IllegalArgumentException("이동할 영업일 수는 " + MAX_DAYS + "일을 넘을 수 없습니다.");
+    }
+    region = region == null || region.isBlank() ? null : region.strip();
+  }
+}
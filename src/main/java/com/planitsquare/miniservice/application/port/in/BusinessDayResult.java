@@ -0,0 +1,16 @@
+package com.planitsquare.miniservice.application.port.in;
+
+import java.time.LocalDate;
+
+/**
+ * 영업일 계산 결과.
+ *
+ * @param businessDay 기준 날짜의 영업일 여부
+ * @param resultDate 기준 날짜로부터 N 영업일 이동한 날짜 (이동하지 않으면 기준 날짜)
+ * @since 1.0
+ */
+public record BusinessDayResult(
+    boolean businessDay,
+    LocalDate resultDate
+) {
+}
@@ -0,0 +1,19 @@
+package com.planitsquare.miniservice.application.port.in;
+
+/**
+ * 영업일 계산 Use Case.
+ *
+ * <p>주말과 공휴일을 제외한 영업일 여부 판별 및 N 영업일 이후/이전 날짜 계산을 제공합니다.
+ *
+ * @since 1.0
+ */
+public interface CalculateBusinessDaysUseCase {
+
+  /**
+   * 영업일 여부와 N 영업일 이동 결과를 계산합니다.
+   *
+   * @param query 영업일 계산 쿼리
+   * @return 계산 결과
+   */
+  BusinessDayResult calculate(BusinessDayQuery query);
+}
@@ -2,4 +2,14 @@ package com.planitsquare.miniservice.application.port.in;
 
 public interface CheckInitialSystemLoadUseCase {
   boolean isInitialSystemLoad();
+
+  /**
+   * 다른 인스턴스가 금년도 초기 적재를 진행 중인지 확인합니다.
+   *
+   * <p>초기 적재 Job이 실행 중이고 그 인스턴스가 동기화 Job 락을 보유하고 있을 때만 진행 중으로 봅니다.
+   * 적재하던 인스턴스가 비정상 종료되어 Job이 실행 중 상태로 남아도 락 임대가 만료되면 진행 중이 아닙니다.
+   *
+   * @return 초기 적재가 진행 중이면 {@code true}
+   */
+  boolean isInitialSystemLoadInProgress();
 }
@@ -0,0 +1,19 @@
+package com.planitsquare.miniservice.application.port.in;
+
+/**
+ * 공휴일 달력 내보내기 Use Case.
+ *
+ * <p>한 국가의 연도 범위에 해당하는 공휴일을 날짜 순서로 {@link HolidayCalendarWriter}에 전달합니다.
+ *
+ * @since 1.0
+ */
+public interface ExportHolidayCalendarUseCase {
+
+  /**
+   * 공휴일 달력을 내보냅니다.
+   *
+   * @param query 달력 내보내기 쿼리
+   * @param writer 공휴일을 받아 쓸 출력 대상
+   */
+  void export(HolidayCalendarQuery query, HolidayCalendarWriter writer);
+}
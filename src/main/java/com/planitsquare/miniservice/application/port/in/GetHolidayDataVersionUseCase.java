@@ -0,0 +1,35 @@
+package com.planitsquare.miniservice.application.port.in;
+
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+
+/**
+ * 공휴일 데이터 버전 조회 Use Case.
+ *
+ * <p>검색 조건이 조회하는 (국가, 연도) 범위의 데이터 버전을 반환합니다.
+ * 버전은 공휴일이 저장, 삭제, 덮어쓰기 될 때만 바뀌므로, 버전이 같으면 같은 검색 결과를 반환한다고 볼 수 있습니다.
+ *
+ * @since 1.0
+ */
+public interface GetHolidayDataVersionUseCase {
+
+  /**
+   * 검색 조건에 해당하는 데이터 버전을 조회합니다.
+   *
+   * <p>보관한 버전으로 응답하므로 요청마다 데이터베이스를 조회하지 않습니다.
+   * 검색 결과보다 먼저 조회해야 버전이 결과보다 새로워지는 일이 없습니다.
+   *
+   * @param query 검색 조건
+   * @return 데이터 버전
+   */
+  HolidayDataVersion getVersion(SearchHolidaysQuery query);
+
+  /**
+   * 한 국가의 연도 범위에 해당하는 데이터 버전을 조회합니다.
+   *
+   * @param countryCode 국가 코드
+   * @param fromYear 시작 연도 (포함)
+   * @param toYear 종료 연도 (포함)
+   * @return 데이터 버전
+   */
+  HolidayDataVersion getVersion(CountryCode countryCode, int fromYear, int toYear);
+}
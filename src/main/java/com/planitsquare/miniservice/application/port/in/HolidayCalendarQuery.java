@@ -0,0 +1,37 @@
+package com.planitsquare.miniservice.application.port.in;
+
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+
+/**
+ * 공휴일 달력 내보내기 쿼리.
+ *
+ * <p>한 국가의 연도 범위에 해당하는 공휴일을 달력으로 내보내기 위한 조건을 캡슐화합니다.
+ *
+ * @param countryCode 국가 코드
+ * @param fromYear 시작 연도 (포함)
+ * @param toYear 종료 연도 (포함)
+ * @since 1.0
+ */
+public record HolidayCalendarQuery(
+    CountryCode countryCode,
+    int fromYear,
+    int toYear
+) {
+
+  /**
+   * 한 번에 내보낼 수 있는 최대 연도 수.
+   */
+  public static final int MAX_YEARS = 10;
+
+  public HolidayCalendarQuery {
+    if (countryCode == null) {
+      throw new IllegalArgumentException("국가 코드가 존재하지 않습니다.");
+    }
+    if (fromYear > toYear) {
+      throw new IllegalArgumentException("시작 연도는 종료 연도보다 늦을 수 없습니다.");
+    }
+    if (toYear - fromYear + 1 > MAX_YEARS) {
+      throw new IllegalArgumentException("한 번에 내보낼 수 있는 기간은 " + MAX_YEARS + "년을 넘을 수 없습니다.");
+    }
+  }
+}
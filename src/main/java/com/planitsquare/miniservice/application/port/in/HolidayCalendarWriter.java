@@ -0,0 +1,36 @@
+package com.planitsquare.miniservice.application.port.in;
+
+import com.planitsquare.miniservice.domain.model.Holiday;
+import com.planitsquare.miniservice.domain.vo.Country;
+
+/**
+ * 공휴일 달력을 받아 쓰는 출력 대상.
+ *
+ * <p>{@link ExportHolidayCalendarUseCase}가 {@link #begin}, 날짜 순서의 {@link #write}, {@link #end} 순서로 호출합니다.
+ * 공휴일은 조회되는 대로 전달되므로, 구현체는 받은 공휴일을 바로 출력하여 전체 달력을 메모리에 모으지 않을 수 있습니다.
+ *
+ * @since 1.0
+ */
+public interface HolidayCalendarWriter {
+
+  /**
+   * 달력 출력을 시작합니다.
+   *
+   * <p>국가가 확인된 뒤에 호출되므로, 이 시점 이전에는 출력된 내용이 없습니다.
+   *
+   * @param country 달력의 국가
+   */
+  void begin(Country country);
+
+  /**
+   * 공휴일 하나를 출력합니다.
+   *
+   * @param holiday 공휴일
+   */
+  void write(Holiday holiday);
+
+  /**
+   * 달력 출력을 마칩니다.
+   */
+  void end();
+}
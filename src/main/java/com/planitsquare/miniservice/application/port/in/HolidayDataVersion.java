@@ -0,0 +1,43 @@
+package com.planitsquare.miniservice.application.port.in;
+
+/**
+ * 공휴일 데이터 버전.
+ *
+ * <p>범위에 속한 (국가, 연도)의 누적 변경 횟수 합계와 세대 값의 조합입니다. 변경 횟수는 공휴일 변경과 같은 트랜잭션에서
+ * 데이터베이스에 기록되므로, 같은 데이터베이스를 쓰는 모든 인스턴스와 재시작 이후에도 같은 데이터에 같은 버전을 냅니다.
+ * 세대 값은 버전 행을 만들 때 무작위로 정해지므로, 데이터베이스를 새로 만들어 변경 횟수가 처음부터 다시 세어져도
+ * 이전 데이터베이스의 버전과 겹치지 않습니다.
+ *
+ * @param generation 범위에 속한 버전 행의 세대 값을 XOR로 합친 값 (버전 행이 없으면 0)
+ * @param changeCount 범위의 누적 변경 횟수 (변경이 없으면 0)
+ * @since 1.0
+ */
+public record HolidayDataVersion(
+    long generation,
+    long changeCount
+) {
+
+  /**
+   * 버전 행이 없는 범위의 버전.
+   */
+  public static final HolidayDataVersion NONE = new HolidayDataVersion(0, 0);
+
+  /**
+   * 두 범위를 합친 버전을 반환합니다.
+   *
+   * @param other 합칠 범위의 버전
+   * @return 합친 버전
+   */
+  public HolidayDataVersion plus(HolidayDataVersion other) {
+    return new HolidayDataVersion(generation ^ other.generation, changeCount + other.changeCount);
+  }
+
+  /**
+   * 버전을 문자열로 표현합니다.
+   *
+   * @return 세대 값(16진수)과 누적 변경 횟수를 {@code -}로 이은 문자열
+   */
+  public String value() {
+    return Long.toHexString(generation) + "-" + changeCount;
+  }
+}
@@ -0,0 +1,26 @@
+package com.planitsquare.miniservice.application.port.in;
+
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+
+import java.time.LocalDate;
+
+/**
+ * 공휴일 일괄 조회의 단건 키.
+ *
+ * @param countryCode 국가 코드
+ * @param date 조회할 날짜
+ * @since 1.0
+ */
+public record HolidayLookupKey(
+    CountryCode countryCode,
+    LocalDate date
+) {
+  public HolidayLookupKey {
+    if (countryCode == null) {
+      throw new IllegalArgumentException("국가 코드가 존재하지 않습니다.");
+    }
+    if (date == null) {
+      throw new IllegalArgumentException("조회할 날짜가 존재하지 않습니다.");
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package com.planitsquare.miniservice.application.port.in;
+
+import com.planitsquare.miniservice.domain.model.Holiday;
+
+import java.util.List;
+
+/**
+ * 공휴일 일괄 조회의 단건 결과.
+ *
+ * @param key 조회 키
+ * @param holidays 해당 날짜의 공휴일 목록 (공휴일이 아니면 빈 목록)
+ * @since 1.0
+ */
+public record HolidayLookupResult(
+    HolidayLookupKey key,
+    List<Holiday> holidays
+) {
+
+  public HolidayLookupResult {
+    holidays = holidays == null ? List.of() : List.copyOf(holidays);
+  }
+
+  /**
+   * 조회한 날짜가 공휴일인지 확인합니다.
+   *
+   * @return 공휴일이 하나 이상 존재하면 true
+   */
+  public boolean isHoliday() {
+    return !holidays.isEmpty();
+  }
+}
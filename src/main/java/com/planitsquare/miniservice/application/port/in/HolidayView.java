@@ -0,0 +1,43 @@
+package com.planitsquare.miniservice.application.port.in;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 공휴일 조회 전용 읽기 모델.
+ *
+ * <p>검색 결과를 표현하는 불변 객체로, 영속성 컨텍스트가 관리하는 엔티티나 도메인 모델을 거치지 않고
+ * 조회 쿼리의 결과 컬럼으로부터 직접 생성됩니다.
+ *
+ * @param id 공휴일 ID
+ * @param countryCode 국가 코드
+ * @param countryName 국가 이름
+ * @param localName 현지 이름
+ * @param name 영문 이름
+ * @param date 공휴일 날짜
+ * @param fixed 고정 휴일 여부
+ * @param global 전역 휴일 여부
+ * @param launchYear 휴일 시작 연도 (null 가능)
+ * @param types 휴일 타입 목록 (불변)
+ * @param applicableRegions 적용 지역 목록 (불변)
+ * @since 1.0
+ */
+public record HolidayView(
+    Long id,
+    String countryCode,
+    String countryName,
+    String localName,
+    String name,
+    LocalDate date,
+    boolean fixed,
+    boolean global,
+    Integer launchYear,
+    List<String> types,
+    List<String> applicableRegions
+) {
+
+  public HolidayView {
+    types = types == null ? List.of() : List.copyOf(types);
+    applicableRegions = applicableRegions == null ? List.of() : List.copyOf(applicableRegions);
+  }
+}
@@ -0,0 +1,31 @@
+package com.planitsquare.miniservice.application.port.in;
+
+import java.util.List;
+
+/**
+ * 공휴일 일괄 조회 쿼리.
+ *
+ * <p>여러 (국가, 날짜) 쌍을 한 번에 조회하기 위한 조건을 캡슐화합니다.
+ *
+ * @param keys 조회할 (국가, 날짜) 목록 (요청 순서 유지)
+ * @since 1.0
+ */
+public record LookupHolidaysQuery(
+    List<HolidayLookupKey> keys
+) {
+
+  /**
+   * 한 번에 조회할 수 있는 최대 건수.
+   */
+  public static final int MAX_SIZE = 500;
+
+  public LookupHolidaysQuery {
+    if (keys == null || keys.isEmpty()) {
+      throw new IllegalArgumentException("조회할 (국가, 날짜) 목록이 존재하지 않습니다.");
+    }
+    if (keys.size() > MAX_SIZE) {
+      throw new IllegalArgumentException("한 번에 조회할 수 있는 건수는 " + MAX_SIZE + "건을 넘을 수 없습니다.");
+    }
+    keys = List.copyOf(keys);
+  }
+}
@@ -0,0 +1,21 @@
+package com.planitsquare.miniservice.application.port.in;
+
+import java.util.List;
+
+/**
+ * 공휴일 일괄 조회 Use Case.
+ *
+ * <p>여러 (국가, 날짜) 쌍의 공휴일 여부를 한 번의 호출로 조회합니다.
+ *
+ * @since 1.0
+ */
+public interface LookupHolidaysUseCase {
+
+  /**
+   * (국가, 날짜) 목록의 공휴일을 조회합니다.
+   *
+   * @param query 일괄 조회 쿼리
+   * @return 요청 순서와 동일한 순서의 조회 결과 목록
+   */
+  List<HolidayLookupResult> lookup(LookupHolidaysQuery query);
+}
@@ -0,0 +1,19 @@
+package com.planitsquare.miniservice.application.port.in;
+
+/**
+ * 분산 동기화 작업 처리 Use Case.
+ *
+ * <p>다른 인스턴스에서 시작된 동기화 Job의 (국가, 연도) 작업을 작업 큐에서 가져와 처리합니다.
+ *
+ * @since 1.0
+ */
+public interface ProcessSyncTasksUseCase {
+
+  /**
+   * 작업 큐에 가져갈 작업이 남아 있지 않을 때까지 작업을 처리합니다.
+   *
+   * @return 처리한 작업 수
+   * @since 1.0
+   */
+  int processPendingTasks();
+}
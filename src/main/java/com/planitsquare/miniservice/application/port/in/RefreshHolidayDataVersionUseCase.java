@@ -0,0 +1,18 @@
+package com.planitsquare.miniservice.application.port.in;
+
+/**
+ * 공휴일 데이터 버전 갱신 Use Case.
+ *
+ * <p>다른 인스턴스가 기록한 공휴일 변경을 확인하여 이 인스턴스가 보관한 데이터 버전에 반영합니다.
+ *
+ * @since 1.0
+ */
+public interface RefreshHolidayDataVersionUseCase {
+
+  /**
+   * 데이터베이스의 버전이 보관한 버전과 다르면 다시 읽습니다.
+   *
+   * @return 다시 읽었으면 true
+   */
+  boolean refreshIfChanged();
+}
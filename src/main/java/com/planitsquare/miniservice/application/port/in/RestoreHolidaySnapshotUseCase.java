@@ -0,0 +1,19 @@
+package com.planitsquare.miniservice.application.port.in;
+
+import java.util.List;
+
+/**
+ * 공휴일 스냅샷 적재 Use Case.
+ *
+ * @since 1.0
+ */
+public interface RestoreHolidaySnapshotUseCase {
+
+  /**
+   * 로컬 스냅샷 파일에서 국가와 공휴일을 적재합니다.
+   *
+   * @return 적재된 연도 목록 (적재하지 않았으면 빈 목록)
+   * @since 1.0
+   */
+  List<Integer> restoreSnapshot();
+}
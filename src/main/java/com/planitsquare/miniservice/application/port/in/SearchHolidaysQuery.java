@@ -1,10 +1,14 @@
 package com.planitsquare.miniservice.application.port.in;
 
+import com.planitsquare.miniservice.domain.vo.HolidayType;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
  * 공휴일 검색 쿼리.
@@ -18,6 +22,8 @@ import java.time.LocalDate;
 @Builder
 public class SearchHolidaysQuery {
 
+  private static final Pattern TYPE_DELIMITER = Pattern.compile("[,|]");
+
   /**
    * 연도 필터.
    */
@@ -40,6 +46,8 @@ public class SearchHolidaysQuery {
 
   /**
    * 공휴일 타입 필터 (예: PUBLIC, BANK, OPTIONAL).
+   *
+   * <p>여러 타입은 {@code ,} 또는 {@code |}로 구분하며, 하나라도 해당하는 공휴일을 조회합니다 (예: PUBLIC|BANK).
    */
   private final String type;
 
@@ -52,4 +60,34 @@ public class SearchHolidaysQuery {
    * 페이징 및 정렬 정보.
    */
   private final Pageable pageable;
+
+  /**
+   * 전체 건수 포함 여부 (기본값: true).
+   *
+   * <p>false이면 전체 건수를 세지 않고 다음 페이지 존재 여부만 판단하는 Slice로 응답합니다.
+   */
+  @Builder.Default
+  private final boolean includeTotal = true;
+
+  /**
+   * 타입 필터를 휴일 타입 집합으로 변환합니다.
+   *
+   * <p>알 수 없는 타입은 무시합니다.
+   *
+   * @return 휴일 타입 집합 (필터가 없으면 빈 집합)
+   */
+  public Set<HolidayType> getTypes() {
+    final Set<HolidayType> types = EnumSet.noneOf(HolidayType.class);
+    if (type == null || type.isBlank()) {
+      return types;
+    }
+    for (String token : TYPE_DELIMITER.split(type)) {
+      try {
+        types.add(HolidayType.fromString(token.trim()));
+      } catch (IllegalArgumentException e) {
+        // 알 수 없는 타입은 무시
+      }
+    }
+    return types;
+  }
 }
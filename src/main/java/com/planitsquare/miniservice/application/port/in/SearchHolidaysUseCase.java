@@ -1,12 +1,12 @@
 package com.planitsquare.miniservice.application.port.in;
 
-import com.planitsquare.miniservice.domain.model.Holiday;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 /**
  * 공휴일 검색 Use Case.
  *
  * <p>다양한 조건으로 공휴일을 검색하고 페이징 처리된 결과를 반환합니다.
+ * 전체 건수를 요청하지 않으면 건수 조회 없이 Slice로 반환합니다.
  *
  * @since 1.0
  */
@@ -16,7 +16,7 @@ public interface SearchHolidaysUseCase {
    * 검색 조건에 따라 공휴일을 조회합니다.
    *
    * @param query 검색 조건
-   * @return 페이징 처리된 공휴일 목록
+   * @return 전체 건수를 포함하면 {@link org.springframework.data.domain.Page}, 아니면 {@link Slice}
    */
-  Page<Holiday> search(SearchHolidaysQuery query);
+  Slice<HolidayView> search(SearchHolidaysQuery query);
 }
@@ -1,8 +1,6 @@
 package com.planitsquare.miniservice.application.port.in;
 
-import com.planitsquare.miniservice.application.service.SyncResult;
-
-import java.util.List;
+import com.planitsquare.miniservice.application.service.SyncSummary;
 
 /**
  * 공휴일 업로드 Use Case.
@@ -17,8 +15,8 @@ public interface UploadHolidaysUseCase {
    * 공휴일 데이터를 업로드합니다.
    *
    * @param command 업로드 커맨드
-   * @return 동기화 결과 리스트
+   * @return 동기화 집계 결과
    * @since 1.0
    */
-  List<SyncResult> uploadHolidays(UploadHolidayCommand command);
+  SyncSummary uploadHolidays(UploadHolidayCommand command);
 }
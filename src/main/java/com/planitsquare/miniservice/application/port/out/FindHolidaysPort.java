@@ -0,0 +1,38 @@
+package com.planitsquare.miniservice.application.port.out;
+
+import com.planitsquare.miniservice.domain.model.Holiday;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 공휴일 조회를 위한 출력 포트.
+ *
+ * <p>(국가, 연도) 단위 또는 (국가, 날짜) 집합 단위로 저장된 공휴일을 조회합니다.
+ *
+ * @since 1.0
+ */
+public interface FindHolidaysPort {
+
+  /**
+   * 특정 연도와 국가의 공휴일을 날짜 순으로 조회합니다.
+   *
+   * @param year 연도
+   * @param countryCode 국가 코드
+   * @return 공휴일 목록
+   */
+  List<Holiday> findByYearAndCountryCode(int year, CountryCode countryCode);
+
+  /**
+   * 국가 코드 집합과 날짜 집합에 모두 속하는 공휴일을 한 번의 쿼리로 조회합니다.
+   *
+   * <p>결과는 두 집합의 곱에 해당하는 상위 집합이므로, 정확한 (국가, 날짜) 쌍 필터링은 호출 측에서 수행합니다.
+   *
+   * @param countryCodes 국가 코드 집합
+   * @param dates 날짜 집합
+   * @return 공휴일 목록
+   */
+  List<Holiday> findAllByCountryCodesAndDates(Collection<CountryCode> countryCodes, Collection<LocalDate> dates);
+}
@@ -0,0 +1,30 @@
+package com.planitsquare.miniservice.application.port.out;
+
+import java.util.List;
+
+/**
+ * 국가와 공휴일 전체 스냅샷을 위한 Port 인터페이스.
+ *
+ * <p>동기화가 끝난 데이터를 로컬 파일로 내보내고, 시작 시 외부 API 호출 없이 한 번에 적재하는 데 사용합니다.
+ *
+ * @since 1.0
+ */
+public interface HolidaySnapshotPort {
+
+  /**
+   * 현재 저장된 국가와 공휴일 전체를 스냅샷으로 내보냅니다.
+   *
+   * @since 1.0
+   */
+  void exportSnapshot();
+
+  /**
+   * 스냅샷을 적재합니다.
+   *
+   * <p>스냅샷이 없거나, 읽을 수 없거나, 이미 국가 또는 공휴일 데이터가 있으면 아무것도 적재하지 않습니다.
+   *
+   * @return 적재된 연도 목록 (적재하지 않았으면 빈 목록)
+   * @since 1.0
+   */
+  List<Integer> restoreSnapshot();
+}
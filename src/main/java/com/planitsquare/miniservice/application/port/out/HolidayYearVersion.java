@@ -0,0 +1,20 @@
+package com.planitsquare.miniservice.application.port.out;
+
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+
+/**
+ * (국가, 연도)의 공휴일 데이터 버전.
+ *
+ * @param countryCode 국가 코드
+ * @param year 연도
+ * @param generation 버전 행을 만들 때 정한 세대 값
+ * @param version 누적 변경 횟수
+ * @since 1.0
+ */
+public record HolidayYearVersion(
+    CountryCode countryCode,
+    int year,
+    long generation,
+    long version
+) {
+}
@@ -0,0 +1,29 @@
+package com.planitsquare.miniservice.application.port.out;
+
+import java.util.List;
+
+/**
+ * 공휴일 데이터 버전 조회 Port.
+ *
+ * <p>공휴일 변경과 같은 트랜잭션에서 기록된 (국가, 연도)별 변경 횟수를 기본 데이터소스에서 조회합니다.
+ *
+ * @since 1.0
+ */
+public interface LoadHolidayDataVersionsPort {
+
+  /**
+   * 모든 (국가, 연도)의 버전을 조회합니다.
+   *
+   * @return (국가, 연도)별 버전 목록
+   */
+  List<HolidayYearVersion> loadVersions();
+
+  /**
+   * 모든 (국가, 연도)의 변경 횟수 합계를 조회합니다.
+   *
+   * <p>변경 횟수는 줄어들지 않으므로, 합계가 같으면 마지막으로 조회한 이후 변경이 없습니다.
+   *
+   * @return 변경 횟수 합계
+   */
+  long sumVersions();
+}
@@ -0,0 +1,28 @@
+package com.planitsquare.miniservice.application.port.out;
+
+import com.planitsquare.miniservice.domain.model.Holiday;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+
+import java.util.List;
+
+/**
+ * 공휴일 교체 Port.
+ *
+ * <p>특정 연도와 국가의 공휴일을 새 데이터로 원자적으로 교체합니다.
+ * 기존 데이터 삭제와 새 데이터 저장은 하나의 트랜잭션에서 수행되므로,
+ * 조회 측은 커밋 전까지 기존 데이터를, 커밋 후에는 새 데이터만 보게 되며 비어 있는 구간이 없습니다.
+ *
+ * @since 1.0
+ */
+public interface ReplaceHolidaysPort {
+
+  /**
+   * 특정 연도와 국가의 공휴일을 새 공휴일 목록으로 교체합니다.
+   *
+   * @param year 연도
+   * @param countryCode 국가 코드
+   * @param holidays 새 공휴일 목록
+   * @return 삭제된 기존 공휴일 건수
+   */
+  int replaceHolidays(int year, CountryCode countryCode, List<Holiday> holidays);
+}
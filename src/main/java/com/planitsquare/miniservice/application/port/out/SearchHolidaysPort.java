@@ -1,8 +1,8 @@
 package com.planitsquare.miniservice.application.port.out;
 
+import com.planitsquare.miniservice.application.port.in.HolidayView;
 import com.planitsquare.miniservice.application.port.in.SearchHolidaysQuery;
-import com.planitsquare.miniservice.domain.model.Holiday;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 /**
  * 공휴일 검색을 위한 출력 포트.
@@ -17,7 +17,7 @@ public interface SearchHolidaysPort {
    * 검색 조건에 따라 공휴일을 조회합니다.
    *
    * @param query 검색 조건
-   * @return 페이징 처리된 공휴일 목록
+   * @return 전체 건수를 포함하면 {@link org.springframework.data.domain.Page}, 아니면 {@link Slice}
    */
-  Page<Holiday> searchHolidays(SearchHolidaysQuery query);
+  Slice<HolidayView> searchHolidays(SearchHolidaysQuery query);
 }
@@ -0,0 +1,35 @@
+package com.planitsquare.miniservice.application.port.out;
+
+/**
+ * 획득한 동기화 Job 락의 임대(lease).
+ *
+ * <p>보유하는 동안 주기적인 heartbeat로 임대가 연장되며, {@link #close()} 시 heartbeat를 멈추고 락을 해제합니다.
+ * 인스턴스가 비정상 종료되어 해제하지 못한 락은 임대 만료 후 다른 인스턴스가 획득할 수 있습니다.
+ *
+ * @since 1.0
+ */
+public interface SyncJobLease extends AutoCloseable {
+
+  /**
+   * 이 임대의 소유자 ID를 반환합니다.
+   *
+   * @return 소유자 ID (인스턴스 ID와 임대별 식별자 조합)
+   */
+  String ownerId();
+
+  /**
+   * 임대가 아직 유효한지 확인합니다.
+   *
+   * <p>heartbeat 연장에 실패하여 다른 소유자에게 락이 넘어갔거나, 마지막으로 연장에 성공한 뒤
+   * 임대 시간이 지났다면 {@code false}를 반환합니다.
+   *
+   * @return 임대가 유효하면 {@code true}
+   */
+  boolean isValid();
+
+  /**
+   * heartbeat를 멈추고 락을 해제합니다.
+   */
+  @Override
+  void close();
+}
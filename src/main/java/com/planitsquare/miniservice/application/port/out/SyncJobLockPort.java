@@ -0,0 +1,42 @@
+package com.planitsquare.miniservice.application.port.out;
+
+import java.util.Optional;
+
+/**
+ * 동기화 Job 분산 락을 위한 Port 인터페이스.
+ *
+ * <p>여러 서비스 인스턴스 중 하나만 동기화 Job을 실행하도록 데이터베이스 기반 임대(lease) 락을 제공합니다.
+ *
+ * @since 1.0
+ */
+public interface SyncJobLockPort {
+
+  /**
+   * 동기화 Job 락 획득을 시도합니다.
+   *
+   * <p>대기하지 않으며, 다른 소유자가 유효한 임대를 보유 중이면 즉시 빈 값을 반환합니다.
+   *
+   * @return 획득한 임대, 다른 소유자가 보유 중이면 빈 값
+   * @since 1.0
+   */
+  Optional<SyncJobLease> tryAcquire();
+
+  /**
+   * 유효한 임대를 가진 소유자가 있는지 확인합니다.
+   *
+   * @return 어떤 인스턴스든 락을 보유 중이면 {@code true}
+   * @since 1.0
+   */
+  boolean isLocked();
+
+  /**
+   * 소유자가 아직 만료되지 않은 임대를 보유 중인지 데이터베이스에서 확인합니다.
+   *
+   * <p>호출 측 트랜잭션 안에서 확인하므로, 저장 트랜잭션에서 호출하면 임대를 잃은 뒤의 저장을 막는 펜싱으로 사용할 수 있습니다.
+   *
+   * @param ownerId 소유자 ID
+   * @return 소유자가 유효한 임대를 보유 중이면 {@code true}
+   * @since 1.0
+   */
+  boolean isHeldBy(String ownerId);
+}
@@ -56,7 +56,9 @@ public interface SyncJobPort {
   /**
    * 실행 했던 Job이 있는지 판단합니다.
    *
-   * @return 실행했던 Job이 존재하는 경우 false를 반환합니다.
+   * <p>Job 없이 스냅샷으로 적재된 공휴일이 있는 경우에도 최초 실행이 아닙니다.
+   *
+   * @return 실행했던 Job이나 저장된 공휴일이 존재하는 경우 false를 반환합니다.
    */
   boolean isInitialSystemLoad();
 
@@ -70,4 +72,24 @@ public interface SyncJobPort {
    * @since 1.0
    */
   boolean hasRunningJob();
+
+  /**
+   * 특정 실행 타입의 Job이 실행 중인지 확인합니다.
+   *
+   * @param executionType 실행 타입
+   * @return 해당 실행 타입의 RUNNING 상태 Job이 존재하면 true, 없으면 false
+   * @since 1.0
+   */
+  boolean hasRunningJob(SyncExecutionType executionType);
+
+  /**
+   * 실행 중 상태로 남아 있는 Job을 실패 처리합니다.
+   *
+   * <p>동기화 Job 락을 획득한 뒤 호출합니다. 락을 획득했다는 것은 다른 인스턴스가 실행 중인 Job이 없다는 뜻이므로,
+   * 남아 있는 RUNNING Job은 비정상 종료된 인스턴스가 완료 처리하지 못한 Job입니다.
+   *
+   * @return 실패 처리된 Job 수
+   * @since 1.0
+   */
+  int abandonRunningJobs();
 }
@@ -0,0 +1,22 @@
+package com.planitsquare.miniservice.application.port.out;
+
+import com.planitsquare.miniservice.domain.vo.Country;
+
+/**
+ * 분산 동기화 작업 큐에서 가져온 (국가, 연도) 작업.
+ *
+ * @param taskId 작업 ID
+ * @param jobId 작업이 속한 Job ID
+ * @param country 국가
+ * @param year 연도
+ * @param ownerId 작업을 가져온 소유자 ID (가져올 때마다 새로 발급)
+ * @since 1.0
+ */
+public record SyncTask(
+    Long taskId,
+    Long jobId,
+    Country country,
+    int year,
+    String ownerId
+) {
+}
@@ -0,0 +1,79 @@
+package com.planitsquare.miniservice.application.port.out;
+
+import com.planitsquare.miniservice.application.service.SyncSummary;
+import com.planitsquare.miniservice.domain.vo.Country;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 분산 동기화 작업 큐를 위한 Port 인터페이스.
+ *
+ * <p>동기화 Job의 (국가, 연도) 작업을 데이터베이스 큐에 등록하고, 여러 서비스 인스턴스가 작업을 나누어 처리하도록 합니다.
+ * 작업은 임대(lease)와 함께 원자적으로 한 소유자에게만 할당되며,
+ * 임대가 만료된 작업은 처리하던 인스턴스가 종료된 것으로 보고 다른 인스턴스에 다시 할당됩니다.
+ *
+ * @since 1.0
+ */
+public interface SyncTaskQueuePort {
+
+  /**
+   * Job의 모든 (국가, 연도) 조합을 대기 작업으로 등록합니다.
+   *
+   * @param jobId Job ID
+   * @param countries 국가 목록
+   * @param years 연도 목록
+   * @since 1.0
+   */
+  void enqueue(Long jobId, List<Country> countries, List<Integer> years);
+
+  /**
+   * 실행 중인 Job의 대기 작업 또는 임대가 만료된 작업 하나를 가져옵니다.
+   *
+   * @return 가져온 작업, 가져갈 작업이 없으면 빈 값
+   * @since 1.0
+   */
+  Optional<SyncTask> claimNext();
+
+  /**
+   * 작업을 성공으로 완료합니다.
+   *
+   * @param task 가져온 작업
+   * @param syncedCount 동기화된 건수
+   * @return 완료 처리되면 {@code true}, 임대가 만료되어 다른 소유자가 가져갔으면 {@code false}
+   * @since 1.0
+   */
+  boolean complete(SyncTask task, int syncedCount);
+
+  /**
+   * 작업을 실패로 완료합니다.
+   *
+   * @param task 가져온 작업
+   * @param errorMessage 에러 메시지
+   * @return 실패 처리되면 {@code true}, 임대가 만료되어 다른 소유자가 가져갔으면 {@code false}
+   * @since 1.0
+   */
+  boolean fail(SyncTask task, String errorMessage);
+
+  /**
+   * Job의 끝나지 않은(대기 또는 처리 중) 작업 수를 조회합니다.
+   *
+   * @param jobId Job ID
+   * @return 끝나지 않은 작업 수
+   * @since 1.0
+   */
+  long countUnfinished(Long jobId);
+
+  /**
+   * Job의 작업 결과를 집계합니다.
+   *
+   * <p>작업 수와 저장 건수는 데이터베이스에서 집계하고, 실패한 작업은 등록 순서대로 최대 수까지만 조회합니다.
+   * 완료되지 않은 작업은 실패로 집계합니다.
+   *
+   * @param jobId Job ID
+   * @param maxFailures 실패 결과 최대 조회 수
+   * @return 동기화 집계 결과
+   * @since 1.0
+   */
+  SyncSummary summarize(Long jobId, int maxFailures);
+}
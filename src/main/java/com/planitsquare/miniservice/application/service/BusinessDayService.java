@@ -0,0 +1,141 @@
+package com.planitsquare.miniservice.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.planitsquare.miniservice.application.annotation.Workload;
+import com.planitsquare.miniservice.application.event.HolidaysChangedEvent;
+import com.planitsquare.miniservice.application.exception.CountryNotFoundException;
+import com.planitsquare.miniservice.application.port.in.BusinessDayQuery;
+import com.planitsquare.miniservice.application.port.in.BusinessDayResult;
+import com.planitsquare.miniservice.application.port.in.CalculateBusinessDaysUseCase;
+import com.planitsquare.miniservice.application.port.out.FindCountryPort;
+import com.planitsquare.miniservice.application.port.out.FindHolidaysPort;
+import com.planitsquare.miniservice.application.util.WorkloadType;
+import com.planitsquare.miniservice.common.UseCase;
+import com.planitsquare.miniservice.domain.model.Holiday;
+import com.planitsquare.miniservice.domain.model.HolidayCalendar;
+import com.planitsquare.miniservice.domain.model.HolidayCalendar.ScanResult;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 영업일 계산 Application Service.
+ *
+ * <p>(국가, 연도) 단위의 {@link HolidayCalendar}를 최대 {@value #MAX_CACHED_CALENDARS}개까지 메모리에 보관하고
+ * 비트 스캔으로 영업일을 계산합니다. 달력은 최초 요청 시 한 번만 DB에서 적재되며, 공휴일이 변경되면 {@link HolidaysChangedEvent}를 받아
+ * 해당 (국가, 연도)의 달력만 제거합니다.
+ *
+ * @since 1.0
+ */
+@UseCase
+@RequiredArgsConstructor
+@Slf4j
+@Workload(WorkloadType.API_READ)
+public class BusinessDayService implements CalculateBusinessDaysUseCase {
+
+  private final FindCountryPort findCountryPort;
+  private final FindHolidaysPort findHolidaysPort;
+
+  /**
+   * 보관하는 최대 (국가, 연도) 달력 수.
+   */
+  private static final int MAX_CACHED_CALENDARS = 2_000;
+
+  private final Cache<CalendarKey, HolidayCalendar> calendars = Caffeine.newBuilder()
+      .maximumSize(MAX_CACHED_CALENDARS)
+      .build();
+
+  /**
+   * 영업일 여부와 N 영업일 이동 결과를 계산합니다.
+   *
+   * <p>이동 중 연도 경계를 넘으면 인접 연도의 달력에서 남은 영업일을 이어서 찾습니다.
+   *
+   * @param query 영업일 계산 쿼리
+   * @return 계산 결과
+   * @throws CountryNotFoundException 국가 코드가 존재하지 않는 경우
+   * @since 1.0
+   */
+  @Override
+  public BusinessDayResult calculate(BusinessDayQuery query) {
+    final CountryCode countryCode = query.countryCode();
+    final LocalDate date = query.date();
+    final String region = query.region();
+
+    if (calendars.getIfPresent(new CalendarKey(countryCode, date.getYear())) == null) {
+      validateCountryExists(countryCode);
+    }
+
+    final HolidayCalendar calendar = calendarOf(countryCode, date.getYear());
+    final boolean businessDay = calendar.isBusinessDay(date, region);
+
+    if (query.days() == 0) {
+      return new BusinessDayResult(businessDay, date);
+    }
+    return new BusinessDayResult(businessDay, shift(calendar, date, query.days(), region));
+  }
+
+  /**
+   * 공휴일 변경 시 영향을 받는 달력을 제거합니다.
+   *
+   * <p>트랜잭션 안에서 발행된 경우 커밋 이후에 실행되어, 제거 직후의 재적재가 변경된 데이터를 읽도록 보장합니다.
+   *
+   * @param event 공휴일 변경 이벤트
+   * @since 1.0
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onHolidaysChanged(HolidaysChangedEvent event) {
+    calendars.asMap().keySet().removeIf(key -> event.affects(key.countryCode(), key.year()));
+    log.debug("영업일 달력 무효화 - 국가 코드: {}, 연도: {}",
+        event.isAllCountries() ? "ALL" : event.countryCode().code(), event.years());
+  }
+
+  private LocalDate shift(HolidayCalendar startCalendar, LocalDate date, int days, String region) {
+    final CountryCode countryCode = startCalendar.getCountryCode();
+    final boolean forward = days > 0;
+    int remaining = Math.abs(days);
+    int year = date.getYear();
+    HolidayCalendar calendar = startCalendar;
+    ScanResult result = forward
+        ? calendar.scanForward(date.getDayOfYear(), remaining, region)
+        : calendar.scanBackward(date.getDayOfYear(), remaining, region);
+
+    while (!result.isFound()) {
+      remaining = result.remaining();
+      year = forward ? year + 1 : year - 1;
+      calendar = calendarOf(countryCode, year);
+      result = forward
+          ? calendar.scanForward(0, remaining, region)
+          : calendar.scanBackward(calendar.getLengthOfYear() + 1, remaining, region);
+    }
+    return result.date();
+  }
+
+  /**
+   * (국가, 연도) 달력을 반환합니다.
+   *
+   * <p>공휴일 데이터가 없는 연도는 주말만 휴무일인 달력을 만들되 보관하지 않으므로,
+   * 먼 미래나 과거로 이동하는 요청이 데이터 없는 연도의 달력으로 캐시를 채우지 않습니다.
+   */
+  private HolidayCalendar calendarOf(CountryCode countryCode, int year) {
+    final HolidayCalendar cached = calendars.get(new CalendarKey(countryCode, year), key -> {
+      log.debug("영업일 달력 적재 - 국가 코드: {}, 연도: {}", countryCode.code(), year);
+      final List<Holiday> holidays = findHolidaysPort.findByYearAndCountryCode(year, countryCode);
+      return holidays.isEmpty() ? null : HolidayCalendar.of(countryCode, year, holidays);
+    });
+    return cached != null ? cached : HolidayCalendar.of(countryCode, year, List.of());
+  }
+
+  private void validateCountryExists(CountryCode countryCode) {
+    if (!findCountryPort.existsByCode(countryCode.code())) {
+      throw new CountryNotFoundException(countryCode.code() + "의 해당하는 국가 코드가 존재하지 않습니다.");
+    }
+  }
+
+  private record CalendarKey(CountryCode countryCode, int year) {
+  }
+}
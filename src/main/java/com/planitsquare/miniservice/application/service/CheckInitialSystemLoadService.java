@@ -1,6 +1,8 @@
 package com.planitsquare.miniservice.application.service;
 
+import com.planitsquare.miniservice.adapter.out.persistence.vo.SyncExecutionType;
 import com.planitsquare.miniservice.application.port.in.CheckInitialSystemLoadUseCase;
+import com.planitsquare.miniservice.application.port.out.SyncJobLockPort;
 import com.planitsquare.miniservice.application.port.out.SyncJobPort;
 import com.planitsquare.miniservice.common.UseCase;
 import lombok.RequiredArgsConstructor;
@@ -9,9 +11,15 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CheckInitialSystemLoadService implements CheckInitialSystemLoadUseCase {
   private final SyncJobPort syncJobPort;
+  private final SyncJobLockPort syncJobLockPort;
 
   @Override
   public boolean isInitialSystemLoad() {
     return syncJobPort.isInitialSystemLoad();
   }
+
+  @Override
+  public boolean isInitialSystemLoadInProgress() {
+    return syncJobLockPort.isLocked() && syncJobPort.hasRunningJob(SyncExecutionType.INITIAL_SYSTEM_LOAD);
+  }
 }
@@ -0,0 +1,143 @@
+package com.planitsquare.miniservice.application.service;
+
+import com.planitsquare.miniservice.adapter.out.persistence.config.DistributedSyncProperties;
+import com.planitsquare.miniservice.application.exception.SyncJobLeaseLostException;
+import com.planitsquare.miniservice.application.port.in.ProcessSyncTasksUseCase;
+import com.planitsquare.miniservice.application.port.out.SyncTask;
+import com.planitsquare.miniservice.application.port.out.SyncTaskQueuePort;
+import com.planitsquare.miniservice.application.util.SyncJobLeaseContext;
+import com.planitsquare.miniservice.common.UseCase;
+import com.planitsquare.miniservice.domain.vo.Country;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import java.util.stream.IntStream;
+
+/**
+ * 여러 서비스 인스턴스에 걸친 공휴일 동기화 Application Service.
+ *
+ * <p>Job을 시작한 인스턴스(코디네이터)는 (국가, 연도) 작업을 {@link SyncTaskQueuePort}에 등록하고,
+ * 직접 작업을 처리하면서 모든 작업이 끝날 때까지 기다린 뒤 작업 결과를 반환합니다.
+ * 다른 인스턴스는 {@link #processPendingTasks()}로 같은 큐의 작업을 가져가 처리합니다.
+ * Job 통계는 반환된 결과로 {@code SyncJobAspect}가 집계합니다.
+ *
+ * <p>코디네이터는 Job의 락 임대를 잃으면 작업 처리를 멈추고 {@link SyncJobLeaseLostException}으로 Job을 중단합니다.
+ *
+ * <p>처리하던 인스턴스가 종료되어 임대가 만료된 작업은 코디네이터를 포함한 다른 인스턴스가 다시 처리하므로,
+ * 코디네이터는 모든 작업이 끝날 때까지 기다릴 수 있습니다.
+ *
+ * @since 1.0
+ */
+@UseCase
+@RequiredArgsConstructor
+@Slf4j
+public class DistributedSyncService implements ProcessSyncTasksUseCase {
+
+  private final SyncTaskQueuePort syncTaskQueuePort;
+  private final HolidaySyncInnerService holidaySyncInnerService;
+  private final Executor holidayTaskExecutor;
+  private final DistributedSyncProperties distributedSyncProperties;
+
+  /**
+   * 분산 동기화가 활성화되어 있는지 확인합니다.
+   *
+   * @return 활성화되어 있으면 {@code true}
+   * @since 1.0
+   */
+  public boolean isEnabled() {
+    return distributedSyncProperties.isEnabled();
+  }
+
+  /**
+   * Job의 모든 (국가, 연도) 작업을 작업 큐에 등록하고, 모든 인스턴스가 작업을 마칠 때까지 기다립니다.
+   *
+   * @param jobId Job ID
+   * @param countries 국가 목록
+   * @param years 연도 목록
+   * @return 동기화 집계 결과
+   * @since 1.0
+   */
+  public SyncSummary execute(Long jobId, List<Country> countries, List<Integer> years) {
+    syncTaskQueuePort.enqueue(jobId, countries, years);
+
+    runWorkers(() -> {
+      int processed = 0;
+      while (SyncJobLeaseContext.isHeld() && syncTaskQueuePort.countUnfinished(jobId) > 0) {
+        final Optional<SyncTask> task = syncTaskQueuePort.claimNext();
+        if (task.isPresent()) {
+          process(task.get());
+          processed++;
+        } else if (!sleepPollInterval()) {
+          break;
+        }
+      }
+      return processed;
+    });
+    SyncJobLeaseContext.ensureHeld();
+
+    final SyncSummary summary = syncTaskQueuePort.summarize(jobId, SyncResultAggregator.DEFAULT_MAX_FAILURES);
+    log.info("분산 동기화 완료 - Job ID: {}, {}", jobId, summary.toLogString());
+    return summary;
+  }
+
+  @Override
+  public int processPendingTasks() {
+    return runWorkers(() -> {
+      int processed = 0;
+      Optional<SyncTask> task;
+      while ((task = syncTaskQueuePort.claimNext()).isPresent()) {
+        process(task.get());
+        processed++;
+      }
+      return processed;
+    });
+  }
+
+  /**
+   * 설정된 동시 처리 수만큼 작업 루프를 실행하고 모두 끝날 때까지 기다립니다.
+   *
+   * @param worker 처리한 작업 수를 반환하는 작업 루프
+   * @return 전체 처리한 작업 수
+   */
+  private int runWorkers(IntSupplier worker) {
+    final AtomicInteger processed = new AtomicInteger();
+    final CompletableFuture<?>[] workers = IntStream.range(0, distributedSyncProperties.getWorkerConcurrency())
+        .mapToObj(i -> CompletableFuture.runAsync(() -> processed.addAndGet(worker.getAsInt()), holidayTaskExecutor))
+        .toArray(CompletableFuture[]::new);
+    CompletableFuture.allOf(workers).join();
+    return processed.get();
+  }
+
+  /**
+   * 가져온 작업 하나를 동기화하고 결과를 작업 큐에 기록합니다.
+   *
+   * @param task 가져온 작업
+   */
+  private void process(SyncTask task) {
+    try {
+      final int syncedCount = holidaySyncInnerService.syncHolidaysForCountryAndYear(
+          new SyncHolidayCommand(task.jobId(), task.country(), task.year()));
+      syncTaskQueuePort.complete(task, syncedCount);
+    } catch (Exception e) {
+      log.error("분산 동기화 작업 실패 - 국가: {}, 연도: {}, 에러: {}",
+          task.country().getCode(), task.year(), e.getMessage(), e);
+      syncTaskQueuePort.fail(task, e.getMessage());
+    }
+  }
+
+  private boolean sleepPollInterval() {
+    try {
+      Thread.sleep(distributedSyncProperties.getPollIntervalMillis());
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -2,30 +2,31 @@ package com.planitsquare.miniservice.application.service;
 
 import com.planitsquare.miniservice.adapter.out.persistence.vo.SyncExecutionType;
 import com.planitsquare.miniservice.application.annotation.SyncJob;
+import com.planitsquare.miniservice.application.exception.SyncJobLeaseLostException;
 import com.planitsquare.miniservice.application.port.in.SyncHolidayDataUseCase;
 import com.planitsquare.miniservice.application.port.in.UploadHolidayCommand;
 import com.planitsquare.miniservice.application.port.in.UploadHolidaysUseCase;
-import com.planitsquare.miniservice.application.port.out.DeleteHolidaysPort;
 import com.planitsquare.miniservice.application.port.out.FetchCountriesPort;
 import com.planitsquare.miniservice.application.port.out.FindCountryPort;
 import com.planitsquare.miniservice.application.port.out.SaveAllCountriesPort;
 import com.planitsquare.miniservice.application.util.JobIdContext;
+import com.planitsquare.miniservice.application.util.SyncJobLeaseContext;
 import com.planitsquare.miniservice.common.UseCase;
-import com.planitsquare.miniservice.domain.model.Holiday;
 import com.planitsquare.miniservice.domain.vo.Country;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 공휴일 병렬 업로드 Application Service.
  *
  * <p>여러 국가와 연도의 공휴일을 병렬로 조회하여 저장하는 오케스트레이션을 담당합니다.
- * CompletableFuture와 ThreadPoolExecutor를 사용하여 병렬 처리를 수행합니다.
+ * ThreadPoolExecutor에 제한된 수의 태스크만 제출하여 연도 범위와 관계없이 일정한 큐 메모리로 병렬 처리를 수행합니다.
  *
  * @since 1.0
  */
@@ -34,12 +35,17 @@ import java.util.concurrent.Executor;
 @Slf4j
 public class HolidayAsyncService implements UploadHolidaysUseCase, SyncHolidayDataUseCase {
 
+  /**
+   * 최대 스레드 수를 알 수 없는 Executor에 동시에 제출하는 최대 태스크 수.
+   */
+  private static final int DEFAULT_IN_FLIGHT_TASKS = 40;
+
   private final FindCountryPort findCountryPort;
   private final FetchCountriesPort fetchCountriesPort;
   private final SaveAllCountriesPort saveAllCountriesPort;
   private final HolidaySyncInnerService holidaySyncInnerService;
+  private final DistributedSyncService distributedSyncService;
   private final Executor holidayTaskExecutor;
-  private final DeleteHolidaysPort deleteHolidaysPort;
 
   /**
    * 지정된 연도 범위의 공휴일 데이터를 병렬로 업로드합니다.
@@ -50,12 +56,12 @@ public class HolidayAsyncService implements UploadHolidaysUseCase, SyncHolidayDa
    * <p>Job 시작/완료는 {@link SyncJob} 어노테이션을 통해 AOP가 자동으로 처리합니다.
    *
    * @param command 업로드 커맨드 (연도 및 실행 타입 포함)
-   * @return 동기화 결과 목록
+   * @return 동기화 집계 결과
    * @since 1.0
    */
   @Override
   @SyncJob(executionType = "#command.executionType()")
-  public List<SyncResult> uploadHolidays(UploadHolidayCommand command) {
+  public SyncSummary uploadHolidays(UploadHolidayCommand command) {
     YearPolicy.requireAtLeastMinYear(command.year());
     final SyncExecutionType syncExecutionType = command.executionType();
 
@@ -66,114 +72,146 @@ public class HolidayAsyncService implements UploadHolidaysUseCase, SyncHolidayDa
     List<Country> countries = ensureCountriesLoaded(syncExecutionType);
 
     log.info("공휴일 병렬 업로드 진행 - 국가 수: {}, 처리 연도들: {}", countries.size(), years);
-    List<SyncResult> results = fetchAndSaveHolidaysForAllCountriesAndYearsAsync(countries, years);
+    SyncSummary summary = fetchAndSaveHolidaysForAllCountriesAndYearsAsync(countries, years);
 
     log.info("공휴일 업로드 완료 - 총 {}개 국가, {}개 연도 처리", countries.size(), years.size());
-    return results;
+    return summary;
   }
 
   /**
    * 모든 국가와 연도에 대해 병렬로 공휴일을 조회하고 저장합니다.
    *
-   * <p>각 국가-연도 조합은 독립적인 CompletableFuture 태스크로 실행됩니다.
+   * <p>각 국가-연도 조합은 독립적인 태스크로 실행됩니다.
    * 개별 태스크 실패는 전체 작업을 중단시키지 않으며, 모든 태스크 완료까지 대기합니다.
    *
+   * <p>분산 동기화가 활성화되어 있으면 {@link DistributedSyncService}를 통해 작업 큐에 등록하여
+   * 여러 인스턴스가 작업을 나누어 처리합니다.
+   *
    * @param countries 국가 목록
    * @param years 연도 목록
-   * @return 동기화 결과 목록
+   * @return 동기화 집계 결과
    * @since 1.0
    */
-  private List<SyncResult> fetchAndSaveHolidaysForAllCountriesAndYearsAsync(
+  private SyncSummary fetchAndSaveHolidaysForAllCountriesAndYearsAsync(
       List<Country> countries,
       List<Integer> years
   ) {
     Long jobId = JobIdContext.getJobId();
 
-    // 1. 병렬 작업 생성 및 실행
-    List<CompletableFuture<SyncResult>> futures = createAsyncTasks(jobId, countries, years);
+    if (distributedSyncService.isEnabled()) {
+      return distributedSyncService.execute(jobId, countries, years);
+    }
 
-    // 2. 모든 작업 완료 대기 및 결과 수집
-    List<SyncResult> results = waitForAllTasksAndCollectResults(futures);
+    SyncSummary summary = runTasksInBoundedWindow(jobId, countries, years);
 
-    log.info("병렬 동기화 완료 - {}", SyncStats.from(results).toLogString());
-    return results;
+    log.info("병렬 동기화 완료 - {}", summary.toLogString());
+    return summary;
   }
 
   /**
-   * 모든 국가-연도 조합에 대한 병렬 작업을 생성합니다.
+   * 모든 국가-연도 조합을 {@link #inFlightTaskLimit()}개씩 나누어 실행합니다.
+   *
+   * <p>모든 태스크를 한 번에 제출하면 연도 범위가 길 때 Executor 큐 용량을 넘어
+   * {@code TaskRejectedException}이 발생합니다. 세마포어로 실행 중이거나 대기 중인 태스크 수를 제한하고,
+   * 태스크가 끝날 때마다 다음 태스크를 제출하므로 Executor 큐에는 항상 창 크기 이하의 태스크만 쌓입니다.
+   *
+   * <p>태스크 결과는 끝나는 즉시 {@link SyncResultAggregator}에 누적하고 보관하지 않으므로,
+   * Job 규모와 관계없이 일정한 메모리로 집계합니다.
+   * 그래도 제출이 거부되면 해당 태스크만 실패로 기록합니다.
+   *
+   * <p>태스크를 제출하기 전마다 Job의 락 임대를 확인하여, 임대를 잃었으면 남은 태스크를 제출하지 않고
+   * 실행 중인 태스크가 끝나기를 기다린 뒤 {@link SyncJobLeaseLostException}으로 Job을 중단합니다.
    *
    * @param jobId Job ID
    * @param countries 국가 목록
    * @param years 연도 목록
-   * @return CompletableFuture 리스트
+   * @return 동기화 집계 결과
    * @since 1.0
    */
-  private List<CompletableFuture<SyncResult>> createAsyncTasks(
+  private SyncSummary runTasksInBoundedWindow(
       Long jobId,
       List<Country> countries,
       List<Integer> years
   ) {
-    return countries.stream()
-        .flatMap(country -> years.stream()
-            .map(year -> createSyncTask(jobId, country, year))
-        )
-        .toList();
+    final SyncResultAggregator aggregator = new SyncResultAggregator();
+    final int windowSize = inFlightTaskLimit();
+    final Semaphore window = new Semaphore(windowSize);
+
+    submission:
+    for (Country country : countries) {
+      for (Integer year : years) {
+        window.acquireUninterruptibly();
+        if (!SyncJobLeaseContext.isHeld()) {
+          window.release();
+          break submission;
+        }
+        try {
+          holidayTaskExecutor.execute(() -> {
+            try {
+              syncCountryAndYear(jobId, country, year, aggregator);
+            } finally {
+              window.release();
+            }
+          });
+        } catch (RuntimeException e) {
+          window.release();
+          log.error("동기화 작업 제출 실패 - 국가: {}, 연도: {}, 에러: {}", country.getCode(), year, e.getMessage());
+          aggregator.recordFailure(country, year, e.getMessage());
+        }
+      }
+    }
+
+    // 모든 허가를 다시 얻으면 실행 중인 태스크가 모두 끝난 것입니다.
+    window.acquireUninterruptibly(windowSize);
+    SyncJobLeaseContext.ensureHeld();
+    return aggregator.summarize();
   }
 
   /**
-   * 모든 병렬 작업이 완료될 때까지 대기하고 결과를 수집합니다.
+   * 동시에 Executor에 제출할 최대 태스크 수를 반환합니다.
    *
-   * <p>개별 작업 실패는 {@link SyncResult#failure}로 처리되어,
-   * 전체 작업 완료에 영향을 주지 않습니다.
+   * <p>{@code holidayTaskExecutor}의 설정에서 구하므로 스레드 풀 설정이 바뀌어도 함께 바뀝니다.
+   * 최대 스레드 수의 2배로 하되 큐 용량을 넘지 않습니다. 태스크는 끝나기 직전에 허가를 반납하므로
+   * 모든 스레드가 아직 반환되지 않은 순간에도 창 안의 태스크는 모두 큐에 들어갈 수 있어 제출이 거부되지 않습니다.
    *
-   * @param futures CompletableFuture 리스트
-   * @return 수집된 결과 리스트
-   * @since 1.0
+   * @return 최대 스레드 수의 2배와 큐 용량 중 작은 값 (최소 1)
+   *     (설정을 알 수 없는 Executor이면 {@value #DEFAULT_IN_FLIGHT_TASKS})
    */
-  private List<SyncResult> waitForAllTasksAndCollectResults(
-      List<CompletableFuture<SyncResult>> futures
-  ) {
-    CompletableFuture<Void> allTasks = CompletableFuture.allOf(
-        futures.toArray(new CompletableFuture[0])
-    );
-
-    try {
-      allTasks.join(); // 모든 작업 완료까지 대기
-    } catch (CompletionException e) {
-      // 개별 작업 실패는 SyncResult.failure로 처리되므로 무시
-      log.debug("일부 병렬 작업 실패 (개별 결과에 기록됨)", e);
+  private int inFlightTaskLimit() {
+    if (holidayTaskExecutor instanceof ThreadPoolTaskExecutor pool) {
+      return windowSize(pool.getMaxPoolSize(), pool.getQueueCapacity());
+    }
+    if (holidayTaskExecutor instanceof ThreadPoolExecutor pool) {
+      return windowSize(pool.getMaximumPoolSize(), pool.getQueue().size() + pool.getQueue().remainingCapacity());
     }
+    return DEFAULT_IN_FLIGHT_TASKS;
+  }
 
-    // 모든 결과 수집 (성공/실패 모두 포함)
-    return futures.stream()
-        .map(CompletableFuture::join)
-        .toList();
+  private static int windowSize(int maxPoolSize, int queueCapacity) {
+    return (int) Math.max(1, Math.min(2L * maxPoolSize, queueCapacity));
   }
 
   /**
-   * 단일 국가-연도 조합에 대한 동기화 태스크를 생성합니다.
+   * 단일 국가-연도 조합을 동기화합니다.
    *
-   * <p>CompletableFuture를 사용하여 병렬로 실행되며,
-   * 개별 실패는 {@link SyncResult#failure}로 기록됩니다.
+   * <p>성공하면 저장 건수를, 실패하면 실패 결과를 집계기에 기록합니다.
+   * 개별 실패는 다른 태스크에 영향을 주지 않습니다.
    *
    * @param jobId Job ID
    * @param country 국가
    * @param year 연도
-   * @return CompletableFuture 태스크
+   * @param aggregator 결과 집계기
    * @since 1.0
    */
-  private CompletableFuture<SyncResult> createSyncTask(Long jobId, Country country, int year) {
-    return CompletableFuture.supplyAsync(() -> {
-      try {
-        SyncHolidayCommand syncCommand = new SyncHolidayCommand(jobId, country, year);
-        List<Holiday> holidays = holidaySyncInnerService.syncHolidaysForCountryAndYear(syncCommand);
-        return SyncResult.success(country, year, holidays.size());
-      } catch (Exception e) {
-        log.error("동기화 실패 - 국가: {}, 연도: {}, 에러: {}",
-            country.getCode(), year, e.getMessage(), e);
-        return SyncResult.failure(country, year, e.getMessage());
-      }
-    }, holidayTaskExecutor);
+  private void syncCountryAndYear(Long jobId, Country country, int year, SyncResultAggregator aggregator) {
+    try {
+      SyncHolidayCommand syncCommand = new SyncHolidayCommand(jobId, country, year);
+      aggregator.recordSuccess(holidaySyncInnerService.syncHolidaysForCountryAndYear(syncCommand));
+    } catch (Exception e) {
+      log.error("동기화 실패 - 국가: {}, 연도: {}, 에러: {}",
+          country.getCode(), year, e.getMessage(), e);
+      aggregator.recordFailure(country, year, e.getMessage());
+    }
   }
 
   /**
@@ -200,20 +238,24 @@ public class HolidayAsyncService implements UploadHolidaysUseCase, SyncHolidayDa
   }
 
   /**
-   * 지정된 연도 범위의 공휴일 데이터를 병렬로 업로드합니다.
+   * 지정된 연도 범위의 공휴일 데이터를 병렬로 동기화합니다.
    *
-   * 외부 API로 호출된 각 국가와 연도별로 공휴일을 전달 받아 저장합니다.
+   * 외부 API로 호출된 각 국가와 연도별로 공휴일을 전달 받아 기존 데이터를 교체합니다.
    * 병렬로 실행되며, 각 실행은 독립적인 트랜잭션 내에서 수행됩니다.
    *
+   * <p>기존 데이터를 미리 일괄 삭제하지 않고 (국가, 연도) 단위로 삭제와 저장을 한 트랜잭션에서 교체하므로,
+   * 동기화가 진행되는 동안에도 조회 API는 교체 전 또는 교체 후의 완전한 데이터를 반환합니다.
+   * 특정 (국가, 연도)의 동기화가 실패하면 해당 데이터는 기존 상태로 유지됩니다.
+   *
    * <p>Job 시작/완료는 {@link SyncJob} 어노테이션을 통해 AOP가 자동으로 처리합니다.
    *
    * @param command 업로드 커맨드 (연도 및 실행 타입과 외부 API 결과가 전달됩니다.)
-   * @return 동기화 결과 목록
+   * @return 동기화 집계 결과
    * @since 1.0
    */
   @Override
   @SyncJob(executionType = "#command.executionType()")
-  public List<SyncResult> syncAnnualHolidays(UploadHolidayCommand command) {
+  public SyncSummary syncAnnualHolidays(UploadHolidayCommand command) {
     YearPolicy.requireAtLeastMinYear(command.year());
     final SyncExecutionType syncExecutionType = command.executionType();
     List<Integer> years = YearRangeHelper.generateYearsFromEnd(command.year(), command.yearRangeLength());
@@ -221,15 +263,12 @@ public class HolidayAsyncService implements UploadHolidaysUseCase, SyncHolidayDa
     log.info("연간 공휴일 동기화 시작 - 연도 목록: {}, 실행 타입: {}",
         years, syncExecutionType.getDisplayName());
 
-    int deletedCount = deleteHolidaysPort.deleteByYear(years);
-    log.info("기존 공휴일 데이터 삭제 완료 - 삭제 건수: {}", deletedCount);
-
     List<Country> countries = ensureCountriesLoaded(syncExecutionType);
 
     log.info("공휴일 병렬 업로드 진행 - 국가 수: {}, 처리 연도들: {}", countries.size(), years);
-    List<SyncResult> results = fetchAndSaveHolidaysForAllCountriesAndYearsAsync(countries, years);
+    SyncSummary summary = fetchAndSaveHolidaysForAllCountriesAndYearsAsync(countries, years);
 
     log.info("연간 공휴일 동기화 완료 - 총 {}개 국가, {}개 연도 처리", countries.size(), years.size());
-    return results;
+    return summary;
   }
 }
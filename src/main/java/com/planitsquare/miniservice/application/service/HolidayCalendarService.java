@@ -0,0 +1,55 @@
+package com.planitsquare.miniservice.application.service;
+
+import com.planitsquare.miniservice.application.annotation.Workload;
+import com.planitsquare.miniservice.application.exception.CountryNotFoundException;
+import com.planitsquare.miniservice.application.port.in.ExportHolidayCalendarUseCase;
+import com.planitsquare.miniservice.application.port.in.HolidayCalendarQuery;
+import com.planitsquare.miniservice.application.port.in.HolidayCalendarWriter;
+import com.planitsquare.miniservice.application.port.out.FindCountryPort;
+import com.planitsquare.miniservice.application.port.out.FindHolidaysPort;
+import com.planitsquare.miniservice.application.util.WorkloadType;
+import com.planitsquare.miniservice.common.UseCase;
+import com.planitsquare.miniservice.domain.model.Holiday;
+import com.planitsquare.miniservice.domain.vo.Country;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 공휴일 달력 내보내기 Application Service.
+ *
+ * <p>연도 범위를 한 해씩 조회하여 조회한 공휴일을 바로 출력 대상에 전달합니다.
+ * 메모리에는 한 해의 공휴일만 올라오고, 트랜잭션과 커넥션은 연도별 조회 동안에만 점유하므로
+ * 느린 클라이언트에게 응답을 쓰는 동안 커넥션을 붙잡지 않습니다.
+ *
+ * @since 1.0
+ */
+@UseCase
+@RequiredArgsConstructor
+@Workload(WorkloadType.API_READ)
+public class HolidayCalendarService implements ExportHolidayCalendarUseCase {
+
+  private final FindCountryPort findCountryPort;
+  private final FindHolidaysPort findHolidaysPort;
+
+  /**
+   * 공휴일 달력을 내보냅니다.
+   *
+   * @param query 달력 내보내기 쿼리
+   * @param writer 공휴일을 받아 쓸 출력 대상
+   * @throws CountryNotFoundException 국가 코드가 존재하지 않는 경우 ({@link HolidayCalendarWriter#begin} 호출 전)
+   * @since 1.0
+   */
+  @Override
+  public void export(HolidayCalendarQuery query, HolidayCalendarWriter writer) {
+    final Country country = findCountryPort.findByCode(query.countryCode().code())
+        .orElseThrow(() -> new CountryNotFoundException(
+            query.countryCode().code() + "의 해당하는 국가 코드가 존재하지 않습니다."));
+
+    writer.begin(country);
+    for (int year = query.fromYear(); year <= query.toYear(); year++) {
+      for (Holiday holiday : findHolidaysPort.findByYearAndCountryCode(year, query.countryCode())) {
+        writer.write(holiday);
+      }
+    }
+    writer.end();
+  }
+}
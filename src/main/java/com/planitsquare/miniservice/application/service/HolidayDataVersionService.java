@@ -0,0 +1,199 @@
+package com.planitsquare.miniservice.application.service;
+
+import com.planitsquare.miniservice.application.event.HolidaysChangedEvent;
+import com.planitsquare.miniservice.application.port.in.GetHolidayDataVersionUseCase;
+import com.planitsquare.miniservice.application.port.in.HolidayDataVersion;
+import com.planitsquare.miniservice.application.port.in.RefreshHolidayDataVersionUseCase;
+import com.planitsquare.miniservice.application.port.in.SearchHolidaysQuery;
+import com.planitsquare.miniservice.application.port.out.HolidayYearVersion;
+import com.planitsquare.miniservice.application.port.out.LoadHolidayDataVersionsPort;
+import com.planitsquare.miniservice.common.UseCase;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 공휴일 데이터 버전 Application Service.
+ *
+ * <p>공휴일 변경과 같은 트랜잭션에서 데이터베이스에 기록된 (국가, 연도)별 누적 변경 횟수를 보관하고,
+ * 검색 조건의 버전을 조건이 조회할 수 있는 (국가, 연도)의 변경 횟수 합계로 계산합니다.
+ * 합계에는 버전 행의 세대 값을 함께 합쳐, 데이터베이스를 새로 만든 뒤 같은 변경 횟수가 다시 나와도 버전이 겹치지 않습니다.
+ * <ul>
+ *   <li>연도와 국가: 해당 (국가, 연도)의 변경 횟수</li>
+ *   <li>연도만: 해당 연도의 모든 국가의 변경 횟수 합계</li>
+ *   <li>국가만: 해당 국가의 모든 연도의 변경 횟수 합계</li>
+ *   <li>둘 다 없음: 전체 변경 횟수 합계</li>
+ * </ul>
+ * 국가의 연도 범위 버전은 범위에 속한 (국가, 연도)의 변경 횟수 합계입니다.
+ * 변경 횟수는 줄어들지 않으므로 범위 안의 어느 (국가, 연도)가 변경되어도 합계가 커집니다.
+ *
+ * <p>이 인스턴스의 변경은 커밋 이후 {@link HolidaysChangedEvent}를 받아 바로 다시 읽고,
+ * 다른 인스턴스의 변경은 {@link #refreshIfChanged()}로 주기적으로 확인합니다.
+ * 다시 읽을 때 이 인스턴스에 이벤트가 발행되지 않은 (국가, 연도)의 버전이 바뀌었으면, 다음 확인에서
+ * 국가별로 {@link HolidaysChangedEvent#ofRemote}를 발행하여 이 인스턴스의 캐시도 무효화되도록 합니다.
+ * 버전을 먼저 조회한 뒤 검색하면 변경 이전 버전으로 변경 이후 데이터를 반환할 수는 있어도(다음 요청에서 다시 받음)
+ * 그 반대는 일어나지 않습니다.
+ *
+ * @since 1.0
+ */
+@UseCase
+@RequiredArgsConstructor
+@Slf4j
+public class HolidayDataVersionService implements GetHolidayDataVersionUseCase, RefreshHolidayDataVersionUseCase {
+
+  private final LoadHolidayDataVersionsPort loadHolidayDataVersionsPort;
+  private final ApplicationEventPublisher eventPublisher;
+
+  private volatile Versions versions;
+
+  /**
+   * 버전이 바뀌었지만 아직 이벤트가 발행되지 않은 (국가, 연도). {@code this}로 보호합니다.
+   */
+  private final Set<CountryYear> unannounced = new HashSet<>();
+
+  @Override
+  public HolidayDataVersion getVersion(SearchHolidaysQuery query) {
+    final Versions current = currentVersions();
+    final Integer year = query.getYear();
+    final String countryCode = query.getCountryCode() != null ? query.getCountryCode().toUpperCase() : null;
+
+    if (year != null && countryCode != null) {
+      return current.countryYears().getOrDefault(new CountryYear(countryCode, year), HolidayDataVersion.NONE);
+    }
+    if (year != null) {
+      return current.years().getOrDefault(year, HolidayDataVersion.NONE);
+    }
+    if (countryCode != null) {
+      return current.countries().getOrDefault(countryCode, HolidayDataVersion.NONE);
+    }
+    return current.total();
+  }
+
+  @Override
+  public HolidayDataVersion getVersion(CountryCode countryCode, int fromYear, int toYear) {
+    final Versions current = currentVersions();
+    HolidayDataVersion version = HolidayDataVersion.NONE;
+    for (int year = fromYear; year <= toYear; year++) {
+      version = version.plus(
+          current.countryYears().getOrDefault(new CountryYear(countryCode.code(), year), HolidayDataVersion.NONE));
+    }
+    return version;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>이 인스턴스에 이벤트가 발행되지 않은 변경이 있으면 국가별로 {@link HolidaysChangedEvent#ofRemote}를 발행합니다.
+   * 트랜잭션 밖에서 호출되므로 이벤트는 바로 처리됩니다.
+   */
+  @Override
+  public boolean refreshIfChanged() {
+    final Versions current = versions;
+    final boolean changed = current == null
+        || loadHolidayDataVersionsPort.sumVersions() != current.total().changeCount();
+    if (changed) {
+      refresh(null);
+    }
+    announceRemoteChanges();
+    return changed;
+  }
+
+  /**
+   * 공휴일 변경 시 버전을 다시 읽습니다.
+   *
+   * <p>트랜잭션 안에서 발행된 경우 커밋 이후에 실행됩니다.
+   * 다른 인스턴스의 변경 이벤트는 {@link #refreshIfChanged()}가 버전을 읽은 뒤 발행하므로 다시 읽지 않습니다.
+   *
+   * @param event 공휴일 변경 이벤트
+   * @since 1.0
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onHolidaysChanged(HolidaysChangedEvent event) {
+    if (event.remote()) {
+      return;
+    }
+    refresh(event);
+  }
+
+  private Versions currentVersions() {
+    final Versions current = versions;
+    return current != null ? current : refresh(null);
+  }
+
+  /**
+   * 모든 (국가, 연도)의 버전을 다시 읽습니다.
+   *
+   * <p>동시에 다시 읽지 않도록 하여, 나중에 읽은 버전이 먼저 읽은 버전으로 덮어써지지 않습니다.
+   * 처음 읽는 경우가 아니면 버전이 바뀐 (국가, 연도) 중 {@code announced}가 다루지 않는 것을 발행 대상으로 기록합니다.
+   *
+   * @param announced 이미 발행된 변경 이벤트 (없으면 {@code null})
+   */
+  private synchronized Versions refresh(HolidaysChangedEvent announced) {
+    final Versions previous = versions;
+    final Versions loaded = Versions.from(loadHolidayDataVersionsPort.loadVersions());
+    versions = loaded;
+    if (previous != null) {
+      loaded.countryYears().forEach((countryYear, version) -> {
+        if (!Objects.equals(previous.countryYears().get(countryYear), version)
+            && (announced == null || !announced.affects(new CountryCode(countryYear.countryCode()), countryYear.year()))) {
+          unannounced.add(countryYear);
+        }
+      });
+    }
+    return loaded;
+  }
+
+  private void announceRemoteChanges() {
+    final Map<String, List<Integer>> yearsByCountry = new TreeMap<>();
+    synchronized (this) {
+      for (CountryYear countryYear : unannounced) {
+        yearsByCountry.computeIfAbsent(countryYear.countryCode(), code -> new ArrayList<>()).add(countryYear.year());
+      }
+      unannounced.clear();
+    }
+    yearsByCountry.forEach((countryCode, years) -> {
+      log.debug("다른 인스턴스의 공휴일 변경 반영 - 국가 코드: {}, 연도: {}", countryCode, years);
+      eventPublisher.publishEvent(HolidaysChangedEvent.ofRemote(new CountryCode(countryCode), years));
+    });
+  }
+
+  private record CountryYear(String countryCode, int year) {
+  }
+
+  /**
+   * 한 번에 읽은 버전과 연도별, 국가별, 전체 합계.
+   */
+  private record Versions(
+      Map<CountryYear, HolidayDataVersion> countryYears,
+      Map<Integer, HolidayDataVersion> years,
+      Map<String, HolidayDataVersion> countries,
+      HolidayDataVersion total
+  ) {
+
+    static Versions from(List<HolidayYearVersion> loaded) {
+      final Map<CountryYear, HolidayDataVersion> countryYears = new HashMap<>();
+      final Map<Integer, HolidayDataVersion> years = new HashMap<>();
+      final Map<String, HolidayDataVersion> countries = new HashMap<>();
+      HolidayDataVersion total = HolidayDataVersion.NONE;
+      for (HolidayYearVersion loadedVersion : loaded) {
+        final HolidayDataVersion version = new HolidayDataVersion(loadedVersion.generation(), loadedVersion.version());
+        countryYears.put(new CountryYear(loadedVersion.countryCode().code(), loadedVersion.year()), version);
+        years.merge(loadedVersion.year(), version, HolidayDataVersion::plus);
+        countries.merge(loadedVersion.countryCode().code(), version, HolidayDataVersion::plus);
+        total = total.plus(version);
+      }
+      return new Versions(Map.copyOf(countryYears), Map.copyOf(years), Map.copyOf(countries), total);
+    }
+  }
+}
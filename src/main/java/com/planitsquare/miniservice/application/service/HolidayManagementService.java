@@ -1,5 +1,6 @@
 package com.planitsquare.miniservice.application.service;
 
+import com.planitsquare.miniservice.application.event.HolidaysChangedEvent;
 import com.planitsquare.miniservice.application.exception.CountryNotFoundException;
 import com.planitsquare.miniservice.application.port.in.*;
 import com.planitsquare.miniservice.application.port.out.DeleteHolidaysPort;
@@ -10,6 +11,7 @@ import com.planitsquare.miniservice.domain.model.Holiday;
 import com.planitsquare.miniservice.domain.vo.CountryCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -31,6 +33,7 @@ public class HolidayManagementService implements DeleteHolidaysUseCase, RefreshH
   private final DeleteHolidaysPort deleteHolidaysPort;
   private final SaveAllHolidaysPort saveAllHolidaysPort;
   private final SyncJobValidator syncJobValidator;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * 특정 연도와 국가의 공휴일을 삭제합니다.
@@ -52,6 +55,7 @@ public class HolidayManagementService implements DeleteHolidaysUseCase, RefreshH
     validateCountryExists(countryCode);
 
     int deletedCount = deleteHolidaysPort.deleteByYearAndCountryCode(year, countryCode);
+    eventPublisher.publishEvent(HolidaysChangedEvent.of(countryCode, year));
     log.info("공휴일 삭제 완료 - 연도: {}, 국가 코드: {}, 삭제 건수: {}",
         year, countryCode.code(), deletedCount);
 
@@ -81,6 +85,7 @@ public class HolidayManagementService implements DeleteHolidaysUseCase, RefreshH
 
     final int deletedCount = deleteHolidaysPort.deleteByYearAndCountryCode(year, countryCode);
     saveAllHolidaysPort.saveAllHolidays(holidays);
+    eventPublisher.publishEvent(HolidaysChangedEvent.of(countryCode, year));
 
     log.info("공휴일 리프레시 완료 - 연도: {}, 국가 코드: {}, 삭제: {}, 삽입: {}",
         year, countryCode.code(), deletedCount, holidays.size());
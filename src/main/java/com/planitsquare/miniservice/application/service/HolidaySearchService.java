@@ -1,30 +1,77 @@
 package com.planitsquare.miniservice.application.service;
 
+import com.planitsquare.miniservice.application.annotation.ReplicaRead;
+import com.planitsquare.miniservice.application.annotation.Workload;
+import com.planitsquare.miniservice.application.port.in.HolidayLookupKey;
+import com.planitsquare.miniservice.application.port.in.HolidayLookupResult;
+import com.planitsquare.miniservice.application.port.in.HolidayView;
+import com.planitsquare.miniservice.application.port.in.LookupHolidaysQuery;
+import com.planitsquare.miniservice.application.port.in.LookupHolidaysUseCase;
 import com.planitsquare.miniservice.application.port.in.SearchHolidaysQuery;
 import com.planitsquare.miniservice.application.port.in.SearchHolidaysUseCase;
+import com.planitsquare.miniservice.application.port.out.FindHolidaysPort;
 import com.planitsquare.miniservice.application.port.out.SearchHolidaysPort;
+import com.planitsquare.miniservice.application.util.WorkloadType;
 import com.planitsquare.miniservice.domain.model.Holiday;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 /**
  * 공휴일 검색 Application Service.
  *
- * <p>공휴일 검색 Use Case를 구현합니다.
+ * <p>공휴일 검색 및 (국가, 날짜) 일괄 조회 Use Case를 구현합니다.
+ * 조회는 동기화 쓰기와 커넥션 풀을 나누어 쓰도록 읽기 전용 복제본에서 실행될 수 있습니다({@link ReplicaRead}).
  *
  * @since 1.0
  */
 @Service
 @RequiredArgsConstructor
+@ReplicaRead
+@Workload(WorkloadType.API_READ)
 @Transactional(readOnly = true)
-public class HolidaySearchService implements SearchHolidaysUseCase {
+public class HolidaySearchService implements SearchHolidaysUseCase, LookupHolidaysUseCase {
 
   private final SearchHolidaysPort searchHolidaysPort;
+  private final FindHolidaysPort findHolidaysPort;
 
   @Override
-  public Page<Holiday> search(SearchHolidaysQuery query) {
+  public Slice<HolidayView> search(SearchHolidaysQuery query) {
     return searchHolidaysPort.searchHolidays(query);
   }
+
+  /**
+   * (국가, 날짜) 목록의 공휴일을 한 번의 쿼리로 조회합니다.
+   *
+   * <p>요청에 포함된 국가 코드 집합과 날짜 집합으로 상위 집합을 조회한 뒤,
+   * 메모리에서 (국가, 날짜) 키로 그룹핑하여 요청 순서대로 결과를 구성합니다.
+   *
+   * @param query 일괄 조회 쿼리
+   * @return 요청 순서와 동일한 순서의 조회 결과 목록
+   */
+  @Override
+  public List<HolidayLookupResult> lookup(LookupHolidaysQuery query) {
+    final Set<CountryCode> countryCodes = query.keys().stream()
+        .map(HolidayLookupKey::countryCode)
+        .collect(Collectors.toSet());
+    final Set<LocalDate> dates = query.keys().stream()
+        .map(HolidayLookupKey::date)
+        .collect(Collectors.toSet());
+
+    final Map<HolidayLookupKey, List<Holiday>> holidaysByKey = findHolidaysPort
+        .findAllByCountryCodesAndDates(countryCodes, dates).stream()
+        .collect(Collectors.groupingBy(h -> new HolidayLookupKey(h.getCountry().code(), h.getDate())));
+
+    return query.keys().stream()
+        .map(key -> new HolidayLookupResult(key, holidaysByKey.getOrDefault(key, List.of())))
+        .toList();
+  }
 }
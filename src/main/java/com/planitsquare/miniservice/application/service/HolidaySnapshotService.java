@@ -0,0 +1,119 @@
+package com.planitsquare.miniservice.application.service;
+
+import com.planitsquare.miniservice.application.event.HolidaysChangedEvent;
+import com.planitsquare.miniservice.application.event.SyncJobCompletedEvent;
+import com.planitsquare.miniservice.application.port.in.RestoreHolidaySnapshotUseCase;
+import com.planitsquare.miniservice.application.port.out.HolidaySnapshotPort;
+import com.planitsquare.miniservice.application.port.out.SyncJobLease;
+import com.planitsquare.miniservice.application.port.out.SyncJobLockPort;
+import com.planitsquare.miniservice.common.UseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 공휴일 스냅샷 Application Service.
+ *
+ * <p>스냅샷은 다음 시점에 다시 내보냅니다.
+ * <ul>
+ *   <li>동기화 Job 완료 시 ({@link SyncJobCompletedEvent})</li>
+ *   <li>동기화 Job 밖에서 공휴일이 삭제되거나 덮어쓰기 된 경우 ({@link HolidaysChangedEvent}).
+ *       Job 실행 중의 (국가, 연도)별 변경은 Job 완료 시 한 번에 반영합니다.</li>
+ * </ul>
+ *
+ * <p>내보내기는 전체 국가와 공휴일을 읽어 압축하고 파일로 쓰므로, 이벤트를 발행한 요청 스레드에서 실행하지 않고
+ * {@code holidaySnapshotExecutor}(단일 스레드)에 넘깁니다. 아직 시작하지 않은 내보내기가 있으면 새 요청은 그 내보내기에 합쳐지므로,
+ * 갱신/삭제 요청이 몰려도 내보내기는 진행 중인 것 하나와 대기 중인 것 하나를 넘지 않고, 요청 처리 비용은 변경 규모와 무관합니다.
+ * 대기 중인 내보내기는 시작할 때 데이터를 읽으므로 합쳐진 모든 변경을 담습니다.
+ *
+ * <p>스냅샷 적재는 동기화 Job 락을 잡은 상태에서 수행하여, 여러 인스턴스가 같은 DB에 동시에 적재하지 않도록 합니다.
+ *
+ * @since 1.0
+ */
+@UseCase
+@RequiredArgsConstructor
+@Slf4j
+public class HolidaySnapshotService implements RestoreHolidaySnapshotUseCase {
+
+  private final HolidaySnapshotPort holidaySnapshotPort;
+  private final SyncJobLockPort syncJobLockPort;
+  private final ApplicationEventPublisher eventPublisher;
+  private final Executor holidaySnapshotExecutor;
+
+  private final AtomicBoolean exportPending = new AtomicBoolean();
+
+  @Override
+  public List<Integer> restoreSnapshot() {
+    final Optional<SyncJobLease> lease = syncJobLockPort.tryAcquire();
+    if (lease.isEmpty()) {
+      log.info("다른 인스턴스에서 동기화 중이므로 공휴일 스냅샷을 적재하지 않습니다.");
+      return List.of();
+    }
+
+    try (SyncJobLease ignored = lease.get()) {
+      final List<Integer> years = holidaySnapshotPort.restoreSnapshot();
+      if (!years.isEmpty()) {
+        eventPublisher.publishEvent(HolidaysChangedEvent.ofAllCountries(years));
+      }
+      return years;
+    }
+  }
+
+  /**
+   * 동기화 Job이 완료되면 스냅샷을 내보냅니다.
+   *
+   * @param event Job 완료 이벤트
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onSyncJobCompleted(SyncJobCompletedEvent event) {
+    requestExport();
+  }
+
+  /**
+   * 동기화 Job 밖에서 공휴일이 변경되면 스냅샷을 내보냅니다.
+   *
+   * <p>다른 인스턴스의 변경은 변경한 인스턴스가 내보내므로 건너뜁니다.
+   *
+   * @param event 공휴일 변경 이벤트
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onHolidaysChanged(HolidaysChangedEvent event) {
+    if (event.remote() || syncJobLockPort.isLocked()) {
+      return;
+    }
+    requestExport();
+  }
+
+  /**
+   * 스냅샷 내보내기를 예약합니다.
+   *
+   * <p>아직 시작하지 않은 내보내기가 있으면 새로 예약하지 않습니다.
+   */
+  private void requestExport() {
+    if (!exportPending.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      holidaySnapshotExecutor.execute(this::export);
+    } catch (RuntimeException e) {
+      exportPending.set(false);
+      log.warn("공휴일 스냅샷 내보내기 예약 실패 - 다음 변경 시 다시 시도합니다: {}", e.getMessage());
+    }
+  }
+
+  private void export() {
+    // 데이터를 읽기 전에 해제하여, 읽는 동안 들어온 변경은 다음 내보내기로 예약되도록 합니다.
+    exportPending.set(false);
+    try {
+      holidaySnapshotPort.exportSnapshot();
+    } catch (RuntimeException e) {
+      log.warn("공휴일 스냅샷 내보내기 실패 - 다음 동기화 후 다시 시도합니다: {}", e.getMessage(), e);
+    }
+  }
+}
@@ -1,11 +1,13 @@
 package com.planitsquare.miniservice.application.service;
 
 import com.planitsquare.miniservice.application.annotation.RecordSyncHistory;
+import com.planitsquare.miniservice.application.event.HolidaysChangedEvent;
 import com.planitsquare.miniservice.application.port.out.FetchHolidaysPort;
-import com.planitsquare.miniservice.application.port.out.SaveAllHolidaysPort;
+import com.planitsquare.miniservice.application.port.out.ReplaceHolidaysPort;
 import com.planitsquare.miniservice.domain.model.Holiday;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -24,24 +26,32 @@ import java.util.List;
 public class HolidaySyncInnerService {
 
   private final FetchHolidaysPort fetchHolidaysPort;
-  private final SaveAllHolidaysPort saveAllHolidaysPort;
-
+  private final ReplaceHolidaysPort replaceHolidaysPort;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
-   * 특정 국가와 연도에 대해 공휴일을 조회하고 저장합니다.
+   * 특정 국가와 연도에 대해 공휴일을 조회하고 기존 공휴일을 교체합니다.
    *
    * <p>동기화 작업의 성공/실패 이력은 {@link RecordSyncHistory} 어노테이션을 통해 AOP가 자동으로 기록합니다.
    *
    * <p>트랜잭션 범위:
    * <ul>
    *   <li>외부 API 호출 (fetchHolidaysPort): 트랜잭션 밖에서 실행</li>
-   *   <li>저장 (saveAllHolidaysPort): Persistence Adapter에서 트랜잭션 시작</li>
+   *   <li>교체 (replaceHolidaysPort): Persistence Adapter에서 트랜잭션 시작, 기존 데이터 삭제와 저장을 한 번에 커밋</li>
    * </ul>
    * 이를 통해 외부 API 호출 시간이 트랜잭션 시간에 포함되지 않아 효율적입니다.
    * 각 호출은 독립적인 트랜잭션으로 실행되어 개별 실패가 다른 작업에 영향을 주지 않습니다.
    *
+   * <p>새 데이터는 커밋 시점에 기존 데이터와 원자적으로 교체되므로, 동기화 중에도 조회 측에는
+   * 해당 (국가, 연도)의 공휴일이 비어 보이지 않습니다.
+   *
+   * <p>저장이 끝나면 {@link HolidaysChangedEvent}를 발행하여 (국가, 연도) 단위 캐시를 무효화합니다.
+   *
+   * <p>조회한 공휴일 목록은 저장 후 반환하지 않고 건수만 반환하므로, 호출 측이 결과를 모으는 동안
+   * 공휴일 데이터가 메모리에 남지 않습니다.
+   *
    * @param command 동기화 커맨드 (Job ID, 국가, 연도 포함)
-   * @return 저장된 공휴일 목록
+   * @return 저장된 공휴일 수
    * @since 1.0
    */
   @RecordSyncHistory(
@@ -49,16 +59,17 @@ public class HolidaySyncInnerService {
       country = "#command.country()",
       year = "#command.year()"
   )
-  public List<Holiday> syncHolidaysForCountryAndYear(SyncHolidayCommand command) {
+  public int syncHolidaysForCountryAndYear(SyncHolidayCommand command) {
     log.debug("공휴일 조회 시작 - 국가: {}, 연도: {}",
         command.country().getCode(), command.year());
 
     List<Holiday> holidays = fetchHolidaysPort.fetchHolidays(command.year(), command.country());
-    saveAllHolidaysPort.saveAllHolidays(holidays);
+    int replacedCount = replaceHolidaysPort.replaceHolidays(command.year(), command.country().code(), holidays);
+    eventPublisher.publishEvent(HolidaysChangedEvent.of(command.country().code(), command.year()));
 
-    log.debug("공휴일 저장 완료 - 국가: {}, 연도: {}, 건수: {}",
-        command.country().getCode(), command.year(), holidays.size());
+    log.debug("공휴일 교체 완료 - 국가: {}, 연도: {}, 기존: {}, 신규: {}",
+        command.country().getCode(), command.year(), replacedCount, holidays.size());
 
-    return holidays;
+    return holidays.size();
   }
 }
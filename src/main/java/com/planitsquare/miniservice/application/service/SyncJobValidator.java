@@ -1,7 +1,7 @@
 package com.planitsquare.miniservice.application.service;
 
 import com.planitsquare.miniservice.application.exception.JobAlreadyRunningException;
-import com.planitsquare.miniservice.application.port.out.SyncJobPort;
+import com.planitsquare.miniservice.application.port.out.SyncJobLockPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -10,6 +10,8 @@ import org.springframework.stereotype.Component;
  * 동기화 Job 상태를 검증하는 Validator.
  *
  * <p>Job 실행 전에 실행 중인 Job이 있는지 확인하여 데이터 무결성을 보장합니다.
+ * 실행 여부는 동기화 Job 분산 락의 보유 여부로 판단하므로, 다른 인스턴스에서 실행 중인 Job도 감지하며
+ * 비정상 종료된 인스턴스가 남긴 RUNNING Job 기록에는 막히지 않습니다.
  *
  * @since 1.0
  */
@@ -18,7 +20,7 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class SyncJobValidator {
 
-  private final SyncJobPort syncJobPort;
+  private final SyncJobLockPort syncJobLockPort;
 
   /**
    * 현재 실행 중인 Job이 없는지 검증합니다.
@@ -27,7 +29,7 @@ public class SyncJobValidator {
    * @since 1.0
    */
   public void validateNoRunningJob() {
-    if (syncJobPort.hasRunningJob()) {
+    if (syncJobLockPort.isLocked()) {
       log.warn("Job 실행 실패 - 이미 실행 중인 Job이 존재합니다.");
       throw new JobAlreadyRunningException();
     }
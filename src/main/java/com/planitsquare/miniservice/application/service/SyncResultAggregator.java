@@ -0,0 +1,90 @@
+package com.planitsquare.miniservice.application.service;
+
+import com.planitsquare.miniservice.domain.vo.Country;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동기화 작업 결과 집계기.
+ *
+ * <p>작업이 끝날 때마다 여러 스레드에서 잠금 없이 결과를 누적합니다.
+ * 성공한 작업은 건수만 남기고, 실패한 작업은 최대 {@code maxFailures}개까지만 보관하므로
+ * Job 규모와 관계없이 일정한 메모리를 사용합니다.
+ *
+ * @since 1.0
+ */
+public final class SyncResultAggregator {
+
+  /**
+   * 기본 실패 결과 최대 보관 수.
+   */
+  public static final int DEFAULT_MAX_FAILURES = 100;
+
+  private final int maxFailures;
+  private final LongAdder successCount = new LongAdder();
+  private final LongAdder failureCount = new LongAdder();
+  private final LongAdder syncedHolidayCount = new LongAdder();
+  private final AtomicInteger retainedFailures = new AtomicInteger();
+  private final Queue<SyncResult> failures = new ConcurrentLinkedQueue<>();
+
+  /**
+   * 기본 실패 결과 보관 수로 집계기를 생성합니다.
+   */
+  public SyncResultAggregator() {
+    this(DEFAULT_MAX_FAILURES);
+  }
+
+  /**
+   * 집계기를 생성합니다.
+   *
+   * @param maxFailures 실패 결과 최대 보관 수
+   */
+  public SyncResultAggregator(int maxFailures) {
+    this.maxFailures = maxFailures;
+  }
+
+  /**
+   * 성공한 작업을 기록합니다.
+   *
+   * @param syncedCount 저장된 공휴일 수
+   */
+  public void recordSuccess(int syncedCount) {
+    successCount.increment();
+    syncedHolidayCount.add(syncedCount);
+  }
+
+  /**
+   * 실패한 작업을 기록합니다.
+   *
+   * @param country 국가
+   * @param year 연도
+   * @param errorMessage 에러 메시지
+   */
+  public void recordFailure(Country country, int year, String errorMessage) {
+    failureCount.increment();
+    if (retainedFailures.getAndIncrement() < maxFailures) {
+      failures.add(SyncResult.failure(country, year, errorMessage));
+    }
+  }
+
+  /**
+   * 지금까지 기록된 결과를 집계합니다.
+   *
+   * <p>모든 작업이 끝난 뒤에 호출해야 정확한 결과를 얻을 수 있습니다.
+   *
+   * @return 집계 결과
+   */
+  public SyncSummary summarize() {
+    final int success = successCount.intValue();
+    final int failure = failureCount.intValue();
+    return new SyncSummary(
+        new SyncStats(success + failure, success, failure),
+        syncedHolidayCount.sum(),
+        List.copyOf(failures)
+    );
+  }
+}
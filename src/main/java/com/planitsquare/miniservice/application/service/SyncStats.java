@@ -1,7 +1,5 @@
 package com.planitsquare.miniservice.application.service;
 
-import java.util.List;
-
 /**
  * 비동기 동기화 작업의 통계 정보를 나타내는 Value Object.
  *
@@ -18,23 +16,6 @@ public record SyncStats(
     int failureCount
 ) {
 
-  /**
-   * SyncResult 리스트로부터 통계를 생성합니다.
-   *
-   * @param results 동기화 결과 리스트
-   * @return 집계된 통계
-   * @since 1.0
-   */
-  public static SyncStats from(List<SyncResult> results) {
-    int total = results.size();
-    long successCount = results.stream()
-        .filter(SyncResult::isSuccess)
-        .count();
-    int failureCount = total - (int) successCount;
-
-    return new SyncStats(total, (int) successCount, failureCount);
-  }
-
   /**
    * 모든 작업이 성공했는지 확인합니다.
    *
@@ -0,0 +1,45 @@
+package com.planitsquare.miniservice.application.service;
+
+import java.util.List;
+
+/**
+ * 동기화 Job 전체의 집계 결과를 나타내는 Value Object.
+ *
+ * <p>작업별 결과를 모두 보관하지 않고 건수만 집계하며,
+ * 실패한 작업은 원인 확인을 위해 앞에서부터 정해진 수까지만 보관합니다.
+ *
+ * @param stats 작업 수 통계
+ * @param syncedHolidayCount 저장된 공휴일 수
+ * @param failures 실패한 작업 결과 (최대 보관 수까지)
+ * @since 1.0
+ */
+public record SyncSummary(
+    SyncStats stats,
+    long syncedHolidayCount,
+    List<SyncResult> failures
+) {
+
+  public SyncSummary {
+    failures = List.copyOf(failures);
+  }
+
+  /**
+   * 처리한 작업이 없는 결과를 생성합니다.
+   *
+   * @return 빈 집계 결과
+   * @since 1.0
+   */
+  public static SyncSummary empty() {
+    return new SyncSummary(new SyncStats(0, 0, 0), 0, List.of());
+  }
+
+  /**
+   * 집계 결과를 로그 형식의 문자열로 반환합니다.
+   *
+   * @return 집계 결과 문자열
+   * @since 1.0
+   */
+  public String toLogString() {
+    return String.format("%s, 저장 공휴일: %d", stats.toLogString(), syncedHolidayCount);
+  }
+}
@@ -0,0 +1,65 @@
+package com.planitsquare.miniservice.application.util;
+
+/**
+ * 현재 스레드의 조회가 읽기 전용 복제본을 사용해도 되는지 관리하는 컨텍스트 유틸리티.
+ *
+ * <p>{@link com.planitsquare.miniservice.application.annotation.ReplicaRead}가 적용된 메서드를 실행하는 동안 활성화되며,
+ * 데이터소스 라우팅이 이 값을 참조하여 읽기 전용 커넥션을 복제본으로 보낼지 결정합니다.
+ *
+ * <p>사용 예시:
+ * <pre>{@code
+ * boolean previous = ReplicaReadContext.activate();
+ * try {
+ *   // 복제본 조회 허용
+ * } finally {
+ *   ReplicaReadContext.restore(previous);
+ * }
+ * }</pre>
+ *
+ * @since 1.0
+ */
+public final class ReplicaReadContext {
+
+  private static final ThreadLocal<Boolean> activeHolder = new ThreadLocal<>();
+
+  /**
+   * 유틸리티 클래스이므로 인스턴스화 방지.
+   */
+  private ReplicaReadContext() {
+    throw new AssertionError("Utility class should not be instantiated");
+  }
+
+  /**
+   * 현재 스레드에서 복제본 조회를 허용합니다.
+   *
+   * @return 호출 전 활성화 여부 ({@link #restore}에 전달)
+   * @since 1.0
+   */
+  public static boolean activate() {
+    final boolean previous = isActive();
+    activeHolder.set(Boolean.TRUE);
+    return previous;
+  }
+
+  /**
+   * 현재 스레드의 복제본 조회 허용 여부를 {@link #activate} 호출 전 상태로 되돌립니다.
+   *
+   * @param previous {@link #activate}가 반환한 값
+   * @since 1.0
+   */
+  public static void restore(boolean previous) {
+    if (!previous) {
+      activeHolder.remove();
+    }
+  }
+
+  /**
+   * 현재 스레드에서 복제본 조회가 허용되었는지 확인합니다.
+   *
+   * @return 허용되었으면 {@code true}
+   * @since 1.0
+   */
+  public static boolean isActive() {
+    return Boolean.TRUE.equals(activeHolder.get());
+  }
+}
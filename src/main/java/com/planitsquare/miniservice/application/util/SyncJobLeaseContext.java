@@ -0,0 +1,77 @@
+package com.planitsquare.miniservice.application.util;
+
+import com.planitsquare.miniservice.application.exception.SyncJobLeaseLostException;
+import com.planitsquare.miniservice.application.port.out.SyncJobLease;
+
+/**
+ * 현재 스레드에서 실행 중인 동기화 Job의 락 임대를 관리하는 컨텍스트 유틸리티.
+ *
+ * <p>{@link JobIdContext}와 같이 AOP에서 락을 획득한 뒤 설정하고, 비동기 스레드로 함께 전파됩니다.
+ * 작업 루프와 저장 경로는 이 임대로 Job이 아직 락을 보유 중인지 확인하여, 임대를 잃은 Job이
+ * 새 소유자의 Job과 동시에 공휴일을 저장하지 않도록 합니다.
+ *
+ * @since 1.0
+ */
+public final class SyncJobLeaseContext {
+
+  private static final ThreadLocal<SyncJobLease> leaseHolder = new ThreadLocal<>();
+
+  /**
+   * 유틸리티 클래스이므로 인스턴스화 방지.
+   */
+  private SyncJobLeaseContext() {
+    throw new AssertionError("Utility class should not be instantiated");
+  }
+
+  /**
+   * 현재 스레드에 락 임대를 설정합니다.
+   *
+   * @param lease 설정할 임대
+   * @since 1.0
+   */
+  public static void setLease(SyncJobLease lease) {
+    leaseHolder.set(lease);
+  }
+
+  /**
+   * 현재 스레드의 락 임대를 반환합니다.
+   *
+   * @return 임대, 동기화 Job 밖이면 {@code null}
+   * @since 1.0
+   */
+  public static SyncJobLease getLease() {
+    return leaseHolder.get();
+  }
+
+  /**
+   * 현재 스레드의 Job이 락 임대를 잃지 않았는지 확인합니다.
+   *
+   * @return 임대가 유효하거나 동기화 Job 밖이면 {@code true}
+   * @since 1.0
+   */
+  public static boolean isHeld() {
+    final SyncJobLease lease = leaseHolder.get();
+    return lease == null || lease.isValid();
+  }
+
+  /**
+   * 현재 스레드의 Job이 락 임대를 잃었으면 예외를 던집니다.
+   *
+   * @throws SyncJobLeaseLostException 임대를 잃은 경우
+   * @since 1.0
+   */
+  public static void ensureHeld() {
+    if (!isHeld()) {
+      throw new SyncJobLeaseLostException(leaseHolder.get().ownerId());
+    }
+  }
+
+  /**
+   * 현재 스레드의 락 임대를 제거합니다.
+   *
+   * @since 1.0
+   */
+  public static void clear() {
+    leaseHolder.remove();
+  }
+}
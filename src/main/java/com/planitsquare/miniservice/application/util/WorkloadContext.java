@@ -0,0 +1,69 @@
+package com.planitsquare.miniservice.application.util;
+
+/**
+ * 현재 스레드에서 실행 중인 작업 부하 종류를 관리하는 컨텍스트 유틸리티.
+ *
+ * <p>{@link com.planitsquare.miniservice.application.annotation.Workload}가 적용된 메서드를 실행하는 동안 설정되며,
+ * 데이터소스 라우팅이 이 값을 참조하여 어느 커넥션 풀에서 커넥션을 가져올지 결정합니다.
+ *
+ * <p>사용 예시:
+ * <pre>{@code
+ * WorkloadType previous = WorkloadContext.activate(WorkloadType.HISTORY);
+ * try {
+ *   // 이력 커넥션 풀 사용
+ * } finally {
+ *   WorkloadContext.restore(previous);
+ * }
+ * }</pre>
+ *
+ * @since 1.0
+ */
+public final class WorkloadContext {
+
+  private static final ThreadLocal<WorkloadType> workloadHolder = new ThreadLocal<>();
+
+  /**
+   * 유틸리티 클래스이므로 인스턴스화 방지.
+   */
+  private WorkloadContext() {
+    throw new AssertionError("Utility class should not be instantiated");
+  }
+
+  /**
+   * 현재 스레드의 작업 부하 종류를 설정합니다.
+   *
+   * @param workloadType 작업 부하 종류
+   * @return 호출 전 작업 부하 종류 ({@link #restore}에 전달, 설정되지 않았으면 {@code null})
+   * @since 1.0
+   */
+  public static WorkloadType activate(WorkloadType workloadType) {
+    final WorkloadType previous = workloadHolder.get();
+    workloadHolder.set(workloadType);
+    return previous;
+  }
+
+  /**
+   * 현재 스레드의 작업 부하 종류를 {@link #activate} 호출 전 상태로 되돌립니다.
+   *
+   * @param previous {@link #activate}가 반환한 값
+   * @since 1.0
+   */
+  public static void restore(WorkloadType previous) {
+    if (previous == null) {
+      workloadHolder.remove();
+    } else {
+      workloadHolder.set(previous);
+    }
+  }
+
+  /**
+   * 현재 스레드의 작업 부하 종류를 반환합니다.
+   *
+   * @return 작업 부하 종류 (설정되지 않았으면 {@link WorkloadType#SYNC})
+   * @since 1.0
+   */
+  public static WorkloadType current() {
+    final WorkloadType workloadType = workloadHolder.get();
+    return workloadType == null ? WorkloadType.SYNC : workloadType;
+  }
+}
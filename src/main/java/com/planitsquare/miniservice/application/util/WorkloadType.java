@@ -0,0 +1,26 @@
+package com.planitsquare.miniservice.application.util;
+
+/**
+ * 데이터베이스 커넥션 풀을 나누어 쓰는 작업 부하 종류.
+ *
+ * <p>종류마다 별도의 커넥션 풀을 사용하므로, 한 작업 부하가 커넥션을 모두 점유해도 다른 작업 부하는 영향을 받지 않습니다.
+ *
+ * @since 1.0
+ */
+public enum WorkloadType {
+
+  /**
+   * 공휴일 동기화 쓰기. {@link com.planitsquare.miniservice.application.annotation.Workload}가 없는 호출의 기본값입니다.
+   */
+  SYNC,
+
+  /**
+   * 동기화 이력과 Job 상태 기록. 동기화 트랜잭션이 커넥션을 가진 채로 {@code REQUIRES_NEW}로 실행됩니다.
+   */
+  HISTORY,
+
+  /**
+   * API 조회.
+   */
+  API_READ
+}
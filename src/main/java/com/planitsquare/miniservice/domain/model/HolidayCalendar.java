@@ -0,0 +1,283 @@
+package com.planitsquare.miniservice.domain.model;
+
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+import com.planitsquare.miniservice.domain.vo.HolidayType;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 국가별 연간 휴무일 달력.
+ *
+ * <p>(국가, 연도) 단위로 주말과 공휴일({@link HolidayType#PUBLIC})을 366비트 비트셋({@code long[6]})으로 표현합니다.
+ * 비트 인덱스는 {@code dayOfYear - 1}이며, 비트가 1이면 휴무일입니다.
+ * 영업일 판별과 N 영업일 이동은 워드 단위 비트 스캔으로 계산되므로 DB 조회가 필요하지 않습니다.
+ *
+ * <p>지역 공휴일은 {@link Holiday#isApplicableTo(String)} 기준으로 지역별 비트셋을 따로 구성합니다.
+ * 지역을 지정하지 않으면 전국 공휴일만 휴무일로 간주합니다.
+ *
+ * @since 1.0
+ */
+public final class HolidayCalendar {
+
+  private static final int WORDS = 6;
+  private static final int BITS_PER_WORD = 64;
+
+  private final CountryCode countryCode;
+  private final int year;
+  private final int lengthOfYear;
+  private final long[] closedDays;
+  private final Map<String, long[]> regionalClosedDays;
+
+  private HolidayCalendar(
+      CountryCode countryCode,
+      int year,
+      long[] closedDays,
+      Map<String, long[]> regionalClosedDays
+  ) {
+    this.countryCode = countryCode;
+    this.year = year;
+    this.lengthOfYear = Year.of(year).length();
+    this.closedDays = closedDays;
+    this.regionalClosedDays = regionalClosedDays;
+  }
+
+  /**
+   * 공휴일 목록으로부터 휴무일 달력을 생성합니다.
+   *
+   * <p>다른 국가나 다른 연도의 공휴일, 공휴일 타입이 아닌 휴일(은행, 기념일 등)은 무시됩니다.
+   *
+   * @param countryCode 국가 코드
+   * @param year 연도
+   * @param holidays 해당 국가의 공휴일 목록
+   * @return 휴무일 달력
+   * @throws IllegalArgumentException 국가 코드가 존재하지 않는 경우
+   */
+  public static HolidayCalendar of(CountryCode countryCode, int year, List<Holiday> holidays) {
+    if (countryCode == null) {
+      throw new IllegalArgumentException("국가 코드가 존재하지 않습니다.");
+    }
+
+    final List<Holiday> publicHolidays = holidays.stream()
+        .filter(h -> h.getCountry().isSameCountryCode(countryCode))
+        .filter(h -> h.getDate().getYear() == year)
+        .filter(h -> h.getMetadata().hasType(HolidayType.PUBLIC))
+        .toList();
+
+    final long[] nationwide = weekendsOf(year);
+    final Set<String> regions = new LinkedHashSet<>();
+    for (Holiday holiday : publicHolidays) {
+      if (holiday.isRegionalHoliday()) {
+        regions.addAll(holiday.getMetadata().applicableRegions());
+      } else {
+        set(nationwide, holiday.getDate().getDayOfYear() - 1);
+      }
+    }
+
+    final Map<String, long[]> regional = new HashMap<>();
+    for (String region : regions) {
+      long[] mask = nationwide.clone();
+      for (Holiday holiday : publicHolidays) {
+        if (holiday.isRegionalHoliday() && holiday.isApplicableTo(region)) {
+          set(mask, holiday.getDate().getDayOfYear() - 1);
+        }
+      }
+      regional.put(region, mask);
+    }
+
+    return new HolidayCalendar(countryCode, year, nationwide, Map.copyOf(regional));
+  }
+
+  /**
+   * 지정된 날짜가 영업일인지 확인합니다.
+   *
+   * @param date 확인할 날짜 (달력과 같은 연도)
+   * @param region 지역 코드 (선택)
+   * @return 주말과 공휴일이 아니면 true
+   * @throws IllegalArgumentException 날짜의 연도가 달력의 연도와 다른 경우
+   */
+  public boolean isBusinessDay(LocalDate date, String region) {
+    requireSameYear(date);
+    return !isSet(closedDaysOf(region), date.getDayOfYear() - 1);
+  }
+
+  /**
+   * 지정된 일자 이후(미포함)부터 N번째 영업일을 찾습니다.
+   *
+   * <p>이 연도 안에서 찾지 못하면 남은 영업일 수를 반환하여 다음 연도 달력에서 이어서 찾을 수 있게 합니다.
+   *
+   * @param afterDayOfYear 기준 일자 (dayOfYear, 0이면 연초부터)
+   * @param count 찾을 영업일 수 (양수)
+   * @param region 지역 코드 (선택)
+   * @return 스캔 결과
+   */
+  public ScanResult scanForward(int afterDayOfYear, int count, String region) {
+    requirePositive(count);
+    final long[] closed = closedDaysOf(region);
+    int remaining = count;
+    int start = afterDayOfYear;
+
+    for (int wordIndex = start / BITS_PER_WORD; wordIndex < WORDS; wordIndex++) {
+      long open = ~closed[wordIndex];
+      if (wordIndex == start / BITS_PER_WORD) {
+        open &= -1L << (start % BITS_PER_WORD);
+      }
+
+      int available = Long.bitCount(open);
+      if (available < remaining) {
+        remaining -= available;
+        continue;
+      }
+      for (int skip = 1; skip < remaining; skip++) {
+        open &= open - 1;
+      }
+      int bitIndex = wordIndex * BITS_PER_WORD + Long.numberOfTrailingZeros(open);
+      return ScanResult.found(LocalDate.ofYearDay(year, bitIndex + 1));
+    }
+    return ScanResult.notFound(remaining);
+  }
+
+  /**
+   * 지정된 일자 이전(미포함)부터 거꾸로 N번째 영업일을 찾습니다.
+   *
+   * <p>이 연도 안에서 찾지 못하면 남은 영업일 수를 반환하여 이전 연도 달력에서 이어서 찾을 수 있게 합니다.
+   *
+   * @param beforeDayOfYear 기준 일자 (dayOfYear, 연도 길이 + 1이면 연말부터)
+   * @param count 찾을 영업일 수 (양수)
+   * @param region 지역 코드 (선택)
+   * @return 스캔 결과
+   */
+  public ScanResult scanBackward(int beforeDayOfYear, int count, String region) {
+    requirePositive(count);
+    final long[] closed = closedDaysOf(region);
+    int remaining = count;
+    int end = beforeDayOfYear - 2;
+
+    if (end < 0) {
+      return ScanResult.notFound(remaining);
+    }
+
+    for (int wordIndex = end / BITS_PER_WORD; wordIndex >= 0; wordIndex--) {
+      long open = ~closed[wordIndex];
+      if (wordIndex == end / BITS_PER_WORD) {
+        open &= -1L >>> (BITS_PER_WORD - 1 - end % BITS_PER_WORD);
+      }
+
+      int available = Long.bitCount(open);
+      if (available < remaining) {
+        remaining -= available;
+        continue;
+      }
+      for (int skip = 1; skip < remaining; skip++) {
+        open &= ~Long.highestOneBit(open);
+      }
+      int bitIndex = wordIndex * BITS_PER_WORD + (BITS_PER_WORD - 1 - Long.numberOfLeadingZeros(open));
+      return ScanResult.found(LocalDate.ofYearDay(year, bitIndex + 1));
+    }
+    return ScanResult.notFound(remaining);
+  }
+
+  /**
+   * 달력의 국가 코드를 반환합니다.
+   *
+   * @return 국가 코드
+   */
+  public CountryCode getCountryCode() {
+    return countryCode;
+  }
+
+  /**
+   * 달력의 연도를 반환합니다.
+   *
+   * @return 연도
+   */
+  public int getYear() {
+    return year;
+  }
+
+  /**
+   * 달력 연도의 일수를 반환합니다.
+   *
+   * @return 365 또는 366
+   */
+  public int getLengthOfYear() {
+    return lengthOfYear;
+  }
+
+  private long[] closedDaysOf(String region) {
+    if (region == null || region.isBlank()) {
+      return closedDays;
+    }
+    return regionalClosedDays.getOrDefault(region.strip(), closedDays);
+  }
+
+  private void requireSameYear(LocalDate date) {
+    if (date == null || date.getYear() != year) {
+      throw new IllegalArgumentException("달력의 연도와 날짜의 연도가 다릅니다. 달력 연도: " + year);
+    }
+  }
+
+  private static void requirePositive(int count) {
+    if (count <= 0) {
+      throw new IllegalArgumentException("찾을 영업일 수는 양수여야 합니다.");
+    }
+  }
+
+  /**
+   * 주말과 연도 범위를 벗어난 패딩 비트를 휴무일로 표시한 비트셋을 생성합니다.
+   */
+  private static long[] weekendsOf(int year) {
+    final long[] mask = new long[WORDS];
+    final int length = Year.of(year).length();
+    DayOfWeek dayOfWeek = LocalDate.of(year, 1, 1).getDayOfWeek();
+
+    for (int index = 0; index < WORDS * BITS_PER_WORD; index++) {
+      if (index >= length || dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+        set(mask, index);
+      }
+      dayOfWeek = dayOfWeek.plus(1);
+    }
+    return mask;
+  }
+
+  private static void set(long[] mask, int index) {
+    mask[index / BITS_PER_WORD] |= 1L << (index % BITS_PER_WORD);
+  }
+
+  private static boolean isSet(long[] mask, int index) {
+    return (mask[index / BITS_PER_WORD] & (1L << (index % BITS_PER_WORD))) != 0;
+  }
+
+  /**
+   * 비트 스캔 결과.
+   *
+   * @param date 찾은 영업일 (찾지 못한 경우 {@code null})
+   * @param remaining 찾지 못한 경우 인접 연도에서 더 찾아야 할 영업일 수
+   * @since 1.0
+   */
+  public record ScanResult(LocalDate date, int remaining) {
+
+    static ScanResult found(LocalDate date) {
+      return new ScanResult(date, 0);
+    }
+
+    static ScanResult notFound(int remaining) {
+      return new ScanResult(null, remaining);
+    }
+
+    /**
+     * 영업일을 찾았는지 확인합니다.
+     *
+     * @return 찾았으면 true
+     */
+    public boolean isFound() {
+      return date != null;
+    }
+  }
+}
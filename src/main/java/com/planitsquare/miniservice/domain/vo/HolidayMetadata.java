@@ -58,4 +58,16 @@ public record HolidayMetadata(
         // 전국 적용 휴일이거나, 해당 지역에 적용되는 경우
         return applicableRegions.isEmpty() || applicableRegions.contains(region.strip());
     }
+
+    /**
+     * 지정된 휴일 타입을 포함하는지 확인합니다.
+     *
+     * <p>외부 API 표기("Public")와 저장소 표기("PUBLIC")를 모두 허용합니다.
+     *
+     * @param type 확인할 휴일 타입
+     * @return 해당 타입을 포함하면 true
+     */
+    public boolean hasType(HolidayType type) {
+        return types.stream().anyMatch(t -> type.getName().equalsIgnoreCase(t));
+    }
 }
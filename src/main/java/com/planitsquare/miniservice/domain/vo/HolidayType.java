@@ -3,11 +3,15 @@ package com.planitsquare.miniservice.domain.vo;
 import lombok.Getter;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * 휴일 유형을 정의하는 열거형.
  *
  * <p>외부 API로부터 제공되는 휴일 타입을 나타냅니다.
+ * 각 타입은 선언 순서에 따른 비트를 가지며, 타입 목록은 비트 OR로 하나의 정수 마스크로 표현할 수 있습니다.
+ * 비트는 {@code ordinal()}을 따르므로 새 타입은 반드시 마지막에 추가해야 합니다.
  *
  * @since 1.0
  */
@@ -41,4 +45,39 @@ public enum HolidayType {
                 .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException(type + "는 잘못된 공휴일 유형입니다."));
     }
+
+    /**
+     * 이 타입의 비트를 반환합니다.
+     *
+     * @return {@code 1 << ordinal()}
+     */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * 타입 목록의 비트 마스크를 계산합니다.
+     *
+     * @param types 휴일 타입 목록
+     * @return 비트 마스크 (비어 있으면 0)
+     */
+    public static int maskOf(Collection<HolidayType> types) {
+        int mask = 0;
+        for (HolidayType type : types) {
+            mask |= type.bit();
+        }
+        return mask;
+    }
+
+    /**
+     * 비트 마스크에 포함된 타입 목록을 선언 순서대로 반환합니다.
+     *
+     * @param mask 비트 마스크
+     * @return 휴일 타입 목록
+     */
+    public static List<HolidayType> typesOf(int mask) {
+        return Arrays.stream(values())
+                .filter(type -> (mask & type.bit()) != 0)
+                .toList();
+    }
 }
@@ -1,18 +1,37 @@
 package com.planitsquare.miniservice.adapter.in.startup;
 
+import com.planitsquare.miniservice.adapter.out.persistence.vo.SyncExecutionType;
+import com.planitsquare.miniservice.application.exception.ExternalApiException;
+import com.planitsquare.miniservice.application.exception.JobAlreadyRunningException;
 import com.planitsquare.miniservice.application.port.in.CheckInitialSystemLoadUseCase;
+import com.planitsquare.miniservice.application.port.in.RestoreHolidaySnapshotUseCase;
+import com.planitsquare.miniservice.application.port.in.UploadHolidayCommand;
 import com.planitsquare.miniservice.application.port.in.UploadHolidaysUseCase;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.health.contributor.Status;
+import org.springframework.scheduling.TaskScheduler;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
@@ -26,23 +45,158 @@ class HolidayBootstrapRunnerTest {
   @Mock
   private UploadHolidaysUseCase uploadHolidaysUseCase;
 
+  @Mock
+  private RestoreHolidaySnapshotUseCase restoreHolidaySnapshotUseCase;
+
+  @Mock
+  private TaskScheduler taskScheduler;
+
+  @Mock
+  private ScheduledFuture<?> polling;
+
   @Mock
   private ApplicationArguments args;
 
-  @InjectMocks
+  private final List<Runnable> submitted = new ArrayList<>();
+  private final Executor deferredExecutor = submitted::add;
+  private HolidayBootstrapHealthIndicator healthIndicator;
   private HolidayBootstrapRunner runner;
 
+  @BeforeEach
+  void setUp() {
+    healthIndicator = new HolidayBootstrapHealthIndicator();
+    runner = new HolidayBootstrapRunner(
+        checkInitialSystemLoadUseCase, uploadHolidaysUseCase, restoreHolidaySnapshotUseCase, healthIndicator, deferredExecutor,
+        taskScheduler);
+  }
+
+  @Test
+  @DisplayName("최초 실행 시 공휴일 업로드를 시작 경로 밖에서 수행하고 그동안 준비되지 않은 상태로 보고한다")
+  void 최초_실행시_공휴일_업로드를_시작_경로_밖에서_수행한다() {
+    // Given
+    given(checkInitialSystemLoadUseCase.isInitialSystemLoad()).willReturn(true);
+
+    // When
+    runner.run(args);
+
+    // Then
+    then(uploadHolidaysUseCase).should(never()).uploadHolidays(any());
+    assertThat(submitted).hasSize(1);
+    assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+  }
+
+  @Test
+  @DisplayName("최초 실행 시 금년도를 먼저 적재하고 이전 연도를 채운다")
+  void 최초_실행시_금년도를_먼저_적재하고_이전_연도를_채운다() {
+    // Given
+    given(checkInitialSystemLoadUseCase.isInitialSystemLoad()).willReturn(true);
+    ArgumentCaptor<UploadHolidayCommand> commands = ArgumentCaptor.forClass(UploadHolidayCommand.class);
+    int currentYear = LocalDate.now().getYear();
+
+    // When
+    runner.run(args);
+    submitted.forEach(Runnable::run);
+
+    // Then
+    then(uploadHolidaysUseCase).should(times(2)).uploadHolidays(commands.capture());
+    assertThat(commands.getAllValues()).containsExactly(
+        new UploadHolidayCommand(currentYear, SyncExecutionType.INITIAL_SYSTEM_LOAD, 1),
+        new UploadHolidayCommand(currentYear - 1, SyncExecutionType.EVENT_TRIGGERED, 4)
+    );
+    assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+    assertThat(healthIndicator.getPhase()).isEqualTo(HolidayBootstrapHealthIndicator.Phase.COMPLETED);
+  }
+
+  @Test
+  @DisplayName("스냅샷에 금년도가 있으면 외부 API 초기 적재를 수행하지 않는다")
+  void 스냅샷에_금년도가_있으면_외부_API_초기_적재를_수행하지_않는다() {
+    // Given
+    int currentYear = LocalDate.now().getYear();
+    given(checkInitialSystemLoadUseCase.isInitialSystemLoad()).willReturn(true);
+    given(restoreHolidaySnapshotUseCase.restoreSnapshot()).willReturn(List.of(currentYear - 1, currentYear));
+
+    // When
+    runner.run(args);
+
+    // Then
+    assertThat(submitted).isEmpty();
+    then(uploadHolidaysUseCase).should(never()).uploadHolidays(any());
+    assertThat(healthIndicator.getPhase()).isEqualTo(HolidayBootstrapHealthIndicator.Phase.COMPLETED);
+  }
+
   @Test
-  @DisplayName("최초 실행 시 공휴일 업로드를 수행한다")
-  void 최초_실행시_공휴일_업로드를_수행한다() {
+  @DisplayName("금년도 적재에 실패하면 이전 연도를 채우지 않고 준비되지 않은 상태로 다시 시도한다")
+  void 금년도_적재에_실패하면_이전_연도를_채우지_않고_준비되지_않은_상태로_다시_시도한다() {
     // Given
     given(checkInitialSystemLoadUseCase.isInitialSystemLoad()).willReturn(true);
+    given(uploadHolidaysUseCase.uploadHolidays(any()))
+        .willThrow(new ExternalApiException("외부 API 오류", new RuntimeException()))
+        .willReturn(null);
+    ArgumentCaptor<Runnable> retry = ArgumentCaptor.forClass(Runnable.class);
 
     // When
     runner.run(args);
+    runSubmitted();
 
     // Then
     then(uploadHolidaysUseCase).should(times(1)).uploadHolidays(any());
+    assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.DOWN);
+    assertThat(healthIndicator.getPhase()).isEqualTo(HolidayBootstrapHealthIndicator.Phase.FAILED);
+    then(taskScheduler).should().schedule(retry.capture(), any(Instant.class));
+
+    retry.getValue().run();
+    assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+    runSubmitted();
+    then(uploadHolidaysUseCase).should(times(3)).uploadHolidays(any());
+    assertThat(healthIndicator.getPhase()).isEqualTo(HolidayBootstrapHealthIndicator.Phase.COMPLETED);
+  }
+
+  @Test
+  @DisplayName("이전 연도 적재에만 실패하면 금년도 데이터로 서비스한다")
+  void 이전_연도_적재에만_실패하면_금년도_데이터로_서비스한다() {
+    // Given
+    given(checkInitialSystemLoadUseCase.isInitialSystemLoad()).willReturn(true);
+    given(uploadHolidaysUseCase.uploadHolidays(any()))
+        .willReturn(null)
+        .willThrow(new ExternalApiException("외부 API 오류", new RuntimeException()));
+
+    // When
+    runner.run(args);
+    runSubmitted();
+
+    // Then
+    then(uploadHolidaysUseCase).should(times(2)).uploadHolidays(any());
+    then(taskScheduler).should(never()).schedule(any(Runnable.class), any(Instant.class));
+    assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+    assertThat(healthIndicator.getPhase()).isEqualTo(HolidayBootstrapHealthIndicator.Phase.BACKFILL_FAILED);
+  }
+
+  @Test
+  @DisplayName("다른 인스턴스가 초기 적재 중이면 그 적재가 끝날 때까지 준비되지 않은 상태를 유지한다")
+  void 다른_인스턴스가_초기_적재_중이면_그_적재가_끝날_때까지_준비되지_않은_상태를_유지한다() {
+    // Given
+    given(checkInitialSystemLoadUseCase.isInitialSystemLoad()).willReturn(true);
+    willThrow(new JobAlreadyRunningException()).given(uploadHolidaysUseCase).uploadHolidays(any());
+    given(checkInitialSystemLoadUseCase.isInitialSystemLoadInProgress()).willReturn(true, false);
+    willReturn(polling).given(taskScheduler).scheduleWithFixedDelay(any(Runnable.class), any(Instant.class), any(Duration.class));
+    ArgumentCaptor<Runnable> poll = ArgumentCaptor.forClass(Runnable.class);
+
+    // When
+    runner.run(args);
+    submitted.forEach(Runnable::run);
+
+    // Then
+    then(uploadHolidaysUseCase).should(times(1)).uploadHolidays(any());
+    then(taskScheduler).should().scheduleWithFixedDelay(poll.capture(), any(Instant.class), eq(Duration.ofSeconds(5)));
+    assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+    poll.getValue().run();
+    assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+    then(polling).should(never()).cancel(false);
+
+    poll.getValue().run();
+    assertThat(healthIndicator.getPhase()).isEqualTo(HolidayBootstrapHealthIndicator.Phase.COMPLETED);
+    then(polling).should().cancel(false);
   }
 
   @Test
@@ -56,5 +210,13 @@ class HolidayBootstrapRunnerTest {
 
     // Then
     then(uploadHolidaysUseCase).should(never()).uploadHolidays(any());
+    assertThat(submitted).isEmpty();
+    assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+  }
+
+  private void runSubmitted() {
+    while (!submitted.isEmpty()) {
+      submitted.removeFirst().run();
+    }
   }
 }
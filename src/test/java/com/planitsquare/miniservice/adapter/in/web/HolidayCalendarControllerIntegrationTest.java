@@ -0,0 +1,232 @@
+package com.planitsquare.miniservice.adapter.in.web;
+
+import com.planitsquare.miniservice.IntegrationTestBase;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.CountryJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.HolidayJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.CountryJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.HolidayDataVersionJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.HolidayJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.vo.HolidayMetadataEmbeddable;
+import com.planitsquare.miniservice.application.event.HolidaysChangedEvent;
+import com.planitsquare.miniservice.application.service.HolidayDataVersionService;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+import com.planitsquare.miniservice.domain.vo.HolidayType;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * HolidayCalendarController 통합 테스트.
+ *
+ * <p>실제 Spring Boot 컨텍스트를 사용하여 공휴일 iCalendar 피드 엔드포인트를 테스트합니다.
+ *
+ * @since 1.0
+ */
+@DisplayName("HolidayCalendarController 통합 테스트")
+@Transactional
+class HolidayCalendarControllerIntegrationTest extends IntegrationTestBase {
+
+  private static final String CALENDAR_URL = "/api/v1/countries/{countryCode}/holidays.ics";
+
+  @Autowired
+  private WebApplicationContext context;
+
+  @Autowired
+  private HolidayJpaRepository holidayJpaRepository;
+
+  @Autowired
+  private CountryJpaRepository countryJpaRepository;
+
+  @Autowired
+  private HolidayDataVersionService holidayDataVersionService;
+
+  @Autowired
+  private HolidayDataVersionJpaRepository holidayDataVersionJpaRepository;
+
+  @Autowired
+  private HolidayCalendarCache calendarCache;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private MockMvc mockMvc;
+
+  private CountryJpaEntity korea;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    calendarCache.evictAll();
+    holidayDataVersionService.refreshIfChanged();
+
+    korea = countryJpaRepository.save(new CountryJpaEntity("KR", "South Korea"));
+    holidayJpaRepository.save(holiday("광복절", "Liberation Day", LocalDate.of(2024, 8, 15), List.of()));
+    holidayJpaRepository.save(holiday("신정", "New Year's Day", LocalDate.of(2024, 1, 1), List.of()));
+    holidayJpaRepository.save(holiday("신정", "New Year's Day", LocalDate.of(2025, 1, 1), List.of()));
+  }
+
+  @Test
+  @DisplayName("국가와 연도 범위의 공휴일을 날짜 순서의 종일 일정으로 담은 iCalendar로 응답한다")
+  void 국가와_연도_범위의_공휴일을_날짜_순서의_종일_일정으로_담은_iCalendar로_응답한다() throws Exception {
+    // When
+    MvcResult result = mockMvc.perform(get(CALENDAR_URL, "kr")
+            .param("fromYear", "2024")
+            .param("toYear", "2025"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/calendar;charset=UTF-8"))
+        .andExpect(header().exists(HttpHeaders.ETAG))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+        .andReturn();
+
+    // Then
+    String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+    assertThat(body).startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n").endsWith("END:VEVENT\r\nEND:VCALENDAR\r\n");
+    assertThat(body).contains("X-WR-CALNAME:South Korea Holidays\r\n");
+    assertThat(lines(body)).filteredOn(line -> line.startsWith("DTSTART")).containsExactly(
+        "DTSTART;VALUE=DATE:20240101",
+        "DTSTART;VALUE=DATE:20240815",
+        "DTSTART;VALUE=DATE:20250101");
+    assertThat(body).contains("DTEND;VALUE=DATE:20240102\r\n", "SUMMARY:광복절\r\n", "CATEGORIES:PUBLIC\r\n");
+  }
+
+  @Test
+  @DisplayName("연도를 하나만 지정하면 그 연도의 공휴일만 응답한다")
+  void 연도를_하나만_지정하면_그_연도의_공휴일만_응답한다() throws Exception {
+    // When
+    String body = calendar("2025");
+
+    // Then
+    assertThat(lines(body)).filteredOn(line -> line.startsWith("DTSTART"))
+        .containsExactly("DTSTART;VALUE=DATE:20250101");
+  }
+
+  @Test
+  @DisplayName("TEXT 값의 특수 문자를 이스케이프하고 75 옥텟을 넘는 줄은 UTF-8 문자를 자르지 않고 접는다")
+  void TEXT_값의_특수_문자를_이스케이프하고_75_옥텟을_넘는_줄은_UTF_8_문자를_자르지_않고_접는다() throws Exception {
+    // Given
+    String localName = "대체공휴일; 어린이날, 부처님오신날 그리고 아주 긴 이름의 지역 기념일";
+    holidayJpaRepository.save(holiday(localName, "Substitute Holiday", LocalDate.of(2024, 5, 6),
+        List.of("KR-11", "KR-26")));
+
+    // When
+    String body = calendar("2024");
+
+    // Then
+    assertThat(Arrays.stream(body.split("\r\n")))
+        .allSatisfy(line -> assertThat(line.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75));
+    assertThat(lines(body)).contains(
+        "SUMMARY:대체공휴일\\; 어린이날\\, 부처님오신날 그리고 아주 긴 이름의 지역 기념일",
+        "DESCRIPTION:Substitute Holiday\\nRegions: KR-11\\, KR-26");
+  }
+
+  @Test
+  @DisplayName("If-None-Match가 현재 ETag와 같으면 데이터베이스를 조회하지 않고 304 Not Modified를 반환한다")
+  void If_None_Match가_현재_ETag와_같으면_데이터베이스를_조회하지_않고_304_Not_Modified를_반환한다() throws Exception {
+    // Given
+    String eTag = mockMvc.perform(get(CALENDAR_URL, "KR").param("fromYear", "2024"))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    long preparedStatementCount = statistics().getPrepareStatementCount();
+
+    // When
+    MvcResult result = mockMvc.perform(get(CALENDAR_URL, "KR")
+            .param("fromYear", "2024")
+            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+        .andReturn();
+
+    // Then
+    assertThat(result.getResponse().getContentAsString()).isEmpty();
+    assertThat(statistics().getPrepareStatementCount()).isEqualTo(preparedStatementCount);
+  }
+
+  @Test
+  @DisplayName("같은 국가와 연도 범위의 두 번째 요청부터는 데이터베이스를 조회하지 않고 보관한 본문으로 응답한다")
+  void 같은_국가와_연도_범위의_두_번째_요청부터는_데이터베이스를_조회하지_않고_보관한_본문으로_응답한다() throws Exception {
+    // Given
+    String firstBody = calendar("2024");
+    long preparedStatementCount = statistics().getPrepareStatementCount();
+
+    // When
+    String secondBody = calendar("2024");
+
+    // Then
+    assertThat(secondBody).isEqualTo(firstBody);
+    assertThat(statistics().getPrepareStatementCount()).isEqualTo(preparedStatementCount);
+  }
+
+  @Test
+  @DisplayName("범위에 포함된 연도의 공휴일이 변경되면 달력을 다시 만든다")
+  void 범위에_포함된_연도의_공휴일이_변경되면_달력을_다시_만든다() throws Exception {
+    // Given
+    calendar("2024");
+    holidayJpaRepository.save(holiday("크리스마스", "Christmas Day", LocalDate.of(2024, 12, 25), List.of()));
+
+    // When
+    holidayDataVersionJpaRepository.recordChange("KR", 2024);
+    HolidaysChangedEvent event = HolidaysChangedEvent.of(new CountryCode("KR"), 2024);
+    holidayDataVersionService.onHolidaysChanged(event);
+    calendarCache.onHolidaysChanged(event);
+
+    // Then
+    assertThat(calendar("2024")).contains("SUMMARY:크리스마스\r\n");
+  }
+
+  @Test
+  @DisplayName("존재하지 않는 국가 코드로 요청하면 404 Not Found를 반환한다")
+  void 존재하지_않는_국가_코드로_요청하면_404_Not_Found를_반환한다() throws Exception {
+    mockMvc.perform(get(CALENDAR_URL, "ZZ").param("fromYear", "2024"))
+        .andExpect(status().isNotFound())
+        .andExpect(header().string(HttpHeaders.CONTENT_TYPE, org.hamcrest.Matchers.startsWith("application/json")));
+  }
+
+  @Test
+  @DisplayName("연도 범위가 최대 연도 수를 넘거나 시작 연도가 종료 연도보다 늦으면 400 Bad Request를 반환한다")
+  void 연도_범위가_최대_연도_수를_넘거나_시작_연도가_종료_연도보다_늦으면_400_Bad_Request를_반환한다() throws Exception {
+    mockMvc.perform(get(CALENDAR_URL, "KR").param("fromYear", "2010").param("toYear", "2025"))
+        .andExpect(status().isBadRequest());
+    mockMvc.perform(get(CALENDAR_URL, "KR").param("fromYear", "2025").param("toYear", "2024"))
+        .andExpect(status().isBadRequest());
+  }
+
+  private String calendar(String year) throws Exception {
+    return mockMvc.perform(get(CALENDAR_URL, "KR").param("fromYear", year))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * 접힌 줄을 펼친 내용 줄 목록을 반환합니다.
+   */
+  private static List<String> lines(String body) {
+    return Arrays.asList(body.replace("\r\n ", "").split("\r\n"));
+  }
+
+  private Statistics statistics() {
+    return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  private HolidayJpaEntity holiday(String localName, String name, LocalDate date, List<String> regions) {
+    return new HolidayJpaEntity(korea, localName, name, date,
+        new HolidayMetadataEmbeddable(true, true, 1949), List.of(HolidayType.PUBLIC), regions);
+  }
+}
@@ -7,6 +7,7 @@ import com.planitsquare.miniservice.application.port.in.FetchHolidaysUseCase;
 import com.planitsquare.miniservice.application.port.in.RefreshHolidaysUseCase;
 import com.planitsquare.miniservice.application.port.in.SyncHolidayDataUseCase;
 import com.planitsquare.miniservice.application.port.in.UploadHolidaysUseCase;
+import com.planitsquare.miniservice.application.service.SyncSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,7 +18,6 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
-import java.util.Collections;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -62,7 +62,7 @@ class HolidayControllerIntegrationWithMockTest extends MockIntegrationTestBase {
     // Given
     UploadHolidayRequest request = new UploadHolidayRequest(2025);
     // job이 이미 실행되는 경우 깨질 수 있어 Mock 처리
-    when(uploadHolidaysUseCase.uploadHolidays(any())).thenReturn(Collections.emptyList());
+    when(uploadHolidaysUseCase.uploadHolidays(any())).thenReturn(SyncSummary.empty());
 
     // When & Then
     mockMvc.perform(post("/api/v1/holidays")
@@ -1,25 +1,45 @@
 package com.planitsquare.miniservice.adapter.in.web;
 
 import com.planitsquare.miniservice.IntegrationTestBase;
+import com.planitsquare.miniservice.adapter.out.persistence.HolidaySearchCountCache;
 import com.planitsquare.miniservice.adapter.out.persistence.entity.CountryJpaEntity;
 import com.planitsquare.miniservice.adapter.out.persistence.entity.HolidayJpaEntity;
 import com.planitsquare.miniservice.adapter.out.persistence.repository.CountryJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.HolidayDataVersionJpaRepository;
 import com.planitsquare.miniservice.adapter.out.persistence.repository.HolidayJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.search.HolidayNameIndex;
 import com.planitsquare.miniservice.adapter.out.persistence.vo.HolidayMetadataEmbeddable;
+import com.planitsquare.miniservice.application.event.HolidaysChangedEvent;
+import com.planitsquare.miniservice.application.service.HolidayDataVersionService;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
 import com.planitsquare.miniservice.domain.vo.HolidayType;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
@@ -42,6 +62,24 @@ class HolidaySearchControllerIntegrationTest extends IntegrationTestBase {
   @Autowired
   private CountryJpaRepository countryJpaRepository;
 
+  @Autowired
+  private HolidaySearchCountCache holidaySearchCountCache;
+
+  @Autowired
+  private HolidayNameIndex holidayNameIndex;
+
+  @Autowired
+  private HolidayDataVersionService holidayDataVersionService;
+
+  @Autowired
+  private HolidayDataVersionJpaRepository holidayDataVersionJpaRepository;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private HolidaySearchResponseCache searchResponseCache;
+
   private MockMvc mockMvc;
 
   private CountryJpaEntity korea;
@@ -50,6 +88,9 @@ class HolidaySearchControllerIntegrationTest extends IntegrationTestBase {
   @BeforeEach
   void setUp() {
     mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    holidaySearchCountCache.evictAll();
+    searchResponseCache.evictAll();
+    holidayDataVersionService.refreshIfChanged();
 
     // 테스트 데이터 준비
     korea = countryJpaRepository.save(new CountryJpaEntity("KR", "South Korea"));
@@ -124,6 +165,7 @@ class HolidaySearchControllerIntegrationTest extends IntegrationTestBase {
     holidayJpaRepository.save(usNewYear);
     holidayJpaRepository.save(independence);
     holidayJpaRepository.save(newYear2025);
+    holidayNameIndex.rebuild();
   }
 
   @Test
@@ -178,6 +220,21 @@ class HolidaySearchControllerIntegrationTest extends IntegrationTestBase {
         .andExpect(jsonPath("$.content[0].types[0]").value("PUBLIC"));
   }
 
+  @Test
+  @DisplayName("여러 공휴일 타입으로 필터링하면 하나라도 해당하는 공휴일을 반환한다")
+  void 여러_공휴일_타입으로_필터링하면_하나라도_해당하는_공휴일을_반환한다() throws Exception {
+    mockMvc.perform(get("/api/v1/holidays")
+            .param("countryCode", "US")
+            .param("type", "Optional|Public"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.totalElements").value(2));
+
+    mockMvc.perform(get("/api/v1/holidays")
+            .param("type", "Bank,Optional"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.totalElements").value(0));
+  }
+
   @Test
   @DisplayName("이름으로 검색하면 이름에 검색어가 포함된 공휴일만 반환한다")
   void 이름으로_검색하면_이름에_검색어가_포함된_공휴일만_반환한다() throws Exception {
@@ -197,6 +254,33 @@ class HolidaySearchControllerIntegrationTest extends IntegrationTestBase {
         .andExpect(jsonPath("$.content").isArray());
   }
 
+  @Test
+  @DisplayName("정렬을 지정하지 않고 이름으로 검색하면 완전 일치, 접두 일치, 부분 일치 순으로 반환한다")
+  void 정렬을_지정하지_않고_이름으로_검색하면_완전_일치_접두_일치_부분_일치_순으로_반환한다() throws Exception {
+    // Given
+    holidayJpaRepository.save(new HolidayJpaEntity(usa, "Independence Day Eve", "Independence Day Eve",
+        LocalDate.of(2024, 7, 3), new HolidayMetadataEmbeddable(true, true, 1870), List.of(HolidayType.OBSERVANCE), List.of()));
+    holidayJpaRepository.save(new HolidayJpaEntity(usa, "Preindependence Day", "Preindependence Day",
+        LocalDate.of(2024, 7, 2), new HolidayMetadataEmbeddable(true, true, 1870), List.of(HolidayType.OBSERVANCE), List.of()));
+    holidayNameIndex.rebuild();
+
+    // When & Then
+    mockMvc.perform(get("/api/v1/holidays")
+            .param("countryCode", "US")
+            .param("name", "Independence Day"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[*].name").value(org.hamcrest.Matchers.contains(
+            "Independence Day", "Independence Day Eve", "Preindependence Day")));
+
+    mockMvc.perform(get("/api/v1/holidays")
+            .param("countryCode", "US")
+            .param("name", "Independence Day")
+            .param("sort", "date"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[*].name").value(org.hamcrest.Matchers.contains(
+            "Preindependence Day", "Independence Day Eve", "Independence Day")));
+  }
+
   @Test
   @DisplayName("페이지 크기를 지정하면 해당 크기만큼의 결과를 반환한다")
   void 페이지_크기를_지정하면_해당_크기만큼의_결과를_반환한다() throws Exception {
@@ -266,4 +350,284 @@ class HolidaySearchControllerIntegrationTest extends IntegrationTestBase {
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.content").isEmpty());
   }
+
+  @Test
+  @DisplayName("여러 (국가, 날짜) 쌍을 일괄 조회하면 요청 순서대로 공휴일 여부를 반환한다")
+  void 여러_국가_날짜_쌍을_일괄_조회하면_요청_순서대로_공휴일_여부를_반환한다() throws Exception {
+    String body = """
+        {"items": [
+          {"countryCode": "KR", "date": "2024-01-01"},
+          {"countryCode": "US", "date": "2024-02-10"},
+          {"countryCode": "us", "date": "2024-07-04"}
+        ]}
+        """;
+
+    mockMvc.perform(post("/api/v1/holidays/lookup")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(3))
+        .andExpect(jsonPath("$[0].countryCode").value("KR"))
+        .andExpect(jsonPath("$[0].holiday").value(true))
+        .andExpect(jsonPath("$[0].holidays[0].localName").value("신정"))
+        .andExpect(jsonPath("$[1].holiday").value(false))
+        .andExpect(jsonPath("$[1].holidays").isEmpty())
+        .andExpect(jsonPath("$[2].countryCode").value("US"))
+        .andExpect(jsonPath("$[2].holiday").value(true));
+  }
+
+  @Test
+  @DisplayName("일괄 조회 목록이 비어 있으면 400 Bad Request를 반환한다")
+  void 일괄_조회_목록이_비어_있으면_400_Bad_Request를_반환한다() throws Exception {
+    mockMvc.perform(post("/api/v1/holidays/lookup")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"items\": []}"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @DisplayName("전체 건수 포함을 끄면 totalElements 없이 다음 페이지 존재 여부를 반환한다")
+  void 전체_건수_포함을_끄면_totalElements_없이_다음_페이지_존재_여부를_반환한다() throws Exception {
+    mockMvc.perform(get("/api/v1/holidays")
+            .param("countryCode", "KR")
+            .param("size", "2")
+            .param("includeTotal", "false"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content.length()").value(2))
+        .andExpect(jsonPath("$.last").value(false))
+        .andExpect(jsonPath("$.totalElements").doesNotExist());
+  }
+
+  @Test
+  @DisplayName("검색 응답에 ETag와 재검증을 요구하는 Cache-Control을 포함한다")
+  void 검색_응답에_ETag와_재검증을_요구하는_Cache_Control을_포함한다() throws Exception {
+    mockMvc.perform(get("/api/v1/holidays")
+            .param("countryCode", "KR")
+            .param("year", "2024"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, org.hamcrest.Matchers.matchesPattern("\"[0-9a-f]+-\\d+\"")))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+  }
+
+  @Test
+  @DisplayName("If-None-Match가 현재 ETag와 같으면 데이터베이스를 조회하지 않고 304 Not Modified를 반환한다")
+  void If_None_Match가_현재_ETag와_같으면_데이터베이스를_조회하지_않고_304_Not_Modified를_반환한다() throws Exception {
+    // Given
+    String eTag = searchETag();
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    long preparedStatementCount = statistics.getPrepareStatementCount();
+
+    // When
+    MvcResult result = mockMvc.perform(get("/api/v1/holidays")
+            .param("countryCode", "KR")
+            .param("year", "2024")
+            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+        .andReturn();
+
+    // Then
+    assertThat(result.getResponse().getHeaders(HttpHeaders.ETAG)).containsExactly(eTag);
+    assertThat(result.getResponse().getContentAsString()).isEmpty();
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(preparedStatementCount);
+  }
+
+  @Test
+  @DisplayName("검색 범위의 공휴일이 변경되면 이전 ETag로 요청해도 200 OK와 새 ETag를 반환한다")
+  void 검색_범위의_공휴일이_변경되면_이전_ETag로_요청해도_200_OK와_새_ETag를_반환한다() throws Exception {
+    // Given
+    String eTag = searchETag();
+
+    // When
+    recordHolidaysChanged("KR", 2024);
+
+    // Then
+    mockMvc.perform(get("/api/v1/holidays")
+            .param("countryCode", "KR")
+            .param("year", "2024")
+            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, org.hamcrest.Matchers.not(eTag)))
+        .andExpect(jsonPath("$.content.length()").value(3));
+  }
+
+  @Test
+  @DisplayName("다른 (국가, 연도)의 공휴일이 변경되어도 ETag는 바뀌지 않는다")
+  void 다른_국가_연도의_공휴일이_변경되어도_ETag는_바뀌지_않는다() throws Exception {
+    // Given
+    String eTag = searchETag();
+
+    // When
+    recordHolidaysChanged("US", 2024);
+
+    // Then
+    mockMvc.perform(get("/api/v1/holidays")
+            .param("countryCode", "KR")
+            .param("year", "2024")
+            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+        .andExpect(status().isNotModified());
+  }
+
+  @Test
+  @DisplayName("Accept가 application/cbor이면 JSON과 같은 구조의 CBOR로 응답한다")
+  void Accept가_application_cbor이면_JSON과_같은_구조의_CBOR로_응답한다() throws Exception {
+    // When
+    MvcResult cbor = mockMvc.perform(get("/api/v1/holidays")
+            .param("countryCode", "KR")
+            .param("year", "2024")
+            .accept(MediaType.APPLICATION_CBOR))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+        .andReturn();
+    MvcResult json = mockMvc.perform(get("/api/v1/holidays")
+            .param("countryCode", "KR")
+            .param("year", "2024")
+            .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andReturn();
+
+    // Then
+    JsonNode cborBody = CBORMapper.builder().build().readTree(cbor.getResponse().getContentAsByteArray());
+    JsonNode jsonBody = JsonMapper.builder().build().readTree(json.getResponse().getContentAsByteArray());
+    assertThat(cborBody).isEqualTo(jsonBody);
+    assertThat(cbor.getResponse().getContentAsByteArray().length)
+        .isLessThan(json.getResponse().getContentAsByteArray().length);
+  }
+
+  @Test
+  @DisplayName("응답 형식마다 ETag가 다르고 Accept에 따라 달라지는 응답임을 표시한다")
+  void 응답_형식마다_ETag가_다르고_Accept에_따라_달라지는_응답임을_표시한다() throws Exception {
+    // Given
+    String jsonETag = searchETag();
+
+    // When & Then
+    mockMvc.perform(get("/api/v1/holidays")
+            .param("countryCode", "KR")
+            .param("year", "2024")
+            .accept(MediaType.APPLICATION_CBOR)
+            .header(HttpHeaders.IF_NONE_MATCH, jsonETag))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, org.hamcrest.Matchers.not(jsonETag)))
+        .andExpect(header().string(HttpHeaders.VARY, org.hamcrest.Matchers.containsString(HttpHeaders.ACCEPT)));
+  }
+
+  @Test
+  @DisplayName("gzip을 허용하면 국가와 연도 검색 결과를 압축된 같은 JSON으로 응답하고 두 번째 요청부터 데이터베이스를 조회하지 않는다")
+  void gzip을_허용하면_국가와_연도_검색_결과를_압축된_같은_JSON으로_응답하고_두_번째_요청부터_데이터베이스를_조회하지_않는다() throws Exception {
+    // Given
+    byte[] plainBody = mockMvc.perform(get("/api/v1/holidays")
+            .param("countryCode", "KR")
+            .param("year", "2024"))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+        .andReturn().getResponse().getContentAsByteArray();
+    byte[] firstGzippedBody = gzipSearch("gzip, deflate");
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    long preparedStatementCount = statistics.getPrepareStatementCount();
+
+    // When
+    byte[] secondGzippedBody = gzipSearch("gzip, deflate");
+
+    // Then
+    assertThat(gunzip(firstGzippedBody)).isEqualTo(plainBody);
+    assertThat(secondGzippedBody).isEqualTo(firstGzippedBody);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(preparedStatementCount);
+  }
+
+  @Test
+  @DisplayName("캐시된 (국가, 연도)의 공휴일이 변경되면 응답 본문을 다시 만든다")
+  void 캐시된_국가_연도의_공휴일이_변경되면_응답_본문을_다시_만든다() throws Exception {
+    // Given
+    gzipSearch("gzip");
+    holidayJpaRepository.save(new HolidayJpaEntity(
+        korea, "크리스마스", "Christmas Day", LocalDate.of(2024, 12, 25),
+        new HolidayMetadataEmbeddable(true, true, 1949), List.of(HolidayType.PUBLIC), List.of()));
+
+    // When
+    recordHolidaysChanged("KR", 2024);
+    searchResponseCache.onHolidaysChanged(HolidaysChangedEvent.of(new CountryCode("KR"), 2024));
+
+    // Then
+    String body = new String(gunzip(gzipSearch("gzip")));
+    assertThat(body).contains("Christmas Day");
+  }
+
+  @Test
+  @DisplayName("gzip을 허용하지 않거나 다른 조건이 포함된 검색은 압축하지 않고 응답한다")
+  void gzip을_허용하지_않거나_다른_조건이_포함된_검색은_압축하지_않고_응답한다() throws Exception {
+    mockMvc.perform(get("/api/v1/holidays")
+            .param("countryCode", "KR")
+            .param("year", "2024")
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+
+    mockMvc.perform(get("/api/v1/holidays")
+            .param("countryCode", "KR")
+            .param("year", "2024")
+            .param("name", "설날")
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+        .andExpect(jsonPath("$.content.length()").value(1));
+  }
+
+  @Test
+  @DisplayName("페이지 크기나 페이지 번호가 보관 범위를 넘는 검색은 압축 본문을 보관하지 않고 응답한다")
+  void 페이지_크기나_페이지_번호가_보관_범위를_넘는_검색은_압축_본문을_보관하지_않고_응답한다() throws Exception {
+    mockMvc.perform(get("/api/v1/holidays")
+            .param("countryCode", "KR")
+            .param("year", "2024")
+            .param("size", String.valueOf(HolidaySearchResponseCache.MAX_CACHED_PAGE_SIZE + 1))
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+
+    mockMvc.perform(get("/api/v1/holidays")
+            .param("countryCode", "KR")
+            .param("year", "2024")
+            .param("page", String.valueOf(HolidaySearchResponseCache.MAX_CACHED_PAGES))
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+  }
+
+  /**
+   * 공휴일 변경과 같은 트랜잭션에서 데이터 버전을 올리고, 커밋 이후처럼 버전을 다시 읽습니다.
+   */
+  private void recordHolidaysChanged(String countryCode, int year) {
+    holidayDataVersionJpaRepository.recordChange(countryCode, year);
+    holidayDataVersionService.onHolidaysChanged(HolidaysChangedEvent.of(new CountryCode(countryCode), year));
+  }
+
+  private byte[] gzipSearch(String acceptEncoding) throws Exception {
+    MvcResult result = mockMvc.perform(get("/api/v1/holidays")
+            .param("countryCode", "KR")
+            .param("year", "2024")
+            .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+        .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/json"))
+        .andExpect(header().string(HttpHeaders.VARY, org.hamcrest.Matchers.containsString(HttpHeaders.ACCEPT_ENCODING)))
+        .andExpect(header().string(HttpHeaders.ETAG, org.hamcrest.Matchers.endsWith("-gzip\"")))
+        .andReturn();
+    assertThat(result.getResponse().getHeaders(HttpHeaders.ETAG)).hasSize(1);
+    return result.getResponse().getContentAsByteArray();
+  }
+
+  private static byte[] gunzip(byte[] body) throws IOException {
+    try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(body))) {
+      return input.readAllBytes();
+    }
+  }
+
+  private String searchETag() throws Exception {
+    return mockMvc.perform(get("/api/v1/holidays")
+            .param("countryCode", "KR")
+            .param("year", "2024"))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getHeader(HttpHeaders.ETAG);
+  }
 }
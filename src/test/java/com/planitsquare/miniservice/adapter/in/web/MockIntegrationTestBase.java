@@ -9,9 +9,13 @@ import org.springframework.test.context.ActiveProfiles;
  * <p>모든 통합 테스트는 이 클래스를 상속받아 Spring Boot Test 컨텍스트를 공유합니다.
  * 이를 통해 테스트 실행 시 컨텍스트가 여러 번 재시작되는 것을 방지합니다.
  *
+ * <p>Mock 컨텍스트는 {@code IntegrationTestBase} 컨텍스트와 별도의 인메모리 DB를 사용합니다.
+ * 같은 DB를 공유하면 이 컨텍스트가 시작될 때 스키마와 시퀀스가 재생성되어,
+ * 먼저 떠 있던 컨텍스트의 시퀀스 할당 범위가 어긋나 0 이하의 ID가 발급될 수 있습니다.
+ *
  * @since 1.0
  */
-@SpringBootTest
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:mock-testdb")
 @ActiveProfiles("test")
 public abstract class MockIntegrationTestBase {
 }
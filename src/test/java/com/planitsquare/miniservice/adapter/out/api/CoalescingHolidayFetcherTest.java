@@ -0,0 +1,143 @@
+package com.planitsquare.miniservice.adapter.out.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import com.planitsquare.miniservice.application.exception.ExternalApiException;
+import com.planitsquare.miniservice.domain.model.Holiday;
+import com.planitsquare.miniservice.domain.vo.Country;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+import com.planitsquare.miniservice.domain.vo.HolidayId;
+import com.planitsquare.miniservice.domain.vo.HolidayMetadata;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CoalescingHolidayFetcher 테스트")
+class CoalescingHolidayFetcherTest {
+
+  private static final Country COUNTRY = new Country(new CountryCode("KR"), "South Korea");
+  private static final int YEAR = 2025;
+
+  @Mock
+  private HolidayApiClient holidayApiClient;
+
+  private final AtomicLong now = new AtomicLong();
+
+  private CoalescingHolidayFetcher fetcher;
+
+  @BeforeEach
+  void setUp() {
+    fetcher = new CoalescingHolidayFetcher(holidayApiClient, Duration.ofSeconds(30), now::get);
+  }
+
+  @Test
+  @DisplayName("같은 연도와 국가의 동시 조회는 외부 API를 한 번만 호출하고 결과를 공유한다")
+  void 같은_연도와_국가의_동시_조회는_외부_API를_한_번만_호출하고_결과를_공유한다() throws Exception {
+    // Given
+    List<Holiday> holidays = List.of(holiday());
+    CountDownLatch release = new CountDownLatch(1);
+    given(holidayApiClient.fetchHolidays(YEAR, COUNTRY)).willAnswer(invocation -> {
+      release.await(5, TimeUnit.SECONDS);
+      return holidays;
+    });
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    // When
+    List<CompletableFuture<List<Holiday>>> results = IntStream.range(0, 8)
+        .mapToObj(i -> CompletableFuture.supplyAsync(() -> fetcher.fetchHolidays(YEAR, COUNTRY), executor))
+        .toList();
+    Thread.sleep(200);
+    release.countDown();
+
+    // Then
+    for (CompletableFuture<List<Holiday>> result : results) {
+      assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(holidays);
+    }
+    then(holidayApiClient).should(times(1)).fetchHolidays(YEAR, COUNTRY);
+    executor.shutdown();
+  }
+
+  @Test
+  @DisplayName("완료된 결과는 유효 시간 동안 재사용하고 유효 시간이 지나면 다시 조회한다")
+  void 완료된_결과는_유효_시간_동안_재사용하고_유효_시간이_지나면_다시_조회한다() {
+    // Given
+    given(holidayApiClient.fetchHolidays(YEAR, COUNTRY)).willReturn(List.of(holiday()));
+
+    // When
+    fetcher.fetchHolidays(YEAR, COUNTRY);
+    now.addAndGet(Duration.ofSeconds(29).toNanos());
+    fetcher.fetchHolidays(YEAR, COUNTRY);
+    now.addAndGet(Duration.ofSeconds(1).toNanos());
+    fetcher.fetchHolidays(YEAR, COUNTRY);
+
+    // Then
+    then(holidayApiClient).should(times(2)).fetchHolidays(YEAR, COUNTRY);
+  }
+
+  @Test
+  @DisplayName("실패한 조회는 결과를 남기지 않아 다음 조회에서 다시 호출한다")
+  void 실패한_조회는_결과를_남기지_않아_다음_조회에서_다시_호출한다() {
+    // Given
+    given(holidayApiClient.fetchHolidays(YEAR, COUNTRY))
+        .willThrow(new ExternalApiException("외부 API 오류", new RuntimeException()))
+        .willReturn(List.of(holiday()));
+
+    // When & Then
+    assertThatThrownBy(() -> fetcher.fetchHolidays(YEAR, COUNTRY)).isInstanceOf(ExternalApiException.class);
+    assertThat(fetcher.fetchHolidays(YEAR, COUNTRY)).hasSize(1);
+    then(holidayApiClient).should(times(2)).fetchHolidays(YEAR, COUNTRY);
+  }
+
+  @Test
+  @DisplayName("조회 중 Error가 발생해도 기다리던 호출자에게 전달하고 다음 조회에서 다시 호출한다")
+  void 조회_중_Error가_발생해도_기다리던_호출자에게_전달하고_다음_조회에서_다시_호출한다() throws Exception {
+    // Given
+    CountDownLatch release = new CountDownLatch(1);
+    given(holidayApiClient.fetchHolidays(YEAR, COUNTRY))
+        .willAnswer(invocation -> {
+          release.await(5, TimeUnit.SECONDS);
+          throw new OutOfMemoryError("테스트");
+        })
+        .willReturn(List.of(holiday()));
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    // When
+    List<CompletableFuture<List<Holiday>>> results = IntStream.range(0, 2)
+        .mapToObj(i -> CompletableFuture.supplyAsync(() -> fetcher.fetchHolidays(YEAR, COUNTRY), executor))
+        .toList();
+    Thread.sleep(200);
+    release.countDown();
+
+    // Then
+    for (CompletableFuture<List<Holiday>> result : results) {
+      assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(OutOfMemoryError.class);
+    }
+    assertThat(fetcher.fetchHolidays(YEAR, COUNTRY)).hasSize(1);
+    then(holidayApiClient).should(times(2)).fetchHolidays(YEAR, COUNTRY);
+    executor.shutdown();
+  }
+
+  private static Holiday holiday() {
+    LocalDate date = LocalDate.of(YEAR, 1, 1);
+    return new Holiday(new HolidayId(date.toEpochDay()), COUNTRY, "새해", "New Year's Day", date,
+        new HolidayMetadata(true, true, null, List.of("Public"), List.of()));
+  }
+}
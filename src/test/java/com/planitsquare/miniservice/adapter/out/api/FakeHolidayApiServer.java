@@ -0,0 +1,337 @@
+package com.planitsquare.miniservice.adapter.out.api;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 테스트용 가짜 공휴일 API 서버.
+ *
+ * <p>{@code src/test/resources/fake-holiday-api}에 기록된 응답으로 Nager.Date API의
+ * {@code /AvailableCountries}와 {@code /PublicHolidays/{year}/{countryCode}}를 흉내 냅니다.
+ * {@code external-api.base-url}을 {@link #baseUrl()}로 지정하면 애플리케이션이 실제 API 대신 이 서버를 호출합니다.
+ *
+ * <p>공휴일 응답은 {@value #RECORDED_YEAR}년 기준으로 기록되어 있습니다.
+ * <ul>
+ *   <li>요청 연도의 기록이 없으면 기록 연도의 응답에서 날짜의 연도만 바꾸어 반환합니다.</li>
+ *   <li>국가별 기록이 없으면 {@code default.json}의 국가 코드 자리({@code {countryCode}})를 채워 반환합니다.</li>
+ *   <li>국가 목록에 없는 국가 코드는 404를 반환합니다.</li>
+ * </ul>
+ *
+ * <p>{@link Faults}로 응답 지연 분포와 오류 비율을 주입합니다.
+ *
+ * @since 1.0
+ */
+public final class FakeHolidayApiServer implements AutoCloseable {
+
+  static final String BASE_PATH = "/api/v3";
+  static final int RECORDED_YEAR = 2025;
+
+  private static final String FIXTURE_ROOT = "fake-holiday-api/";
+  private static final String COUNTRY_CODE_PLACEHOLDER = "{countryCode}";
+  private static final Pattern PUBLIC_HOLIDAYS_PATH = Pattern.compile(BASE_PATH + "/PublicHolidays/(\\d{4})/([A-Za-z]{2})");
+  private static final Pattern COUNTRY_CODE = Pattern.compile("\"countryCode\"\\s*:\\s*\"([A-Z]{2})\"");
+  private static final double Z_99 = 2.3263;
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final Faults faults;
+  private final Random random;
+  private final Map<String, String> fixtures = new ConcurrentHashMap<>();
+  private final Map<Integer, AtomicLong> statusCounts = new ConcurrentHashMap<>();
+  private final String availableCountries;
+  private final Set<String> countryCodes;
+
+  private FakeHolidayApiServer(HttpServer server, Faults faults) {
+    this.server = server;
+    this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    this.faults = faults;
+    this.random = new Random(faults.seed());
+    this.availableCountries = fixture("AvailableCountries.json");
+    this.countryCodes = COUNTRY_CODE.matcher(availableCountries).results()
+        .map(result -> result.group(1))
+        .collect(Collectors.toUnmodifiableSet());
+    server.setExecutor(executor);
+    server.createContext(BASE_PATH, this::handle);
+  }
+
+  /**
+   * 임의의 빈 포트로 서버를 시작합니다.
+   *
+   * @param faults 주입할 지연과 오류
+   * @return 시작된 서버
+   * @throws IOException 소켓을 열 수 없는 경우
+   */
+  public static FakeHolidayApiServer start(Faults faults) throws IOException {
+    return start(0, faults);
+  }
+
+  /**
+   * 지정한 포트로 서버를 시작합니다.
+   *
+   * @param port 포트 ({@code 0}이면 임의의 빈 포트)
+   * @param faults 주입할 지연과 오류
+   * @return 시작된 서버
+   * @throws IOException 소켓을 열 수 없는 경우
+   */
+  public static FakeHolidayApiServer start(int port, Faults faults) throws IOException {
+    FakeHolidayApiServer fake = new FakeHolidayApiServer(
+        HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0), faults);
+    fake.server.start();
+    return fake;
+  }
+
+  /**
+   * 애플리케이션을 수동으로 부하 테스트할 수 있도록 서버를 단독으로 실행합니다.
+   *
+   * <p>{@code ./gradlew fakeHolidayApi}로 실행하고, 애플리케이션은
+   * {@code EXTERNAL_API_BASE_URL=http://127.0.0.1:18080/api/v3}로 시작합니다.
+   *
+   * @param args 첫 번째 인자로 포트 (기본값 18080)
+   * @throws IOException 소켓을 열 수 없는 경우
+   */
+  public static void main(String[] args) throws IOException {
+    int port = args.length > 0 ? Integer.parseInt(args[0]) : 18080;
+    FakeHolidayApiServer fake = start(port, Faults.fromSystemProperties(Faults.none()));
+    System.out.printf("가짜 공휴일 API 실행 중 - %s, %s%n", fake.baseUrl(), fake.faults);
+  }
+
+  /**
+   * {@code external-api.base-url}에 지정할 기본 URL을 반환합니다.
+   *
+   * @return 기본 URL
+   */
+  public String baseUrl() {
+    return "http://127.0.0.1:" + server.getAddress().getPort() + BASE_PATH;
+  }
+
+  /**
+   * 지금까지 받은 요청 수를 반환합니다.
+   *
+   * @return 요청 수
+   */
+  public long requestCount() {
+    return statusCounts.values().stream().mapToLong(AtomicLong::get).sum();
+  }
+
+  /**
+   * 응답 상태 코드별 요청 수를 반환합니다.
+   *
+   * <p>타임아웃으로 주입된 요청은 {@code 0}으로 집계됩니다.
+   *
+   * @return 상태 코드별 요청 수
+   */
+  public Map<Integer, Long> statusCounts() {
+    Map<Integer, Long> counts = new TreeMap<>();
+    statusCounts.forEach((status, count) -> counts.put(status, count.get()));
+    return counts;
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      final double roll;
+      final long latency;
+      synchronized (random) {
+        roll = random.nextDouble();
+        latency = faults.sampleLatencyMillis(random);
+      }
+      sleep(latency);
+
+      if (roll < faults.timeoutRate()) {
+        count(0);
+        sleep(faults.timeoutMillis());
+        return;
+      }
+      if (roll < faults.timeoutRate() + faults.tooManyRequestsRate()) {
+        exchange.getResponseHeaders().set("Retry-After", String.valueOf(faults.retryAfterSeconds()));
+        respond(exchange, 429, "");
+        return;
+      }
+      if (roll < faults.timeoutRate() + faults.tooManyRequestsRate() + faults.errorRate()) {
+        respond(exchange, 503, "");
+        return;
+      }
+
+      String body = route(exchange.getRequestURI().getPath());
+      if (body == null) {
+        respond(exchange, 404, "");
+        return;
+      }
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      respond(exchange, 200, body);
+    } catch (IOException e) {
+      // 클라이언트가 타임아웃으로 먼저 연결을 끊은 경우
+    }
+  }
+
+  private String route(String path) {
+    if (path.equals(BASE_PATH + "/AvailableCountries")) {
+      return availableCountries;
+    }
+
+    Matcher matcher = PUBLIC_HOLIDAYS_PATH.matcher(path);
+    if (!matcher.matches()) {
+      return null;
+    }
+    String year = matcher.group(1);
+    String countryCode = matcher.group(2).toUpperCase(Locale.ROOT);
+    if (!countryCodes.contains(countryCode)) {
+      return null;
+    }
+
+    String recorded = optionalFixture("PublicHolidays/" + year + "/" + countryCode + ".json");
+    if (recorded != null) {
+      return recorded;
+    }
+    String template = optionalFixture("PublicHolidays/" + RECORDED_YEAR + "/" + countryCode + ".json");
+    if (template == null) {
+      template = fixture("PublicHolidays/" + RECORDED_YEAR + "/default.json")
+          .replace(COUNTRY_CODE_PLACEHOLDER, countryCode);
+    }
+    return template.replace("\"" + RECORDED_YEAR + "-", "\"" + year + "-");
+  }
+
+  private void respond(HttpExchange exchange, int status, String body) throws IOException {
+    count(status);
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+    if (bytes.length > 0) {
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(bytes);
+      }
+    }
+  }
+
+  private void count(int status) {
+    statusCounts.computeIfAbsent(status, key -> new AtomicLong()).incrementAndGet();
+  }
+
+  private String fixture(String name) {
+    String content = optionalFixture(name);
+    if (content == null) {
+      throw new IllegalStateException("기록된 응답이 없습니다: " + FIXTURE_ROOT + name);
+    }
+    return content;
+  }
+
+  private String optionalFixture(String name) {
+    String cached = fixtures.get(name);
+    if (cached != null) {
+      return cached;
+    }
+    try (InputStream in = FakeHolidayApiServer.class.getClassLoader().getResourceAsStream(FIXTURE_ROOT + name)) {
+      if (in == null) {
+        return null;
+      }
+      String content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+      fixtures.put(name, content);
+      return content;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void sleep(long millis) {
+    if (millis <= 0) {
+      return;
+    }
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * 가짜 API에 주입할 지연과 오류.
+   *
+   * <p>응답 지연은 중앙값과 p99로 정한 로그 정규 분포를 따릅니다.
+   * 각 요청은 타임아웃, 429, 503, 정상 응답 중 하나로 비율에 따라 결정됩니다.
+   *
+   * @param latencyMedianMillis 응답 지연 중앙값 (밀리초, {@code 0}이면 지연 없음)
+   * @param latencyP99Millis 응답 지연 p99 (밀리초)
+   * @param errorRate 503 응답 비율
+   * @param tooManyRequestsRate 429 응답 비율
+   * @param retryAfterSeconds 429 응답의 {@code Retry-After} 값 (초)
+   * @param timeoutRate 응답하지 않고 대기하는 요청 비율
+   * @param timeoutMillis 타임아웃 요청의 대기 시간 (밀리초, 클라이언트 읽기 타임아웃보다 길게 설정)
+   * @param seed 난수 시드
+   */
+  public record Faults(
+      long latencyMedianMillis,
+      long latencyP99Millis,
+      double errorRate,
+      double tooManyRequestsRate,
+      int retryAfterSeconds,
+      double timeoutRate,
+      long timeoutMillis,
+      long seed
+  ) {
+
+    private static final String PREFIX = "fake-api.";
+
+    /**
+     * 지연과 오류가 없는 설정을 반환합니다.
+     *
+     * @return 정상 응답만 반환하는 설정
+     */
+    public static Faults none() {
+      return new Faults(0, 0, 0, 0, 1, 0, 0, 42);
+    }
+
+    /**
+     * {@code fake-api.*} 시스템 속성에서 설정을 읽습니다.
+     *
+     * @param defaults 지정하지 않은 값에 사용할 설정
+     * @return 시스템 속성 기반 설정
+     */
+    public static Faults fromSystemProperties(Faults defaults) {
+      return new Faults(
+          Long.getLong(PREFIX + "latency-median-ms", defaults.latencyMedianMillis()),
+          Long.getLong(PREFIX + "latency-p99-ms", defaults.latencyP99Millis()),
+          doubleProperty("error-rate", defaults.errorRate()),
+          doubleProperty("too-many-requests-rate", defaults.tooManyRequestsRate()),
+          Integer.getInteger(PREFIX + "retry-after-seconds", defaults.retryAfterSeconds()),
+          doubleProperty("timeout-rate", defaults.timeoutRate()),
+          Long.getLong(PREFIX + "timeout-ms", defaults.timeoutMillis()),
+          Long.getLong(PREFIX + "seed", defaults.seed())
+      );
+    }
+
+    long sampleLatencyMillis(Random random) {
+      if (latencyMedianMillis <= 0) {
+        return 0;
+      }
+      double sigma = Math.log(Math.max(latencyP99Millis, latencyMedianMillis) / (double) latencyMedianMillis) / Z_99;
+      return Math.round(latencyMedianMillis * Math.exp(sigma * random.nextGaussian()));
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+      String value = System.getProperty(PREFIX + name);
+      return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+  }
+}
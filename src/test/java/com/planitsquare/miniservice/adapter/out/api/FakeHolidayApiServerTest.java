@@ -0,0 +1,76 @@
+package com.planitsquare.miniservice.adapter.out.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.planitsquare.miniservice.adapter.out.api.FakeHolidayApiServer.Faults;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("FakeHolidayApiServer 테스트")
+class FakeHolidayApiServerTest {
+
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+
+  private FakeHolidayApiServer server;
+
+  @AfterEach
+  void tearDown() {
+    server.close();
+  }
+
+  @Test
+  @DisplayName("기록된 국가의 공휴일은 요청 연도로 날짜를 바꾸어 반환한다")
+  void 기록된_국가의_공휴일은_요청_연도로_날짜를_바꾸어_반환한다() throws Exception {
+    // Given
+    server = FakeHolidayApiServer.start(Faults.none());
+
+    // When
+    HttpResponse<String> response = get("/PublicHolidays/2023/kr");
+
+    // Then
+    assertThat(response.statusCode()).isEqualTo(200);
+    assertThat(response.body()).contains("\"2023-10-09\"", "한글날").doesNotContain("\"2025-");
+  }
+
+  @Test
+  @DisplayName("기록이 없는 국가는 기본 응답에 국가 코드를 채워 반환하고 목록에 없는 국가는 404를 반환한다")
+  void 기록이_없는_국가는_기본_응답에_국가_코드를_채워_반환하고_목록에_없는_국가는_404를_반환한다() throws Exception {
+    // Given
+    server = FakeHolidayApiServer.start(Faults.none());
+
+    // When
+    HttpResponse<String> unrecorded = get("/PublicHolidays/2024/FR");
+    HttpResponse<String> unknown = get("/PublicHolidays/2024/XX");
+
+    // Then
+    assertThat(unrecorded.statusCode()).isEqualTo(200);
+    assertThat(unrecorded.body()).contains("\"countryCode\": \"FR\"", "\"2024-12-25\"").doesNotContain("{countryCode}");
+    assertThat(unknown.statusCode()).isEqualTo(404);
+  }
+
+  @Test
+  @DisplayName("429 비율을 주입하면 Retry-After 헤더와 함께 429를 반환한다")
+  void 비율을_주입하면_Retry_After_헤더와_함께_429를_반환한다() throws Exception {
+    // Given
+    server = FakeHolidayApiServer.start(new Faults(0, 0, 0, 1.0, 7, 0, 0, 42));
+
+    // When
+    HttpResponse<String> response = get("/AvailableCountries");
+
+    // Then
+    assertThat(response.statusCode()).isEqualTo(429);
+    assertThat(response.headers().firstValue("Retry-After")).hasValue("7");
+    assertThat(server.statusCounts()).containsEntry(429, 1L);
+  }
+
+  private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+    HttpRequest request = HttpRequest.newBuilder(URI.create(server.baseUrl() + path)).GET().build();
+    return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+  }
+}
@@ -0,0 +1,71 @@
+package com.planitsquare.miniservice.adapter.out.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("OutboundRateLimiter 테스트")
+class OutboundRateLimiterTest {
+
+  private final AtomicLong now = new AtomicLong();
+
+  private OutboundRateLimiter rateLimiter;
+
+  @BeforeEach
+  void setUp() {
+    rateLimiter = new OutboundRateLimiter(10, 2, now::get, nanos -> now.addAndGet(Math.max(nanos, 0)));
+  }
+
+  @Test
+  @DisplayName("버킷 용량까지는 대기 없이 보내고 이후에는 초당 요청 수에 맞춰 대기한다")
+  void 버킷_용량까지는_대기_없이_보내고_이후에는_초당_요청_수에_맞춰_대기한다() throws InterruptedException {
+    // When
+    rateLimiter.acquire();
+    rateLimiter.acquire();
+    long afterBurst = now.get();
+    rateLimiter.acquire();
+    rateLimiter.acquire();
+
+    // Then
+    assertThat(afterBurst).isZero();
+    assertThat(now.get()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+  }
+
+  @Test
+  @DisplayName("요청 중단 중에는 중단이 끝난 뒤 쌓인 토큰 없이 다시 시작한다")
+  void 요청_중단_중에는_중단이_끝난_뒤_쌓인_토큰_없이_다시_시작한다() throws InterruptedException {
+    // Given
+    rateLimiter.pauseFor(Duration.ofSeconds(3));
+
+    // When
+    boolean pausedBefore = rateLimiter.isPaused();
+    rateLimiter.acquire();
+    long firstAt = now.get();
+    rateLimiter.acquire();
+
+    // Then
+    assertThat(pausedBefore).isTrue();
+    assertThat(firstAt).isEqualTo(TimeUnit.MILLISECONDS.toNanos(3_100));
+    assertThat(now.get()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(3_200));
+    assertThat(rateLimiter.isPaused()).isFalse();
+  }
+
+  @Test
+  @DisplayName("더 짧은 중단 요청은 이미 걸린 중단 시점을 앞당기지 않는다")
+  void 더_짧은_중단_요청은_이미_걸린_중단_시점을_앞당기지_않는다() throws InterruptedException {
+    // Given
+    rateLimiter.pauseFor(Duration.ofSeconds(5));
+    rateLimiter.pauseFor(Duration.ofSeconds(1));
+
+    // When
+    rateLimiter.acquire();
+
+    // Then
+    assertThat(now.get()).isGreaterThanOrEqualTo(TimeUnit.SECONDS.toNanos(5));
+  }
+}
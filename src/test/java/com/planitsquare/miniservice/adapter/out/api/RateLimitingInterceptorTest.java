@@ -0,0 +1,101 @@
+package com.planitsquare.miniservice.adapter.out.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateLimitingInterceptor 테스트")
+class RateLimitingInterceptorTest {
+
+  private static final Duration MAX_PAUSE = Duration.ofSeconds(60);
+
+  @Mock
+  private OutboundRateLimiter rateLimiter;
+
+  @Mock
+  private ClientHttpRequestExecution execution;
+
+  private final MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("/PublicHolidays/2025/KR"));
+
+  @Test
+  @DisplayName("429 응답의 Retry-After만큼 외부 요청 전체를 멈춘다")
+  void 응답의_Retry_After만큼_외부_요청_전체를_멈춘다() throws Exception {
+    // Given
+    MockClientHttpResponse response = new MockClientHttpResponse(new byte[0], HttpStatus.TOO_MANY_REQUESTS);
+    response.getHeaders().set(HttpHeaders.RETRY_AFTER, "7");
+    given(execution.execute(any(), any())).willReturn(response);
+
+    // When
+    new RateLimitingInterceptor(rateLimiter, MAX_PAUSE).intercept(request, new byte[0], execution);
+
+    // Then
+    then(rateLimiter).should().acquire();
+    then(rateLimiter).should().pauseFor(Duration.ofSeconds(7));
+  }
+
+  @Test
+  @DisplayName("Retry-After가 최대 중단 시간을 넘으면 최대 중단 시간만큼 멈춘다")
+  void Retry_After가_최대_중단_시간을_넘으면_최대_중단_시간만큼_멈춘다() throws Exception {
+    // Given
+    MockClientHttpResponse response = new MockClientHttpResponse(new byte[0], HttpStatus.SERVICE_UNAVAILABLE);
+    response.getHeaders().set(HttpHeaders.RETRY_AFTER, "3600");
+    given(execution.execute(any(), any())).willReturn(response);
+
+    // When
+    new RateLimitingInterceptor(rateLimiter, MAX_PAUSE).intercept(request, new byte[0], execution);
+
+    // Then
+    then(rateLimiter).should().pauseFor(MAX_PAUSE);
+  }
+
+  @Test
+  @DisplayName("Retry-After가 없는 503 응답과 정상 응답은 요청을 멈추지 않는다")
+  void Retry_After가_없는_503_응답과_정상_응답은_요청을_멈추지_않는다() throws Exception {
+    // Given
+    given(execution.execute(any(), any())).willReturn(
+        new MockClientHttpResponse(new byte[0], HttpStatus.SERVICE_UNAVAILABLE),
+        new MockClientHttpResponse(new byte[0], HttpStatus.OK)
+    );
+    RateLimitingInterceptor interceptor = new RateLimitingInterceptor(rateLimiter, MAX_PAUSE);
+
+    // When
+    interceptor.intercept(request, new byte[0], execution);
+    interceptor.intercept(request, new byte[0], execution);
+
+    // Then
+    then(rateLimiter).should(never()).pauseFor(any());
+  }
+
+  @Test
+  @DisplayName("Retry-After는 초 단위 숫자와 HTTP 날짜 형식을 모두 해석한다")
+  void Retry_After는_초_단위_숫자와_HTTP_날짜_형식을_모두_해석한다() {
+    // Given
+    String httpDate = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30));
+
+    // When & Then
+    assertThat(RateLimitingInterceptor.parseRetryAfter("120")).isEqualTo(Duration.ofSeconds(120));
+    assertThat(RateLimitingInterceptor.parseRetryAfter(httpDate)).isBetween(Duration.ofSeconds(25), Duration.ofSeconds(30));
+    assertThat(RateLimitingInterceptor.parseRetryAfter("soon")).isNull();
+    assertThat(RateLimitingInterceptor.parseRetryAfter(null)).isNull();
+  }
+}
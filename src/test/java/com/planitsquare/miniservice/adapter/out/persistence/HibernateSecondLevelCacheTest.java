@@ -0,0 +1,121 @@
+package com.planitsquare.miniservice.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.planitsquare.miniservice.IntegrationTestBase;
+import com.planitsquare.miniservice.adapter.out.persistence.HibernateCacheStatisticsEndpoint.CacheStatistics;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.CountryJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.HolidayJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.CountryJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.HolidayJpaRepository;
+import com.planitsquare.miniservice.domain.model.Holiday;
+import com.planitsquare.miniservice.domain.vo.Country;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+import com.planitsquare.miniservice.domain.vo.HolidayId;
+import com.planitsquare.miniservice.domain.vo.HolidayMetadata;
+import com.planitsquare.miniservice.domain.vo.HolidayType;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("Hibernate 2차 캐시 테스트")
+class HibernateSecondLevelCacheTest extends IntegrationTestBase {
+
+  private static final Country COUNTRY = new Country(new CountryCode("IS"), "Iceland");
+  private static final int YEAR = 2024;
+
+  @Autowired
+  private CountryAdapter countryAdapter;
+
+  @Autowired
+  private HolidaysAdapter holidaysAdapter;
+
+  @Autowired
+  private CountryJpaRepository countryJpaRepository;
+
+  @Autowired
+  private HolidayJpaRepository holidayJpaRepository;
+
+  @Autowired
+  private HibernateCacheStatisticsEndpoint cacheStatisticsEndpoint;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    countryAdapter.saveAllCountries(List.of(COUNTRY));
+  }
+
+  @AfterEach
+  void tearDown() {
+    transactionTemplate.executeWithoutResult(status ->
+        holidayJpaRepository.deleteByCountryCodeAndYear(COUNTRY.getCode(), YEAR));
+    countryJpaRepository.deleteById(COUNTRY.getCode());
+  }
+
+  @Test
+  @DisplayName("국가를 반복 조회하면 데이터베이스를 다시 조회하지 않고 2차 캐시에서 반환한다")
+  void 국가를_반복_조회하면_데이터베이스를_다시_조회하지_않고_2차_캐시에서_반환한다() {
+    // Given
+    countryAdapter.findByCode(COUNTRY.getCode());
+    long statementsBefore = statistics.getPrepareStatementCount();
+    long hitsBefore = statistics.getCacheRegionStatistics(CountryJpaEntity.CACHE_REGION).getHitCount();
+
+    // When
+    for (int i = 0; i < 5; i++) {
+      assertThat(countryAdapter.findByCode(COUNTRY.getCode())).contains(COUNTRY);
+    }
+
+    // Then
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsBefore);
+    assertThat(statistics.getCacheRegionStatistics(CountryJpaEntity.CACHE_REGION).getHitCount())
+        .isEqualTo(hitsBefore + 5);
+    CacheStatistics exposed = cacheStatisticsEndpoint.cacheStatistics();
+    assertThat(exposed.statisticsEnabled()).isTrue();
+    assertThat(exposed.regions().get(CountryJpaEntity.CACHE_REGION).getHitRatio()).isPositive();
+  }
+
+  @Test
+  @DisplayName("동기화로 공휴일을 교체하면 캐시된 타입 컬렉션 대신 새로 저장된 값을 조회한다")
+  void 동기화로_공휴일을_교체하면_캐시된_타입_컬렉션_대신_새로_저장된_값을_조회한다() {
+    // Given
+    holidaysAdapter.replaceHolidays(YEAR, COUNTRY.code(), List.of(holiday("Public")));
+    assertThat(loadTypes()).containsExactly(HolidayType.PUBLIC);
+    assertThat(loadTypes()).containsExactly(HolidayType.PUBLIC);
+    assertThat(statistics.getCacheRegionStatistics(HolidayJpaEntity.TYPES_CACHE_REGION).getHitCount()).isPositive();
+
+    // When
+    holidaysAdapter.replaceHolidays(YEAR, COUNTRY.code(), List.of(holiday("Bank")));
+
+    // Then
+    assertThat(loadTypes()).containsExactly(HolidayType.BANK);
+  }
+
+  private List<HolidayType> loadTypes() {
+    return transactionTemplate.execute(status -> holidayJpaRepository.findAll().stream()
+        .filter(holiday -> holiday.getCountry().getCode().equals(COUNTRY.getCode()))
+        .flatMap(holiday -> holiday.getTypes().stream())
+        .toList());
+  }
+
+  private static Holiday holiday(String type) {
+    LocalDate date = LocalDate.of(YEAR, 1, 1);
+    return new Holiday(new HolidayId(date.toEpochDay()), COUNTRY, "Nýársdagur", "New Year's Day", date,
+        new HolidayMetadata(true, true, null, List.of(type), List.of()));
+  }
+}
@@ -0,0 +1,243 @@
+package com.planitsquare.miniservice.adapter.out.persistence;
+
+import com.planitsquare.miniservice.IntegrationTestBase;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.CountryJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.HolidayJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.CountryJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.HolidayJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.search.HolidayNameIndex;
+import com.planitsquare.miniservice.adapter.out.persistence.vo.HolidayMetadataEmbeddable;
+import com.planitsquare.miniservice.application.port.in.HolidayView;
+import com.planitsquare.miniservice.application.port.in.SearchHolidaysQuery;
+import com.planitsquare.miniservice.domain.vo.HolidayType;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HolidaySearchAdapter 테스트")
+@Transactional
+class HolidaySearchAdapterTest extends IntegrationTestBase {
+
+  private static final int PAGE_SIZE = 20;
+
+  @Autowired
+  private HolidaySearchAdapter holidaySearchAdapter;
+
+  @Autowired
+  private HolidayJpaRepository holidayJpaRepository;
+
+  @Autowired
+  private CountryJpaRepository countryJpaRepository;
+
+  @Autowired
+  private HolidaySearchCountCache holidaySearchCountCache;
+
+  @Autowired
+  private HolidayNameIndex holidayNameIndex;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    CountryJpaEntity korea = countryJpaRepository.save(new CountryJpaEntity("KR", "South Korea"));
+    holidayJpaRepository.saveAll(IntStream.range(0, PAGE_SIZE)
+        .mapToObj(i -> new HolidayJpaEntity(
+            korea,
+            "휴일" + i,
+            "Holiday " + i,
+            LocalDate.of(2024, 1, 1).plusDays(i),
+            new HolidayMetadataEmbeddable(true, false, null),
+            List.of(HolidayType.PUBLIC, HolidayType.BANK),
+            List.of("KR-11")
+        ))
+        .toList());
+    entityManager.flush();
+    entityManager.clear();
+    holidaySearchCountCache.evictAll();
+    holidayNameIndex.rebuild();
+
+    statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+  }
+
+  @AfterEach
+  void tearDown() {
+    statistics.setStatisticsEnabled(false);
+  }
+
+  @Test
+  @DisplayName("검색 결과 한 페이지의 타입과 지역 컬렉션을 일괄로 조회한다")
+  void 검색_결과_한_페이지의_타입과_지역_컬렉션을_일괄로_조회한다() {
+    // Given
+    SearchHolidaysQuery query = SearchHolidaysQuery.builder()
+        .year(2024)
+        .countryCode("KR")
+        .pageable(PageRequest.of(0, PAGE_SIZE, Sort.by("date")))
+        .build();
+
+    // When
+    Page<HolidayView> result = (Page<HolidayView>) holidaySearchAdapter.searchHolidays(query);
+
+    // Then
+    assertThat(result.getContent()).hasSize(PAGE_SIZE);
+    assertThat(result.getContent()).allSatisfy(holiday -> {
+      assertThat(holiday.types()).containsExactlyInAnyOrder("PUBLIC", "BANK");
+      assertThat(holiday.applicableRegions()).containsExactly("KR-11");
+    });
+    // 목록 조회 + 전체 개수 조회 + 타입 일괄 조회 + 지역 일괄 조회
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("검색은 엔티티를 영속성 컨텍스트에 적재하지 않고 읽기 모델로 조회한다")
+  void 검색은_엔티티를_영속성_컨텍스트에_적재하지_않고_읽기_모델로_조회한다() {
+    // Given
+    SearchHolidaysQuery query = SearchHolidaysQuery.builder()
+        .countryCode("KR")
+        .pageable(PageRequest.of(0, PAGE_SIZE))
+        .build();
+
+    // When
+    Page<HolidayView> result = (Page<HolidayView>) holidaySearchAdapter.searchHolidays(query);
+
+    // Then
+    assertThat(result.getContent()).hasSize(PAGE_SIZE);
+    assertThat(result.getContent().getFirst().countryName()).isEqualTo("South Korea");
+    assertThat(statistics.getEntityLoadCount()).isZero();
+    assertThat(statistics.getCollectionLoadCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("전체 건수를 요청하지 않으면 건수 조회 없이 Slice로 반환한다")
+  void 전체_건수를_요청하지_않으면_건수_조회_없이_Slice로_반환한다() {
+    // Given
+    SearchHolidaysQuery query = SearchHolidaysQuery.builder()
+        .name("Holiday")
+        .pageable(PageRequest.of(0, PAGE_SIZE / 2))
+        .includeTotal(false)
+        .build();
+
+    // When
+    Slice<HolidayView> result = holidaySearchAdapter.searchHolidays(query);
+
+    // Then
+    assertThat(result).isNotInstanceOf(Page.class);
+    assertThat(result.getContent()).hasSize(PAGE_SIZE / 2);
+    assertThat(result.hasNext()).isTrue();
+    // 목록 조회(size + 1) + 타입 일괄 조회 + 지역 일괄 조회
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("같은 조건의 전체 건수는 한 번만 조회한다")
+  void 같은_조건의_전체_건수는_한_번만_조회한다() {
+    // Given
+    SearchHolidaysQuery firstPage = SearchHolidaysQuery.builder()
+        .name("Holiday")
+        .pageable(PageRequest.of(0, PAGE_SIZE / 2))
+        .build();
+    SearchHolidaysQuery secondPage = SearchHolidaysQuery.builder()
+        .name("holiday")
+        .pageable(PageRequest.of(1, PAGE_SIZE / 4))
+        .build();
+
+    // When
+    Page<HolidayView> first = (Page<HolidayView>) holidaySearchAdapter.searchHolidays(firstPage);
+    Page<HolidayView> second = (Page<HolidayView>) holidaySearchAdapter.searchHolidays(secondPage);
+
+    // Then
+    assertThat(first.getTotalElements()).isEqualTo(PAGE_SIZE);
+    assertThat(second.getTotalElements()).isEqualTo(PAGE_SIZE);
+    // (목록 + 타입 + 지역) x 2 + 건수 1회
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(7);
+  }
+
+  @Test
+  @DisplayName("이름 검색은 발음 구별 기호와 대소문자를 무시하고 일치 정도 순으로 정렬한다")
+  void 이름_검색은_발음_구별_기호와_대소문자를_무시하고_일치_정도_순으로_정렬한다() {
+    // Given
+    CountryJpaEntity spain = countryJpaRepository.save(new CountryJpaEntity("ES", "Spain"));
+    holidayJpaRepository.saveAll(List.of(
+        holiday(spain, "Año Nuevo", "New Year's Day", LocalDate.of(2024, 1, 1)),
+        holiday(spain, "Día de la Constitución", "Constitution Day", LocalDate.of(2024, 12, 6)),
+        holiday(spain, "Día", "Day", LocalDate.of(2024, 12, 7)),
+        holiday(spain, "Todos los Santos", "All Saints' Day", LocalDate.of(2024, 11, 1))
+    ));
+    entityManager.flush();
+    holidayNameIndex.rebuild();
+
+    SearchHolidaysQuery query = SearchHolidaysQuery.builder()
+        .countryCode("ES")
+        .name("DIA")
+        .pageable(PageRequest.of(0, PAGE_SIZE))
+        .build();
+
+    // When
+    Slice<HolidayView> result = holidaySearchAdapter.searchHolidays(query);
+
+    // Then
+    assertThat(result.getContent())
+        .extracting(HolidayView::localName)
+        .containsExactly("Día", "Día de la Constitución");
+  }
+
+  @Test
+  @DisplayName("이름 색인 일치 건수가 많아도 같은 정규화 기준과 일치 정도 순으로 검색하고 건수를 센다")
+  void 이름_색인_일치_건수가_많아도_같은_정규화_기준과_일치_정도_순으로_검색하고_건수를_센다() {
+    // Given - 색인 결과를 IN 조건으로 쓰는 최대 건수(1,000)를 넘는 일치
+    int wideMatchCount = 1_001;
+    CountryJpaEntity spain = countryJpaRepository.save(new CountryJpaEntity("ES", "Spain"));
+    holidayJpaRepository.saveAll(IntStream.range(0, wideMatchCount)
+        .mapToObj(i -> holiday(spain, "Fiesta del Día " + i, "Local Day " + i, LocalDate.of(2024, 1, 1).plusDays(i % 365)))
+        .toList());
+    holidayJpaRepository.save(holiday(spain, "Día", "Day", LocalDate.of(2024, 12, 31)));
+    entityManager.flush();
+    holidayNameIndex.rebuild();
+
+    SearchHolidaysQuery query = SearchHolidaysQuery.builder()
+        .countryCode("ES")
+        .name("DIA")
+        .pageable(PageRequest.of(0, PAGE_SIZE))
+        .build();
+
+    // When
+    Page<HolidayView> result = (Page<HolidayView>) holidaySearchAdapter.searchHolidays(query);
+
+    // Then
+    assertThat(result.getTotalElements()).isEqualTo(wideMatchCount + 1);
+    assertThat(result.getContent()).hasSize(PAGE_SIZE);
+    assertThat(result.getContent().getFirst().localName()).isEqualTo("Día");
+  }
+
+  private HolidayJpaEntity holiday(CountryJpaEntity country, String localName, String name, LocalDate date) {
+    return new HolidayJpaEntity(
+        country,
+        localName,
+        name,
+        date,
+        new HolidayMetadataEmbeddable(true, true, null),
+        List.of(HolidayType.PUBLIC),
+        List.of()
+    );
+  }
+}
@@ -0,0 +1,96 @@
+package com.planitsquare.miniservice.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.planitsquare.miniservice.adapter.out.persistence.repository.HolidayQueryRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.HolidayQueryRepository.CountryYearCount;
+import com.planitsquare.miniservice.application.event.HolidaysChangedEvent;
+import com.planitsquare.miniservice.application.port.in.SearchHolidaysQuery;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("HolidaySearchCountCache 테스트")
+@ExtendWith(MockitoExtension.class)
+class HolidaySearchCountCacheTest {
+
+  @Mock private HolidayQueryRepository holidayQueryRepository;
+
+  @InjectMocks private HolidaySearchCountCache holidaySearchCountCache;
+
+  @Test
+  @DisplayName("연도와 국가 조건만 있으면 (국가, 연도) 카운터를 합산한다")
+  void 연도와_국가_조건만_있으면_국가_연도_카운터를_합산한다() {
+    // Given
+    given(holidayQueryRepository.countByCountryAndYear()).willReturn(List.of(
+        new CountryYearCount("KR", 2024, 15L),
+        new CountryYearCount("KR", 2025, 16L),
+        new CountryYearCount("US", 2025, 11L)
+    ));
+
+    // When
+    long all = holidaySearchCountCache.count(SearchHolidaysQuery.builder().build(), null);
+    long year = holidaySearchCountCache.count(SearchHolidaysQuery.builder().year(2025).build(), null);
+    long country = holidaySearchCountCache.count(SearchHolidaysQuery.builder().countryCode("kr").build(), null);
+
+    // Then
+    assertThat(all).isEqualTo(42L);
+    assertThat(year).isEqualTo(27L);
+    assertThat(country).isEqualTo(31L);
+    then(holidayQueryRepository).should(times(1)).countByCountryAndYear();
+    then(holidayQueryRepository).should(never()).count(any(), any());
+  }
+
+  @Test
+  @DisplayName("공휴일 변경 시 영향을 받는 조건의 건수만 다시 조회한다")
+  void 공휴일_변경_시_영향을_받는_조건의_건수만_다시_조회한다() {
+    // Given
+    SearchHolidaysQuery krQuery = SearchHolidaysQuery.builder().year(2025).countryCode("KR").name("설").build();
+    SearchHolidaysQuery usQuery = SearchHolidaysQuery.builder().year(2025).countryCode("US").name("day").build();
+    given(holidayQueryRepository.count(krQuery, null)).willReturn(3L);
+    given(holidayQueryRepository.count(usQuery, null)).willReturn(5L);
+    holidaySearchCountCache.count(krQuery, null);
+    holidaySearchCountCache.count(usQuery, null);
+
+    // When
+    holidaySearchCountCache.onHolidaysChanged(HolidaysChangedEvent.of(new CountryCode("KR"), 2025));
+    holidaySearchCountCache.count(krQuery, null);
+    holidaySearchCountCache.count(usQuery, null);
+
+    // Then
+    then(holidayQueryRepository).should(times(2)).count(krQuery, null);
+    then(holidayQueryRepository).should(times(1)).count(usQuery, null);
+  }
+
+  @Test
+  @DisplayName("건수 조회 도중 공휴일이 변경되면 조회한 건수를 보관하지 않는다")
+  void 건수_조회_도중_공휴일이_변경되면_조회한_건수를_보관하지_않는다() {
+    // Given
+    SearchHolidaysQuery query = SearchHolidaysQuery.builder().year(2025).countryCode("KR").name("설").build();
+    given(holidayQueryRepository.count(query, null)).willAnswer(invocation -> {
+      holidaySearchCountCache.onHolidaysChanged(HolidaysChangedEvent.of(new CountryCode("KR"), 2025));
+      return 3L;
+    }).willReturn(4L);
+
+    // When
+    long duringChange = holidaySearchCountCache.count(query, null);
+    long afterChange = holidaySearchCountCache.count(query, null);
+    long cached = holidaySearchCountCache.count(query, null);
+
+    // Then
+    assertThat(duringChange).isEqualTo(3L);
+    assertThat(afterChange).isEqualTo(4L);
+    assertThat(cached).isEqualTo(4L);
+    then(holidayQueryRepository).should(times(2)).count(query, null);
+  }
+}
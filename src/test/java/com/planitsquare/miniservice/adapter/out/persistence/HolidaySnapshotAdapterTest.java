@@ -0,0 +1,166 @@
+package com.planitsquare.miniservice.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.planitsquare.miniservice.IntegrationTestBase;
+import com.planitsquare.miniservice.adapter.out.persistence.config.HolidaySnapshotProperties;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.CountryJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.HolidayDataVersionJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.HolidayJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.CountryJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.HolidayDataVersionJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.HolidayJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.snapshot.HolidaySnapshot;
+import com.planitsquare.miniservice.adapter.out.persistence.snapshot.HolidaySnapshot.SnapshotHoliday;
+import com.planitsquare.miniservice.adapter.out.persistence.snapshot.HolidaySnapshotCodec;
+import com.planitsquare.miniservice.adapter.out.persistence.vo.HolidayMetadataEmbeddable;
+import com.planitsquare.miniservice.application.port.in.HolidayDataVersion;
+import com.planitsquare.miniservice.application.service.HolidayDataVersionService;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+import com.planitsquare.miniservice.domain.vo.HolidayType;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("HolidaySnapshotAdapter 테스트")
+class HolidaySnapshotAdapterTest extends IntegrationTestBase {
+
+  private static final String COUNTRY_CODE = "NZ";
+  private static final int YEAR = 2024;
+
+  @TempDir
+  private Path directory;
+
+  @Autowired
+  private JPAQueryFactory queryFactory;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private CountryJpaRepository countryJpaRepository;
+
+  @Autowired
+  private HolidayJpaRepository holidayJpaRepository;
+
+  @Autowired
+  private HolidayDataVersionJpaRepository holidayDataVersionJpaRepository;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private HolidaySnapshotAdapter holidaySnapshotAdapter;
+  private Path snapshotPath;
+
+  @BeforeEach
+  void setUp() {
+    snapshotPath = directory.resolve("holiday-snapshot.bin.gz");
+    HolidaySnapshotProperties properties = new HolidaySnapshotProperties();
+    properties.setPath(snapshotPath.toString());
+    holidaySnapshotAdapter = new HolidaySnapshotAdapter(
+        queryFactory, entityManager, countryJpaRepository, holidayJpaRepository, holidayDataVersionJpaRepository, properties);
+
+    CountryJpaEntity country = countryJpaRepository.save(new CountryJpaEntity(COUNTRY_CODE, "New Zealand"));
+    holidayJpaRepository.saveAll(List.of(
+        new HolidayJpaEntity(country, "Waitangi Day", "Waitangi Day", LocalDate.of(YEAR, 2, 6),
+            new HolidayMetadataEmbeddable(true, true, 1974), List.of(HolidayType.PUBLIC), List.of()),
+        new HolidayJpaEntity(country, "Anniversary Day", "Auckland Anniversary Day", LocalDate.of(YEAR, 1, 29),
+            new HolidayMetadataEmbeddable(false, false, null), List.of(HolidayType.PUBLIC, HolidayType.OPTIONAL),
+            List.of("NZ-AUK", "NZ-NTL"))
+    ));
+  }
+
+  @AfterEach
+  void tearDown() {
+    transactionTemplate.executeWithoutResult(status ->
+        holidayJpaRepository.deleteByCountryCodeAndYear(COUNTRY_CODE, YEAR));
+    countryJpaRepository.deleteById(COUNTRY_CODE);
+    holidayDataVersionJpaRepository.deleteById(new HolidayDataVersionJpaEntity.Key(COUNTRY_CODE, YEAR));
+  }
+
+  @Test
+  @DisplayName("저장된 국가와 공휴일을 타입 마스크와 적용 지역까지 스냅샷으로 내보낸다")
+  void 저장된_국가와_공휴일을_타입_마스크와_적용_지역까지_스냅샷으로_내보낸다() throws Exception {
+    // When
+    holidaySnapshotAdapter.exportSnapshot();
+    HolidaySnapshot snapshot = HolidaySnapshotCodec.read(snapshotPath);
+
+    // Then
+    assertThat(snapshot.countries()).anySatisfy(country -> assertThat(country.code()).isEqualTo(COUNTRY_CODE));
+    assertThat(snapshot.holidays())
+        .filteredOn(holiday -> holiday.countryCode().equals(COUNTRY_CODE))
+        .containsExactly(
+            new SnapshotHoliday(COUNTRY_CODE, LocalDate.of(YEAR, 1, 29), "Anniversary Day", "Auckland Anniversary Day",
+                false, false, null, HolidayType.maskOf(List.of(HolidayType.PUBLIC, HolidayType.OPTIONAL)),
+                List.of("NZ-AUK", "NZ-NTL")),
+            new SnapshotHoliday(COUNTRY_CODE, LocalDate.of(YEAR, 2, 6), "Waitangi Day", "Waitangi Day",
+                true, true, 1974, HolidayType.PUBLIC.bit(), List.of())
+        );
+  }
+
+  @Test
+  @DisplayName("이미 저장된 데이터가 있으면 스냅샷을 적재하지 않는다")
+  void 이미_저장된_데이터가_있으면_스냅샷을_적재하지_않는다() {
+    // Given
+    holidaySnapshotAdapter.exportSnapshot();
+
+    // When
+    List<Integer> restoredYears = holidaySnapshotAdapter.restoreSnapshot();
+
+    // Then
+    assertThat(restoredYears).isEmpty();
+  }
+
+  @Test
+  @DisplayName("새로 만든 데이터베이스에 스냅샷을 다시 적재하면 변경 횟수가 같아도 이전과 다른 버전을 낸다")
+  void 새로_만든_데이터베이스에_스냅샷을_다시_적재하면_변경_횟수가_같아도_이전과_다른_버전을_낸다() {
+    // Given - 첫 번째 시작에서 빈 데이터베이스에 스냅샷을 적재
+    holidaySnapshotAdapter.exportSnapshot();
+    HolidaySnapshotAdapter restoringAdapter = restoringAdapter();
+    clearStoredData();
+    transactionTemplate.executeWithoutResult(status -> restoringAdapter.restoreSnapshot());
+    HolidayDataVersion beforeRestart = loadVersion();
+
+    // When - 메모리 데이터베이스로 다시 시작하여 같은 스냅샷을 적재
+    clearStoredData();
+    transactionTemplate.executeWithoutResult(status -> restoringAdapter.restoreSnapshot());
+    HolidayDataVersion afterRestart = loadVersion();
+
+    // Then
+    assertThat(afterRestart.changeCount()).isEqualTo(beforeRestart.changeCount()).isEqualTo(1);
+    assertThat(afterRestart.value()).isNotEqualTo(beforeRestart.value());
+  }
+
+  /**
+   * 비어 있는 데이터베이스에서 시작한 것처럼 스냅샷을 적재하는 Adapter.
+   */
+  private HolidaySnapshotAdapter restoringAdapter() {
+    HolidaySnapshotProperties properties = new HolidaySnapshotProperties();
+    properties.setPath(snapshotPath.toString());
+    return new HolidaySnapshotAdapter(queryFactory, entityManager, mock(CountryJpaRepository.class),
+        mock(HolidayJpaRepository.class), holidayDataVersionJpaRepository, properties);
+  }
+
+  /**
+   * 새로 만든 데이터베이스처럼 테스트 국가의 공휴일, 국가, 데이터 버전을 지웁니다.
+   */
+  private void clearStoredData() {
+    tearDown();
+  }
+
+  private HolidayDataVersion loadVersion() {
+    return new HolidayDataVersionService(new HolidayDataVersionAdapter(holidayDataVersionJpaRepository),
+        mock(ApplicationEventPublisher.class)).getVersion(new CountryCode(COUNTRY_CODE), YEAR, YEAR);
+  }
+}
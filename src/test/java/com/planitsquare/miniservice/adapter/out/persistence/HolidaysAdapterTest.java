@@ -0,0 +1,187 @@
+package com.planitsquare.miniservice.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.planitsquare.miniservice.IntegrationTestBase;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.CountryJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.HolidayDataVersionJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.HolidayJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.CountryJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.HolidayDataVersionJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.HolidayJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.SyncJobLockJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.vo.HolidayMetadataEmbeddable;
+import com.planitsquare.miniservice.application.exception.SyncJobLeaseLostException;
+import com.planitsquare.miniservice.application.port.out.SyncJobLease;
+import com.planitsquare.miniservice.application.util.SyncJobLeaseContext;
+import com.planitsquare.miniservice.domain.model.Holiday;
+import com.planitsquare.miniservice.domain.vo.Country;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+import com.planitsquare.miniservice.domain.vo.HolidayId;
+import com.planitsquare.miniservice.domain.vo.HolidayMetadata;
+import com.planitsquare.miniservice.domain.vo.HolidayType;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("HolidaysAdapter 테스트")
+class HolidaysAdapterTest extends IntegrationTestBase {
+
+  private static final CountryCode COUNTRY_CODE = new CountryCode("NZ");
+  private static final int YEAR = 2024;
+
+  @Autowired
+  private HolidaysAdapter holidaysAdapter;
+
+  @Autowired
+  private HolidayJpaRepository holidayJpaRepository;
+
+  @Autowired
+  private CountryJpaRepository countryJpaRepository;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @Autowired
+  private SyncJobLockPersistenceAdapter syncJobLockPersistenceAdapter;
+
+  @Autowired
+  private SyncJobLockJpaRepository syncJobLockJpaRepository;
+
+  @Autowired
+  private HolidayDataVersionJpaRepository holidayDataVersionJpaRepository;
+
+  @BeforeEach
+  void setUp() {
+    CountryJpaEntity country = countryJpaRepository.save(new CountryJpaEntity(COUNTRY_CODE.code(), "New Zealand"));
+    holidayJpaRepository.saveAll(List.of(
+        holidayEntity(country, "New Year's Day", LocalDate.of(YEAR, 1, 1)),
+        holidayEntity(country, "Waitangi Day", LocalDate.of(YEAR, 2, 6))
+    ));
+  }
+
+  @AfterEach
+  void tearDown() {
+    transactionTemplate.executeWithoutResult(status ->
+        holidayJpaRepository.deleteByCountryCodeAndYear(COUNTRY_CODE.code(), YEAR));
+    countryJpaRepository.deleteById(COUNTRY_CODE.code());
+    syncJobLockJpaRepository.deleteAllInBatch();
+    holidayDataVersionJpaRepository.deleteById(new HolidayDataVersionJpaEntity.Key(COUNTRY_CODE.code(), YEAR));
+    SyncJobLeaseContext.clear();
+  }
+
+  @Test
+  @DisplayName("공휴일 교체가 커밋되기 전까지 조회는 대기 없이 기존 데이터를 반환한다")
+  void 공휴일_교체가_커밋되기_전까지_조회는_대기_없이_기존_데이터를_반환한다() throws Exception {
+    // Given
+    Country country = new Country(COUNTRY_CODE, "New Zealand");
+    List<Holiday> newHolidays = List.of(
+        holiday(country, "New Year's Day", LocalDate.of(YEAR, 1, 1)),
+        holiday(country, "Day after New Year's Day", LocalDate.of(YEAR, 1, 2)),
+        holiday(country, "Waitangi Day", LocalDate.of(YEAR, 2, 6))
+    );
+    CountDownLatch replaced = new CountDownLatch(1);
+    CountDownLatch commit = new CountDownLatch(1);
+
+    // When
+    CompletableFuture<Integer> replacing = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+      int deletedCount = holidaysAdapter.replaceHolidays(YEAR, COUNTRY_CODE, newHolidays);
+      holidayJpaRepository.flush();
+      replaced.countDown();
+      await(commit);
+      return deletedCount;
+    }));
+    assertThat(replaced.await(5, TimeUnit.SECONDS)).isTrue();
+    List<String> namesDuringReplace = holidayNames();
+    commit.countDown();
+    int deletedCount = replacing.get(5, TimeUnit.SECONDS);
+
+    // Then
+    assertThat(namesDuringReplace).containsExactly("New Year's Day", "Waitangi Day");
+    assertThat(deletedCount).isEqualTo(2);
+    assertThat(holidayNames()).containsExactly("New Year's Day", "Day after New Year's Day", "Waitangi Day");
+  }
+
+  @Test
+  @DisplayName("동기화 Job이 락 임대를 잃었으면 공휴일을 교체하지 않는다")
+  void 동기화_Job이_락_임대를_잃었으면_공휴일을_교체하지_않는다() {
+    // Given
+    Country country = new Country(COUNTRY_CODE, "New Zealand");
+    List<Holiday> newHolidays = List.of(holiday(country, "Day after New Year's Day", LocalDate.of(YEAR, 1, 2)));
+    SyncJobLease lostLease = syncJobLockPersistenceAdapter.tryAcquire().orElseThrow();
+    lostLease.close();
+    SyncJobLease currentLease = syncJobLockPersistenceAdapter.tryAcquire().orElseThrow();
+    SyncJobLeaseContext.setLease(lostLease);
+
+    // When & Then
+    assertThatThrownBy(() -> holidaysAdapter.replaceHolidays(YEAR, COUNTRY_CODE, newHolidays))
+        .isInstanceOf(SyncJobLeaseLostException.class);
+    assertThat(holidayNames()).containsExactly("New Year's Day", "Waitangi Day");
+
+    SyncJobLeaseContext.setLease(currentLease);
+    holidaysAdapter.replaceHolidays(YEAR, COUNTRY_CODE, newHolidays);
+    assertThat(holidayNames()).containsExactly("Day after New Year's Day");
+    currentLease.close();
+  }
+
+  @Test
+  @DisplayName("공휴일을 교체하거나 삭제하면 같은 트랜잭션에서 (국가, 연도)의 데이터 버전을 올리고 롤백되면 함께 되돌린다")
+  void 공휴일을_교체하거나_삭제하면_같은_트랜잭션에서_국가_연도의_데이터_버전을_올리고_롤백되면_함께_되돌린다() {
+    // Given
+    Country country = new Country(COUNTRY_CODE, "New Zealand");
+    List<Holiday> newHolidays = List.of(holiday(country, "New Year's Day", LocalDate.of(YEAR, 1, 1)));
+
+    // When
+    holidaysAdapter.replaceHolidays(YEAR, COUNTRY_CODE, newHolidays);
+    holidaysAdapter.deleteByYearAndCountryCode(YEAR, COUNTRY_CODE);
+    transactionTemplate.executeWithoutResult(status -> {
+      holidaysAdapter.replaceHolidays(YEAR, COUNTRY_CODE, newHolidays);
+      status.setRollbackOnly();
+    });
+
+    // Then
+    assertThat(holidayDataVersionJpaRepository.findById(new HolidayDataVersionJpaEntity.Key(COUNTRY_CODE.code(), YEAR)))
+        .get()
+        .extracting(HolidayDataVersionJpaEntity::getVersion)
+        .isEqualTo(2L);
+  }
+
+  private List<String> holidayNames() {
+    return holidayJpaRepository.findAllByCountryCodeAndDateBetween(
+            COUNTRY_CODE.code(), LocalDate.of(YEAR, 1, 1), LocalDate.of(YEAR, 12, 31)
+        ).stream()
+        .map(HolidayJpaEntity::getName)
+        .toList();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static HolidayJpaEntity holidayEntity(CountryJpaEntity country, String name, LocalDate date) {
+    return new HolidayJpaEntity(
+        country, name, name, date,
+        new HolidayMetadataEmbeddable(true, true, null),
+        List.of(HolidayType.PUBLIC),
+        List.of()
+    );
+  }
+
+  private static Holiday holiday(Country country, String name, LocalDate date) {
+    return new Holiday(new HolidayId(date.toEpochDay()), country, name, name, date,
+        new HolidayMetadata(true, true, null, List.of("Public"), List.of()));
+  }
+}
@@ -0,0 +1,96 @@
+package com.planitsquare.miniservice.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.planitsquare.miniservice.IntegrationTestBase;
+import com.planitsquare.miniservice.adapter.out.persistence.config.SyncJobLockProperties;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.SyncJobLockJpaRepository;
+import com.planitsquare.miniservice.application.port.out.SyncJobLease;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.TaskScheduler;
+
+@DisplayName("SyncJobLockPersistenceAdapter 테스트")
+class SyncJobLockPersistenceAdapterTest extends IntegrationTestBase {
+
+  @Autowired
+  private SyncJobLockPersistenceAdapter syncJobLockPersistenceAdapter;
+
+  @Autowired
+  private SyncJobLockJpaRepository syncJobLockJpaRepository;
+
+  @Autowired
+  private TaskScheduler taskScheduler;
+
+  @AfterEach
+  void tearDown() {
+    syncJobLockJpaRepository.deleteAllInBatch();
+  }
+
+  @Test
+  @DisplayName("락을 보유 중이면 다른 소유자는 획득하지 못하고 해제 후에는 획득한다")
+  void 락을_보유_중이면_다른_소유자는_획득하지_못하고_해제_후에는_획득한다() {
+    // Given
+    SyncJobLease first = syncJobLockPersistenceAdapter.tryAcquire().orElseThrow();
+
+    // When
+    Optional<SyncJobLease> whileHeld = syncJobLockPersistenceAdapter.tryAcquire();
+    boolean lockedWhileHeld = syncJobLockPersistenceAdapter.isLocked();
+    first.close();
+    Optional<SyncJobLease> afterRelease = syncJobLockPersistenceAdapter.tryAcquire();
+
+    // Then
+    assertThat(whileHeld).isEmpty();
+    assertThat(lockedWhileHeld).isTrue();
+    assertThat(afterRelease).isPresent();
+    assertThat(afterRelease.get().ownerId()).isNotEqualTo(first.ownerId());
+    afterRelease.get().close();
+    assertThat(syncJobLockPersistenceAdapter.isLocked()).isFalse();
+  }
+
+  @Test
+  @DisplayName("임대가 만료된 락은 다른 인스턴스가 획득하고 기존 소유자는 해제하지 못한다")
+  void 임대가_만료된_락은_다른_인스턴스가_획득하고_기존_소유자는_해제하지_못한다() {
+    // Given
+    SyncJobLockProperties properties = new SyncJobLockProperties();
+    properties.setLeaseSeconds(0);
+    properties.setInstanceId("crashed-node");
+    SyncJobLockPersistenceAdapter crashedNode =
+        new SyncJobLockPersistenceAdapter(syncJobLockJpaRepository, taskScheduler, properties);
+    SyncJobLease expired = crashedNode.tryAcquire().orElseThrow();
+
+    // When
+    Optional<SyncJobLease> takenOver = syncJobLockPersistenceAdapter.tryAcquire();
+    expired.close();
+
+    // Then
+    assertThat(takenOver).isPresent();
+    assertThat(syncJobLockPersistenceAdapter.isLocked()).isTrue();
+    takenOver.get().close();
+  }
+
+  @Test
+  @DisplayName("임대 시간이 지나도록 연장하지 못한 임대는 무효가 되고 데이터베이스에서도 소유자로 확인되지 않는다")
+  void 임대_시간이_지나도록_연장하지_못한_임대는_무효가_되고_데이터베이스에서도_소유자로_확인되지_않는다() {
+    // Given
+    SyncJobLockProperties properties = new SyncJobLockProperties();
+    properties.setLeaseSeconds(0);
+    properties.setInstanceId("stalled-node");
+    SyncJobLockPersistenceAdapter stalledNode =
+        new SyncJobLockPersistenceAdapter(syncJobLockJpaRepository, taskScheduler, properties);
+
+    // When
+    SyncJobLease expired = stalledNode.tryAcquire().orElseThrow();
+    SyncJobLease held = syncJobLockPersistenceAdapter.tryAcquire().orElseThrow();
+
+    // Then
+    assertThat(expired.isValid()).isFalse();
+    assertThat(syncJobLockPersistenceAdapter.isHeldBy(expired.ownerId())).isFalse();
+    assertThat(held.isValid()).isTrue();
+    assertThat(syncJobLockPersistenceAdapter.isHeldBy(held.ownerId())).isTrue();
+    held.close();
+  }
+}
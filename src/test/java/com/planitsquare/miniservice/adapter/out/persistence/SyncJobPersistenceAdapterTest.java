@@ -4,17 +4,26 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.planitsquare.miniservice.IntegrationTestBase;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.CountryJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.HolidayJpaEntity;
 import com.planitsquare.miniservice.adapter.out.persistence.entity.SyncJobJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.CountryJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.HolidayJpaRepository;
 import com.planitsquare.miniservice.adapter.out.persistence.repository.SyncHistoryJpaRepository;
 import com.planitsquare.miniservice.adapter.out.persistence.repository.SyncJobJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.vo.HolidayMetadataEmbeddable;
 import com.planitsquare.miniservice.adapter.out.persistence.vo.JobStatus;
 import com.planitsquare.miniservice.adapter.out.persistence.vo.SyncExecutionType;
 import com.planitsquare.miniservice.application.exception.JobAlreadyRunningException;
+import com.planitsquare.miniservice.domain.vo.HolidayType;
+import java.time.LocalDate;
+import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @DisplayName("SyncJobPersistenceAdapter 테스트")
 class SyncJobPersistenceAdapterTest extends IntegrationTestBase {
@@ -28,11 +37,40 @@ class SyncJobPersistenceAdapterTest extends IntegrationTestBase {
   @Autowired
   private SyncHistoryJpaRepository syncHistoryJpaRepository;
 
+  @Autowired
+  private CountryJpaRepository countryJpaRepository;
+
+  @Autowired
+  private HolidayJpaRepository holidayJpaRepository;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
   @AfterEach
   void tearDown() {
     // 각 테스트 후 모든 데이터 삭제 (외래 키 제약 조건 고려)
     syncHistoryJpaRepository.deleteAllInBatch();
     syncJobJpaRepository.deleteAllInBatch();
+    transactionTemplate.executeWithoutResult(status -> holidayJpaRepository.deleteByCountryCodeAndYear("FJ", 2024));
+    countryJpaRepository.findById("FJ").ifPresent(countryJpaRepository::delete);
+  }
+
+  @Test
+  @DisplayName("실행했던 Job이 없어도 스냅샷으로 적재된 공휴일이 있으면 다시 시작할 때 최초 실행이 아니다")
+  void 실행했던_Job이_없어도_스냅샷으로_적재된_공휴일이_있으면_다시_시작할_때_최초_실행이_아니다() {
+    // Given - 첫 번째 시작에서 Job 없이 스냅샷을 적재한 상태
+    syncHistoryJpaRepository.deleteAllInBatch();
+    syncJobJpaRepository.deleteAllInBatch();
+    CountryJpaEntity fiji = countryJpaRepository.save(new CountryJpaEntity("FJ", "Fiji"));
+    holidayJpaRepository.save(new HolidayJpaEntity(fiji, "Fiji Day", "Fiji Day", LocalDate.of(2024, 10, 10),
+        new HolidayMetadataEmbeddable(true, true, 1970), List.of(HolidayType.PUBLIC), List.of()));
+
+    // When - 같은 DB로 다시 시작
+    boolean initialSystemLoad = syncJobPersistenceAdapter.isInitialSystemLoad();
+
+    // Then
+    assertThat(syncJobJpaRepository.existsByIdIsNotNull()).isFalse();
+    assertThat(initialSystemLoad).isFalse();
   }
 
   @Test
@@ -49,4 +87,21 @@ class SyncJobPersistenceAdapterTest extends IntegrationTestBase {
         .hasMessageContaining("이미 실행 중인 Job이 존재합니다");
   }
 
+  @Test
+  @DisplayName("실행 중 상태로 남은 Job을 실패 처리하면 새 Job을 시작할 수 있다")
+  void 실행_중_상태로_남은_Job을_실패_처리하면_새_Job을_시작할_수_있다() {
+    // Given
+    Long abandonedJobId = syncJobPersistenceAdapter.startJob(SyncExecutionType.SCHEDULED_BATCH);
+
+    // When
+    int abandonedCount = syncJobPersistenceAdapter.abandonRunningJobs();
+    Long newJobId = syncJobPersistenceAdapter.startJob(SyncExecutionType.API_REFRESH);
+
+    // Then
+    SyncJobJpaEntity abandonedJob = syncJobJpaRepository.findById(abandonedJobId).orElseThrow();
+    assertThat(abandonedCount).isEqualTo(1);
+    assertThat(abandonedJob.getStatus()).isEqualTo(JobStatus.FAILED);
+    assertThat(abandonedJob.getEndTime()).isNotNull();
+    assertThat(newJobId).isNotEqualTo(abandonedJobId);
+  }
 }
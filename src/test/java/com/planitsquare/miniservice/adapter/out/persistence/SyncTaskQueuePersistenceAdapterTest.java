@@ -0,0 +1,155 @@
+package com.planitsquare.miniservice.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.planitsquare.miniservice.IntegrationTestBase;
+import com.planitsquare.miniservice.adapter.out.persistence.config.DistributedSyncProperties;
+import com.planitsquare.miniservice.adapter.out.persistence.config.SyncJobLockProperties;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.SyncJobJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.SyncTaskJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.vo.SyncExecutionType;
+import com.planitsquare.miniservice.application.port.out.SyncJobPort;
+import com.planitsquare.miniservice.application.port.out.SyncTask;
+import com.planitsquare.miniservice.application.service.SyncStats;
+import com.planitsquare.miniservice.application.service.SyncSummary;
+import com.planitsquare.miniservice.domain.vo.Country;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@DisplayName("SyncTaskQueuePersistenceAdapter 테스트")
+class SyncTaskQueuePersistenceAdapterTest extends IntegrationTestBase {
+
+  private static final List<Integer> YEARS = List.of(2021, 2022, 2023, 2024, 2025);
+  private static final List<Country> COUNTRIES = List.of(
+      Country.of("KR", "South Korea"), Country.of("US", "United States"), Country.of("JP", "Japan"),
+      Country.of("DE", "Germany"), Country.of("FR", "France"), Country.of("GB", "United Kingdom"),
+      Country.of("CA", "Canada"), Country.of("AU", "Australia"), Country.of("NZ", "New Zealand"),
+      Country.of("BR", "Brazil")
+  );
+
+  @Autowired
+  private SyncTaskJpaRepository syncTaskJpaRepository;
+
+  @Autowired
+  private SyncJobJpaRepository syncJobJpaRepository;
+
+  @Autowired
+  private SyncJobPort syncJobPort;
+
+  private Long jobId;
+
+  @BeforeEach
+  void setUp() {
+    jobId = syncJobPort.startJob(SyncExecutionType.MANUAL_EXECUTION);
+  }
+
+  @AfterEach
+  void tearDown() {
+    syncTaskJpaRepository.deleteAllInBatch();
+    syncJobJpaRepository.deleteById(jobId);
+  }
+
+  @Test
+  @DisplayName("여러 인스턴스가 동시에 가져가도 각 작업은 정확히 한 번만 할당된다")
+  void 여러_인스턴스가_동시에_가져가도_각_작업은_정확히_한_번만_할당된다() throws Exception {
+    // Given
+    List<SyncTaskQueuePersistenceAdapter> nodes = List.of(node("node-1", 120), node("node-2", 120));
+    nodes.getFirst().enqueue(jobId, COUNTRIES, YEARS);
+    Queue<Long> claimedTaskIds = new ConcurrentLinkedQueue<>();
+    CountDownLatch start = new CountDownLatch(1);
+
+    // When
+    CompletableFuture<?>[] workers = IntStream.range(0, 8)
+        .mapToObj(i -> CompletableFuture.runAsync(() -> {
+          SyncTaskQueuePersistenceAdapter node = nodes.get(i % nodes.size());
+          await(start);
+          Optional<SyncTask> task;
+          while ((task = node.claimNext()).isPresent()) {
+            claimedTaskIds.add(task.get().taskId());
+            node.complete(task.get(), 1);
+          }
+        }))
+        .toArray(CompletableFuture[]::new);
+    start.countDown();
+    CompletableFuture.allOf(workers).get(30, TimeUnit.SECONDS);
+
+    // Then
+    int taskCount = COUNTRIES.size() * YEARS.size();
+    assertThat(claimedTaskIds).hasSize(taskCount).doesNotHaveDuplicates();
+    assertThat(nodes.getFirst().countUnfinished(jobId)).isZero();
+    SyncSummary summary = nodes.getFirst().summarize(jobId, 100);
+    assertThat(summary.stats()).isEqualTo(new SyncStats(taskCount, taskCount, 0));
+    assertThat(summary.syncedHolidayCount()).isEqualTo(taskCount);
+    assertThat(summary.failures()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("임대가 만료된 작업은 다른 인스턴스가 다시 가져가고 기존 소유자는 완료 처리하지 못한다")
+  void 임대가_만료된_작업은_다른_인스턴스가_다시_가져가고_기존_소유자는_완료_처리하지_못한다() {
+    // Given
+    SyncTaskQueuePersistenceAdapter crashedNode = node("crashed-node", 0);
+    SyncTaskQueuePersistenceAdapter liveNode = node("live-node", 120);
+    crashedNode.enqueue(jobId, List.of(Country.of("KR", "South Korea")), List.of(2025));
+    SyncTask expired = crashedNode.claimNext().orElseThrow();
+
+    // When
+    SyncTask reclaimed = liveNode.claimNext().orElseThrow();
+    boolean completedByCrashedNode = crashedNode.complete(expired, 99);
+    boolean completedByLiveNode = liveNode.complete(reclaimed, 15);
+
+    // Then
+    assertThat(reclaimed.taskId()).isEqualTo(expired.taskId());
+    assertThat(completedByCrashedNode).isFalse();
+    assertThat(completedByLiveNode).isTrue();
+    assertThat(liveNode.summarize(jobId, 100).syncedHolidayCount()).isEqualTo(15);
+    assertThat(syncTaskJpaRepository.findById(reclaimed.taskId()).orElseThrow().getAttempts()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("실행 중이 아닌 Job의 작업은 가져가지 않는다")
+  void 실행_중이_아닌_Job의_작업은_가져가지_않는다() {
+    // Given
+    SyncTaskQueuePersistenceAdapter node = node("node-1", 120);
+    node.enqueue(jobId, List.of(Country.of("KR", "South Korea")), List.of(2025));
+    syncJobPort.abandonRunningJobs();
+
+    // When
+    Optional<SyncTask> task = node.claimNext();
+
+    // Then
+    assertThat(task).isEmpty();
+    SyncSummary summary = node.summarize(jobId, 100);
+    assertThat(summary.stats()).isEqualTo(new SyncStats(1, 0, 1));
+    assertThat(summary.failures())
+        .singleElement()
+        .satisfies(result -> assertThat(result.isSuccess()).isFalse());
+  }
+
+  private SyncTaskQueuePersistenceAdapter node(String instanceId, long taskLeaseSeconds) {
+    DistributedSyncProperties distributedSyncProperties = new DistributedSyncProperties();
+    distributedSyncProperties.setTaskLeaseSeconds(taskLeaseSeconds);
+    SyncJobLockProperties syncJobLockProperties = new SyncJobLockProperties();
+    syncJobLockProperties.setInstanceId(instanceId);
+    return new SyncTaskQueuePersistenceAdapter(
+        syncTaskJpaRepository, syncJobJpaRepository, distributedSyncProperties, syncJobLockProperties);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
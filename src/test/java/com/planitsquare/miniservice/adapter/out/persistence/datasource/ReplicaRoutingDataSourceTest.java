@@ -0,0 +1,234 @@
+package com.planitsquare.miniservice.adapter.out.persistence.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.planitsquare.miniservice.adapter.out.persistence.HolidaySearchCountCache;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.CountryJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.HolidayJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.CountryJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.HolidayJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.vo.HolidayMetadataEmbeddable;
+import com.planitsquare.miniservice.application.event.HolidaysChangedEvent;
+import com.planitsquare.miniservice.application.port.in.HolidayLookupKey;
+import com.planitsquare.miniservice.application.port.in.HolidayLookupResult;
+import com.planitsquare.miniservice.application.port.in.LookupHolidaysQuery;
+import com.planitsquare.miniservice.application.port.in.HolidayView;
+import com.planitsquare.miniservice.application.port.in.LookupHolidaysUseCase;
+import com.planitsquare.miniservice.application.port.in.SearchHolidaysQuery;
+import com.planitsquare.miniservice.application.port.in.SearchHolidaysUseCase;
+import com.planitsquare.miniservice.application.util.ReplicaReadContext;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+import com.planitsquare.miniservice.domain.vo.HolidayType;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 두 개의 로컬 H2 데이터베이스를 기본/복제본으로 사용하는 읽기/쓰기 분리 테스트.
+ *
+ * <p>복제는 기본 데이터베이스를 {@code SCRIPT}로 내보내 복제본에 {@code RUNSCRIPT}로 적재하여 흉내 내고,
+ * 복제 지연은 복제본의 {@code replica_lag} 테이블 값으로 조절합니다.
+ * 복제 이후 기본 데이터베이스에만 공휴일을 추가하여, 조회 결과로 어느 데이터베이스에서 읽었는지 구분합니다.
+ */
+@DisplayName("읽기 전용 복제본 라우팅 테스트")
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:routing-primary-testdb",
+    "datasource.replica.enabled=true",
+    "datasource.replica.url=jdbc:h2:mem:routing-replica-testdb;DB_CLOSE_DELAY=-1",
+    "datasource.replica.username=sa",
+    "datasource.replica.lag-query=SELECT lag_millis FROM replica_lag",
+    "datasource.replica.max-lag-millis=1000",
+    "datasource.replica.check-interval-millis=3600000"
+})
+@ActiveProfiles("test")
+class ReplicaRoutingDataSourceTest {
+
+  private static final String COUNTRY_CODE = "FI";
+
+  @Autowired
+  private CountryJpaRepository countryJpaRepository;
+
+  @Autowired
+  private HolidayJpaRepository holidayJpaRepository;
+
+  @Autowired
+  private ReplicaLagMonitor replicaLagMonitor;
+
+  @Autowired
+  @Qualifier("primaryDataSource")
+  private DataSource primaryDataSource;
+
+  @Autowired
+  @Qualifier("replicaDataSource")
+  private DataSource replicaDataSource;
+
+  @Autowired
+  private LookupHolidaysUseCase lookupHolidaysUseCase;
+
+  @Autowired
+  private SearchHolidaysUseCase searchHolidaysUseCase;
+
+  @Autowired
+  private HolidaySearchCountCache holidaySearchCountCache;
+
+  @Autowired
+  private ApplicationEventPublisher eventPublisher;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @TempDir
+  private Path tempDir;
+
+  private TransactionTemplate readOnlyTransaction;
+
+  @BeforeEach
+  void setUp() {
+    readOnlyTransaction = new TransactionTemplate(transactionManager);
+    readOnlyTransaction.setReadOnly(true);
+
+    CountryJpaEntity country = countryJpaRepository.save(new CountryJpaEntity(COUNTRY_CODE, "Finland"));
+    holidayJpaRepository.save(holidayEntity(country, "Uudenvuodenpäivä", LocalDate.of(2025, 1, 1)));
+    replicate();
+  }
+
+  @AfterEach
+  void tearDown() {
+    new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+        holidayJpaRepository.deleteByCountryCodeAndYear(COUNTRY_CODE, 2025));
+    countryJpaRepository.deleteById(COUNTRY_CODE);
+  }
+
+  @Test
+  @DisplayName("복제본 조회가 허용된 읽기 전용 트랜잭션만 복제본에서 조회하고 그 밖의 조회와 쓰기는 기본 데이터베이스를 사용한다")
+  void 복제본_조회가_허용된_읽기_전용_트랜잭션만_복제본에서_조회하고_그_밖의_조회와_쓰기는_기본_데이터베이스를_사용한다() {
+    // When: 복제 이후 기본 데이터베이스에만 공휴일 추가
+    CountryJpaEntity country = countryJpaRepository.findById(COUNTRY_CODE).orElseThrow();
+    holidayJpaRepository.save(holidayEntity(country, "Loppiainen", LocalDate.of(2025, 1, 6)));
+
+    // Then
+    assertThat(replicaLagMonitor.isReplicaUsable()).isTrue();
+    assertThat(countInReplicaReadTransaction()).isEqualTo(1);
+    assertThat(holidayJpaRepository.count()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("공휴일 일괄 조회는 복제본에서 실행된다")
+  void 공휴일_일괄_조회는_복제본에서_실행된다() {
+    // Given: 복제 이후 기본 데이터베이스에만 공휴일 추가
+    CountryJpaEntity country = countryJpaRepository.findById(COUNTRY_CODE).orElseThrow();
+    holidayJpaRepository.save(holidayEntity(country, "Loppiainen", LocalDate.of(2025, 1, 6)));
+    LookupHolidaysQuery query = new LookupHolidaysQuery(List.of(
+        new HolidayLookupKey(new CountryCode(COUNTRY_CODE), LocalDate.of(2025, 1, 1)),
+        new HolidayLookupKey(new CountryCode(COUNTRY_CODE), LocalDate.of(2025, 1, 6))));
+
+    // When
+    List<HolidayLookupResult> results = lookupHolidaysUseCase.lookup(query);
+
+    // Then
+    assertThat(results).extracting(result -> result.holidays().size()).containsExactly(1, 0);
+  }
+
+  @Test
+  @DisplayName("복제 지연이 허용치를 넘으면 읽기 전용 트랜잭션도 기본 데이터베이스에서 조회한다")
+  void 복제_지연이_허용치를_넘으면_읽기_전용_트랜잭션도_기본_데이터베이스에서_조회한다() {
+    // Given
+    CountryJpaEntity country = countryJpaRepository.findById(COUNTRY_CODE).orElseThrow();
+    holidayJpaRepository.save(holidayEntity(country, "Loppiainen", LocalDate.of(2025, 1, 6)));
+
+    // When
+    new JdbcTemplate(replicaDataSource).update("UPDATE replica_lag SET lag_millis = 5000");
+    replicaLagMonitor.refresh();
+
+    // Then
+    assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+    assertThat(countInReplicaReadTransaction()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("복제본의 지연 정보를 읽을 수 없으면 읽기 전용 트랜잭션도 기본 데이터베이스에서 조회한다")
+  void 복제본의_지연_정보를_읽을_수_없으면_읽기_전용_트랜잭션도_기본_데이터베이스에서_조회한다() {
+    // Given
+    CountryJpaEntity country = countryJpaRepository.findById(COUNTRY_CODE).orElseThrow();
+    holidayJpaRepository.save(holidayEntity(country, "Loppiainen", LocalDate.of(2025, 1, 6)));
+
+    // When
+    new JdbcTemplate(replicaDataSource).execute("DROP TABLE replica_lag");
+    replicaLagMonitor.refresh();
+
+    // Then
+    assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+    assertThat(countInReplicaReadTransaction()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("공휴일이 변경되면 복제본이 변경 이후까지 반영된 것이 확인될 때까지 검색과 건수 캐시를 기본 데이터베이스에서 채운다")
+  void 공휴일이_변경되면_복제본이_변경_이후까지_반영된_것이_확인될_때까지_검색과_건수_캐시를_기본_데이터베이스에서_채운다() {
+    // Given: 복제 이후 기본 데이터베이스에만 공휴일을 추가하고 커밋 이후 변경 이벤트 발행 (복제본은 허용치 안에서 지연 중)
+    holidaySearchCountCache.evictAll();
+    CountryJpaEntity country = countryJpaRepository.findById(COUNTRY_CODE).orElseThrow();
+    holidayJpaRepository.save(holidayEntity(country, "Loppiainen", LocalDate.of(2025, 1, 6)));
+    eventPublisher.publishEvent(HolidaysChangedEvent.of(new CountryCode(COUNTRY_CODE), 2025));
+    new JdbcTemplate(replicaDataSource).update("UPDATE replica_lag SET lag_millis = 500");
+    replicaLagMonitor.refresh();
+    SearchHolidaysQuery query = SearchHolidaysQuery.builder()
+        .countryCode(COUNTRY_CODE)
+        .year(2025)
+        .pageable(PageRequest.of(0, 20))
+        .build();
+
+    // When
+    boolean usableWhileLagging = replicaLagMonitor.isReplicaUsable();
+    Page<HolidayView> duringLag = (Page<HolidayView>) searchHolidaysUseCase.search(query);
+    replicate();
+
+    // Then
+    assertThat(usableWhileLagging).isFalse();
+    assertThat(duringLag.getContent()).hasSize(2);
+    assertThat(duringLag.getTotalElements()).isEqualTo(2);
+    assertThat(replicaLagMonitor.isReplicaUsable()).isTrue();
+    assertThat(((Page<HolidayView>) searchHolidaysUseCase.search(query)).getTotalElements()).isEqualTo(2);
+  }
+
+  private long countInReplicaReadTransaction() {
+    boolean previous = ReplicaReadContext.activate();
+    try {
+      Long count = readOnlyTransaction.execute(status -> holidayJpaRepository.count());
+      return count == null ? 0 : count;
+    } finally {
+      ReplicaReadContext.restore(previous);
+    }
+  }
+
+  private void replicate() {
+    String script = tempDir.resolve("replica.sql").toString().replace('\\', '/');
+    new JdbcTemplate(primaryDataSource).execute("SCRIPT TO '" + script + "'");
+    JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+    replica.execute("DROP ALL OBJECTS");
+    replica.execute("RUNSCRIPT FROM '" + script + "'");
+    replica.execute("CREATE TABLE replica_lag (lag_millis BIGINT)");
+    replica.update("INSERT INTO replica_lag VALUES (0)");
+    replicaLagMonitor.refresh();
+  }
+
+  private static HolidayJpaEntity holidayEntity(CountryJpaEntity country, String name, LocalDate date) {
+    return new HolidayJpaEntity(country, name, name, date,
+        new HolidayMetadataEmbeddable(true, true, null), List.of(HolidayType.PUBLIC), List.of());
+  }
+}
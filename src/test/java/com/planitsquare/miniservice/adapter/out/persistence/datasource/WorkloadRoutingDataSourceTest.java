@@ -0,0 +1,120 @@
+package com.planitsquare.miniservice.adapter.out.persistence.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.planitsquare.miniservice.application.port.in.HolidayLookupKey;
+import com.planitsquare.miniservice.application.port.in.HolidayLookupResult;
+import com.planitsquare.miniservice.application.port.in.LookupHolidaysQuery;
+import com.planitsquare.miniservice.application.port.in.LookupHolidaysUseCase;
+import com.planitsquare.miniservice.application.port.out.SyncJobPort;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 작업 부하 종류별 커넥션 풀 격리 테스트.
+ *
+ * <p>동기화 커넥션 풀의 커넥션을 모두 점유한 상태에서 이력 기록과 API 조회가 각자의 풀로 처리되는지 확인합니다.
+ */
+@DisplayName("작업 부하별 커넥션 풀 라우팅 테스트")
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:workload-pool-testdb",
+    "datasource.pools.sync.maximum-pool-size=2",
+    "datasource.pools.sync.connection-timeout-millis=250",
+    "datasource.pools.history.maximum-pool-size=2",
+    "datasource.pools.api-read.maximum-pool-size=2"
+})
+@ActiveProfiles("test")
+class WorkloadRoutingDataSourceTest {
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Autowired
+  @Qualifier("syncDataSource")
+  private HikariDataSource syncDataSource;
+
+  @Autowired
+  private SyncJobPort syncJobPort;
+
+  @Autowired
+  private LookupHolidaysUseCase lookupHolidaysUseCase;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  private final List<Connection> heldConnections = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() throws SQLException {
+    for (Connection connection : heldConnections) {
+      connection.close();
+    }
+    heldConnections.clear();
+  }
+
+  @Test
+  @DisplayName("동기화 커넥션 풀이 고갈되어도 이력 기록과 API 조회는 각자의 커넥션 풀에서 실행된다")
+  void 동기화_커넥션_풀이_고갈되어도_이력_기록과_API_조회는_각자의_커넥션_풀에서_실행된다() throws SQLException {
+    // Given
+    exhaustSyncPool();
+
+    // When
+    boolean hasRunningJob = syncJobPort.hasRunningJob();
+    List<HolidayLookupResult> results = lookupHolidaysUseCase.lookup(new LookupHolidaysQuery(List.of(
+        new HolidayLookupKey(new CountryCode("KR"), LocalDate.of(2025, 1, 1)))));
+
+    // Then
+    assertThat(hasRunningJob).isFalse();
+    assertThat(results).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("작업 부하가 지정되지 않은 호출은 동기화 커넥션 풀을 사용하고 고갈되면 대기 시간 후 실패한다")
+  void 작업_부하가_지정되지_않은_호출은_동기화_커넥션_풀을_사용하고_고갈되면_대기_시간_후_실패한다() throws SQLException {
+    // Given
+    exhaustSyncPool();
+
+    // When & Then
+    assertThatThrownBy(() -> new JdbcTemplate(dataSource).queryForObject("SELECT 1", Integer.class))
+        .isInstanceOf(TransientDataAccessException.class)
+        .hasMessageContaining("sync - Connection is not available");
+  }
+
+  @Test
+  @DisplayName("커넥션 풀마다 사용 중 커넥션 수와 대기 지표가 풀 이름으로 구분되어 수집된다")
+  void 커넥션_풀마다_사용_중_커넥션_수와_대기_지표가_풀_이름으로_구분되어_수집된다() throws SQLException {
+    // Given
+    exhaustSyncPool();
+
+    // When & Then
+    assertThat(meterRegistry.get("hikaricp.connections.active").tag("pool", "sync").gauge().value())
+        .isEqualTo(2);
+    for (String pool : List.of("sync", "history", "api-read")) {
+      assertThat(meterRegistry.find("hikaricp.connections.pending").tag("pool", pool).gauge()).isNotNull();
+      assertThat(meterRegistry.find("hikaricp.connections.acquire").tag("pool", pool).timer()).isNotNull();
+    }
+  }
+
+  private void exhaustSyncPool() throws SQLException {
+    for (int i = 0; i < syncDataSource.getMaximumPoolSize(); i++) {
+      heldConnections.add(syncDataSource.getConnection());
+    }
+  }
+}
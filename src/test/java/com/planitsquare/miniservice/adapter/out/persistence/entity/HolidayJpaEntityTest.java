@@ -143,4 +143,24 @@ class HolidayJpaEntityTest {
     assertThat(entity.getCountry().getCode()).isEqualTo("KR");
     assertThat(entity.getCountry().getName()).isEqualTo("South Korea");
   }
+
+  @Test
+  @DisplayName("타입 비트 마스크는 생성과 수정 시 타입 목록과 함께 갱신된다")
+  void 타입_비트_마스크는_생성과_수정_시_타입_목록과_함께_갱신된다() {
+    // Given
+    CountryJpaEntity country = new CountryJpaEntity("KR", "South Korea");
+    HolidayMetadataEmbeddable metadata = new HolidayMetadataEmbeddable(true, true, null);
+    HolidayJpaEntity entity = new HolidayJpaEntity(
+        country, "설날", "Lunar New Year", LocalDate.of(2025, 1, 29),
+        metadata, List.of(HolidayType.PUBLIC, HolidayType.BANK), List.of()
+    );
+    int createdMask = entity.getTypeMask();
+
+    // When
+    entity.update("설날", "Lunar New Year", LocalDate.of(2025, 1, 29), metadata, null, List.of());
+
+    // Then
+    assertThat(createdMask).isEqualTo(HolidayType.PUBLIC.bit() | HolidayType.BANK.bit());
+    assertThat(entity.getTypeMask()).isZero();
+  }
 }
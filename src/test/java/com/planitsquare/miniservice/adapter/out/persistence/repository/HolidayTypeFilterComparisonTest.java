@@ -0,0 +1,119 @@
+package com.planitsquare.miniservice.adapter.out.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.planitsquare.miniservice.IntegrationTestBase;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.CountryJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.HolidayJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.QHolidayJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.vo.HolidayMetadataEmbeddable;
+import com.planitsquare.miniservice.domain.vo.HolidayType;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 타입 필터 비교 테스트.
+ *
+ * <p>{@code type_mask IN (...)} 조건과 {@code holiday_types} 컬렉션 테이블 조인 조건이
+ * 같은 결과를 반환하는지 확인하고, 각 조건의 평균 조회 시간을 로그로 남깁니다.
+ * 실행 환경에 따라 시간이 달라지므로 시간 자체는 검증하지 않습니다.
+ */
+@DisplayName("타입 필터 비교 테스트")
+@Transactional
+class HolidayTypeFilterComparisonTest extends IntegrationTestBase {
+
+  private static final Logger log = LoggerFactory.getLogger(HolidayTypeFilterComparisonTest.class);
+
+  private static final int HOLIDAY_COUNT = 3_000;
+  private static final int WARM_UP = 5;
+  private static final int ITERATIONS = 20;
+  private static final QHolidayJpaEntity holiday = QHolidayJpaEntity.holidayJpaEntity;
+
+  @Autowired
+  private JPAQueryFactory queryFactory;
+
+  @Autowired
+  private CountryJpaRepository countryJpaRepository;
+
+  @Autowired
+  private HolidayJpaRepository holidayJpaRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @BeforeEach
+  void setUp() {
+    CountryJpaEntity country = countryJpaRepository.save(new CountryJpaEntity("DE", "Germany"));
+    HolidayType[] values = HolidayType.values();
+    holidayJpaRepository.saveAll(IntStream.range(0, HOLIDAY_COUNT)
+        .mapToObj(i -> new HolidayJpaEntity(
+            country,
+            "Feiertag " + i,
+            "Holiday " + i,
+            LocalDate.of(2000, 1, 1).plusDays(i),
+            new HolidayMetadataEmbeddable(false, true, null),
+            i % 7 == 0
+                ? List.of(values[i % values.length], values[(i + 1) % values.length])
+                : List.of(values[i % values.length]),
+            List.of()
+        ))
+        .toList());
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  @DisplayName("타입 비트 마스크 조건은 컬렉션 테이블 조인과 같은 결과를 반환한다")
+  void 타입_비트_마스크_조건은_컬렉션_테이블_조인과_같은_결과를_반환한다() {
+    // Given
+    Set<HolidayType> types = EnumSet.of(HolidayType.BANK, HolidayType.OPTIONAL);
+
+    // When
+    long maskCount = measure("type_mask IN", () -> count(typeMaskIn(types)));
+    long joinCount = measure("holiday_types join", () -> count(holiday.types.any().in(types)));
+
+    // Then
+    assertThat(maskCount).isPositive().isEqualTo(joinCount);
+  }
+
+  private long count(BooleanExpression condition) {
+    return queryFactory.select(holiday.count()).from(holiday).where(condition).fetchOne();
+  }
+
+  private BooleanExpression typeMaskIn(Set<HolidayType> types) {
+    int requested = HolidayType.maskOf(types);
+    List<Integer> masks = IntStream.rangeClosed(1, (1 << HolidayType.values().length) - 1)
+        .filter(mask -> (mask & requested) != 0)
+        .boxed()
+        .toList();
+    return holiday.typeMask.in(masks);
+  }
+
+  private long measure(String label, Supplier<Long> query) {
+    long result = 0;
+    for (int i = 0; i < WARM_UP; i++) {
+      result = query.get();
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      result = query.get();
+    }
+    long averageMicros = (System.nanoTime() - start) / ITERATIONS / 1_000;
+    log.info("타입 필터 [{}] 평균 {}µs ({}건 중 {}건)", label, averageMicros, HOLIDAY_COUNT, result);
+    return result;
+  }
+}
@@ -0,0 +1,40 @@
+package com.planitsquare.miniservice.adapter.out.persistence.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@DisplayName("HolidayNameNormalizer 테스트")
+class HolidayNameNormalizerTest {
+
+  @ParameterizedTest(name = "{0} → {1}")
+  @CsvSource(delimiter = '|', value = {
+      "Día de la Constitución|dia de la constitucion",
+      "Fête Nationale|fete nationale",
+      "New Year's Day|new year s day",
+      "  Independence   DAY |independence day",
+      "설날|설날",
+      "Tag der Deutschen Einheit|tag der deutschen einheit"
+  })
+  @DisplayName("발음 구별 기호, 대소문자, 구두점을 정규화하고 한글 음절은 유지한다")
+  void 발음_구별_기호_대소문자_구두점을_정규화하고_한글_음절은_유지한다(String text, String expected) {
+    assertThat(HolidayNameNormalizer.normalize(text)).isEqualTo(expected);
+  }
+
+  @Test
+  @DisplayName("색인 n-gram은 단어별 unigram과 bigram으로 구성된다")
+  void 색인_n_gram은_단어별_unigram과_bigram으로_구성된다() {
+    assertThat(HolidayNameNormalizer.indexGrams("설날 ab"))
+        .containsExactly("설", "설날", "날", "a", "ab", "b");
+  }
+
+  @Test
+  @DisplayName("검색어 n-gram은 한 글자 단어만 unigram을 사용한다")
+  void 검색어_n_gram은_한_글자_단어만_unigram을_사용한다() {
+    assertThat(HolidayNameNormalizer.queryGrams("설 day"))
+        .containsExactly("설", "da", "ay");
+  }
+}
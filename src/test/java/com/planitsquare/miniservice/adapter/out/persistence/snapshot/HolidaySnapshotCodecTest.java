@@ -0,0 +1,64 @@
+package com.planitsquare.miniservice.adapter.out.persistence.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.planitsquare.miniservice.adapter.out.persistence.snapshot.HolidaySnapshot.SnapshotCountry;
+import com.planitsquare.miniservice.adapter.out.persistence.snapshot.HolidaySnapshot.SnapshotHoliday;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("HolidaySnapshotCodec 테스트")
+class HolidaySnapshotCodecTest {
+
+  @TempDir
+  private Path directory;
+
+  @Test
+  @DisplayName("스냅샷을 쓰고 읽으면 같은 국가와 공휴일이 복원된다")
+  void 스냅샷을_쓰고_읽으면_같은_국가와_공휴일이_복원된다() throws IOException {
+    // Given
+    Path path = directory.resolve("nested/holiday-snapshot.bin.gz");
+    HolidaySnapshot snapshot = new HolidaySnapshot(
+        Instant.now().truncatedTo(ChronoUnit.MILLIS),
+        List.of(new SnapshotCountry("KR", "South Korea"), new SnapshotCountry("DE", "Germany")),
+        List.of(
+            new SnapshotHoliday("KR", LocalDate.of(2025, 1, 28), "설날", "Lunar New Year",
+                false, true, null, 0b1, List.of()),
+            new SnapshotHoliday("DE", LocalDate.of(2024, 10, 31), "Reformationstag", "Reformation Day",
+                true, false, 1517, 0b11, List.of("DE-BB", "DE-MV"))
+        )
+    );
+
+    // When
+    HolidaySnapshotCodec.write(snapshot, path);
+    HolidaySnapshot restored = HolidaySnapshotCodec.read(path);
+
+    // Then
+    assertThat(restored).isEqualTo(snapshot);
+    assertThat(restored.years()).containsExactly(2024, 2025);
+    try (Stream<Path> files = Files.list(path.getParent())) {
+      assertThat(files).containsExactly(path);
+    }
+  }
+
+  @Test
+  @DisplayName("스냅샷 형식이 아닌 파일은 읽지 않는다")
+  void 스냅샷_형식이_아닌_파일은_읽지_않는다() throws IOException {
+    // Given
+    Path path = directory.resolve("not-a-snapshot.bin.gz");
+    Files.writeString(path, "not a snapshot");
+
+    // When & Then
+    assertThatThrownBy(() -> HolidaySnapshotCodec.read(path)).isInstanceOf(IOException.class);
+  }
+}
@@ -0,0 +1,64 @@
+package com.planitsquare.miniservice.application.aspect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.planitsquare.miniservice.application.aspect.MethodExpressionEvaluator.MethodExpressions;
+import com.planitsquare.miniservice.application.service.SyncHolidayCommand;
+import com.planitsquare.miniservice.domain.vo.Country;
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.EvaluationContext;
+
+@DisplayName("MethodExpressionEvaluator 테스트")
+class MethodExpressionEvaluatorTest {
+
+  private final MethodExpressionEvaluator evaluator = new MethodExpressionEvaluator();
+
+  @Test
+  @DisplayName("컴파일된 뒤에도 호출마다 해당 호출의 인자로 표현식을 평가한다")
+  void 컴파일된_뒤에도_호출마다_해당_호출의_인자로_표현식을_평가한다() throws NoSuchMethodException {
+    // Given
+    Method method = Targets.class.getDeclaredMethod("sync", SyncHolidayCommand.class);
+
+    // When & Then
+    for (int year = 2000; year < 2010; year++) {
+      MethodExpressions expressions = evaluator.forMethod(method);
+      EvaluationContext context = expressions.createContext(
+          new Object[]{new SyncHolidayCommand((long) year, Country.of("KR", "South Korea"), year)});
+
+      assertThat(expressions.getValue("#command.jobId()", context, Long.class)).isEqualTo(year);
+      assertThat(expressions.getValue("#command.country().getCode()", context, String.class)).isEqualTo("KR");
+      assertThat(expressions.getValue("#command.year()", context, Integer.class)).isEqualTo(year);
+    }
+    assertThat(evaluator.forMethod(method)).isSameAs(evaluator.forMethod(method));
+  }
+
+  @Test
+  @DisplayName("같은 표현식이라도 파라미터 타입이 다른 메서드에서는 각각 평가한다")
+  void 같은_표현식이라도_파라미터_타입이_다른_메서드에서는_각각_평가한다() throws NoSuchMethodException {
+    // Given
+    MethodExpressions syncExpressions = evaluator.forMethod(Targets.class.getDeclaredMethod("sync", SyncHolidayCommand.class));
+    MethodExpressions labelExpressions = evaluator.forMethod(Targets.class.getDeclaredMethod("label", String.class));
+
+    // When & Then
+    for (int i = 0; i < 3; i++) {
+      EvaluationContext syncContext = syncExpressions.createContext(
+          new Object[]{new SyncHolidayCommand(1L, Country.of("KR", "South Korea"), 2025)});
+      EvaluationContext labelContext = labelExpressions.createContext(new Object[]{"kr"});
+
+      assertThat(syncExpressions.getValue("#command.toString()", syncContext, String.class)).contains("2025");
+      assertThat(labelExpressions.getValue("#command.toString()", labelContext, String.class)).isEqualTo("kr");
+    }
+  }
+
+  @SuppressWarnings("unused")
+  static class Targets {
+
+    void sync(SyncHolidayCommand command) {
+    }
+
+    void label(String command) {
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.planitsquare.miniservice.application.port.in;
 
+import com.planitsquare.miniservice.domain.vo.HolidayType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.PageRequest;
@@ -88,4 +89,17 @@ class SearchHolidaysQueryTest {
     assertThat(query.getPageable().getPageSize()).isEqualTo(50);
     assertThat(query.getPageable().getSort().isSorted()).isTrue();
   }
+
+  @Test
+  @DisplayName("여러 타입은 쉼표나 파이프로 구분하고 알 수 없는 타입은 무시한다")
+  void 여러_타입은_쉼표나_파이프로_구분하고_알_수_없는_타입은_무시한다() {
+    // When
+    SearchHolidaysQuery query = SearchHolidaysQuery.builder()
+        .type("public|Bank, UNKNOWN")
+        .build();
+
+    // Then
+    assertThat(query.getTypes()).containsExactly(HolidayType.PUBLIC, HolidayType.BANK);
+    assertThat(SearchHolidaysQuery.builder().build().getTypes()).isEmpty();
+  }
 }
@@ -0,0 +1,161 @@
+package com.planitsquare.miniservice.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.planitsquare.miniservice.application.event.HolidaysChangedEvent;
+import com.planitsquare.miniservice.application.exception.CountryNotFoundException;
+import com.planitsquare.miniservice.application.port.in.BusinessDayQuery;
+import com.planitsquare.miniservice.application.port.in.BusinessDayResult;
+import com.planitsquare.miniservice.application.port.out.FindCountryPort;
+import com.planitsquare.miniservice.application.port.out.FindHolidaysPort;
+import com.planitsquare.miniservice.domain.model.Holiday;
+import com.planitsquare.miniservice.domain.vo.Country;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+import com.planitsquare.miniservice.domain.vo.HolidayId;
+import com.planitsquare.miniservice.domain.vo.HolidayMetadata;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("BusinessDayService 테스트")
+@ExtendWith(MockitoExtension.class)
+class BusinessDayServiceTest {
+
+  @Mock private FindCountryPort findCountryPort;
+  @Mock private FindHolidaysPort findHolidaysPort;
+
+  @InjectMocks private BusinessDayService businessDayService;
+
+  private CountryCode KR_CODE;
+  private Country KR;
+
+  @BeforeEach
+  void setUp() {
+    KR_CODE = new CountryCode("KR");
+    KR = new Country(KR_CODE, "South Korea");
+  }
+
+  private Holiday publicHoliday(LocalDate date) {
+    return new Holiday(
+        new HolidayId(1L), KR, "휴일", "Holiday", date,
+        new HolidayMetadata(true, true, null, List.of("Public"), List.of())
+    );
+  }
+
+  @Test
+  @DisplayName("연도 경계를 넘어 N 영업일 이후 날짜를 계산한다")
+  void 연도_경계를_넘어_N_영업일_이후_날짜를_계산한다() {
+    // Given
+    given(findCountryPort.existsByCode("KR")).willReturn(true);
+    given(findHolidaysPort.findByYearAndCountryCode(2025, KR_CODE)).willReturn(List.of());
+    given(findHolidaysPort.findByYearAndCountryCode(2026, KR_CODE))
+        .willReturn(List.of(publicHoliday(LocalDate.of(2026, 1, 1))));
+
+    // When
+    BusinessDayResult result = businessDayService.calculate(
+        new BusinessDayQuery(KR_CODE, LocalDate.of(2025, 12, 31), 1, null));
+
+    // Then
+    assertThat(result.businessDay()).isTrue();
+    assertThat(result.resultDate()).isEqualTo(LocalDate.of(2026, 1, 2));
+  }
+
+  @Test
+  @DisplayName("연도 경계를 넘어 N 영업일 이전 날짜를 계산한다")
+  void 연도_경계를_넘어_N_영업일_이전_날짜를_계산한다() {
+    // Given
+    given(findCountryPort.existsByCode("KR")).willReturn(true);
+    given(findHolidaysPort.findByYearAndCountryCode(2026, KR_CODE))
+        .willReturn(List.of(publicHoliday(LocalDate.of(2026, 1, 1))));
+    given(findHolidaysPort.findByYearAndCountryCode(2025, KR_CODE)).willReturn(List.of());
+
+    // When
+    BusinessDayResult result = businessDayService.calculate(
+        new BusinessDayQuery(KR_CODE, LocalDate.of(2026, 1, 2), -2, null));
+
+    // Then
+    assertThat(result.resultDate()).isEqualTo(LocalDate.of(2025, 12, 30));
+  }
+
+  @Test
+  @DisplayName("같은 연도의 달력은 한 번만 적재한다")
+  void 같은_연도의_달력은_한_번만_적재한다() {
+    // Given
+    given(findCountryPort.existsByCode("KR")).willReturn(true);
+    given(findHolidaysPort.findByYearAndCountryCode(2025, KR_CODE))
+        .willReturn(List.of(publicHoliday(LocalDate.of(2025, 6, 6))));
+    BusinessDayQuery query = new BusinessDayQuery(KR_CODE, LocalDate.of(2025, 6, 2), 3, null);
+
+    // When
+    businessDayService.calculate(query);
+    businessDayService.calculate(query);
+
+    // Then
+    then(findHolidaysPort).should(times(1)).findByYearAndCountryCode(2025, KR_CODE);
+    then(findCountryPort).should(times(1)).existsByCode("KR");
+  }
+
+  @Test
+  @DisplayName("공휴일 데이터가 없는 연도의 달력은 보관하지 않는다")
+  void 공휴일_데이터가_없는_연도의_달력은_보관하지_않는다() {
+    // Given
+    given(findCountryPort.existsByCode("KR")).willReturn(true);
+    given(findHolidaysPort.findByYearAndCountryCode(2090, KR_CODE)).willReturn(List.of());
+    BusinessDayQuery query = new BusinessDayQuery(KR_CODE, LocalDate.of(2090, 6, 2), 3, null);
+
+    // When
+    BusinessDayResult first = businessDayService.calculate(query);
+    BusinessDayResult second = businessDayService.calculate(query);
+
+    // Then
+    assertThat(first).isEqualTo(second);
+    assertThat(first.resultDate()).isEqualTo(LocalDate.of(2090, 6, 7));
+    then(findHolidaysPort).should(times(2)).findByYearAndCountryCode(2090, KR_CODE);
+  }
+
+  @Test
+  @DisplayName("공휴일 변경 이벤트를 받으면 해당 달력을 다시 적재한다")
+  void 공휴일_변경_이벤트를_받으면_해당_달력을_다시_적재한다() {
+    // Given
+    given(findCountryPort.existsByCode("KR")).willReturn(true);
+    given(findHolidaysPort.findByYearAndCountryCode(2025, KR_CODE))
+        .willReturn(List.of())
+        .willReturn(List.of(publicHoliday(LocalDate.of(2025, 6, 2))));
+    BusinessDayQuery query = new BusinessDayQuery(KR_CODE, LocalDate.of(2025, 6, 2), 0, null);
+    assertThat(businessDayService.calculate(query).businessDay()).isTrue();
+
+    // When
+    businessDayService.onHolidaysChanged(HolidaysChangedEvent.of(KR_CODE, 2025));
+
+    // Then
+    assertThat(businessDayService.calculate(query).businessDay()).isFalse();
+    then(findHolidaysPort).should(times(2)).findByYearAndCountryCode(2025, KR_CODE);
+  }
+
+  @Test
+  @DisplayName("존재하지 않는 국가 코드면 예외가 발생한다")
+  void 존재하지_않는_국가_코드면_예외가_발생한다() {
+    // Given
+    given(findCountryPort.existsByCode("XX")).willReturn(false);
+
+    // When & Then
+    assertThatThrownBy(() -> businessDayService.calculate(
+        new BusinessDayQuery(new CountryCode("XX"), LocalDate.of(2025, 1, 2), 1, null)))
+        .isInstanceOf(CountryNotFoundException.class);
+    then(findHolidaysPort).should(never()).findByYearAndCountryCode(anyInt(), org.mockito.ArgumentMatchers.any());
+  }
+}
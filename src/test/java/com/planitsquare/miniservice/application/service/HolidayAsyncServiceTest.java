@@ -1,8 +1,10 @@
 package com.planitsquare.miniservice.application.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.lenient;
@@ -14,15 +16,16 @@ import com.planitsquare.miniservice.application.port.in.UploadHolidayCommand;
 import com.planitsquare.miniservice.application.port.out.FetchCountriesPort;
 import com.planitsquare.miniservice.application.port.out.FindCountryPort;
 import com.planitsquare.miniservice.application.port.out.SaveAllCountriesPort;
-import com.planitsquare.miniservice.domain.model.Holiday;
 import com.planitsquare.miniservice.domain.vo.Country;
 import com.planitsquare.miniservice.domain.vo.CountryCode;
-import com.planitsquare.miniservice.domain.vo.HolidayId;
-import com.planitsquare.miniservice.domain.vo.HolidayMetadata;
 
-import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -41,6 +44,7 @@ class HolidayAsyncServiceTest {
   @Mock private FetchCountriesPort fetchCountriesPort;
   @Mock private SaveAllCountriesPort saveAllCountriesPort;
   @Mock private HolidaySyncInnerService holidaySyncInnerService;
+  @Mock private DistributedSyncService distributedSyncService;
   @Mock private Executor holidayTaskExecutor;
 
   @InjectMocks private HolidayAsyncService holidayAsyncService;
@@ -48,7 +52,6 @@ class HolidayAsyncServiceTest {
   private Country KR;
   private Country US;
   private List<Country> countries;
-  private Holiday sampleHoliday;
 
   @BeforeEach
   void setUp() {
@@ -56,18 +59,9 @@ class HolidayAsyncServiceTest {
     US = new Country(new CountryCode("US"), "United States");
     countries = List.of(KR, US);
 
-    sampleHoliday = new Holiday(
-        new HolidayId(1L),
-        KR,
-        "설날",
-        "Lunar New Year",
-        LocalDate.of(2025, 1, 1),
-        new HolidayMetadata(true, true, 2000, List.of("Public"), List.of())
-    );
-
     // HolidaySyncService 기본 설정
     lenient().when(holidaySyncInnerService.syncHolidaysForCountryAndYear(any(SyncHolidayCommand.class)))
-        .thenReturn(List.of(sampleHoliday));
+        .thenReturn(1);
 
     // Executor를 동기 실행으로 모킹 (테스트 단순화)
     lenient().doAnswer(invocation -> {
@@ -153,6 +147,76 @@ class HolidayAsyncServiceTest {
           .doesNotThrowAnyException();
     }
 
+    @Test
+    @DisplayName("분산 동기화가 활성화되면 작업 큐로 위임하고 직접 조회하지 않는다")
+    void 분산_동기화_위임() {
+      // Given
+      SyncSummary distributedSummary = new SyncSummary(new SyncStats(1, 1, 0), 3, List.of());
+      given(findCountryPort.findAll()).willReturn(countries);
+      given(distributedSyncService.isEnabled()).willReturn(true);
+      given(distributedSyncService.execute(any(), eq(countries), eq(List.of(2021, 2022, 2023, 2024, 2025))))
+          .willReturn(distributedSummary);
+
+      // When
+      SyncSummary summary = holidayAsyncService.uploadHolidays(cmd(2025, SyncExecutionType.SCHEDULED_BATCH));
+
+      // Then
+      assertThat(summary).isEqualTo(distributedSummary);
+      then(holidaySyncInnerService).should(never()).syncHolidaysForCountryAndYear(any(SyncHolidayCommand.class));
+    }
+
+    @Test
+    @DisplayName("Executor 큐 용량보다 많은 작업도 거부 없이 제한된 수만 제출하며 모두 처리한다")
+    void 큐_용량보다_많은_작업() throws InterruptedException {
+      // Given: 150개 국가 × 20년 = 3000개 작업, 큐 용량 2000
+      List<Country> manyCountries = IntStream.range(0, 150)
+          .mapToObj(i -> new Country(new CountryCode("%c%c".formatted('A' + i / 26, 'A' + i % 26)), "Country " + i))
+          .toList();
+      given(findCountryPort.findAll()).willReturn(manyCountries);
+      ThreadPoolExecutor executor = new ThreadPoolExecutor(20, 20, 0, TimeUnit.SECONDS, new ArrayBlockingQueue<>(2000));
+      AtomicInteger maxQueued = new AtomicInteger();
+      given(holidaySyncInnerService.syncHolidaysForCountryAndYear(any(SyncHolidayCommand.class))).willAnswer(invocation -> {
+        maxQueued.accumulateAndGet(executor.getQueue().size(), Math::max);
+        return 1;
+      });
+      HolidayAsyncService service = new HolidayAsyncService(
+          findCountryPort, fetchCountriesPort, saveAllCountriesPort, holidaySyncInnerService, distributedSyncService, executor);
+
+      // When
+      SyncSummary summary = service.uploadHolidays(new UploadHolidayCommand(2025, SyncExecutionType.SCHEDULED_BATCH, 20));
+      executor.shutdown();
+
+      // Then
+      assertThat(summary.stats()).isEqualTo(new SyncStats(3000, 3000, 0));
+      assertThat(summary.syncedHolidayCount()).isEqualTo(3000);
+      assertThat(maxQueued.get()).isLessThanOrEqualTo(40);
+      assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("동시에 제출하는 작업 수는 Executor의 스레드 수와 큐 용량에서 정해진다")
+    void 동시에_제출하는_작업_수는_Executor의_스레드_수와_큐_용량에서_정해진다() throws InterruptedException {
+      // Given: 스레드 2개, 큐 용량 1 → 큐 용량만큼만 동시에 제출
+      given(findCountryPort.findAll()).willReturn(countries);
+      ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.SECONDS, new ArrayBlockingQueue<>(1));
+      AtomicInteger maxQueued = new AtomicInteger();
+      given(holidaySyncInnerService.syncHolidaysForCountryAndYear(any(SyncHolidayCommand.class))).willAnswer(invocation -> {
+        maxQueued.accumulateAndGet(executor.getQueue().size(), Math::max);
+        return 1;
+      });
+      HolidayAsyncService service = new HolidayAsyncService(
+          findCountryPort, fetchCountriesPort, saveAllCountriesPort, holidaySyncInnerService, distributedSyncService, executor);
+
+      // When
+      SyncSummary summary = service.uploadHolidays(new UploadHolidayCommand(2025, SyncExecutionType.SCHEDULED_BATCH, 5));
+      executor.shutdown();
+
+      // Then
+      assertThat(summary.stats().failureCount()).isZero();
+      assertThat(maxQueued.get()).isLessThanOrEqualTo(1);
+      assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
     @Nested
     @DisplayName("연도 범위 검증")
     class YearRangeValidation {
@@ -0,0 +1,199 @@
+package com.planitsquare.miniservice.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.planitsquare.miniservice.application.event.HolidaysChangedEvent;
+import com.planitsquare.miniservice.application.port.in.HolidayDataVersion;
+import com.planitsquare.miniservice.application.port.in.SearchHolidaysQuery;
+import com.planitsquare.miniservice.application.port.out.HolidayYearVersion;
+import com.planitsquare.miniservice.application.port.out.LoadHolidayDataVersionsPort;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+
+@DisplayName("HolidayDataVersionService 테스트")
+@ExtendWith(MockitoExtension.class)
+class HolidayDataVersionServiceTest {
+
+  private static final CountryCode KR = new CountryCode("KR");
+  private static final CountryCode US = new CountryCode("US");
+  private static final long GENERATION = 0x5eedL;
+
+  @Mock private LoadHolidayDataVersionsPort loadHolidayDataVersionsPort;
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  private HolidayDataVersionService holidayDataVersionService;
+
+  @BeforeEach
+  void setUp() {
+    holidayDataVersionService = new HolidayDataVersionService(loadHolidayDataVersionsPort, eventPublisher);
+  }
+
+  @Test
+  @DisplayName("변경된 (국가, 연도)를 조회하는 검색 조건의 버전만 바뀐다")
+  void 변경된_국가_연도를_조회하는_검색_조건의_버전만_바뀐다() {
+    // Given
+    given(loadHolidayDataVersionsPort.loadVersions()).willReturn(List.of(
+        new HolidayYearVersion(KR, 2024, GENERATION, 1), new HolidayYearVersion(KR, 2025, GENERATION, 1), new HolidayYearVersion(US, 2025, GENERATION, 3)));
+    HolidayDataVersion krBefore = version("KR", 2025);
+    HolidayDataVersion usBefore = version("US", 2025);
+    HolidayDataVersion kr2024Before = version("KR", 2024);
+    HolidayDataVersion year2025Before = version(null, 2025);
+    HolidayDataVersion krAllYearsBefore = version("kr", null);
+    HolidayDataVersion allBefore = version(null, null);
+
+    // When
+    given(loadHolidayDataVersionsPort.loadVersions()).willReturn(List.of(
+        new HolidayYearVersion(KR, 2024, GENERATION, 1), new HolidayYearVersion(KR, 2025, GENERATION, 2), new HolidayYearVersion(US, 2025, GENERATION, 3)));
+    holidayDataVersionService.onHolidaysChanged(HolidaysChangedEvent.of(KR, 2025));
+
+    // Then
+    assertThat(version("KR", 2025)).isNotEqualTo(krBefore);
+    assertThat(version(null, 2025)).isNotEqualTo(year2025Before);
+    assertThat(version("kr", null)).isNotEqualTo(krAllYearsBefore);
+    assertThat(version(null, null)).isNotEqualTo(allBefore);
+    assertThat(version("US", 2025)).isEqualTo(usBefore);
+    assertThat(version("KR", 2024)).isEqualTo(kr2024Before);
+  }
+
+  @Test
+  @DisplayName("국가의 연도 범위 버전은 범위에 포함된 연도가 변경될 때만 바뀐다")
+  void 국가의_연도_범위_버전은_범위에_포함된_연도가_변경될_때만_바뀐다() {
+    // Given
+    given(loadHolidayDataVersionsPort.loadVersions()).willReturn(List.of(
+        new HolidayYearVersion(KR, 2024, GENERATION, 1), new HolidayYearVersion(KR, 2025, GENERATION, 1)));
+    HolidayDataVersion before = holidayDataVersionService.getVersion(KR, 2024, 2025);
+
+    // When
+    given(loadHolidayDataVersionsPort.loadVersions()).willReturn(List.of(
+        new HolidayYearVersion(KR, 2023, GENERATION, 1), new HolidayYearVersion(KR, 2024, GENERATION, 1), new HolidayYearVersion(KR, 2025, GENERATION, 1),
+        new HolidayYearVersion(US, 2025, GENERATION, 1)));
+    holidayDataVersionService.onHolidaysChanged(HolidaysChangedEvent.of(US, 2025));
+    HolidayDataVersion afterUnrelatedChanges = holidayDataVersionService.getVersion(KR, 2024, 2025);
+    given(loadHolidayDataVersionsPort.loadVersions()).willReturn(List.of(
+        new HolidayYearVersion(KR, 2023, GENERATION, 1), new HolidayYearVersion(KR, 2024, GENERATION, 2), new HolidayYearVersion(KR, 2025, GENERATION, 1),
+        new HolidayYearVersion(US, 2025, GENERATION, 1)));
+    holidayDataVersionService.onHolidaysChanged(HolidaysChangedEvent.of(KR, 2024));
+
+    // Then
+    assertThat(afterUnrelatedChanges).isEqualTo(before);
+    assertThat(holidayDataVersionService.getVersion(KR, 2024, 2025)).isNotEqualTo(before);
+  }
+
+  @Test
+  @DisplayName("다른 인스턴스가 기록한 변경은 버전 합계가 달라졌을 때만 다시 읽어 반영한다")
+  void 다른_인스턴스가_기록한_변경은_버전_합계가_달라졌을_때만_다시_읽어_반영한다() {
+    // Given
+    given(loadHolidayDataVersionsPort.loadVersions()).willReturn(List.of(new HolidayYearVersion(KR, 2025, GENERATION, 1)));
+    HolidayDataVersion before = version("KR", 2025);
+    given(loadHolidayDataVersionsPort.sumVersions()).willReturn(1L);
+
+    // When
+    boolean refreshedWithoutChange = holidayDataVersionService.refreshIfChanged();
+    given(loadHolidayDataVersionsPort.loadVersions()).willReturn(List.of(new HolidayYearVersion(KR, 2025, GENERATION, 2)));
+    given(loadHolidayDataVersionsPort.sumVersions()).willReturn(2L);
+    boolean refreshedAfterChange = holidayDataVersionService.refreshIfChanged();
+
+    // Then
+    assertThat(refreshedWithoutChange).isFalse();
+    assertThat(refreshedAfterChange).isTrue();
+    assertThat(version("KR", 2025)).isNotEqualTo(before);
+    then(loadHolidayDataVersionsPort).should(times(2)).loadVersions();
+  }
+
+  @Test
+  @DisplayName("다른 인스턴스가 변경한 (국가, 연도)만 국가별 원격 변경 이벤트로 발행한다")
+  void 다른_인스턴스가_변경한_국가_연도만_국가별_원격_변경_이벤트로_발행한다() {
+    // Given
+    given(loadHolidayDataVersionsPort.loadVersions()).willReturn(List.of(
+        new HolidayYearVersion(KR, 2024, GENERATION, 1), new HolidayYearVersion(KR, 2025, GENERATION, 1), new HolidayYearVersion(US, 2025, GENERATION, 1)));
+    holidayDataVersionService.refreshIfChanged();
+
+    // When
+    given(loadHolidayDataVersionsPort.loadVersions()).willReturn(List.of(
+        new HolidayYearVersion(KR, 2024, GENERATION, 2), new HolidayYearVersion(KR, 2025, GENERATION, 1), new HolidayYearVersion(US, 2025, GENERATION, 1),
+        new HolidayYearVersion(US, 2026, GENERATION, 1)));
+    given(loadHolidayDataVersionsPort.sumVersions()).willReturn(5L);
+    holidayDataVersionService.refreshIfChanged();
+
+    // Then
+    then(eventPublisher).should().publishEvent(HolidaysChangedEvent.ofRemote(KR, List.of(2024)));
+    then(eventPublisher).should().publishEvent(HolidaysChangedEvent.ofRemote(US, List.of(2026)));
+    then(eventPublisher).shouldHaveNoMoreInteractions();
+  }
+
+  @Test
+  @DisplayName("이 인스턴스의 변경 이벤트로 이미 알려진 변경은 다시 발행하지 않는다")
+  void 이_인스턴스의_변경_이벤트로_이미_알려진_변경은_다시_발행하지_않는다() {
+    // Given
+    given(loadHolidayDataVersionsPort.loadVersions()).willReturn(List.of(new HolidayYearVersion(KR, 2025, GENERATION, 1)));
+    holidayDataVersionService.refreshIfChanged();
+
+    // When
+    given(loadHolidayDataVersionsPort.loadVersions()).willReturn(List.of(new HolidayYearVersion(KR, 2025, GENERATION, 2)));
+    holidayDataVersionService.onHolidaysChanged(HolidaysChangedEvent.of(KR, 2025));
+    given(loadHolidayDataVersionsPort.sumVersions()).willReturn(2L);
+    holidayDataVersionService.refreshIfChanged();
+
+    // Then
+    then(eventPublisher).should(never()).publishEvent(any(Object.class));
+    then(loadHolidayDataVersionsPort).should(times(2)).loadVersions();
+  }
+
+  @Test
+  @DisplayName("같은 데이터베이스의 버전을 읽는 인스턴스는 재시작 여부와 관계없이 같은 버전을 낸다")
+  void 같은_데이터베이스의_버전을_읽는_인스턴스는_재시작_여부와_관계없이_같은_버전을_낸다() {
+    // Given
+    given(loadHolidayDataVersionsPort.loadVersions()).willReturn(List.of(new HolidayYearVersion(KR, 2025, GENERATION, 3)));
+    HolidayDataVersionService otherInstance = new HolidayDataVersionService(loadHolidayDataVersionsPort, eventPublisher);
+    SearchHolidaysQuery query = query("KR", 2025);
+
+    // When & Then
+    assertThat(otherInstance.getVersion(query).value()).isEqualTo(holidayDataVersionService.getVersion(query).value());
+  }
+
+  @Test
+  @DisplayName("데이터베이스를 새로 만들어 변경 횟수가 같아져도 세대 값이 다르면 다른 버전을 낸다")
+  void 데이터베이스를_새로_만들어_변경_횟수가_같아져도_세대_값이_다르면_다른_버전을_낸다() {
+    // Given
+    given(loadHolidayDataVersionsPort.loadVersions()).willReturn(List.of(
+        new HolidayYearVersion(KR, 2024, GENERATION, 1), new HolidayYearVersion(KR, 2025, GENERATION, 1)));
+    SearchHolidaysQuery query = query("KR", 2025);
+    String before = holidayDataVersionService.getVersion(query).value();
+    String rangeBefore = holidayDataVersionService.getVersion(KR, 2024, 2025).value();
+
+    // When
+    given(loadHolidayDataVersionsPort.loadVersions()).willReturn(List.of(
+        new HolidayYearVersion(KR, 2024, GENERATION + 1, 1), new HolidayYearVersion(KR, 2025, GENERATION + 2, 1)));
+    HolidayDataVersionService restarted = new HolidayDataVersionService(loadHolidayDataVersionsPort, eventPublisher);
+
+    // Then
+    assertThat(restarted.getVersion(query).changeCount()).isEqualTo(1);
+    assertThat(restarted.getVersion(query).value()).isNotEqualTo(before);
+    assertThat(restarted.getVersion(KR, 2024, 2025).value()).isNotEqualTo(rangeBefore);
+  }
+
+  private HolidayDataVersion version(String countryCode, Integer year) {
+    return holidayDataVersionService.getVersion(query(countryCode, year));
+  }
+
+  private static SearchHolidaysQuery query(String countryCode, Integer year) {
+    return SearchHolidaysQuery.builder()
+        .countryCode(countryCode)
+        .year(year)
+        .pageable(PageRequest.of(0, 20))
+        .build();
+  }
+}
@@ -35,6 +35,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @DisplayName("HolidayManagementService 테스트")
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +46,7 @@ class HolidayManagementServiceTest {
   @Mock private FetchHolidaysPort fetchHolidaysPort;
   @Mock private SaveAllHolidaysPort saveAllHolidaysPort;
   @Mock private SyncJobValidator syncJobValidator;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks private HolidayManagementService holidayManagementService;
 
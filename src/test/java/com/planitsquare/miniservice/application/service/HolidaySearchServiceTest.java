@@ -1,7 +1,12 @@
 package com.planitsquare.miniservice.application.service;
 
+import com.planitsquare.miniservice.application.port.in.HolidayLookupKey;
+import com.planitsquare.miniservice.application.port.in.HolidayLookupResult;
+import com.planitsquare.miniservice.application.port.in.HolidayView;
+import com.planitsquare.miniservice.application.port.in.LookupHolidaysQuery;
 import com.planitsquare.miniservice.application.port.in.SearchHolidaysQuery;
 import com.planitsquare.miniservice.application.port.in.SearchHolidaysUseCase;
+import com.planitsquare.miniservice.application.port.out.FindHolidaysPort;
 import com.planitsquare.miniservice.application.port.out.SearchHolidaysPort;
 import com.planitsquare.miniservice.domain.model.Holiday;
 import com.planitsquare.miniservice.domain.vo.*;
@@ -20,6 +25,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
@@ -33,11 +39,16 @@ class HolidaySearchServiceTest {
   @Mock
   private SearchHolidaysPort searchHolidaysPort;
 
+  @Mock
+  private FindHolidaysPort findHolidaysPort;
+
   private SearchHolidaysUseCase searchHolidaysUseCase;
+  private HolidaySearchService holidaySearchService;
 
   @BeforeEach
   void setUp() {
-    searchHolidaysUseCase = new HolidaySearchService(searchHolidaysPort);
+    holidaySearchService = new HolidaySearchService(searchHolidaysPort, findHolidaysPort);
+    searchHolidaysUseCase = holidaySearchService;
   }
 
   @Test
@@ -51,8 +62,8 @@ class HolidaySearchServiceTest {
         .pageable(page)
         .build();
 
-    Holiday holiday = createHoliday(1L, "설날");
-    Page<Holiday> expectedPage = new PageImpl<>(
+    HolidayView holiday = createHolidayView(1L, "설날");
+    Page<HolidayView> expectedPage = new PageImpl<>(
         List.of(holiday),
         page,
         1
@@ -62,7 +73,7 @@ class HolidaySearchServiceTest {
         .willReturn(expectedPage);
 
     // When
-    Page<Holiday> result = searchHolidaysUseCase.search(query);
+    Page<HolidayView> result = (Page<HolidayView>) searchHolidaysUseCase.search(query);
 
     // Then
     assertThat(result.getContent()).hasSize(1);
@@ -81,7 +92,7 @@ class HolidaySearchServiceTest {
         .countryCode("ZZ")
         .build();
 
-    Page<Holiday> emptyPage = new PageImpl<>(
+    Page<HolidayView> emptyPage = new PageImpl<>(
         List.of(),
         PageRequest.of(0, 20),
         0
@@ -91,7 +102,7 @@ class HolidaySearchServiceTest {
         .willReturn(emptyPage);
 
     // When
-    Page<Holiday> result = searchHolidaysUseCase.search(query);
+    Page<HolidayView> result = (Page<HolidayView>) searchHolidaysUseCase.search(query);
 
     // Then
     assertThat(result.getContent()).isEmpty();
@@ -99,6 +110,36 @@ class HolidaySearchServiceTest {
     then(searchHolidaysPort).should().searchHolidays(query);
   }
 
+  @Test
+  @DisplayName("여러 (국가, 날짜) 쌍을 한 번의 조회로 요청 순서대로 반환한다")
+  void 여러_국가_날짜_쌍을_한_번의_조회로_요청_순서대로_반환한다() {
+    // Given
+    HolidayLookupKey krNewYear = new HolidayLookupKey(new CountryCode("KR"), LocalDate.of(2024, 1, 1));
+    HolidayLookupKey krWorkday = new HolidayLookupKey(new CountryCode("KR"), LocalDate.of(2024, 1, 2));
+    HolidayLookupKey usNewYear = new HolidayLookupKey(new CountryCode("US"), LocalDate.of(2024, 1, 1));
+    LookupHolidaysQuery query = new LookupHolidaysQuery(List.of(usNewYear, krWorkday, krNewYear));
+
+    Holiday holiday = createHoliday(1L, "신정");
+    given(findHolidaysPort.findAllByCountryCodesAndDates(anyCollection(), anyCollection()))
+        .willReturn(List.of(holiday));
+
+    // When
+    List<HolidayLookupResult> results = holidaySearchService.lookup(query);
+
+    // Then
+    assertThat(results).extracting(HolidayLookupResult::key).containsExactly(usNewYear, krWorkday, krNewYear);
+    assertThat(results).extracting(HolidayLookupResult::isHoliday).containsExactly(false, false, true);
+    assertThat(results.get(2).holidays()).containsExactly(holiday);
+    then(findHolidaysPort).should().findAllByCountryCodesAndDates(anyCollection(), anyCollection());
+  }
+
+  private HolidayView createHolidayView(Long id, String name) {
+    return new HolidayView(
+        id, "KR", "대한민국", name, name, LocalDate.of(2024, 1, 1),
+        true, true, 2020, List.of("PUBLIC"), List.of()
+    );
+  }
+
   private Holiday createHoliday(Long id, String name) {
     return new Holiday(
         new HolidayId(id),
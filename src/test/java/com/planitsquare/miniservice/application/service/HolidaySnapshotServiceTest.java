@@ -0,0 +1,123 @@
+package com.planitsquare.miniservice.application.service;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.planitsquare.miniservice.application.event.HolidaysChangedEvent;
+import com.planitsquare.miniservice.application.event.SyncJobCompletedEvent;
+import com.planitsquare.miniservice.application.port.out.HolidaySnapshotPort;
+import com.planitsquare.miniservice.application.port.out.SyncJobLockPort;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@DisplayName("HolidaySnapshotService 테스트")
+@ExtendWith(MockitoExtension.class)
+class HolidaySnapshotServiceTest {
+
+  @Mock private HolidaySnapshotPort holidaySnapshotPort;
+  @Mock private SyncJobLockPort syncJobLockPort;
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  /**
+   * 제출된 작업을 보관했다가 {@link #runAll()} 호출 시 실행하는 Executor.
+   */
+  private final Queue<Runnable> submitted = new ArrayDeque<>();
+
+  private HolidaySnapshotService holidaySnapshotService;
+
+  @BeforeEach
+  void setUp() {
+    holidaySnapshotService = new HolidaySnapshotService(
+        holidaySnapshotPort, syncJobLockPort, eventPublisher, submitted::add);
+  }
+
+  @Test
+  @DisplayName("공휴일이 변경되면 요청 스레드에서 내보내지 않고 내보내기를 예약한다")
+  void 공휴일이_변경되면_요청_스레드에서_내보내지_않고_내보내기를_예약한다() {
+    // Given
+    given(syncJobLockPort.isLocked()).willReturn(false);
+
+    // When
+    holidaySnapshotService.onHolidaysChanged(HolidaysChangedEvent.of(new CountryCode("KR"), 2025));
+
+    // Then
+    then(holidaySnapshotPort).should(never()).exportSnapshot();
+    runAll();
+    then(holidaySnapshotPort).should(times(1)).exportSnapshot();
+  }
+
+  @Test
+  @DisplayName("시작하지 않은 내보내기가 있으면 이후 변경은 그 내보내기에 합쳐진다")
+  void 시작하지_않은_내보내기가_있으면_이후_변경은_그_내보내기에_합쳐진다() {
+    // Given
+    given(syncJobLockPort.isLocked()).willReturn(false);
+
+    // When
+    for (int i = 0; i < 10; i++) {
+      holidaySnapshotService.onHolidaysChanged(HolidaysChangedEvent.of(new CountryCode("KR"), 2025));
+    }
+    holidaySnapshotService.onSyncJobCompleted(new SyncJobCompletedEvent(1L));
+    runAll();
+
+    // Then
+    then(holidaySnapshotPort).should(times(1)).exportSnapshot();
+  }
+
+  @Test
+  @DisplayName("내보내기가 시작된 뒤의 변경은 다음 내보내기로 다시 예약된다")
+  void 내보내기가_시작된_뒤의_변경은_다음_내보내기로_다시_예약된다() {
+    // Given
+    given(syncJobLockPort.isLocked()).willReturn(false);
+    holidaySnapshotService.onHolidaysChanged(HolidaysChangedEvent.of(new CountryCode("KR"), 2025));
+    runAll();
+
+    // When
+    holidaySnapshotService.onHolidaysChanged(HolidaysChangedEvent.of(new CountryCode("US"), 2025));
+    runAll();
+
+    // Then
+    then(holidaySnapshotPort).should(times(2)).exportSnapshot();
+  }
+
+  @Test
+  @DisplayName("동기화 Job 실행 중의 변경은 내보내기를 예약하지 않는다")
+  void 동기화_Job_실행_중의_변경은_내보내기를_예약하지_않는다() {
+    // Given
+    given(syncJobLockPort.isLocked()).willReturn(true);
+
+    // When
+    holidaySnapshotService.onHolidaysChanged(HolidaysChangedEvent.of(new CountryCode("KR"), 2025));
+    runAll();
+
+    // Then
+    then(holidaySnapshotPort).should(never()).exportSnapshot();
+  }
+
+  @Test
+  @DisplayName("다른 인스턴스의 변경은 그 인스턴스가 내보내므로 내보내기를 예약하지 않는다")
+  void 다른_인스턴스의_변경은_그_인스턴스가_내보내므로_내보내기를_예약하지_않는다() {
+    // When
+    holidaySnapshotService.onHolidaysChanged(HolidaysChangedEvent.ofRemote(new CountryCode("KR"), List.of(2025)));
+    runAll();
+
+    // Then
+    then(holidaySnapshotPort).should(never()).exportSnapshot();
+  }
+
+  private void runAll() {
+    while (!submitted.isEmpty()) {
+      submitted.poll().run();
+    }
+  }
+}
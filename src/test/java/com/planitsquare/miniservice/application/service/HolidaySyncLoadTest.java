@@ -0,0 +1,151 @@
+package com.planitsquare.miniservice.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.planitsquare.miniservice.adapter.out.api.FakeHolidayApiServer;
+import com.planitsquare.miniservice.adapter.out.api.FakeHolidayApiServer.Faults;
+import com.planitsquare.miniservice.adapter.out.persistence.entity.SyncHistoryJpaEntity;
+import com.planitsquare.miniservice.adapter.out.persistence.repository.SyncHistoryJpaRepository;
+import com.planitsquare.miniservice.adapter.out.persistence.vo.SyncExecutionType;
+import com.planitsquare.miniservice.application.port.in.SyncHolidayDataUseCase;
+import com.planitsquare.miniservice.application.port.in.UploadHolidayCommand;
+import com.planitsquare.miniservice.application.port.in.UploadHolidaysUseCase;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 공휴일 동기화 부하 테스트.
+ *
+ * <p>{@link FakeHolidayApiServer}를 외부 API로 지정하고 최초 적재({@code uploadHolidays})와
+ * 연간 동기화({@code syncAnnualHolidays})를 차례로 실행하여 Job 소요 시간, 작업 처리량,
+ * 작업 지연 p50/p99를 보고합니다. 작업 지연은 {@code sync_history.duration_millis}에서 계산합니다.
+ *
+ * <p>{@code load} 태그가 붙어 있어 {@code test} 태스크에서는 제외되고 {@code ./gradlew loadTest}로 실행합니다.
+ * 가짜 API의 지연과 오류는 {@code -Dfake-api.*}, 연도 범위는 {@code -Dload-test.years}로 조정합니다.
+ */
+@Tag("load")
+@DisplayName("공휴일 동기화 부하 테스트")
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:load-testdb",
+    "spring.jpa.properties.hibernate.show_sql=false",
+    "logging.level.io.github.resilience4j=INFO",
+    "logging.level.com.planitsquare.miniservice.adapter.out.api=INFO"
+})
+@ActiveProfiles("test")
+class HolidaySyncLoadTest {
+
+  private static final Logger log = LoggerFactory.getLogger(HolidaySyncLoadTest.class);
+
+  private static final int END_YEAR = 2025;
+  private static final int YEARS = Integer.getInteger("load-test.years", 5);
+  private static final Faults DEFAULT_FAULTS = new Faults(30, 300, 0.01, 0.01, 1, 0.002, 4_000, 42);
+
+  private static FakeHolidayApiServer fakeApi;
+
+  @Autowired
+  private UploadHolidaysUseCase uploadHolidaysUseCase;
+
+  @Autowired
+  private SyncHolidayDataUseCase syncHolidayDataUseCase;
+
+  @Autowired
+  private SyncHistoryJpaRepository syncHistoryJpaRepository;
+
+  @DynamicPropertySource
+  static void externalApi(DynamicPropertyRegistry registry) throws IOException {
+    fakeApi = FakeHolidayApiServer.start(Faults.fromSystemProperties(DEFAULT_FAULTS));
+    registry.add("external-api.base-url", fakeApi::baseUrl);
+  }
+
+  @AfterAll
+  static void stopFakeApi() {
+    fakeApi.close();
+  }
+
+  @Test
+  @DisplayName("가짜 API를 대상으로 최초 적재와 연간 동기화의 처리량과 지연을 측정한다")
+  void 가짜_API를_대상으로_최초_적재와_연간_동기화의_처리량과_지연을_측정한다() {
+    // When
+    Report upload = measure("uploadHolidays", () -> uploadHolidaysUseCase.uploadHolidays(
+        new UploadHolidayCommand(END_YEAR, SyncExecutionType.INITIAL_SYSTEM_LOAD, YEARS)));
+    Report sync = measure("syncAnnualHolidays", () -> syncHolidayDataUseCase.syncAnnualHolidays(
+        new UploadHolidayCommand(END_YEAR, SyncExecutionType.SCHEDULED_BATCH, YEARS)));
+
+    // Then
+    String report = String.join(System.lineSeparator(),
+        "가짜 API: " + fakeApi.baseUrl() + ", 요청 " + fakeApi.requestCount() + "건, 상태별 " + fakeApi.statusCounts(),
+        upload.toString(),
+        sync.toString());
+    log.info("동기화 부하 테스트 결과{}{}", System.lineSeparator(), report);
+    writeReport(report);
+
+    assertThat(upload.tasks()).isPositive();
+    assertThat(sync.tasks()).isEqualTo(upload.tasks());
+  }
+
+  private Report measure(String name, Supplier<SyncSummary> job) {
+    long historyBefore = syncHistoryJpaRepository.count();
+    long start = System.nanoTime();
+    SyncStats stats = job.get().stats();
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+    long[] latencies = syncHistoryJpaRepository.findAll(Sort.by("id")).stream()
+        .skip(historyBefore)
+        .map(SyncHistoryJpaEntity::getDurationMillis)
+        .mapToLong(Long::longValue)
+        .sorted()
+        .toArray();
+    return new Report(name, stats.totalTasks(), stats.failureCount(), elapsedMillis,
+        percentile(latencies, 0.50), percentile(latencies, 0.99));
+  }
+
+  private static long percentile(long[] sorted, double quantile) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int rank = (int) Math.ceil(quantile * sorted.length);
+    return sorted[Math.max(rank, 1) - 1];
+  }
+
+  private static void writeReport(String report) {
+    String reportFile = System.getProperty("load-test.report-file");
+    if (reportFile == null) {
+      return;
+    }
+    try {
+      Path path = Path.of(reportFile);
+      Files.createDirectories(path.getParent());
+      Files.writeString(path, report + System.lineSeparator());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private record Report(String name, int tasks, long failures, long elapsedMillis, long p50Millis, long p99Millis) {
+
+    double throughput() {
+      return elapsedMillis == 0 ? tasks : tasks * 1_000.0 / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+      return "%s - Job %dms, 작업 %d건 (실패 %d건), 처리량 %.1f건/s, 작업 지연 p50 %dms / p99 %dms"
+          .formatted(name, elapsedMillis, tasks, failures, throughput(), p50Millis, p99Millis);
+    }
+  }
+}
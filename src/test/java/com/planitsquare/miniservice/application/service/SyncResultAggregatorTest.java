@@ -0,0 +1,50 @@
+package com.planitsquare.miniservice.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.planitsquare.miniservice.domain.vo.Country;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SyncResultAggregator 테스트")
+class SyncResultAggregatorTest {
+
+  private static final Country KR = Country.of("KR", "South Korea");
+
+  @Test
+  @DisplayName("여러 스레드에서 기록한 결과를 모두 집계하고 실패 결과는 최대 보관 수까지만 남긴다")
+  void 여러_스레드에서_기록한_결과를_모두_집계하고_실패_결과는_최대_보관_수까지만_남긴다() {
+    // Given
+    SyncResultAggregator aggregator = new SyncResultAggregator(5);
+
+    // When: 1000개 작업 중 3의 배수 번째(334개)는 실패
+    CompletableFuture<?>[] tasks = IntStream.range(0, 1000)
+        .mapToObj(i -> CompletableFuture.runAsync(() -> {
+          if (i % 3 == 0) {
+            aggregator.recordFailure(KR, 2000 + i % 26, "외부 API 오류");
+          } else {
+            aggregator.recordSuccess(2);
+          }
+        }))
+        .toArray(CompletableFuture[]::new);
+    CompletableFuture.allOf(tasks).join();
+    SyncSummary summary = aggregator.summarize();
+
+    // Then
+    assertThat(summary.stats()).isEqualTo(new SyncStats(1000, 666, 334));
+    assertThat(summary.syncedHolidayCount()).isEqualTo(1332);
+    assertThat(summary.failures()).hasSize(5).noneMatch(SyncResult::isSuccess);
+  }
+
+  @Test
+  @DisplayName("기록된 결과가 없으면 빈 집계 결과와 같다")
+  void 기록된_결과가_없으면_빈_집계_결과와_같다() {
+    // When
+    SyncSummary summary = new SyncResultAggregator().summarize();
+
+    // Then
+    assertThat(summary).isEqualTo(SyncSummary.empty());
+  }
+}
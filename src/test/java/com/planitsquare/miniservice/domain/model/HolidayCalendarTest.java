@@ -0,0 +1,124 @@
+package com.planitsquare.miniservice.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.planitsquare.miniservice.domain.model.HolidayCalendar.ScanResult;
+import com.planitsquare.miniservice.domain.vo.Country;
+import com.planitsquare.miniservice.domain.vo.CountryCode;
+import com.planitsquare.miniservice.domain.vo.HolidayId;
+import com.planitsquare.miniservice.domain.vo.HolidayMetadata;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HolidayCalendar 테스트")
+class HolidayCalendarTest {
+
+  private static final Country KR = Country.of("KR", "South Korea");
+  private static final CountryCode KR_CODE = new CountryCode("KR");
+
+  private static Holiday holiday(LocalDate date, List<String> types, List<String> regions) {
+    return new Holiday(
+        new HolidayId(1L), KR, "휴일", "Holiday", date,
+        new HolidayMetadata(true, regions.isEmpty(), null, types, regions)
+    );
+  }
+
+  private static HolidayCalendar calendar2025() {
+    return HolidayCalendar.of(KR_CODE, 2025, List.of(
+        holiday(LocalDate.of(2025, 1, 1), List.of("Public"), List.of()),
+        holiday(LocalDate.of(2025, 1, 28), List.of("Public"), List.of()),
+        holiday(LocalDate.of(2025, 1, 29), List.of("PUBLIC"), List.of()),
+        holiday(LocalDate.of(2025, 1, 30), List.of("Public"), List.of()),
+        holiday(LocalDate.of(2025, 3, 3), List.of("Public"), List.of("KR-11")),
+        holiday(LocalDate.of(2025, 12, 31), List.of("Bank"), List.of())
+    ));
+  }
+
+  @Test
+  @DisplayName("주말과 공휴일은 영업일이 아니다")
+  void 주말과_공휴일은_영업일이_아니다() {
+    HolidayCalendar calendar = calendar2025();
+
+    assertThat(calendar.isBusinessDay(LocalDate.of(2025, 1, 1), null)).isFalse();
+    assertThat(calendar.isBusinessDay(LocalDate.of(2025, 1, 2), null)).isTrue();
+    assertThat(calendar.isBusinessDay(LocalDate.of(2025, 1, 4), null)).isFalse();
+    assertThat(calendar.isBusinessDay(LocalDate.of(2025, 1, 5), null)).isFalse();
+  }
+
+  @Test
+  @DisplayName("공휴일 타입이 아닌 휴일은 영업일로 간주한다")
+  void 공휴일_타입이_아닌_휴일은_영업일로_간주한다() {
+    HolidayCalendar calendar = calendar2025();
+
+    assertThat(calendar.isBusinessDay(LocalDate.of(2025, 12, 31), null)).isTrue();
+  }
+
+  @Test
+  @DisplayName("지역 공휴일은 해당 지역을 지정한 경우에만 휴무일이다")
+  void 지역_공휴일은_해당_지역을_지정한_경우에만_휴무일이다() {
+    HolidayCalendar calendar = calendar2025();
+    LocalDate date = LocalDate.of(2025, 3, 3);
+
+    assertThat(calendar.isBusinessDay(date, null)).isTrue();
+    assertThat(calendar.isBusinessDay(date, "KR-11")).isFalse();
+    assertThat(calendar.isBusinessDay(date, "KR-26")).isTrue();
+  }
+
+  @Test
+  @DisplayName("N 영업일 이후 날짜는 주말과 공휴일을 건너뛴다")
+  void N_영업일_이후_날짜는_주말과_공휴일을_건너뛴다() {
+    HolidayCalendar calendar = calendar2025();
+    int friday = LocalDate.of(2025, 1, 24).getDayOfYear();
+
+    assertThat(calendar.scanForward(friday, 1, null).date()).isEqualTo(LocalDate.of(2025, 1, 27));
+    assertThat(calendar.scanForward(friday, 2, null).date()).isEqualTo(LocalDate.of(2025, 1, 31));
+    assertThat(calendar.scanForward(friday, 3, null).date()).isEqualTo(LocalDate.of(2025, 2, 3));
+  }
+
+  @Test
+  @DisplayName("N 영업일 이전 날짜는 주말과 공휴일을 건너뛴다")
+  void N_영업일_이전_날짜는_주말과_공휴일을_건너뛴다() {
+    HolidayCalendar calendar = calendar2025();
+    int friday = LocalDate.of(2025, 1, 31).getDayOfYear();
+
+    assertThat(calendar.scanBackward(friday, 1, null).date()).isEqualTo(LocalDate.of(2025, 1, 27));
+    assertThat(calendar.scanBackward(friday, 2, null).date()).isEqualTo(LocalDate.of(2025, 1, 24));
+  }
+
+  @Test
+  @DisplayName("여러 워드에 걸친 이동도 올바르게 계산한다")
+  void 여러_워드에_걸친_이동도_올바르게_계산한다() {
+    HolidayCalendar calendar = HolidayCalendar.of(KR_CODE, 2025, List.of());
+
+    ScanResult result = calendar.scanForward(0, 261, null);
+
+    assertThat(result.date()).isEqualTo(LocalDate.of(2025, 12, 31));
+    assertThat(calendar.scanBackward(366, 261, null).date()).isEqualTo(LocalDate.of(2025, 1, 1));
+  }
+
+  @Test
+  @DisplayName("연도 안에서 찾지 못하면 남은 영업일 수를 반환한다")
+  void 연도_안에서_찾지_못하면_남은_영업일_수를_반환한다() {
+    HolidayCalendar calendar = calendar2025();
+
+    ScanResult forward = calendar.scanForward(LocalDate.of(2025, 12, 30).getDayOfYear(), 3, null);
+    ScanResult backward = calendar.scanBackward(LocalDate.of(2025, 1, 2).getDayOfYear(), 1, null);
+
+    assertThat(forward.isFound()).isFalse();
+    assertThat(forward.remaining()).isEqualTo(2);
+    assertThat(backward.isFound()).isFalse();
+    assertThat(backward.remaining()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("달력과 다른 연도의 날짜는 예외가 발생한다")
+  void 달력과_다른_연도의_날짜는_예외가_발생한다() {
+    HolidayCalendar calendar = calendar2025();
+
+    assertThatThrownBy(() -> calendar.isBusinessDay(LocalDate.of(2024, 12, 31), null))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}